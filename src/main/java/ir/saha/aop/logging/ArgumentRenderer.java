@@ -0,0 +1,91 @@
+package ir.saha.aop.logging;
+
+import java.lang.reflect.Array;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Renders method arguments and results for the logs, without ever writing a whole blob or collection, nor a secret.
+ * <p>
+ * Arrays, collections and maps are rendered by their size, the other values by their {@code toString()} cut at a
+ * maximum length, and the arguments of parameters named like a secret are masked.
+ */
+public class ArgumentRenderer {
+
+    static final String REDACTED = "***";
+
+    private final int maxLength;
+
+    private final List<String> redactedParameters;
+
+    public ArgumentRenderer(int maxLength, List<String> redactedParameters) {
+        this.maxLength = maxLength;
+        this.redactedParameters = redactedParameters.stream()
+            .map(name -> name.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Render the arguments of a method call.
+     *
+     * @param parameterNames the names of the parameters, or {@code null} if they are unknown.
+     * @param args the arguments.
+     * @return the arguments, between brackets.
+     */
+    public String renderArguments(String[] parameterNames, Object[] args) {
+        StringBuilder rendered = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                rendered.append(", ");
+            }
+            String name = parameterNames != null && i < parameterNames.length ? parameterNames[i] : null;
+            if (name != null) {
+                rendered.append(name).append('=');
+            }
+            rendered.append(isRedacted(name) ? REDACTED : render(args[i]));
+        }
+        return rendered.append(']').toString();
+    }
+
+    /**
+     * Render a single value.
+     *
+     * @param value the value.
+     * @return the value, by its size or cut at the maximum length.
+     */
+    public String render(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        if (value instanceof Collection) {
+            return value.getClass().getSimpleName() + "[size=" + ((Collection<?>) value).size() + "]";
+        }
+        if (value instanceof Map) {
+            return value.getClass().getSimpleName() + "[size=" + ((Map<?, ?>) value).size() + "]";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum || value instanceof Temporal) {
+            return value.toString();
+        }
+        String text = value.toString();
+        if (text.length() <= maxLength) {
+            return value instanceof CharSequence ? "'" + text + "'" : text;
+        }
+        String cut = text.substring(0, maxLength) + "...(" + text.length() + " chars)";
+        return value instanceof CharSequence ? "'" + cut : cut;
+    }
+
+    private boolean isRedacted(String parameterName) {
+        if (parameterName == null) {
+            return false;
+        }
+        String name = parameterName.toLowerCase(Locale.ROOT);
+        return redactedParameters.stream().anyMatch(name::contains);
+    }
+}
@@ -8,17 +8,17 @@ import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
 
-import java.util.Arrays;
-
 /**
  * Aspect for logging execution of service and repository Spring components.
  *
- * By default, it only runs with the "dev" profile.
+ * By default, it only runs with the "dev" profile. Arguments and results are logged through an {@link ArgumentRenderer},
+ * so blobs, collections and secrets never reach the logs.
  */
 @Aspect
 public class LoggingAspect {
@@ -27,8 +27,11 @@ public class LoggingAspect {
 
     private final Environment env;
 
-    public LoggingAspect(Environment env) {
+    private final ArgumentRenderer argumentRenderer;
+
+    public LoggingAspect(Environment env, ArgumentRenderer argumentRenderer) {
         this.env = env;
+        this.argumentRenderer = argumentRenderer;
     }
 
     /**
@@ -80,20 +83,26 @@ public class LoggingAspect {
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
         if (log.isDebugEnabled()) {
             log.debug("Enter: {}.{}() with argument[s] = {}", joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
+                joinPoint.getSignature().getName(), renderArguments(joinPoint));
         }
         try {
             Object result = joinPoint.proceed();
             if (log.isDebugEnabled()) {
                 log.debug("Exit: {}.{}() with result = {}", joinPoint.getSignature().getDeclaringTypeName(),
-                    joinPoint.getSignature().getName(), result);
+                    joinPoint.getSignature().getName(), argumentRenderer.render(result));
             }
             return result;
         } catch (IllegalArgumentException e) {
-            log.error("Illegal argument: {} in {}.{}()", Arrays.toString(joinPoint.getArgs()),
+            log.error("Illegal argument: {} in {}.{}()", renderArguments(joinPoint),
                 joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName());
 
             throw e;
         }
     }
+
+    private String renderArguments(JoinPoint joinPoint) {
+        String[] parameterNames = joinPoint.getSignature() instanceof MethodSignature ?
+            ((MethodSignature) joinPoint.getSignature()).getParameterNames() : null;
+        return argumentRenderer.renderArguments(parameterNames, joinPoint.getArgs());
+    }
 }
@@ -0,0 +1,46 @@
+package ir.saha.aop.tracing;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * The packages whose repositories, services and REST resources are traced, switched at runtime.
+ * <p>
+ * A package includes its sub-packages. Whether a type is traced is remembered until the packages change.
+ */
+public class TracedPackages {
+
+    private final Set<String> packages = new CopyOnWriteArraySet<>();
+
+    private final Map<String, Boolean> tracedTypes = new ConcurrentHashMap<>();
+
+    public TracedPackages(Collection<String> packages) {
+        this.packages.addAll(packages);
+    }
+
+    /**
+     * Tell whether a type is traced.
+     *
+     * @param typeName the fully qualified name of the type.
+     * @return {@code true} if the type is in a traced package.
+     */
+    public boolean isTraced(String typeName) {
+        return tracedTypes.computeIfAbsent(typeName, name -> packages.stream()
+            .anyMatch(tracedPackage -> name.startsWith(tracedPackage + ".")));
+    }
+
+    public Set<String> getPackages() {
+        return Collections.unmodifiableSet(new TreeSet<>(packages));
+    }
+
+    public void enable(String packageName) {
+        packages.add(packageName);
+        tracedTypes.clear();
+    }
+
+    public void disable(String packageName) {
+        packages.remove(packageName);
+        tracedTypes.clear();
+    }
+}
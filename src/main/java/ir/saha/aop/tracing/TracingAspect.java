@@ -0,0 +1,131 @@
+package ir.saha.aop.tracing;
+
+import ir.saha.aop.logging.ArgumentRenderer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aspect timing the repositories, services and Web REST endpoints of the traced packages.
+ * <p>
+ * Each method has a {@code method.timed} timer, with a percentile histogram, tagged by class, method and exception.
+ * A share of the calls, {@code application.tracing.sample-rate}, is also logged with its arguments, rendered by an
+ * {@link ArgumentRenderer}; the arguments of the other calls are never looked at.
+ */
+@Aspect
+public class TracingAspect {
+
+    static final String TIMER_NAME = "method.timed";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final Logger log = LoggerFactory.getLogger(TracingAspect.class);
+
+    private final TracedPackages tracedPackages;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ArgumentRenderer argumentRenderer;
+
+    private final double sampleRate;
+
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public TracingAspect(TracedPackages tracedPackages, MeterRegistry meterRegistry, ArgumentRenderer argumentRenderer,
+                         double sampleRate) {
+        this.tracedPackages = tracedPackages;
+        this.meterRegistry = meterRegistry;
+        this.argumentRenderer = argumentRenderer;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Pointcut that matches all repositories, services and Web REST endpoints.
+     */
+    @Pointcut("within(@org.springframework.stereotype.Repository *)" +
+        " || within(@org.springframework.stereotype.Service *)" +
+        " || within(@org.springframework.web.bind.annotation.RestController *)")
+    public void springBeanPointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Pointcut that matches all Spring beans in the application's main packages.
+     */
+    @Pointcut("within(ir.saha.repository..*)" +
+        " || within(ir.saha.service..*)" +
+        " || within(ir.saha.web.rest..*)")
+    public void applicationPackagePointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Advice that times the methods of the traced packages.
+     *
+     * @param joinPoint join point for advice.
+     * @return result.
+     * @throws Throwable whatever the method throws.
+     */
+    @Around("applicationPackagePointcut() && springBeanPointcut()")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        Signature signature = joinPoint.getSignature();
+        if (!(signature instanceof MethodSignature) || !tracedPackages.isTraced(signature.getDeclaringTypeName())) {
+            return joinPoint.proceed();
+        }
+        boolean sampled = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            long duration = System.nanoTime() - start;
+            timer((MethodSignature) signature).record(duration, TimeUnit.NANOSECONDS);
+            if (sampled) {
+                log.info("{}.{}{} took {} ms", signature.getDeclaringTypeName(), signature.getName(),
+                    renderArguments((MethodSignature) signature, joinPoint.getArgs()), TimeUnit.NANOSECONDS.toMillis(duration));
+            }
+            return result;
+        } catch (Throwable e) {
+            long duration = System.nanoTime() - start;
+            Timer.builder(TIMER_NAME)
+                .tag("class", signature.getDeclaringTypeName())
+                .tag("method", signature.getName())
+                .tag("exception", e.getClass().getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+            if (sampled) {
+                log.info("{}.{}{} failed with {} after {} ms", signature.getDeclaringTypeName(), signature.getName(),
+                    renderArguments((MethodSignature) signature, joinPoint.getArgs()), e.getClass().getSimpleName(),
+                    TimeUnit.NANOSECONDS.toMillis(duration));
+            }
+            throw e;
+        }
+    }
+
+    private Timer timer(MethodSignature signature) {
+        return timers.computeIfAbsent(signature.getMethod(), method -> Timer.builder(TIMER_NAME)
+            .tag("class", signature.getDeclaringTypeName())
+            .tag("method", signature.getName())
+            .tag("exception", NO_EXCEPTION)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    }
+
+    private String renderArguments(MethodSignature signature, Object[] args) {
+        return argumentRenderer.renderArguments(signature.getParameterNames(), args);
+    }
+}
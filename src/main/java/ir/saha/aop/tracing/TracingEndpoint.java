@@ -0,0 +1,42 @@
+package ir.saha.aop.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Set;
+
+/**
+ * Management endpoint switching the tracing of a package at runtime.
+ * <p>
+ * {@code GET /management/tracing} lists the traced packages, {@code POST /management/tracing/{package}} traces a
+ * package and {@code DELETE /management/tracing/{package}} stops tracing it.
+ */
+@Endpoint(id = "tracing")
+public class TracingEndpoint {
+
+    private final TracedPackages tracedPackages;
+
+    public TracingEndpoint(TracedPackages tracedPackages) {
+        this.tracedPackages = tracedPackages;
+    }
+
+    @ReadOperation
+    public Set<String> packages() {
+        return tracedPackages.getPackages();
+    }
+
+    @WriteOperation
+    public Set<String> enable(@Selector String packageName) {
+        tracedPackages.enable(packageName);
+        return tracedPackages.getPackages();
+    }
+
+    @DeleteOperation
+    public Set<String> disable(@Selector String packageName) {
+        tracedPackages.disable(packageName);
+        return tracedPackages.getPackages();
+    }
+}
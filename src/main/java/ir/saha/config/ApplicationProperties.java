@@ -2,6 +2,12 @@ package ir.saha.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Properties specific to Saha.
  * <p>
@@ -10,4 +16,623 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final Storage storage = new Storage();
+
+    private final Cache cache = new Cache();
+
+    private final Security security = new Security();
+
+    private final Audit audit = new Audit();
+
+    private final Purge purge = new Purge();
+
+    private final Tracing tracing = new Tracing();
+
+    private final RequestTiming requestTiming = new RequestTiming();
+
+    private final MailOutbox mailOutbox = new MailOutbox();
+
+    private final KarbarImport karbarImport = new KarbarImport();
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Security getSecurity() {
+        return security;
+    }
+
+    public Audit getAudit() {
+        return audit;
+    }
+
+    public Purge getPurge() {
+        return purge;
+    }
+
+    public Tracing getTracing() {
+        return tracing;
+    }
+
+    public RequestTiming getRequestTiming() {
+        return requestTiming;
+    }
+
+    public MailOutbox getMailOutbox() {
+        return mailOutbox;
+    }
+
+    public KarbarImport getKarbarImport() {
+        return karbarImport;
+    }
+
+    public static class Storage {
+
+        /**
+         * Root directory of the local, content-addressed blob store.
+         */
+        private String root = "target/blob-store";
+
+        /**
+         * Directory holding chunked uploads until they are completed; best kept on the same filesystem as
+         * {@link #root}, so completed uploads are moved rather than copied.
+         */
+        private String uploadRoot = "target/uploads";
+
+        public String getRoot() {
+            return root;
+        }
+
+        public void setRoot(String root) {
+            this.root = root;
+        }
+
+        public String getUploadRoot() {
+            return uploadRoot;
+        }
+
+        public void setUploadRoot(String uploadRoot) {
+            this.uploadRoot = uploadRoot;
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * Limits of the cache regions that differ from the {@code jhipster.cache.ehcache} defaults, by the simple
+         * name of the cached entity, or by the cache name for the other caches.
+         */
+        private final Map<String, Region> regions = new HashMap<>();
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public static class Region {
+
+            private Integer timeToLiveSeconds;
+
+            private Long maxEntries;
+
+            public Integer getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Integer timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public Long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(Long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+        }
+    }
+
+    public static class Security {
+
+        private final PasswordHashing passwordHashing = new PasswordHashing();
+
+        private final LoginThrottle loginThrottle = new LoginThrottle();
+
+        /**
+         * Validity of the refresh tokens of the sessions opened without remember-me; those opened with it last for
+         * {@code jhipster.security.authentication.jwt.token-validity-in-seconds-for-remember-me}.
+         */
+        private long refreshTokenValidityInSeconds = 86400;
+
+        public PasswordHashing getPasswordHashing() {
+            return passwordHashing;
+        }
+
+        public LoginThrottle getLoginThrottle() {
+            return loginThrottle;
+        }
+
+        public long getRefreshTokenValidityInSeconds() {
+            return refreshTokenValidityInSeconds;
+        }
+
+        public void setRefreshTokenValidityInSeconds(long refreshTokenValidityInSeconds) {
+            this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+        }
+
+        public static class PasswordHashing {
+
+            /**
+             * Number of threads hashing and checking passwords.
+             */
+            private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+            /**
+             * Number of password hashes that can wait for a thread; further ones are refused.
+             */
+            private int queueCapacity = 100;
+
+            /**
+             * Time a request waits for its password hash before it is refused.
+             */
+            private long timeoutMillis = 5000;
+
+            public int getPoolSize() {
+                return poolSize;
+            }
+
+            public void setPoolSize(int poolSize) {
+                this.poolSize = poolSize;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            public long getTimeoutMillis() {
+                return timeoutMillis;
+            }
+
+            public void setTimeoutMillis(long timeoutMillis) {
+                this.timeoutMillis = timeoutMillis;
+            }
+        }
+
+        public static class LoginThrottle {
+
+            private final Bucket perLogin = new Bucket(10, 10);
+
+            private final Bucket perIp = new Bucket(100, 100);
+
+            public Bucket getPerLogin() {
+                return perLogin;
+            }
+
+            public Bucket getPerIp() {
+                return perIp;
+            }
+
+            public static class Bucket {
+
+                /**
+                 * Number of attempts that can be made in a burst.
+                 */
+                private int capacity;
+
+                /**
+                 * Number of attempts given back every minute, up to the capacity.
+                 */
+                private int refillPerMinute;
+
+                public Bucket(int capacity, int refillPerMinute) {
+                    this.capacity = capacity;
+                    this.refillPerMinute = refillPerMinute;
+                }
+
+                public int getCapacity() {
+                    return capacity;
+                }
+
+                public void setCapacity(int capacity) {
+                    this.capacity = capacity;
+                }
+
+                public int getRefillPerMinute() {
+                    return refillPerMinute;
+                }
+
+                public void setRefillPerMinute(int refillPerMinute) {
+                    this.refillPerMinute = refillPerMinute;
+                }
+            }
+        }
+    }
+
+    public static class Audit {
+
+        /**
+         * Number of audit events waiting to be written; further ones are handled by the {@link #overflowPolicy}.
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * Number of audit events written in one JDBC batch.
+         */
+        private int batchSize = 100;
+
+        /**
+         * Time between two writes of the waiting audit events.
+         */
+        private long flushIntervalMillis = 1000;
+
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+        /**
+         * Number of monthly audit event partitions kept ready beyond the current month, where the database partitions them.
+         */
+        private int partitionsAhead = 3;
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getFlushIntervalMillis() {
+            return flushIntervalMillis;
+        }
+
+        public void setFlushIntervalMillis(long flushIntervalMillis) {
+            this.flushIntervalMillis = flushIntervalMillis;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public int getPartitionsAhead() {
+            return partitionsAhead;
+        }
+
+        public void setPartitionsAhead(int partitionsAhead) {
+            this.partitionsAhead = partitionsAhead;
+        }
+
+        /**
+         * What happens to an audit event when the queue is full.
+         */
+        public enum OverflowPolicy {
+            /** The new event is dropped. */
+            DROP_NEWEST,
+            /** The oldest waiting event is dropped to make room for the new one. */
+            DROP_OLDEST,
+            /** The new event is written right away, by the thread that produced it. */
+            WRITE_THROUGH
+        }
+    }
+
+    public static class Purge {
+
+        /**
+         * Number of rows deleted in one chunk, each in its own short transaction.
+         */
+        private int batchSize = 1000;
+
+        /**
+         * Time after which a purge stops, leaving the remaining rows to its next run.
+         */
+        private long maxRunTimeSeconds = 600;
+
+        /**
+         * Pause between two chunks, leaving room for the other transactions on the same tables.
+         */
+        private long pauseMillis = 50;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getMaxRunTimeSeconds() {
+            return maxRunTimeSeconds;
+        }
+
+        public void setMaxRunTimeSeconds(long maxRunTimeSeconds) {
+            this.maxRunTimeSeconds = maxRunTimeSeconds;
+        }
+
+        public long getPauseMillis() {
+            return pauseMillis;
+        }
+
+        public void setPauseMillis(long pauseMillis) {
+            this.pauseMillis = pauseMillis;
+        }
+    }
+
+    public static class Tracing {
+
+        /**
+         * Whether the repositories, services and REST resources can be traced; which ones are is then switched at
+         * runtime, by package.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Packages traced on startup, sub-packages included.
+         */
+        private List<String> packages = new ArrayList<>();
+
+        /**
+         * Share of the traced calls logged with their arguments, from 0 to 1.
+         */
+        private double sampleRate = 0.0;
+
+        /**
+         * Length beyond which a logged argument is cut.
+         */
+        private int maxArgumentLength = 100;
+
+        /**
+         * Parameter names, or parts of them, whose arguments are never logged.
+         */
+        private List<String> redactedParameters = new ArrayList<>(Arrays.asList("password", "token", "secret", "key"));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getPackages() {
+            return packages;
+        }
+
+        public void setPackages(List<String> packages) {
+            this.packages = packages;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public int getMaxArgumentLength() {
+            return maxArgumentLength;
+        }
+
+        public void setMaxArgumentLength(int maxArgumentLength) {
+            this.maxArgumentLength = maxArgumentLength;
+        }
+
+        public List<String> getRedactedParameters() {
+            return redactedParameters;
+        }
+
+        public void setRedactedParameters(List<String> redactedParameters) {
+            this.redactedParameters = redactedParameters;
+        }
+    }
+
+    public static class RequestTiming {
+
+        /**
+         * Whether the SQL statements, JDBC time and serialization time of the API requests are measured.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Whether these timings are sent back to the clients, in a {@code Server-Timing} header, which buffers the
+         * JSON responses; only meant for development.
+         */
+        private boolean serverTimingHeader = false;
+
+        /**
+         * Number of times an association may be loaded one entity or collection at a time in a request before it is
+         * logged as an N+1 pattern; 0 to not watch the associations.
+         */
+        private int repeatedLoadThreshold = 0;
+
+        /**
+         * Whether a request over the {@link ir.saha.web.rest.util.QueryBudget} of its endpoint fails, instead of being
+         * logged.
+         */
+        private boolean failOverBudget = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isServerTimingHeader() {
+            return serverTimingHeader;
+        }
+
+        public void setServerTimingHeader(boolean serverTimingHeader) {
+            this.serverTimingHeader = serverTimingHeader;
+        }
+
+        public int getRepeatedLoadThreshold() {
+            return repeatedLoadThreshold;
+        }
+
+        public void setRepeatedLoadThreshold(int repeatedLoadThreshold) {
+            this.repeatedLoadThreshold = repeatedLoadThreshold;
+        }
+
+        public boolean isFailOverBudget() {
+            return failOverBudget;
+        }
+
+        public void setFailOverBudget(boolean failOverBudget) {
+            this.failOverBudget = failOverBudget;
+        }
+    }
+
+    public static class MailOutbox {
+
+        /**
+         * Number of mails delivered over one SMTP connection.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Time between two deliveries of the mails due; also set as {@code dispatch-interval-millis} for the scheduler.
+         */
+        private long dispatchIntervalMillis = 5000;
+
+        /**
+         * Number of delivery attempts of a mail before it is given up on.
+         */
+        private int maxAttempts = 8;
+
+        /**
+         * Delay before the second attempt; it doubles with every failed attempt, up to {@link #maxBackoffSeconds}.
+         */
+        private long initialBackoffSeconds = 30;
+
+        private long maxBackoffSeconds = 3600;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getDispatchIntervalMillis() {
+            return dispatchIntervalMillis;
+        }
+
+        public void setDispatchIntervalMillis(long dispatchIntervalMillis) {
+            this.dispatchIntervalMillis = dispatchIntervalMillis;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public long getInitialBackoffSeconds() {
+            return initialBackoffSeconds;
+        }
+
+        public void setInitialBackoffSeconds(long initialBackoffSeconds) {
+            this.initialBackoffSeconds = initialBackoffSeconds;
+        }
+
+        public long getMaxBackoffSeconds() {
+            return maxBackoffSeconds;
+        }
+
+        public void setMaxBackoffSeconds(long maxBackoffSeconds) {
+            this.maxBackoffSeconds = maxBackoffSeconds;
+        }
+    }
+
+    public static class KarbarImport {
+
+        /**
+         * Number of rows validated together, then written in one transaction.
+         */
+        private int batchSize = 500;
+
+        /**
+         * Number of row errors reported by an import; the rows failed beyond it are only counted.
+         */
+        private int maxErrors = 1000;
+
+        /**
+         * Time an import stays available to its status requests once it has ended.
+         */
+        private long retentionSeconds = 86400;
+
+        /**
+         * Size of the largest file that can be imported, in bytes.
+         */
+        private long maxFileSize = 50L * 1024 * 1024;
+
+        /**
+         * Number of imports stored or running at once; the imports started beyond it are rejected.
+         */
+        private int maxConcurrentImports = 2;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxErrors() {
+            return maxErrors;
+        }
+
+        public void setMaxErrors(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        public long getRetentionSeconds() {
+            return retentionSeconds;
+        }
+
+        public void setRetentionSeconds(long retentionSeconds) {
+            this.retentionSeconds = retentionSeconds;
+        }
+
+        public long getMaxFileSize() {
+            return maxFileSize;
+        }
+
+        public void setMaxFileSize(long maxFileSize) {
+            this.maxFileSize = maxFileSize;
+        }
+
+        public int getMaxConcurrentImports() {
+            return maxConcurrentImports;
+        }
+
+        public void setMaxConcurrentImports(int maxConcurrentImports) {
+            this.maxConcurrentImports = maxConcurrentImports;
+        }
+    }
 }
@@ -0,0 +1,121 @@
+package ir.saha.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.ehcache.config.builders.*;
+import org.ehcache.jsr107.Eh107Configuration;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import io.github.jhipster.config.JHipsterProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.*;
+
+/**
+ * Configures the local Ehcache caches, used through JCache as the Hibernate second-level cache.
+ * <p>
+ * Every cache gets the {@code jhipster.cache.ehcache} limits unless {@code application.cache.regions} overrides them.
+ * Statistics are enabled on every cache, so Spring Boot publishes their hits and misses as {@code cache.gets} metrics,
+ * from which the {@code cache.hit.ratio} of each cache is derived.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+
+    private final Map<String, ApplicationProperties.Cache.Region> regions;
+
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.regions = applicationProperties.getCache().getRegions();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    @Bean
+    public MeterBinder cacheHitRatioMetrics(javax.cache.CacheManager cacheManager) {
+        return registry -> {
+            for (String cacheName : cacheManager.getCacheNames()) {
+                Gauge.builder("cache.hit.ratio", registry, r -> hitRatio(r, cacheName))
+                    .tag("cache", cacheName)
+                    .description("The ratio of cache gets that were hits")
+                    .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public JCacheManagerCustomizer cacheManagerCustomizer() {
+        return cm -> {
+            createCache(cm, ir.saha.security.jwt.TokenProvider.VERIFIED_TOKENS_CACHE);
+            createCache(cm, ir.saha.security.LoginThrottle.LOGIN_ATTEMPTS_CACHE);
+            createCache(cm, ir.saha.service.CachedUserService.USERS_BY_LOGIN_CACHE);
+            createCache(cm, ir.saha.service.CachedUserService.USERS_BY_EMAIL_CACHE);
+            createCache(cm, ir.saha.domain.Authority.class);
+            createCache(cm, ir.saha.domain.Ostan.class);
+            createCache(cm, ir.saha.domain.Mantaghe.class);
+            createCache(cm, ir.saha.domain.Shahr.class);
+            createCache(cm, ir.saha.domain.Daraje.class);
+            createCache(cm, ir.saha.domain.Semat.class);
+            createCache(cm, ir.saha.domain.YeganType.class);
+            createCache(cm, ir.saha.domain.NirooCode.class);
+            createCache(cm, ir.saha.domain.YeganCode.class);
+            // jhipster-needle-ehcache-add-entry
+        };
+    }
+
+    private void createCache(javax.cache.CacheManager cm, Class<?> entityClass) {
+        createCache(cm, entityClass.getName(), entityClass.getSimpleName());
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        createCache(cm, cacheName, cacheName);
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName, String regionName) {
+        javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
+        if (cache == null) {
+            cm.createCache(cacheName, jcacheConfiguration(regionName));
+        }
+        cm.enableStatistics(cacheName, true);
+    }
+
+    private javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration(String regionName) {
+        long timeToLiveSeconds = ehcache.getTimeToLiveSeconds();
+        long maxEntries = ehcache.getMaxEntries();
+        ApplicationProperties.Cache.Region region = regions.get(regionName);
+        if (region != null && region.getTimeToLiveSeconds() != null) {
+            timeToLiveSeconds = region.getTimeToLiveSeconds();
+        }
+        if (region != null && region.getMaxEntries() != null) {
+            maxEntries = region.getMaxEntries();
+        }
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(timeToLiveSeconds)))
+                .build());
+    }
+
+    private static double hitRatio(MeterRegistry registry, String cacheName) {
+        double hits = cacheGets(registry, cacheName, "hit");
+        double gets = hits + cacheGets(registry, cacheName, "miss");
+        return gets == 0 ? Double.NaN : hits / gets;
+    }
+
+    private static double cacheGets(MeterRegistry registry, String cacheName, String result) {
+        FunctionCounter counter = registry.find("cache.gets").tags("cache", cacheName, "result", result).functionCounter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -1,5 +1,7 @@
 package ir.saha.config;
 
+import ir.saha.repository.KeysetJpaRepository;
+
 import io.github.jhipster.config.JHipsterConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +14,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 
 @Configuration
-@EnableJpaRepositories("ir.saha.repository")
+@EnableJpaRepositories(value = "ir.saha.repository", repositoryBaseClass = KeysetJpaRepository.class)
 @EnableJpaAuditing(auditorAwareRef = "springSecurityAuditorAware")
 @EnableTransactionManagement
 public class DatabaseConfiguration {
@@ -1,9 +1,15 @@
 package ir.saha.config;
 
+import ir.saha.aop.logging.ArgumentRenderer;
 import ir.saha.aop.logging.LoggingAspect;
+import ir.saha.aop.tracing.TracedPackages;
+import ir.saha.aop.tracing.TracingAspect;
+import ir.saha.aop.tracing.TracingEndpoint;
 
 import io.github.jhipster.config.JHipsterConstants;
+import io.micrometer.core.instrument.MeterRegistry;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.*;
 import org.springframework.core.env.Environment;
 
@@ -11,9 +17,37 @@ import org.springframework.core.env.Environment;
 @EnableAspectJAutoProxy
 public class LoggingAspectConfiguration {
 
+    @Bean
+    public ArgumentRenderer argumentRenderer(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Tracing tracing = applicationProperties.getTracing();
+        return new ArgumentRenderer(tracing.getMaxArgumentLength(), tracing.getRedactedParameters());
+    }
+
     @Bean
     @Profile(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT)
-    public LoggingAspect loggingAspect(Environment env) {
-        return new LoggingAspect(env);
+    public LoggingAspect loggingAspect(Environment env, ArgumentRenderer argumentRenderer) {
+        return new LoggingAspect(env, argumentRenderer);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "application.tracing", name = "enabled", havingValue = "true")
+    public static class TracingConfiguration {
+
+        @Bean
+        public TracedPackages tracedPackages(ApplicationProperties applicationProperties) {
+            return new TracedPackages(applicationProperties.getTracing().getPackages());
+        }
+
+        @Bean
+        public TracingAspect tracingAspect(TracedPackages tracedPackages, MeterRegistry meterRegistry,
+                                           ArgumentRenderer argumentRenderer, ApplicationProperties applicationProperties) {
+            return new TracingAspect(tracedPackages, meterRegistry, argumentRenderer,
+                applicationProperties.getTracing().getSampleRate());
+        }
+
+        @Bean
+        public TracingEndpoint tracingEndpoint(TracedPackages tracedPackages) {
+            return new TracingEndpoint(tracedPackages);
+        }
     }
 }
@@ -0,0 +1,68 @@
+package ir.saha.config;
+
+import ir.saha.config.timing.AssociationLoadIntegrator;
+import ir.saha.config.timing.JdbcTimingSessionListener;
+import ir.saha.config.timing.StatementCountingInspector;
+import ir.saha.config.timing.TimedMappingJackson2HttpMessageConverter;
+import ir.saha.web.filter.ServerTimingFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Measures the SQL statements, JDBC time and serialization time of the API requests.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.request-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingConfiguration implements WebMvcConfigurer {
+
+    private final ApplicationProperties applicationProperties;
+
+    public RequestTimingConfiguration(ApplicationProperties applicationProperties) {
+        this.applicationProperties = applicationProperties;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestTimingHibernateCustomizer(ApplicationProperties applicationProperties) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+            if (applicationProperties.getRequestTiming().getRepeatedLoadThreshold() > 0) {
+                properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> Collections.singletonList(new AssociationLoadIntegrator()));
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(MeterRegistry meterRegistry,
+                                                                          ApplicationProperties applicationProperties) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+            new ServerTimingFilter(meterRegistry, applicationProperties.getRequestTiming()));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class ?
+            new TimedMappingJackson2HttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper(),
+                applicationProperties.getRequestTiming().isServerTimingHeader()) :
+            converter);
+    }
+}
@@ -0,0 +1,31 @@
+package ir.saha.config;
+
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.LocalFileSystemBlobStore;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+/**
+ * Configures the {@link BlobStore} holding file contents.
+ * <p>
+ * The local filesystem store is used unless another {@link BlobStore} bean is defined.
+ */
+@Configuration
+public class StorageConfiguration {
+
+    private final ApplicationProperties applicationProperties;
+
+    public StorageConfiguration(ApplicationProperties applicationProperties) {
+        this.applicationProperties = applicationProperties;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(BlobStore.class)
+    public BlobStore blobStore() {
+        return new LocalFileSystemBlobStore(Paths.get(applicationProperties.getStorage().getRoot()));
+    }
+}
@@ -0,0 +1,96 @@
+package ir.saha.config.liquibase;
+
+import ir.saha.service.YeganHierarchyService;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills the {@code yegan_closure} table from the {@code yegan_zir_yegan} links, walking them from every yegan
+ * the same way {@link YeganHierarchyService} does.
+ * <p>
+ * The links are read once and the rows are inserted in JDBC batches.
+ */
+public class FillYeganClosureChange implements CustomTaskChange {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final Logger log = LoggerFactory.getLogger(FillYeganClosureChange.class);
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+        try {
+            List<Long> ids = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("select id from yegan")) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+            Map<Long, List<Long>> links = new HashMap<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("select yegan_id, zir_yegan_id from yegan_zir_yegan")) {
+                while (rs.next()) {
+                    links.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+                }
+            }
+            int rows = 0;
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "insert into yegan_closure (ancestor_id, descendant_id, depth) values (?, ?, ?)")) {
+                for (Long ancestorId : ids) {
+                    for (Map.Entry<Long, Integer> descendant : YeganHierarchyService.descendantDepths(ancestorId, links).entrySet()) {
+                        insert.setLong(1, ancestorId);
+                        insert.setLong(2, descendant.getKey());
+                        insert.setInt(3, descendant.getValue());
+                        insert.addBatch();
+                        if (++rows % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                    }
+                }
+                insert.executeBatch();
+            }
+            log.info("Filled yegan_closure with {} rows for {} yegans", rows, ids.size());
+        } catch (SQLException | DatabaseException e) {
+            throw new CustomChangeException("Could not fill yegan_closure", e);
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Filled the closure table of the yegan hierarchy";
+    }
+
+    @Override
+    public void setUp() throws SetupException {
+        // Nothing to set up
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+        // No files are read
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+}
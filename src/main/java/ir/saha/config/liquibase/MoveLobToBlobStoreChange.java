@@ -0,0 +1,134 @@
+package ir.saha.config.liquibase;
+
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.LocalFileSystemBlobStore;
+import ir.saha.service.storage.StoredBlob;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copies the content of a LOB column into the local {@link BlobStore} and records the hash and size of each
+ * blob in the given columns of the same row.
+ * <p>
+ * Rows are read one at a time, and each LOB is streamed to the store, so the migration never holds more than
+ * one blob in memory.
+ */
+public class MoveLobToBlobStoreChange implements CustomTaskChange {
+
+    private final Logger log = LoggerFactory.getLogger(MoveLobToBlobStoreChange.class);
+
+    private String tableName;
+
+    private String lobColumn;
+
+    private String hashColumn;
+
+    private String sizeColumn;
+
+    private String blobStoreRoot;
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        BlobStore blobStore = new LocalFileSystemBlobStore(Paths.get(blobStoreRoot));
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+        try {
+            List<Long> ids = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                     "select id from " + tableName + " where " + lobColumn + " is not null")) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement(
+                    "select " + lobColumn + " from " + tableName + " where id = ?");
+                 PreparedStatement update = connection.prepareStatement(
+                     "update " + tableName + " set " + hashColumn + " = ?, " + sizeColumn + " = ? where id = ?")) {
+                for (Long id : ids) {
+                    select.setLong(1, id);
+                    StoredBlob blob;
+                    try (ResultSet rs = select.executeQuery()) {
+                        if (!rs.next()) {
+                            continue;
+                        }
+                        try (InputStream content = rs.getBinaryStream(1)) {
+                            blob = blobStore.put(content);
+                        }
+                    }
+                    update.setString(1, blob.getHash());
+                    update.setLong(2, blob.getSize());
+                    update.setLong(3, id);
+                    update.executeUpdate();
+                }
+            }
+            log.info("Moved {} blobs from {}.{} to {}", ids.size(), tableName, lobColumn, blobStoreRoot);
+        } catch (SQLException | IOException | DatabaseException e) {
+            throw new CustomChangeException("Could not move " + tableName + "." + lobColumn + " to the blob store", e);
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Moved " + tableName + "." + lobColumn + " to the blob store";
+    }
+
+    @Override
+    public void setUp() throws SetupException {
+        // Nothing to set up
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+        // No files are read
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        ValidationErrors errors = new ValidationErrors();
+        errors.checkRequiredField("tableName", tableName);
+        errors.checkRequiredField("lobColumn", lobColumn);
+        errors.checkRequiredField("hashColumn", hashColumn);
+        errors.checkRequiredField("sizeColumn", sizeColumn);
+        errors.checkRequiredField("blobStoreRoot", blobStoreRoot);
+        return errors;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public void setLobColumn(String lobColumn) {
+        this.lobColumn = lobColumn;
+    }
+
+    public void setHashColumn(String hashColumn) {
+        this.hashColumn = hashColumn;
+    }
+
+    public void setSizeColumn(String sizeColumn) {
+        this.sizeColumn = sizeColumn;
+    }
+
+    public void setBlobStoreRoot(String blobStoreRoot) {
+        this.blobStoreRoot = blobStoreRoot;
+    }
+}
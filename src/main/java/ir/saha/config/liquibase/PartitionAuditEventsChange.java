@@ -0,0 +1,75 @@
+package ir.saha.config.liquibase;
+
+import ir.saha.repository.AuditEventPartitions;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * Partitions {@code jhi_persistent_audit_event} by month, with a partition for every month from the oldest event to
+ * the current one, so that the existing events are copied once and {@code p_future} starts empty.
+ * <p>
+ * The events without a date, which were given the 1970-01-02 default, go to the partition of the oldest month.
+ */
+public class PartitionAuditEventsChange implements CustomTaskChange {
+
+    private final Logger log = LoggerFactory.getLogger(PartitionAuditEventsChange.class);
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+        try {
+            YearMonth current = YearMonth.now(ZoneOffset.UTC);
+            YearMonth oldest = current;
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("select unix_timestamp(min(event_date)) from jhi_persistent_audit_event " +
+                     "where event_date > '1970-01-02 00:00:00'")) {
+                if (rs.next() && rs.getObject(1) != null) {
+                    YearMonth month = YearMonth.from(Instant.ofEpochSecond(rs.getLong(1)).atOffset(ZoneOffset.UTC));
+                    oldest = month.isBefore(current) ? month : current;
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("alter table jhi_persistent_audit_event " + AuditEventPartitions.initialPartitioning(oldest, current));
+            }
+            log.info("Partitioned jhi_persistent_audit_event from {} to {}", oldest, current);
+        } catch (SQLException | DatabaseException e) {
+            throw new CustomChangeException("Could not partition jhi_persistent_audit_event", e);
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Partitioned the audit events by month";
+    }
+
+    @Override
+    public void setUp() throws SetupException {
+        // Nothing to set up
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+        // No files are read
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+}
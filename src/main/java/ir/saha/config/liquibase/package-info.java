@@ -0,0 +1,4 @@
+/**
+ * Custom Liquibase changes.
+ */
+package ir.saha.config.liquibase;
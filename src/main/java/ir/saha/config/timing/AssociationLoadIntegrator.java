@@ -0,0 +1,29 @@
+package ir.saha.config.timing;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registers the {@link AssociationLoadListener}; its load listener comes before the default one, so that it sees
+ * whether the entity is already loaded.
+ */
+public class AssociationLoadIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+                          SessionFactoryServiceRegistry serviceRegistry) {
+        AssociationLoadListener listener = new AssociationLoadListener();
+        EventListenerRegistry registry = serviceRegistry.getService(EventListenerRegistry.class);
+        registry.prependListeners(EventType.LOAD, listener);
+        registry.appendListeners(EventType.INIT_COLLECTION, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // Nothing to release.
+    }
+}
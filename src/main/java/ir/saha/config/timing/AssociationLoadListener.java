@@ -0,0 +1,51 @@
+package ir.saha.config.timing;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Records in the current request the associations Hibernate loads one entity or one collection at a time, the
+ * signature of an N+1 pattern.
+ * <p>
+ * A to-one association counts when its entity is loaded on its own, eagerly or by initializing its proxy, and is not
+ * already in the persistence context; a to-many association counts each time one of its collections is initialized.
+ */
+public class AssociationLoadListener implements LoadEventListener, InitializeCollectionEventListener {
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null || event.getEntityId() == null) {
+            return;
+        }
+        String kind;
+        if (loadType == LoadEventListener.INTERNAL_LOAD_EAGER) {
+            kind = " (eager to-one)";
+        } else if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+            kind = " (lazy to-one proxy)";
+        } else {
+            return;
+        }
+        EntityPersister persister = event.getSession().getFactory().getMetamodel().entityPersister(event.getEntityClassName());
+        EntityKey key = event.getSession().generateEntityKey(event.getEntityId(), persister);
+        if (event.getSession().getPersistenceContext().getEntity(key) == null) {
+            timings.associationLoaded(simpleName(event.getEntityClassName()) + kind);
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null && event.getCollection().getRole() != null) {
+            timings.associationLoaded(simpleName(event.getCollection().getRole()));
+        }
+    }
+
+    private static String simpleName(String name) {
+        int lastDot = name.lastIndexOf('.');
+        int classDot = lastDot > 0 ? name.lastIndexOf('.', lastDot - 1) : -1;
+        return Character.isUpperCase(name.charAt(lastDot + 1)) ? name.substring(lastDot + 1) : name.substring(classDot + 1);
+    }
+}
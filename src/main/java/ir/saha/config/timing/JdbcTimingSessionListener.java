@@ -0,0 +1,40 @@
+package ir.saha.config.timing;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds the time the Hibernate sessions spend executing JDBC statements and batches to the current request.
+ * <p>
+ * Hibernate creates one listener per session, from the {@code hibernate.session.events.auto} setting.
+ */
+public class JdbcTimingSessionListener extends BaseSessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executed();
+    }
+
+    private void executed() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.jdbcExecuted(System.nanoTime() - executionStart);
+        }
+    }
+}
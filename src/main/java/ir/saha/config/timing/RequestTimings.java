@@ -0,0 +1,125 @@
+package ir.saha.config.timing;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * What the current request spent its time on: the SQL statements it prepared, the time it spent executing them, the
+ * time it spent serializing its response body, and its own time so far. When the {@link AssociationLoadListener} is
+ * registered, it also counts the associations loaded one at a time.
+ * <p>
+ * The timings are bound to the thread serving the request, from {@link #start()} to {@link #end()}; outside of a
+ * request, {@link #current()} is {@code null} and the hooks feeding the timings do nothing.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+
+    private int statements;
+
+    private long jdbcNanos;
+
+    private long serializationNanos;
+
+    private Map<String, Integer> associationLoads;
+
+    RequestTimings() {
+    }
+
+    /**
+     * Start timing a request on the current thread.
+     *
+     * @return the timings of the request.
+     */
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Get the timings of the request served by the current thread.
+     *
+     * @return the timings, or {@code null} outside of a request.
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stop timing the request served by the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void statementPrepared(String sql) {
+        statements++;
+    }
+
+    void jdbcExecuted(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    void serialized(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    void associationLoaded(String association) {
+        if (associationLoads == null) {
+            associationLoads = new HashMap<>();
+        }
+        associationLoads.merge(association, 1, Integer::sum);
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getSerializationNanos() {
+        return serializationNanos;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Get the associations loaded one at a time at least a given number of times, likely N+1 patterns.
+     *
+     * @param threshold the number of loads.
+     * @return the number of loads, by association.
+     */
+    public Map<String, Integer> getRepeatedAssociationLoads(int threshold) {
+        if (associationLoads == null) {
+            return new HashMap<>();
+        }
+        return associationLoads.entrySet().stream()
+            .filter(load -> load.getValue() >= threshold)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Render the timings as the value of a {@code Server-Timing} header.
+     *
+     * @return the {@code db}, {@code ser} and {@code app} metrics, in milliseconds.
+     */
+    public String toServerTiming() {
+        return "db;dur=" + millis(jdbcNanos) + ";desc=\"" + statements + " statements\", " +
+            "ser;dur=" + millis(serializationNanos) + ", " +
+            "app;dur=" + millis(getElapsedNanos());
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,18 @@
+package ir.saha.config.timing;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares for the current request.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
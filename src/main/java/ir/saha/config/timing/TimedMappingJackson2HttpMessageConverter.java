@@ -0,0 +1,108 @@
+package ir.saha.config.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter adding the time spent serializing a response body to the current request.
+ * <p>
+ * When the timings are sent back in a {@code Server-Timing} header, the body is serialized to memory first, so that
+ * its serialization is over before the response is committed with the header. Otherwise the body is written straight
+ * to the response, and the time spent writing to the response is left out of the serialization time.
+ */
+public class TimedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final boolean buffered;
+
+    /**
+     * Create a converter timing the serialization of the response bodies.
+     *
+     * @param objectMapper the object mapper.
+     * @param buffered whether to serialize the bodies to memory first, for the {@code Server-Timing} header.
+     */
+    public TimedMappingJackson2HttpMessageConverter(ObjectMapper objectMapper, boolean buffered) {
+        super(objectMapper);
+        this.buffered = buffered;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+        throws IOException, HttpMessageNotWritableException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        long start = System.nanoTime();
+        if (buffered) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+            super.writeInternal(object, type, withBody(outputMessage, body));
+            timings.serialized(System.nanoTime() - start);
+            body.writeTo(outputMessage.getBody());
+        } else {
+            WriteTimingOutputStream body = new WriteTimingOutputStream(outputMessage.getBody());
+            super.writeInternal(object, type, withBody(outputMessage, body));
+            timings.serialized(System.nanoTime() - start - body.getWriteNanos());
+        }
+    }
+
+    private static HttpOutputMessage withBody(HttpOutputMessage outputMessage, OutputStream body) {
+        return new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        };
+    }
+
+    /**
+     * Pass-through stream adding up the time spent writing to the stream it wraps.
+     */
+    static final class WriteTimingOutputStream extends FilterOutputStream {
+
+        private long writeNanos;
+
+        WriteTimingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            long start = System.nanoTime();
+            out.write(b);
+            writeNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            out.write(b, off, len);
+            writeNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long start = System.nanoTime();
+            out.flush();
+            writeNanos += System.nanoTime() - start;
+        }
+
+        long getWriteNanos() {
+            return writeNanos;
+        }
+    }
+}
@@ -22,7 +22,7 @@ public class BargeMamooriat implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "idGenerator")
     private Long id;
 
     @Enumerated(EnumType.STRING)
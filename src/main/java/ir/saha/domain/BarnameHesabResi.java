@@ -20,7 +20,7 @@ public class BarnameHesabResi implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "idGenerator")
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -1,5 +1,7 @@
 package ir.saha.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
@@ -12,12 +14,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "daraje")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Daraje implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "idGenerator")
     private Long id;
 
     @Column(name = "name")
@@ -17,7 +17,7 @@ public class Dore implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "idGenerator")
     private Long id;
 
     @Column(name = "begin")
@@ -16,12 +16,19 @@ public class FileBargeMamooriat implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "idGenerator")
     private Long id;
 
-    @Lob
-    @Column(name = "madarek")
-    private byte[] madarek;
+    /**
+     * Content exchanged with clients; it is kept in the blob store, referenced by {@link #madarekHash}.
+     */
+    private transient byte[] madarek;
+
+    @Column(name = "madarek_hash", length = 64)
+    private String madarekHash;
+
+    @Column(name = "madarek_size")
+    private Long madarekSize;
 
     @Column(name = "madarek_content_type")
     private String madarekContentType;
@@ -52,6 +59,32 @@ public class FileBargeMamooriat implements Serializable {
         this.madarek = madarek;
     }
 
+    public String getMadarekHash() {
+        return madarekHash;
+    }
+
+    public FileBargeMamooriat madarekHash(String madarekHash) {
+        this.madarekHash = madarekHash;
+        return this;
+    }
+
+    public void setMadarekHash(String madarekHash) {
+        this.madarekHash = madarekHash;
+    }
+
+    public Long getMadarekSize() {
+        return madarekSize;
+    }
+
+    public FileBargeMamooriat madarekSize(Long madarekSize) {
+        this.madarekSize = madarekSize;
+        return this;
+    }
+
+    public void setMadarekSize(Long madarekSize) {
+        this.madarekSize = madarekSize;
+    }
+
     public String getMadarekContentType() {
         return madarekContentType;
     }
@@ -99,7 +132,8 @@ public class FileBargeMamooriat implements Serializable {
     public String toString() {
         return "FileBargeMamooriat{" +
             "id=" + getId() +
-            ", madarek='" + getMadarek() + "'" +
+            ", madarekHash='" + getMadarekHash() + "'" +
+            ", madarekSize=" + getMadarekSize() +
             ", madarekContentType='" + getMadarekContentType() + "'" +
             "}";
     }
@@ -16,12 +16,19 @@ public class FileGozaresh implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "idGenerator")
     private Long id;
 
-    @Lob
-    @Column(name = "file")
-    private byte[] file;
+    /**
+     * Content exchanged with clients; it is kept in the blob store, referenced by {@link #fileHash}.
+     */
+    private transient byte[] file;
+
+    @Column(name = "file_hash", length = 64)
+    private String fileHash;
+
+    @Column(name = "file_size")
+    private Long fileSize;
 
     @Column(name = "file_content_type")
     private String fileContentType;
@@ -52,6 +59,32 @@ public class FileGozaresh implements Serializable {
         this.file = file;
     }
 
+    public String getFileHash() {
+        return fileHash;
+    }
+
+    public FileGozaresh fileHash(String fileHash) {
+        this.fileHash = fileHash;
+        return this;
+    }
+
+    public void setFileHash(String fileHash) {
+        this.fileHash = fileHash;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public FileGozaresh fileSize(Long fileSize) {
+        this.fileSize = fileSize;
+        return this;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
     public String getFileContentType() {
         return fileContentType;
     }
@@ -99,7 +132,8 @@ public class FileGozaresh implements Serializable {
     public String toString() {
         return "FileGozaresh{" +
             "id=" + getId() +
-            ", file='" + getFile() + "'" +
+            ", fileHash='" + getFileHash() + "'" +
+            ", fileSize=" + getFileSize() +
             ", fileContentType='" + getFileContentType() + "'" +
             "}";
     }
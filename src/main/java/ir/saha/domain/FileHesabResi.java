@@ -19,12 +19,19 @@ public class FileHesabResi implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "idGenerator")
     private Long id;
 
-    @Lob
-    @Column(name = "file")
-    private byte[] file;
+    /**
+     * Content exchanged with clients; it is kept in the blob store, referenced by {@link #fileHash}.
+     */
+    private transient byte[] file;
+
+    @Column(name = "file_hash", length = 64)
+    private String fileHash;
+
+    @Column(name = "file_size")
+    private Long fileSize;
 
     @Column(name = "file_content_type")
     private String fileContentType;
@@ -72,6 +79,32 @@ public class FileHesabResi implements Serializable {
         this.file = file;
     }
 
+    public String getFileHash() {
+        return fileHash;
+    }
+
+    public FileHesabResi fileHash(String fileHash) {
+        this.fileHash = fileHash;
+        return this;
+    }
+
+    public void setFileHash(String fileHash) {
+        this.fileHash = fileHash;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public FileHesabResi fileSize(Long fileSize) {
+        this.fileSize = fileSize;
+        return this;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
     public String getFileContentType() {
         return fileContentType;
     }
@@ -184,7 +217,8 @@ public class FileHesabResi implements Serializable {
     public String toString() {
         return "FileHesabResi{" +
             "id=" + getId() +
-            ", file='" + getFile() + "'" +
+            ", fileHash='" + getFileHash() + "'" +
+            ", fileSize=" + getFileSize() +
             ", fileContentType='" + getFileContentType() + "'" +
             ", shomare=" + getShomare() +
             ", tarikhName='" + getTarikhName() + "'" +
@@ -16,12 +16,19 @@ public class FileName implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "idGenerator")
     private Long id;
 
-    @Lob
-    @Column(name = "madrak")
-    private byte[] madrak;
+    /**
+     * Content exchanged with clients; it is kept in the blob store, referenced by {@link #madrakHash}.
+     */
+    private transient byte[] madrak;
+
+    @Column(name = "madrak_hash", length = 64)
+    private String madrakHash;
+
+    @Column(name = "madrak_size")
+    private Long madrakSize;
 
     @Column(name = "madrak_content_type")
     private String madrakContentType;
@@ -52,6 +59,32 @@ public class FileName implements Serializable {
         this.madrak = madrak;
     }
 
+    public String getMadrakHash() {
+        return madrakHash;
+    }
+
+    public FileName madrakHash(String madrakHash) {
+        this.madrakHash = madrakHash;
+        return this;
+    }
+
+    public void setMadrakHash(String madrakHash) {
+        this.madrakHash = madrakHash;
+    }
+
+    public Long getMadrakSize() {
+        return madrakSize;
+    }
+
+    public FileName madrakSize(Long madrakSize) {
+        this.madrakSize = madrakSize;
+        return this;
+    }
+
+    public void setMadrakSize(Long madrakSize) {
+        this.madrakSize = madrakSize;
+    }
+
     public String getMadrakContentType() {
         return madrakContentType;
     }
@@ -99,7 +132,8 @@ public class FileName implements Serializable {
     public String toString() {
         return "FileName{" +
             "id=" + getId() +
-            ", madrak='" + getMadrak() + "'" +
+            ", madrakHash='" + getMadrakHash() + "'" +
+            ", madrakSize=" + getMadrakSize() +
             ", madrakContentType='" + getMadrakContentType() + "'" +
             "}";
     }
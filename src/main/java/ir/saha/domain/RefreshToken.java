@@ -0,0 +1,157 @@
+package ir.saha.domain;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A refresh token of a user session, stored by the SHA-256 digest of its value.
+ * <p>
+ * Each refresh replaces the token by a new one of the same session, and marks it used. A used token that is
+ * presented again reveals that it leaked, and revokes its whole session.
+ */
+@Entity
+@Table(name = "refresh_token")
+public class RefreshToken implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(generator = "idGenerator")
+    private Long id;
+
+    @NotNull
+    @Size(min = 64, max = 64)
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true)
+    private String tokenHash;
+
+    @NotNull
+    @Size(max = 36)
+    @Column(name = "session_id", length = 36, nullable = false)
+    private String sessionId;
+
+    @NotNull
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "remember_me", nullable = false)
+    private boolean rememberMe;
+
+    @NotNull
+    @Column(name = "created_date", nullable = false)
+    private Instant createdDate;
+
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "used_date")
+    private Instant usedDate;
+
+    @Column(name = "revoked_date")
+    private Instant revokedDate;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public boolean isRememberMe() {
+        return rememberMe;
+    }
+
+    public void setRememberMe(boolean rememberMe) {
+        this.rememberMe = rememberMe;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Instant getUsedDate() {
+        return usedDate;
+    }
+
+    public void setUsedDate(Instant usedDate) {
+        this.usedDate = usedDate;
+    }
+
+    public Instant getRevokedDate() {
+        return revokedDate;
+    }
+
+    public void setRevokedDate(Instant revokedDate) {
+        this.revokedDate = revokedDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RefreshToken)) {
+            return false;
+        }
+        return id != null && id.equals(((RefreshToken) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+
+    @Override
+    public String toString() {
+        return "RefreshToken{" +
+            "id=" + getId() +
+            ", sessionId='" + getSessionId() + "'" +
+            ", rememberMe='" + isRememberMe() + "'" +
+            ", createdDate='" + getCreatedDate() + "'" +
+            ", expiresAt='" + getExpiresAt() + "'" +
+            ", usedDate='" + getUsedDate() + "'" +
+            ", revokedDate='" + getRevokedDate() + "'" +
+            "}";
+    }
+}
@@ -1,6 +1,8 @@
 package ir.saha.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
@@ -13,12 +15,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "shahr")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Shahr implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "idGenerator")
     private Long id;
 
     @Column(name = "name")
@@ -0,0 +1,90 @@
+package ir.saha.domain;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+
+import java.io.Serializable;
+
+/**
+ * A row of the closure table of the {@link Yegan} hierarchy: the descendant is reachable from the ancestor
+ * through {@code depth} zirYegan links, following the shortest path. Every yegan is its own ancestor at depth 0.
+ */
+@Entity
+@Table(name = "yegan_closure")
+public class YeganClosure implements Persistable<YeganClosureId>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @EmbeddedId
+    private YeganClosureId id;
+
+    @Column(name = "depth", nullable = false)
+    private Integer depth;
+
+    @Transient
+    private boolean persisted;
+
+    public YeganClosure() {
+    }
+
+    public YeganClosure(Long ancestorId, Long descendantId, Integer depth) {
+        this.id = new YeganClosureId(ancestorId, descendantId);
+        this.depth = depth;
+    }
+
+    @Override
+    public YeganClosureId getId() {
+        return id;
+    }
+
+    public void setId(YeganClosureId id) {
+        this.id = id;
+    }
+
+    public Integer getDepth() {
+        return depth;
+    }
+
+    public void setDepth(Integer depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * The id is assigned, so tell Spring Data whether to persist or merge the row, saving a select on insert.
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof YeganClosure)) {
+            return false;
+        }
+        return id != null && id.equals(((YeganClosure) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+
+    @Override
+    public String toString() {
+        return "YeganClosure{" +
+            "id=" + getId() +
+            ", depth=" + getDepth() +
+            "}";
+    }
+}
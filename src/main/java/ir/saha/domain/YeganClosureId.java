@@ -0,0 +1,71 @@
+package ir.saha.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The id of a {@link YeganClosure}: the pair of yegans it links.
+ */
+@Embeddable
+public class YeganClosureId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    public YeganClosureId() {
+    }
+
+    public YeganClosureId(Long ancestorId, Long descendantId) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+    }
+
+    public Long getAncestorId() {
+        return ancestorId;
+    }
+
+    public void setAncestorId(Long ancestorId) {
+        this.ancestorId = ancestorId;
+    }
+
+    public Long getDescendantId() {
+        return descendantId;
+    }
+
+    public void setDescendantId(Long descendantId) {
+        this.descendantId = descendantId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof YeganClosureId)) {
+            return false;
+        }
+        YeganClosureId other = (YeganClosureId) o;
+        return Objects.equals(ancestorId, other.ancestorId) && Objects.equals(descendantId, other.descendantId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ancestorId, descendantId);
+    }
+
+    @Override
+    public String toString() {
+        return "YeganClosureId{" +
+            "ancestorId=" + getAncestorId() +
+            ", descendantId=" + getDescendantId() +
+            "}";
+    }
+}
@@ -0,0 +1,11 @@
+package ir.saha.domain.enumeration;
+
+/**
+ * The OutboxMailStatus enumeration.
+ */
+public enum OutboxMailStatus {
+    /** Waiting for its next delivery attempt. */
+    PENDING,
+    /** Given up on, after its last delivery attempt failed. */
+    FAILED
+}
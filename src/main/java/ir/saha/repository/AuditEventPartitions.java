@@ -0,0 +1,184 @@
+package ir.saha.repository;
+
+import ir.saha.config.ApplicationProperties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Manages the monthly partitions of {@code jhi_persistent_audit_event}, on the databases that partition it.
+ * <p>
+ * Partition {@code p_yyyyMM} holds the events of that month, in UTC, and {@code p_future} whatever comes after the
+ * last month. The months up to {@code application.audit.partitions-ahead} are split off {@code p_future} ahead of
+ * time, so that it stays empty and splitting it stays cheap. The table is first partitioned with
+ * {@link #initialPartitioning(YearMonth, YearMonth)}, which gives the existing events their months too. Retention drops the partitions of the expired months as a
+ * whole, whatever their size.
+ * <p>
+ * On the other databases, {@link #isPartitioned()} is {@code false} and the audit events are purged row by row.
+ */
+@Component
+public class AuditEventPartitions {
+
+    static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p_'yyyyMM");
+
+    private static final String SELECT_PARTITIONS =
+        "select partition_name, partition_description from information_schema.partitions " +
+            "where table_schema = database() and table_name = 'jhi_persistent_audit_event' and partition_name is not null";
+
+    private final Logger log = LoggerFactory.getLogger(AuditEventPartitions.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int partitionsAhead;
+
+    private volatile Boolean partitioned;
+
+    public AuditEventPartitions(ApplicationProperties applicationProperties, JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitionsAhead = applicationProperties.getAudit().getPartitionsAhead();
+    }
+
+    /**
+     * Tell whether the audit events are partitioned by month.
+     *
+     * @return {@code true} on MySQL and MariaDB, once their table is partitioned.
+     */
+    public boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+            result = product != null && (product.contains("MySQL") || product.contains("MariaDB")) &&
+                partitionBounds().containsKey(FUTURE_PARTITION);
+            partitioned = result;
+        }
+        return result;
+    }
+
+    /**
+     * Split the partitions of the current month and of the next {@code application.audit.partitions-ahead} ones off
+     * {@code p_future}, when they do not exist yet.
+     * <p>
+     * This is run on startup, and scheduled to get fired everyday, at 00:30 (am).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 0 * * ?")
+    public void createPartitions() {
+        if (!isPartitioned()) {
+            return;
+        }
+        OptionalLong highestBound = partitionBounds().values().stream()
+            .filter(Objects::nonNull)
+            .mapToLong(Long::longValue)
+            .max();
+        for (YearMonth month : missingMonths(highestBound, YearMonth.now(ZoneOffset.UTC), partitionsAhead)) {
+            String name = partitionName(month);
+            log.info("Creating audit event partition {}", name);
+            jdbcTemplate.execute("alter table jhi_persistent_audit_event reorganize partition " + FUTURE_PARTITION +
+                " into (partition " + name + " values less than (" + upperBound(month) + "), partition " +
+                FUTURE_PARTITION + " values less than maxvalue)");
+        }
+    }
+
+    /**
+     * Drop the partitions of the months that ended before a date, with all their audit events.
+     * <p>
+     * Their events data are left behind, to be deleted by {@link #deleteOrphanData(int)}.
+     *
+     * @param before the date.
+     * @return the number of partitions dropped.
+     */
+    public int dropPartitionsBefore(Instant before) {
+        if (!isPartitioned()) {
+            return 0;
+        }
+        List<String> expired = expiredPartitions(partitionBounds(), before);
+        if (!expired.isEmpty()) {
+            log.info("Dropping audit event partitions {}", expired);
+            jdbcTemplate.execute("alter table jhi_persistent_audit_event drop partition " + String.join(", ", expired));
+        }
+        return expired.size();
+    }
+
+    /**
+     * Delete the data of the audit events dropped with their partition, which all precede the oldest event left.
+     *
+     * @param limit the maximum number of rows to delete.
+     * @return the number of rows deleted.
+     */
+    public int deleteOrphanData(int limit) {
+        Long oldestId = jdbcTemplate.queryForObject("select min(event_id) from jhi_persistent_audit_event", Long.class);
+        return jdbcTemplate.update("delete from jhi_persistent_audit_evt_data where event_id < ? limit ?",
+            oldestId == null ? Long.MAX_VALUE : oldestId, limit);
+    }
+
+    private Map<String, Long> partitionBounds() {
+        Map<String, Long> bounds = new HashMap<>();
+        jdbcTemplate.query(SELECT_PARTITIONS, rs -> {
+            String description = rs.getString(2);
+            bounds.put(rs.getString(1), "MAXVALUE".equalsIgnoreCase(description) ? null : Long.valueOf(description));
+        });
+        return bounds;
+    }
+
+    /**
+     * Build the {@code partition by} clause first partitioning the audit events, with a partition for every month from
+     * the oldest event to the current one and an empty {@code p_future}.
+     * <p>
+     * The partition of the oldest month also holds whatever precedes it, such as the events that had no date.
+     *
+     * @param oldest the month of the oldest event, or the current month if there is none.
+     * @param current the current month.
+     * @return the clause, to append to {@code alter table jhi_persistent_audit_event}.
+     */
+    public static String initialPartitioning(YearMonth oldest, YearMonth current) {
+        StringBuilder partitions = new StringBuilder("partition by range (unix_timestamp(event_date)) (");
+        for (YearMonth month = oldest; !month.isAfter(current); month = month.plusMonths(1)) {
+            partitions.append("partition ").append(partitionName(month))
+                .append(" values less than (").append(upperBound(month)).append("), ");
+        }
+        return partitions.append("partition ").append(FUTURE_PARTITION).append(" values less than maxvalue)").toString();
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_NAME.format(month);
+    }
+
+    static long upperBound(YearMonth month) {
+        return month.plusMonths(1).atDay(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static List<YearMonth> missingMonths(OptionalLong highestBound, YearMonth current, int partitionsAhead) {
+        List<YearMonth> months = new ArrayList<>();
+        for (int i = 0; i <= partitionsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!highestBound.isPresent() || upperBound(month) > highestBound.getAsLong()) {
+                months.add(month);
+            }
+        }
+        return months;
+    }
+
+    static List<String> expiredPartitions(Map<String, Long> bounds, Instant before) {
+        return bounds.entrySet().stream()
+            .filter(bound -> bound.getValue() != null && bound.getValue() <= before.getEpochSecond())
+            .sorted(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,188 @@
+package ir.saha.repository;
+
+import ir.saha.config.ApplicationProperties;
+import ir.saha.domain.PersistentAuditEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Writes the {@link PersistentAuditEvent}s in JDBC batches, from a bounded queue drained by a background thread.
+ * <p>
+ * The queue is flushed every {@code application.audit.flush-interval-millis}, and once more on shutdown. When it is
+ * full, the {@code application.audit.overflow-policy} decides what happens to a new event. The writer publishes the
+ * {@code audit.events.queue} depth, the {@code audit.events.written} and {@code audit.events.dropped} counts, and the
+ * {@code audit.events.flush} latency.
+ */
+@Component
+public class AuditEventWriter implements DisposableBean {
+
+    private static final String INSERT_EVENT =
+        "insert into jhi_persistent_audit_event (principal, event_date, event_type) values (?, ?, ?)";
+
+    private static final String INSERT_EVENT_DATA =
+        "insert into jhi_persistent_audit_evt_data (event_id, name, value) values (?, ?, ?)";
+
+    private final Logger log = LoggerFactory.getLogger(AuditEventWriter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<PersistentAuditEvent> queue;
+
+    private final int batchSize;
+
+    private final ApplicationProperties.Audit.OverflowPolicy overflowPolicy;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter written;
+
+    private final Counter droppedOnOverflow;
+
+    private final Counter droppedOnError;
+
+    private final Timer flushTimer;
+
+    public AuditEventWriter(ApplicationProperties applicationProperties, JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        ApplicationProperties.Audit audit = applicationProperties.getAudit();
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(audit.getQueueCapacity());
+        this.batchSize = audit.getBatchSize();
+        this.overflowPolicy = audit.getOverflowPolicy();
+        this.written = Counter.builder("audit.events.written")
+            .description("Audit events written to the database")
+            .register(meterRegistry);
+        this.droppedOnOverflow = Counter.builder("audit.events.dropped")
+            .tag("reason", "overflow")
+            .description("Audit events lost because the queue was full or the write failed")
+            .register(meterRegistry);
+        this.droppedOnError = Counter.builder("audit.events.dropped")
+            .tag("reason", "error")
+            .description("Audit events lost because the queue was full or the write failed")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.events.flush")
+            .description("Time spent writing a batch of audit events")
+            .register(meterRegistry);
+        Gauge.builder("audit.events.queue", queue, Collection::size)
+            .description("Audit events waiting to be written")
+            .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("saha-audit-"));
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, audit.getFlushIntervalMillis(),
+            audit.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue an audit event to be written with the next batch.
+     *
+     * @param event the event.
+     */
+    public void write(PersistentAuditEvent event) {
+        if (queue.offer(event)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        droppedOnOverflow.increment();
+                    }
+                }
+                break;
+            case WRITE_THROUGH:
+                insert(Collections.singletonList(event));
+                break;
+            default:
+                droppedOnOverflow.increment();
+        }
+    }
+
+    /**
+     * Write every queued audit event now, in batches, joining the current transaction if there is one.
+     */
+    public synchronized void flush() {
+        List<PersistentAuditEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            insert(batch);
+            batch.clear();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Could not write audit events: {}", e.getMessage(), e);
+        }
+    }
+
+    private void insert(List<PersistentAuditEvent> events) {
+        try {
+            flushTimer.record(() -> transactionTemplate.execute(status ->
+                jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                    insert(connection, events);
+                    return null;
+                })));
+            written.increment(events.size());
+        } catch (RuntimeException e) {
+            droppedOnError.increment(events.size());
+            throw e;
+        }
+    }
+
+    private void insert(Connection connection, List<PersistentAuditEvent> events) throws SQLException {
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        List<Object[]> data = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_EVENT, new String[] {"event_id"})) {
+            for (PersistentAuditEvent event : events) {
+                ps.setString(1, event.getPrincipal());
+                ps.setTimestamp(2, event.getAuditEventDate() == null ? null : Timestamp.from(event.getAuditEventDate()), utc);
+                ps.setString(3, event.getAuditEventType());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                for (PersistentAuditEvent event : events) {
+                    if (!keys.next()) {
+                        throw new SQLException("No generated key returned for audit event " + event.getAuditEventType());
+                    }
+                    long eventId = keys.getLong(1);
+                    event.getData().forEach((name, value) -> data.add(new Object[] {eventId, name, value}));
+                }
+            }
+        }
+        if (!data.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EVENT_DATA, data);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        flushQuietly();
+    }
+}
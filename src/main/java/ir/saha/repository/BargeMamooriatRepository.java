@@ -2,14 +2,58 @@ package ir.saha.repository;
 
 import ir.saha.domain.BargeMamooriat;
 
+import ir.saha.domain.enumeration.VaziatBargeMamooriat;
+
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 /**
  * Spring Data  repository for the BargeMamooriat entity.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface BargeMamooriatRepository extends JpaRepository<BargeMamooriat, Long> {
+public interface BargeMamooriatRepository extends JpaRepository<BargeMamooriat, Long>, JpaSpecificationExecutor<BargeMamooriat>, KeysetRepository<BargeMamooriat>, FieldsetRepository<BargeMamooriat> {
+
+    /**
+     * Streams all barge mamooriats, with the codes of the entities they reference, as flat rows read from a
+     * forward-only cursor, a thousand at a time: the caller must consume and close the stream within a transaction.
+     *
+     * @return the rows, ordered by id.
+     */
+    @Query("select bargeMamooriat.id as id, bargeMamooriat.vaziat as vaziat, " +
+        "bargeMamooriat.saleMamooriat as saleMamooriat, bargeMamooriat.shorooMamooriat as shorooMamooriat, " +
+        "bargeMamooriat.payanMamooriat as payanMamooriat, sarparast.codePerseneli as sarparast, yegan.code as yegan, " +
+        "bargeMamooriat.hesabResi.id as hesabResiId " +
+        "from BargeMamooriat bargeMamooriat left join bargeMamooriat.sarparast sarparast " +
+        "left join bargeMamooriat.yegan yegan order by bargeMamooriat.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<ExportRow> streamAllForExport();
+
+    /**
+     * A barge mamooriat, as exported.
+     */
+    interface ExportRow {
+
+        Long getId();
+
+        VaziatBargeMamooriat getVaziat();
+
+        Integer getSaleMamooriat();
+
+        Instant getShorooMamooriat();
+
+        Instant getPayanMamooriat();
+
+        String getSarparast();
+
+        String getYegan();
 
+        Long getHesabResiId();
+    }
 }
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface BarnameHesabResiRepository extends JpaRepository<BarnameHesabResi, Long> {
+public interface BarnameHesabResiRepository extends JpaRepository<BarnameHesabResi, Long>, JpaSpecificationExecutor<BarnameHesabResi> {
 
 }
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface DarajeRepository extends JpaRepository<Daraje, Long> {
+public interface DarajeRepository extends JpaRepository<Daraje, Long>, JpaSpecificationExecutor<Daraje> {
 
 }
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface DoreRepository extends JpaRepository<Dore, Long> {
+public interface DoreRepository extends JpaRepository<Dore, Long>, JpaSpecificationExecutor<Dore> {
 
 }
@@ -0,0 +1,62 @@
+package ir.saha.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repository fragment for sparse fieldsets: reading only some fields of an entity and of the entities it references.
+ * <p>
+ * The fields are given as comma-separated paths, such as {@code id,name,yegan.name}, and only their columns are
+ * selected, with a left join per association of the paths. An entity is returned as a map of its fields, an
+ * association as a nested map, or {@code null} when there is no associated entity. The ids are always included.
+ * Collections cannot be selected. Implemented by {@link KeysetJpaRepository}.
+ *
+ * @param <T> the entity type.
+ */
+@NoRepositoryBean
+public interface FieldsetRepository<T> {
+
+    /**
+     * Returns a page of the fields of the entities matching the specification.
+     *
+     * @param spec the specification to match, or {@code null} to match all entities.
+     * @param fields the comma-separated paths of the fields to read.
+     * @param pageable the pagination information.
+     * @return the page of the fields of the matching entities.
+     * @throws UnknownFieldException if a path is not the one of a field, or goes through a collection.
+     */
+    Page<Map<String, Object>> findAllFields(@Nullable Specification<T> spec, String fields, Pageable pageable);
+
+    /**
+     * Returns the fields of the entities matching the specification that come after {@code afterId} in id order,
+     * as {@link KeysetRepository#findAllAfter} does.
+     *
+     * @param spec the specification to match, or {@code null} to match all entities.
+     * @param fields the comma-separated paths of the fields to read.
+     * @param afterId the id of the last entity of the previous page, or {@code null} for the first page.
+     * @param direction the direction of the id order.
+     * @param size the maximum number of entities to return.
+     * @return the slice of the fields of the matching entities.
+     * @throws UnknownFieldException if a path is not the one of a field, or goes through a collection.
+     */
+    Slice<Map<String, Object>> findAllFieldsAfter(@Nullable Specification<T> spec, String fields, @Nullable Long afterId,
+                                                  Sort.Direction direction, int size);
+
+    /**
+     * Returns the fields of an entity.
+     *
+     * @param id the id of the entity.
+     * @param fields the comma-separated paths of the fields to read.
+     * @return the fields of the entity, or empty if there is none of this id.
+     * @throws UnknownFieldException if a path is not the one of a field, or goes through a collection.
+     */
+    Optional<Map<String, Object>> findFieldsById(Long id, String fields);
+}
@@ -0,0 +1,17 @@
+package ir.saha.repository;
+
+/**
+ * Projection of the {@link ir.saha.domain.FileBargeMamooriat} entity for list views, without its content.
+ */
+public interface FileBargeMamooriatMetadata {
+
+    Long getId();
+
+    String getMadarekHash();
+
+    Long getMadarekSize();
+
+    String getMadarekContentType();
+
+    Long getBargeMamooriatId();
+}
@@ -2,7 +2,10 @@ package ir.saha.repository;
 
 import ir.saha.domain.FileBargeMamooriat;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,4 +15,16 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FileBargeMamooriatRepository extends JpaRepository<FileBargeMamooriat, Long> {
 
+    @Query(value = "select f.id as id, f.madarekHash as madarekHash, f.madarekSize as madarekSize, "
+        + "f.madarekContentType as madarekContentType, f.bargeMamooriat.id as bargeMamooriatId "
+        + "from FileBargeMamooriat f",
+        countQuery = "select count(f) from FileBargeMamooriat f")
+    Page<FileBargeMamooriatMetadata> findAllMetadata(Pageable pageable);
+
+    @Query(value = "select f.id as id, f.madarekHash as madarekHash, f.madarekSize as madarekSize, "
+        + "f.madarekContentType as madarekContentType, f.bargeMamooriat.id as bargeMamooriatId "
+        + "from FileBargeMamooriat f "
+        + "where f.bargeMamooriat.id = :bargeMamooriatId",
+        countQuery = "select count(f) from FileBargeMamooriat f where f.bargeMamooriat.id = :bargeMamooriatId")
+    Page<FileBargeMamooriatMetadata> findAllMetadataByBargeMamooriatId(@Param("bargeMamooriatId") Long bargeMamooriatId, Pageable pageable);
 }
@@ -0,0 +1,17 @@
+package ir.saha.repository;
+
+/**
+ * Projection of the {@link ir.saha.domain.FileGozaresh} entity for list views, without its content.
+ */
+public interface FileGozareshMetadata {
+
+    Long getId();
+
+    String getFileHash();
+
+    Long getFileSize();
+
+    String getFileContentType();
+
+    Long getHesabResiId();
+}
@@ -2,7 +2,10 @@ package ir.saha.repository;
 
 import ir.saha.domain.FileGozaresh;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,4 +15,16 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FileGozareshRepository extends JpaRepository<FileGozaresh, Long> {
 
+    @Query(value = "select f.id as id, f.fileHash as fileHash, f.fileSize as fileSize, "
+        + "f.fileContentType as fileContentType, f.hesabResi.id as hesabResiId "
+        + "from FileGozaresh f",
+        countQuery = "select count(f) from FileGozaresh f")
+    Page<FileGozareshMetadata> findAllMetadata(Pageable pageable);
+
+    @Query(value = "select f.id as id, f.fileHash as fileHash, f.fileSize as fileSize, "
+        + "f.fileContentType as fileContentType, f.hesabResi.id as hesabResiId "
+        + "from FileGozaresh f "
+        + "where f.hesabResi.id = :hesabResiId",
+        countQuery = "select count(f) from FileGozaresh f where f.hesabResi.id = :hesabResiId")
+    Page<FileGozareshMetadata> findAllMetadataByHesabResiId(@Param("hesabResiId") Long hesabResiId, Pageable pageable);
 }
@@ -0,0 +1,31 @@
+package ir.saha.repository;
+
+import ir.saha.domain.enumeration.FileType;
+
+import java.time.Instant;
+
+/**
+ * Projection of the {@link ir.saha.domain.FileHesabResi} entity for list views, without its content.
+ */
+public interface FileHesabResiMetadata {
+
+    Long getId();
+
+    String getFileHash();
+
+    Long getFileSize();
+
+    String getFileContentType();
+
+    Integer getShomare();
+
+    Instant getTarikhName();
+
+    String getMozoo();
+
+    FileType getFileType();
+
+    Long getHesabResiId();
+
+    Long getBarnameHesabResiId();
+}
@@ -2,7 +2,10 @@ package ir.saha.repository;
 
 import ir.saha.domain.FileHesabResi;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,4 +15,29 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FileHesabResiRepository extends JpaRepository<FileHesabResi, Long> {
 
+    @Query(value = "select f.id as id, f.fileHash as fileHash, f.fileSize as fileSize, "
+        + "f.fileContentType as fileContentType, f.shomare as shomare, f.tarikhName as tarikhName, "
+        + "f.mozoo as mozoo, f.fileType as fileType, f.hesabResi.id as hesabResiId, "
+        + "f.barnameHesabResi.id as barnameHesabResiId "
+        + "from FileHesabResi f",
+        countQuery = "select count(f) from FileHesabResi f")
+    Page<FileHesabResiMetadata> findAllMetadata(Pageable pageable);
+
+    @Query(value = "select f.id as id, f.fileHash as fileHash, f.fileSize as fileSize, "
+        + "f.fileContentType as fileContentType, f.shomare as shomare, f.tarikhName as tarikhName, "
+        + "f.mozoo as mozoo, f.fileType as fileType, f.hesabResi.id as hesabResiId, "
+        + "f.barnameHesabResi.id as barnameHesabResiId "
+        + "from FileHesabResi f "
+        + "where f.hesabResi.id = :hesabResiId",
+        countQuery = "select count(f) from FileHesabResi f where f.hesabResi.id = :hesabResiId")
+    Page<FileHesabResiMetadata> findAllMetadataByHesabResiId(@Param("hesabResiId") Long hesabResiId, Pageable pageable);
+
+    @Query(value = "select f.id as id, f.fileHash as fileHash, f.fileSize as fileSize, "
+        + "f.fileContentType as fileContentType, f.shomare as shomare, f.tarikhName as tarikhName, "
+        + "f.mozoo as mozoo, f.fileType as fileType, f.hesabResi.id as hesabResiId, "
+        + "f.barnameHesabResi.id as barnameHesabResiId "
+        + "from FileHesabResi f "
+        + "where f.barnameHesabResi.id = :barnameHesabResiId",
+        countQuery = "select count(f) from FileHesabResi f where f.barnameHesabResi.id = :barnameHesabResiId")
+    Page<FileHesabResiMetadata> findAllMetadataByBarnameHesabResiId(@Param("barnameHesabResiId") Long barnameHesabResiId, Pageable pageable);
 }
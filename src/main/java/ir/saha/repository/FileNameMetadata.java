@@ -0,0 +1,17 @@
+package ir.saha.repository;
+
+/**
+ * Projection of the {@link ir.saha.domain.FileName} entity for list views, without its content.
+ */
+public interface FileNameMetadata {
+
+    Long getId();
+
+    String getMadrakHash();
+
+    Long getMadrakSize();
+
+    String getMadrakContentType();
+
+    Long getNameId();
+}
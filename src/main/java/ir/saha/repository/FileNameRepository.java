@@ -2,7 +2,10 @@ package ir.saha.repository;
 
 import ir.saha.domain.FileName;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,4 +15,16 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FileNameRepository extends JpaRepository<FileName, Long> {
 
+    @Query(value = "select f.id as id, f.madrakHash as madrakHash, f.madrakSize as madrakSize, "
+        + "f.madrakContentType as madrakContentType, f.name.id as nameId "
+        + "from FileName f",
+        countQuery = "select count(f) from FileName f")
+    Page<FileNameMetadata> findAllMetadata(Pageable pageable);
+
+    @Query(value = "select f.id as id, f.madrakHash as madrakHash, f.madrakSize as madrakSize, "
+        + "f.madrakContentType as madrakContentType, f.name.id as nameId "
+        + "from FileName f "
+        + "where f.name.id = :nameId",
+        countQuery = "select count(f) from FileName f where f.name.id = :nameId")
+    Page<FileNameMetadata> findAllMetadataByNameId(@Param("nameId") Long nameId, Pageable pageable);
 }
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface GozareshRepository extends JpaRepository<Gozaresh, Long> {
+public interface GozareshRepository extends JpaRepository<Gozaresh, Long>, JpaSpecificationExecutor<Gozaresh> {
 
 }
@@ -2,14 +2,48 @@ package ir.saha.repository;
 
 import ir.saha.domain.HesabResi;
 
+import ir.saha.domain.enumeration.VaziateHesabResi;
+
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 /**
  * Spring Data  repository for the HesabResi entity.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface HesabResiRepository extends JpaRepository<HesabResi, Long> {
+public interface HesabResiRepository extends JpaRepository<HesabResi, Long>, JpaSpecificationExecutor<HesabResi> {
+
+    /**
+     * Streams all hesab resis as flat rows read from a forward-only cursor, a thousand at a time: the caller must
+     * consume and close the stream within a transaction.
+     *
+     * @return the rows, ordered by id.
+     */
+    @Query("select hesabResi.id as id, hesabResi.sal as sal, hesabResi.vaziateHesabResi as vaziateHesabResi, " +
+        "hesabResi.gozaresh.id as gozareshId, hesabResi.barnameHesabResi.id as barnameHesabResiId " +
+        "from HesabResi hesabResi order by hesabResi.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<ExportRow> streamAllForExport();
+
+    /**
+     * A hesab resi, as exported.
+     */
+    interface ExportRow {
+
+        Long getId();
+
+        Integer getSal();
+
+        VaziateHesabResi getVaziateHesabResi();
+
+        Long getGozareshId();
 
+        Long getBarnameHesabResiId();
+    }
 }
@@ -2,29 +2,102 @@ package ir.saha.repository;
 
 import ir.saha.domain.Karbar;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
 
 /**
  * Spring Data  repository for the Karbar entity.
  */
 @Repository
-public interface KarbarRepository extends JpaRepository<Karbar, Long> {
+public interface KarbarRepository extends JpaRepository<Karbar, Long>, JpaSpecificationExecutor<Karbar>, KeysetRepository<Karbar>, FieldsetRepository<Karbar> {
+
+    @Query("select distinct karbar from Karbar karbar left join fetch karbar.bargeMamoorits where karbar in :karbars")
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<Karbar> fetchBargeMamoorits(@Param("karbars") Collection<Karbar> karbars);
+
+    @Query("select distinct karbar from Karbar karbar left join fetch karbar.binanadeBargeMamoorits where karbar in :karbars")
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<Karbar> fetchBinanadeBargeMamoorits(@Param("karbars") Collection<Karbar> karbars);
+
+    /**
+     * Initializes the many-to-many relationships of the given karbars, which must have been loaded in the current
+     * transaction. Each collection is fetched by its own query: join fetching both at once would return every
+     * combination of their rows.
+     *
+     * @param karbars the karbars, typically a page of them.
+     */
+    default void fetchEagerRelationships(Collection<Karbar> karbars) {
+        if (!karbars.isEmpty()) {
+            fetchBargeMamoorits(karbars);
+            fetchBinanadeBargeMamoorits(karbars);
+        }
+    }
+
+    /**
+     * Streams all karbars, with the codes or names of the entities they reference, as flat rows read from a forward-only
+     * cursor, a thousand at a time: the caller must consume and close the stream within a transaction.
+     *
+     * @return the rows, ordered by id.
+     */
+    @Query("select karbar.id as id, karbar.name as name, karbar.shoghlSazmani as shoghlSazmani, " +
+        "karbar.shoghlAmali as shoghlAmali, karbar.codePerseneli as codePerseneli, karbar.bezaneshate as bezaneshate, " +
+        "karbar.sazmani as sazmani, karbar.tarikhBazneshastegi as tarikhBazneshastegi, " +
+        "karbar.tarikhEstekhdam as tarikhEstekhdam, yegan.code as yegan, yeganCode.code as yeganCode, " +
+        "daraje.name as daraje, semat.onvanShoghli as semat " +
+        "from Karbar karbar left join karbar.yegan yegan left join karbar.yeganCode yeganCode " +
+        "left join karbar.daraje daraje left join karbar.semat semat order by karbar.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<ExportRow> streamAllForExport();
+
+    @Transactional(readOnly = true)
+    default Optional<Karbar> findOneWithEagerRelationships(Long id) {
+        Optional<Karbar> karbar = findById(id);
+        karbar.ifPresent(k -> fetchEagerRelationships(Collections.singleton(k)));
+        return karbar;
+    }
+
+    /**
+     * A karbar, as exported.
+     */
+    interface ExportRow {
+
+        Long getId();
+
+        String getName();
+
+        String getShoghlSazmani();
+
+        String getShoghlAmali();
+
+        String getCodePerseneli();
+
+        Boolean getBezaneshate();
+
+        Boolean getSazmani();
+
+        Instant getTarikhBazneshastegi();
+
+        Instant getTarikhEstekhdam();
 
-    @Query(value = "select distinct karbar from Karbar karbar left join fetch karbar.bargeMamoorits left join fetch karbar.binanadeBargeMamoorits",
-        countQuery = "select count(distinct karbar) from Karbar karbar")
-    Page<Karbar> findAllWithEagerRelationships(Pageable pageable);
+        String getYegan();
 
-    @Query("select distinct karbar from Karbar karbar left join fetch karbar.bargeMamoorits left join fetch karbar.binanadeBargeMamoorits")
-    List<Karbar> findAllWithEagerRelationships();
+        String getYeganCode();
 
-    @Query("select karbar from Karbar karbar left join fetch karbar.bargeMamoorits left join fetch karbar.binanadeBargeMamoorits where karbar.id =:id")
-    Optional<Karbar> findOneWithEagerRelationships(@Param("id") Long id);
+        String getDaraje();
 
+        String getSemat();
+    }
 }
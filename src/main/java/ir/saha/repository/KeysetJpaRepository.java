@@ -0,0 +1,230 @@
+package ir.saha.repository;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Base class of all repositories, adding the {@link KeysetRepository} and {@link FieldsetRepository} methods to
+ * {@link SimpleJpaRepository}. Repositories opt in by extending these interfaces.
+ *
+ * @param <T> the entity type.
+ * @param <ID> the id type.
+ */
+public class KeysetJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements KeysetRepository<T>, FieldsetRepository<T> {
+
+    private final EntityManager entityManager;
+
+    private final String idAttribute;
+
+    public KeysetJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+        this.idAttribute = entityInformation.getIdAttribute().getName();
+    }
+
+    @Override
+    public Slice<T> findAllAfter(@Nullable Specification<T> spec, @Nullable Long afterId, Sort.Direction direction, int size) {
+        Sort sort = Sort.by(direction, idAttribute);
+        List<T> content = getQuery(seek(spec, afterId, direction), sort).setMaxResults(size + 1).getResultList();
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, PageRequest.of(0, size, sort), hasNext);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findAllFields(@Nullable Specification<T> spec, String fields, Pageable pageable) {
+        Field fieldset = parseFields(fields);
+        TypedQuery<Tuple> query = getFieldsQuery(spec, fieldset, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = read(query.getResultList(), fieldset);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findAllFieldsAfter(@Nullable Specification<T> spec, String fields, @Nullable Long afterId,
+                                                         Sort.Direction direction, int size) {
+        Field fieldset = parseFields(fields);
+        Sort sort = Sort.by(direction, idAttribute);
+        List<Map<String, Object>> content = read(getFieldsQuery(seek(spec, afterId, direction), fieldset, sort)
+            .setMaxResults(size + 1).getResultList(), fieldset);
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, PageRequest.of(0, size, sort), hasNext);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, String fields) {
+        Field fieldset = parseFields(fields);
+        Specification<T> byId = (root, query, cb) -> cb.equal(root.get(idAttribute), id);
+        return read(getFieldsQuery(byId, fieldset, Sort.unsorted()).getResultList(), fieldset).stream().findFirst();
+    }
+
+    private Specification<T> seek(@Nullable Specification<T> spec, @Nullable Long afterId, Sort.Direction direction) {
+        Specification<T> seek = Specification.where(spec);
+        if (afterId != null) {
+            seek = seek.and((root, query, cb) -> direction.isAscending()
+                ? cb.greaterThan(root.get(idAttribute), afterId)
+                : cb.lessThan(root.get(idAttribute), afterId));
+        }
+        return seek;
+    }
+
+    private Field parseFields(String fields) {
+        Metamodel metamodel = entityManager.getMetamodel();
+        Field fieldset = new Field(null, metamodel.entity(getDomainClass()));
+        for (String path : fields.split(",")) {
+            path = path.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            Field field = fieldset;
+            for (String name : path.split("\\.", -1)) {
+                if (field.type == null) {
+                    throw new UnknownFieldException(path);
+                }
+                field = field.getOrAdd(name, path, metamodel);
+            }
+        }
+        return fieldset;
+    }
+
+    private TypedQuery<Tuple> getFieldsQuery(@Nullable Specification<T> spec, Field fieldset, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(getDomainClass());
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        List<Selection<?>> selections = new ArrayList<>();
+        fieldset.select(root, selections);
+        query.multiselect(selections);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private static List<Map<String, Object>> read(List<Tuple> tuples, Field fieldset) {
+        return tuples.stream().map(tuple -> fieldset.read(tuple, 0)).collect(Collectors.toList());
+    }
+
+    /**
+     * A field of a sparse fieldset: a basic attribute, or an association with the fields selected of it, its id first.
+     */
+    private static final class Field {
+
+        private final String name;
+
+        private final EntityType<?> type;
+
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+
+        private Field(String name, @Nullable EntityType<?> type) {
+            this.name = name;
+            this.type = type;
+            if (type != null) {
+                String id = type.getSingularAttributes().stream()
+                    .filter(SingularAttribute::isId)
+                    .map(Attribute::getName)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No id attribute in " + type.getName()));
+                fields.put(id, new Field(id, null));
+            }
+        }
+
+        private Field getOrAdd(String name, String path, Metamodel metamodel) {
+            Field field = fields.get(name);
+            if (field == null) {
+                Attribute<?, ?> attribute;
+                try {
+                    attribute = type.getAttribute(name);
+                } catch (IllegalArgumentException e) {
+                    throw new UnknownFieldException(path);
+                }
+                if (attribute.getJavaMember() instanceof AnnotatedElement &&
+                    ((AnnotatedElement) attribute.getJavaMember()).isAnnotationPresent(JsonIgnore.class)) {
+                    throw new UnknownFieldException(path);
+                }
+                switch (attribute.getPersistentAttributeType()) {
+                    case BASIC:
+                        field = new Field(name, null);
+                        break;
+                    case MANY_TO_ONE:
+                    case ONE_TO_ONE:
+                        field = new Field(name, metamodel.entity(attribute.getJavaType()));
+                        break;
+                    default:
+                        throw new UnknownFieldException(path);
+                }
+                fields.put(name, field);
+            }
+            return field;
+        }
+
+        private int size() {
+            return type == null ? 1 : fields.values().stream().mapToInt(Field::size).sum();
+        }
+
+        private void select(From<?, ?> from, List<Selection<?>> selections) {
+            for (Field field : fields.values()) {
+                if (field.type == null) {
+                    selections.add(from.get(field.name));
+                } else {
+                    field.select(from.join(field.name, JoinType.LEFT), selections);
+                }
+            }
+        }
+
+        private Map<String, Object> read(Tuple tuple, int start) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            int index = start;
+            for (Field field : fields.values()) {
+                if (field.type == null) {
+                    values.put(field.name, tuple.get(index));
+                } else {
+                    // The id of an association, its first field, is null when there is no associated entity
+                    values.put(field.name, tuple.get(index) == null ? null : field.read(tuple, index));
+                }
+                index += field.size();
+            }
+            return values;
+        }
+    }
+}
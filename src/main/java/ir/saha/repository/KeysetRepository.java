@@ -0,0 +1,31 @@
+package ir.saha.repository;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.lang.Nullable;
+
+/**
+ * Repository fragment for keyset (seek) pagination on the id of an entity.
+ * <p>
+ * A page is selected with {@code id > afterId} (or {@code <} when descending) instead of an offset, so it costs the
+ * same however deep it is. No count query is run: one more row than requested is read to tell whether there is a
+ * next page. Implemented by {@link KeysetJpaRepository}.
+ *
+ * @param <T> the entity type.
+ */
+@NoRepositoryBean
+public interface KeysetRepository<T> {
+
+    /**
+     * Returns the entities matching the specification that come after {@code afterId} in id order.
+     *
+     * @param spec the specification to match, or {@code null} to match all entities.
+     * @param afterId the id of the last entity of the previous page, or {@code null} for the first page.
+     * @param direction the direction of the id order.
+     * @param size the maximum number of entities to return.
+     * @return the slice of matching entities.
+     */
+    Slice<T> findAllAfter(@Nullable Specification<T> spec, @Nullable Long afterId, Sort.Direction direction, int size);
+}
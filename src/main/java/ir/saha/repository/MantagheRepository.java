@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface MantagheRepository extends JpaRepository<Mantaghe, Long> {
+public interface MantagheRepository extends JpaRepository<Mantaghe, Long>, JpaSpecificationExecutor<Mantaghe> {
 
 }
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface MorkhasiRepository extends JpaRepository<Morkhasi, Long> {
+public interface MorkhasiRepository extends JpaRepository<Morkhasi, Long>, JpaSpecificationExecutor<Morkhasi> {
 
 }
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface NegahbaniRepository extends JpaRepository<Negahbani, Long> {
+public interface NegahbaniRepository extends JpaRepository<Negahbani, Long>, JpaSpecificationExecutor<Negahbani> {
 
 }
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface NirooCodeRepository extends JpaRepository<NirooCode, Long> {
+public interface NirooCodeRepository extends JpaRepository<NirooCode, Long>, JpaSpecificationExecutor<NirooCode> {
 
 }
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface OstanRepository extends JpaRepository<Ostan, Long> {
+public interface OstanRepository extends JpaRepository<Ostan, Long>, JpaSpecificationExecutor<Ostan> {
 
 }
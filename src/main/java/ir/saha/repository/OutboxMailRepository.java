@@ -0,0 +1,34 @@
+package ir.saha.repository;
+
+import ir.saha.domain.OutboxMail;
+import ir.saha.domain.enumeration.OutboxMailStatus;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spring Data  repository for the OutboxMail entity.
+ */
+@Repository
+public interface OutboxMailRepository extends JpaRepository<OutboxMail, Long> {
+
+    /**
+     * Claim the pending mails due for delivery, oldest first.
+     * <p>
+     * They are locked until the end of the transaction; mails already claimed by another instance are skipped, where
+     * the database supports it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select mail from OutboxMail mail where mail.status = :status and mail.nextAttemptAt <= :now order by mail.id")
+    List<OutboxMail> findDueForUpdate(@Param("status") OutboxMailStatus status, @Param("now") Instant now, Pageable pageable);
+
+    long countByStatus(OutboxMailStatus status);
+}
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface PayamRepository extends JpaRepository<Payam, Long> {
+public interface PayamRepository extends JpaRepository<Payam, Long>, JpaSpecificationExecutor<Payam>, KeysetRepository<Payam>, FieldsetRepository<Payam> {
 
 }
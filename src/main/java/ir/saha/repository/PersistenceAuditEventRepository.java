@@ -4,14 +4,23 @@ import ir.saha.domain.PersistentAuditEvent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 /**
  * Spring Data JPA repository for the {@link PersistentAuditEvent} entity.
  */
-public interface PersistenceAuditEventRepository extends JpaRepository<PersistentAuditEvent, Long> {
+public interface PersistenceAuditEventRepository extends JpaRepository<PersistentAuditEvent, Long>, KeysetRepository<PersistentAuditEvent> {
 
     List<PersistentAuditEvent> findByPrincipal(String principal);
 
@@ -19,5 +28,48 @@ public interface PersistenceAuditEventRepository extends JpaRepository<Persisten
 
     Page<PersistentAuditEvent> findAllByAuditEventDateBetween(Instant fromDate, Instant toDate, Pageable pageable);
 
-    List<PersistentAuditEvent> findByAuditEventDateBefore(Instant before);
+    @Query("select event.id from PersistentAuditEvent event where event.auditEventDate < :before order by event.id")
+    List<Long> findIdsByAuditEventDateBefore(@Param("before") Instant before, Pageable pageable);
+
+    /**
+     * Streams the audit events between two dates as flat rows read from a forward-only cursor, a thousand at a time:
+     * each event comes as one row per entry of its data, or a single row if it has none. The caller must consume and
+     * close the stream within a transaction.
+     *
+     * @param fromDate the start of the period, inclusive.
+     * @param toDate the end of the period, exclusive.
+     * @return the rows, ordered by event id then data key.
+     */
+    @Query("select event.id as id, event.principal as principal, event.auditEventDate as auditEventDate, " +
+        "event.auditEventType as auditEventType, key(data) as dataKey, value(data) as dataValue " +
+        "from PersistentAuditEvent event left join event.data data " +
+        "where event.auditEventDate >= :fromDate and event.auditEventDate < :toDate order by event.id, key(data)")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<ExportRow> streamForExport(@Param("fromDate") Instant fromDate, @Param("toDate") Instant toDate);
+
+    @Modifying
+    @Query(value = "delete from jhi_persistent_audit_evt_data where event_id in (:eventIds)", nativeQuery = true)
+    int deleteDataByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query("delete from PersistentAuditEvent event where event.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * An entry of the data of an audit event, as exported.
+     */
+    interface ExportRow {
+
+        Long getId();
+
+        String getPrincipal();
+
+        Instant getAuditEventDate();
+
+        String getAuditEventType();
+
+        String getDataKey();
+
+        String getDataValue();
+    }
 }
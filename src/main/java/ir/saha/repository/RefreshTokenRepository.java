@@ -0,0 +1,61 @@
+package ir.saha.repository;
+
+import ir.saha.domain.RefreshToken;
+import ir.saha.domain.User;
+
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data  repository for the RefreshToken entity.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("select refreshToken from RefreshToken refreshToken join fetch refreshToken.user where refreshToken.tokenHash = :tokenHash")
+    Optional<RefreshToken> findOneWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Query("select distinct refreshToken.sessionId from RefreshToken refreshToken where refreshToken.user = :user and refreshToken.revokedDate is null")
+    List<String> findActiveSessionIdsByUser(@Param("user") User user);
+
+    @Query("select distinct refreshToken.sessionId from RefreshToken refreshToken where refreshToken.revokedDate > :since")
+    List<String> findSessionIdsRevokedSince(@Param("since") Instant since);
+
+    /**
+     * Mark a refresh token used, unless another refresh already did.
+     *
+     * @return {@code 1} if the token was marked used by this call, {@code 0} otherwise.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken refreshToken set refreshToken.usedDate = :usedDate where refreshToken.id = :id and refreshToken.usedDate is null and refreshToken.revokedDate is null")
+    int markUsed(@Param("id") Long id, @Param("usedDate") Instant usedDate);
+
+    @Modifying
+    @Query("delete from RefreshToken refreshToken where refreshToken.sessionId = :sessionId and refreshToken.usedDate is not null and refreshToken.id <> :keptId")
+    int deleteUsedBySessionIdExcept(@Param("sessionId") String sessionId, @Param("keptId") Long keptId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken refreshToken set refreshToken.revokedDate = :revokedDate where refreshToken.sessionId = :sessionId and refreshToken.revokedDate is null")
+    int revokeSession(@Param("sessionId") String sessionId, @Param("revokedDate") Instant revokedDate);
+
+    @Modifying
+    @Query("update RefreshToken refreshToken set refreshToken.revokedDate = :revokedDate where refreshToken.user = :user and refreshToken.revokedDate is null")
+    int revokeAllByUser(@Param("user") User user, @Param("revokedDate") Instant revokedDate);
+
+    @Modifying
+    @Query("update RefreshToken refreshToken set refreshToken.revokedDate = :revokedDate where refreshToken.user = :user and refreshToken.sessionId <> :keptSessionId and refreshToken.revokedDate is null")
+    int revokeAllByUserExceptSession(@Param("user") User user, @Param("keptSessionId") String keptSessionId, @Param("revokedDate") Instant revokedDate);
+
+    @Modifying
+    @Query("delete from RefreshToken refreshToken where refreshToken.user = :user")
+    int deleteAllByUser(@Param("user") User user);
+
+    @Modifying
+    @Query("delete from RefreshToken refreshToken where refreshToken.expiresAt < :now")
+    int deleteAllExpired(@Param("now") Instant now);
+}
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface SematRepository extends JpaRepository<Semat, Long> {
+public interface SematRepository extends JpaRepository<Semat, Long>, JpaSpecificationExecutor<Semat> {
 
 }
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ShahrRepository extends JpaRepository<Shahr, Long> {
+public interface ShahrRepository extends JpaRepository<Shahr, Long>, JpaSpecificationExecutor<Shahr> {
 
 }
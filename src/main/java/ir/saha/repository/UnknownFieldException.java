@@ -0,0 +1,20 @@
+package ir.saha.repository;
+
+/**
+ * Thrown when a sparse fieldset names a field an entity does not have, or one that cannot be selected.
+ */
+public class UnknownFieldException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String field;
+
+    public UnknownFieldException(String field) {
+        super("Unknown field '" + field + "'");
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
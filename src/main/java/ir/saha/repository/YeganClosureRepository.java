@@ -0,0 +1,28 @@
+package ir.saha.repository;
+
+import ir.saha.domain.YeganClosure;
+import ir.saha.domain.YeganClosureId;
+
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data  repository for the YeganClosure entity.
+ */
+@Repository
+public interface YeganClosureRepository extends JpaRepository<YeganClosure, YeganClosureId> {
+
+    List<YeganClosure> findByIdAncestorIdIn(Collection<Long> ancestorIds);
+
+    boolean existsByIdAncestorIdInAndIdDescendantId(Collection<Long> ancestorIds, Long descendantId);
+
+    @Query("select closure.id.ancestorId from YeganClosure closure where closure.id.descendantId = :descendantId")
+    List<Long> findAncestorIds(@Param("descendantId") Long descendantId);
+
+    @Query("select closure from YeganClosure closure where closure.id.ancestorId = :yeganId or closure.id.descendantId = :yeganId")
+    List<YeganClosure> findAllByYeganId(@Param("yeganId") Long yeganId);
+}
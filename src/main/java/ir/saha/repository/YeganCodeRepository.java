@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface YeganCodeRepository extends JpaRepository<YeganCode, Long> {
+public interface YeganCodeRepository extends JpaRepository<YeganCode, Long>, JpaSpecificationExecutor<YeganCode> {
 
 }
@@ -0,0 +1,11 @@
+package ir.saha.repository;
+
+/**
+ * Projection of a link of the {@link ir.saha.domain.Yegan} hierarchy, from a yegan to one of its zirYegans.
+ */
+public interface YeganLink {
+
+    Long getYeganId();
+
+    Long getZirYeganId();
+}
@@ -8,23 +8,49 @@ import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
 /**
  * Spring Data  repository for the Yegan entity.
  */
 @Repository
-public interface YeganRepository extends JpaRepository<Yegan, Long> {
-
-    @Query(value = "select distinct yegan from Yegan yegan left join fetch yegan.zirYegans",
-        countQuery = "select count(distinct yegan) from Yegan yegan")
-    Page<Yegan> findAllWithEagerRelationships(Pageable pageable);
-
-    @Query("select distinct yegan from Yegan yegan left join fetch yegan.zirYegans")
-    List<Yegan> findAllWithEagerRelationships();
+public interface YeganRepository extends JpaRepository<Yegan, Long>, JpaSpecificationExecutor<Yegan>, FieldsetRepository<Yegan> {
+
+    @Query("select distinct yegan from Yegan yegan left join fetch yegan.zirYegans where yegan in :yegans")
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<Yegan> fetchZirYegans(@Param("yegans") Collection<Yegan> yegans);
+
+    /**
+     * Initializes the many-to-many relationships of the given yegans, which must have been loaded in the current
+     * transaction. Unlike join fetching in the paged query, this keeps the pagination in the database.
+     *
+     * @param yegans the yegans, typically a page of them.
+     */
+    default void fetchEagerRelationships(Collection<Yegan> yegans) {
+        if (!yegans.isEmpty()) {
+            fetchZirYegans(yegans);
+        }
+    }
 
     @Query("select yegan from Yegan yegan left join fetch yegan.zirYegans where yegan.id =:id")
     Optional<Yegan> findOneWithEagerRelationships(@Param("id") Long id);
 
+    @Query("select yegan.id as yeganId, zirYegan.id as zirYeganId from Yegan yegan join yegan.zirYegans zirYegan")
+    List<YeganLink> findAllLinks();
+
+    @Query(value = "select yegan from Yegan yegan, YeganClosure closure where closure.id.descendantId = yegan.id" +
+        " and closure.id.ancestorId = :id and closure.depth between 1 and :maxDepth order by closure.depth",
+        countQuery = "select count(closure) from YeganClosure closure" +
+            " where closure.id.ancestorId = :id and closure.depth between 1 and :maxDepth")
+    Page<Yegan> findAllDescendants(@Param("id") Long id, @Param("maxDepth") int maxDepth, Pageable pageable);
+
+    @Query("select yegan from Yegan yegan, YeganClosure closure where closure.id.ancestorId = yegan.id" +
+        " and closure.id.descendantId = :id and closure.depth between 1 and :maxDepth order by closure.depth")
+    List<Yegan> findAllAncestors(@Param("id") Long id, @Param("maxDepth") int maxDepth);
+
 }
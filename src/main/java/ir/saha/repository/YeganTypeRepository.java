@@ -10,6 +10,6 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface YeganTypeRepository extends JpaRepository<YeganType, Long> {
+public interface YeganTypeRepository extends JpaRepository<YeganType, Long>, JpaSpecificationExecutor<YeganType> {
 
 }
@@ -0,0 +1,118 @@
+package ir.saha.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+
+/**
+ * A {@link PasswordEncoder} that hashes and checks passwords on a dedicated, bounded pool of threads.
+ * <p>
+ * A password hash waits in a bounded queue for one of the threads, and is refused with a
+ * {@link PasswordHashingUnavailableException} when the queue is full or when it is not done within the timeout, so
+ * that a burst of logins cannot hold every request thread of the container. The pool publishes the
+ * {@code password.hash} latency, the {@code password.hash.queue} depth and the {@code password.hash.rejected} count.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+
+    private final Timer matchesTimer;
+
+    private final Counter queueFull;
+
+    private final Counter timedOut;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, long timeoutMillis,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("saha-password-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("password.hash")
+            .tag("operation", "encode")
+            .description("Time spent hashing passwords")
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash")
+            .tag("operation", "matches")
+            .description("Time spent hashing passwords")
+            .register(meterRegistry);
+        this.queueFull = Counter.builder("password.hash.rejected")
+            .tag("reason", "queue-full")
+            .description("Password hashes refused because the hashing threads were busy")
+            .register(meterRegistry);
+        this.timedOut = Counter.builder("password.hash.rejected")
+            .tag("reason", "timeout")
+            .description("Password hashes refused because the hashing threads were busy")
+            .register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size())
+            .description("Password hashes waiting for a hashing thread")
+            .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashes in progress")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            queueFull.increment();
+            throw new PasswordHashingUnavailableException("Too many passwords waiting to be hashed");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new PasswordHashingUnavailableException("Password not hashed within " + timeoutMillis + " ms");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while hashing a password");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,97 @@
+package ir.saha.security;
+
+import ir.saha.config.ApplicationProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the authentication attempts of each login and of each IP address with token buckets.
+ * <p>
+ * The buckets are kept in the bounded {@link #LOGIN_ATTEMPTS_CACHE} cache, so an idle login or IP address is
+ * eventually forgotten.
+ */
+@Component
+public class LoginThrottle {
+
+    public static final String LOGIN_ATTEMPTS_CACHE = "loginAttempts";
+
+    private final ApplicationProperties.Security.LoginThrottle limits;
+
+    private final Cache attempts;
+
+    private final LongSupplier clock;
+
+    private final Counter throttledByLogin;
+
+    private final Counter throttledByIp;
+
+    @Autowired
+    public LoginThrottle(ApplicationProperties applicationProperties, CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this(applicationProperties, cacheManager, meterRegistry, System::nanoTime);
+    }
+
+    LoginThrottle(ApplicationProperties applicationProperties, CacheManager cacheManager, MeterRegistry meterRegistry,
+                  LongSupplier clock) {
+        this.limits = applicationProperties.getSecurity().getLoginThrottle();
+        this.attempts = Objects.requireNonNull(cacheManager.getCache(LOGIN_ATTEMPTS_CACHE));
+        this.clock = clock;
+        this.throttledByLogin = Counter.builder("authentication.throttled")
+            .tag("by", "login")
+            .description("Authentication attempts refused because too many were made")
+            .register(meterRegistry);
+        this.throttledByIp = Counter.builder("authentication.throttled")
+            .tag("by", "ip")
+            .description("Authentication attempts refused because too many were made")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Take an authentication attempt from the buckets of a login and of an IP address.
+     *
+     * @param login the login, or {@code null} if the attempt is only limited by IP address.
+     * @param ipAddress the IP address, or {@code null} if the attempt is only limited by login.
+     * @throws TooManyLoginAttemptsException if either bucket is empty.
+     */
+    public void acquire(String login, String ipAddress) {
+        if (ipAddress != null) {
+            long waitNanos = tryConsume("ip:" + ipAddress, limits.getPerIp());
+            if (waitNanos > 0) {
+                throttledByIp.increment();
+                throw new TooManyLoginAttemptsException(toSeconds(waitNanos));
+            }
+        }
+        if (login != null) {
+            long waitNanos = tryConsume("login:" + login.toLowerCase(Locale.ENGLISH), limits.getPerLogin());
+            if (waitNanos > 0) {
+                throttledByLogin.increment();
+                throw new TooManyLoginAttemptsException(toSeconds(waitNanos));
+            }
+        }
+    }
+
+    private long tryConsume(String key, ApplicationProperties.Security.LoginThrottle.Bucket bucketLimits) {
+        TokenBucket bucket = attempts.get(key, TokenBucket.class);
+        if (bucket == null) {
+            TokenBucket created = new TokenBucket(bucketLimits.getCapacity(), bucketLimits.getRefillPerMinute(),
+                clock.getAsLong());
+            Cache.ValueWrapper existing = attempts.putIfAbsent(key, created);
+            bucket = existing == null ? created : (TokenBucket) existing.get();
+        }
+        return bucket.tryConsume(clock.getAsLong());
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,13 @@
+package ir.saha.security;
+
+/**
+ * This exception is thrown when a password cannot be hashed or checked because every hashing thread is busy.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,43 @@
+package ir.saha.security;
+
+/**
+ * A token bucket holding up to {@code capacity} attempts, refilled at a steady rate.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_MINUTE = 60_000_000_000d;
+
+    private final int capacity;
+
+    private final double nanosPerToken;
+
+    private double tokens;
+
+    private long refilledAt;
+
+    TokenBucket(int capacity, int refillPerMinute, long now) {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("A token bucket needs a positive capacity and refill rate");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = NANOS_PER_MINUTE / refillPerMinute;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * Take one attempt from the bucket.
+     *
+     * @param now the current {@link System#nanoTime()}.
+     * @return {@code 0} if the attempt was taken, or else the nanoseconds until the bucket has one again.
+     */
+    synchronized long tryConsume(long now) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) / nanosPerToken);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) * nanosPerToken);
+    }
+}
@@ -0,0 +1,20 @@
+package ir.saha.security;
+
+/**
+ * This exception is thrown when a login or an IP address has used up its authentication attempts.
+ */
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(long retryAfterSeconds) {
+        super("Too many login attempts, retry after " + retryAfterSeconds + " seconds!");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
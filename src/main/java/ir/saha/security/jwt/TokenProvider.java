@@ -1,13 +1,19 @@
 package ir.saha.security.jwt;
 
+import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -16,28 +22,49 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import ir.saha.service.storage.Digests;
+
 import io.github.jhipster.config.JHipsterProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+/**
+ * Creates and verifies JWT tokens.
+ * <p>
+ * A verified token is kept in the {@link #VERIFIED_TOKENS_CACHE} cache, keyed by its SHA-256 digest, with the
+ * {@link Authentication} built from its claims, until it expires or the cache evicts it. A token is then parsed and
+ * its signature checked only the first time it is seen, rather than on every request.
+ * <p>
+ * Each token carries the id of the session it was issued for. A revoked session is kept in an in-memory index until
+ * the last token issued for it expires, and its tokens are rejected even if they are already in the cache.
+ */
 @Component
 public class TokenProvider {
 
+    public static final String VERIFIED_TOKENS_CACHE = "verifiedTokens";
+
     private final Logger log = LoggerFactory.getLogger(TokenProvider.class);
 
     private static final String AUTHORITIES_KEY = "auth";
 
+    private static final String SESSION_KEY = "sid";
+
     private Key key;
 
     private long tokenValidityInMilliseconds;
 
-    private long tokenValidityInMillisecondsForRememberMe;
-
     private final JHipsterProperties jHipsterProperties;
 
-    public TokenProvider(JHipsterProperties jHipsterProperties) {
+    private final Cache verifiedTokens;
+
+    private final ConcurrentMap<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Long> revokedSessions = new ConcurrentHashMap<>();
+
+    public TokenProvider(JHipsterProperties jHipsterProperties, CacheManager cacheManager) {
         this.jHipsterProperties = jHipsterProperties;
+        this.verifiedTokens = Objects.requireNonNull(cacheManager.getCache(VERIFIED_TOKENS_CACHE));
     }
 
     @PostConstruct
@@ -55,56 +82,146 @@ public class TokenProvider {
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.tokenValidityInMilliseconds =
             1000 * jHipsterProperties.getSecurity().getAuthentication().getJwt().getTokenValidityInSeconds();
-        this.tokenValidityInMillisecondsForRememberMe =
-            1000 * jHipsterProperties.getSecurity().getAuthentication().getJwt()
-                .getTokenValidityInSecondsForRememberMe();
     }
 
-    public String createToken(Authentication authentication, boolean rememberMe) {
+    public long getTokenValidityInMilliseconds() {
+        return tokenValidityInMilliseconds;
+    }
+
+    /**
+     * Create a short-lived access token for a session.
+     *
+     * @param authentication the authentication of the user.
+     * @param sessionId the id of the session, see {@link #revokeSessions(Collection, Instant)}.
+     * @return the token.
+     */
+    public String createToken(Authentication authentication, String sessionId) {
         String authorities = authentication.getAuthorities().stream()
             .map(GrantedAuthority::getAuthority)
             .collect(Collectors.joining(","));
 
         long now = (new Date()).getTime();
-        Date validity;
-        if (rememberMe) {
-            validity = new Date(now + this.tokenValidityInMillisecondsForRememberMe);
-        } else {
-            validity = new Date(now + this.tokenValidityInMilliseconds);
-        }
+        Date validity = new Date(now + this.tokenValidityInMilliseconds);
 
         return Jwts.builder()
             .setSubject(authentication.getName())
             .claim(AUTHORITIES_KEY, authorities)
+            .claim(SESSION_KEY, sessionId)
             .signWith(key, SignatureAlgorithm.HS512)
             .setExpiration(validity)
             .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser()
-            .setSigningKey(key)
-            .parseClaimsJws(token)
-            .getBody();
+    /**
+     * Reject the tokens of the given sessions from now on.
+     *
+     * @param sessionIds the ids of the sessions.
+     * @param revokedDate when the sessions were revoked; no token is issued for them afterwards.
+     */
+    public void revokeSessions(Collection<String> sessionIds, Instant revokedDate) {
+        long now = System.currentTimeMillis();
+        revokedSessions.values().removeIf(until -> until <= now);
+        long until = revokedDate.toEpochMilli() + tokenValidityInMilliseconds;
+        sessionIds.forEach(sessionId -> revokedSessions.merge(sessionId, until, Math::max));
+    }
 
-        Collection<? extends GrantedAuthority> authorities =
-            Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+    private boolean isRevoked(String sessionId) {
+        if (sessionId == null) {
+            return false;
+        }
+        Long until = revokedSessions.get(sessionId);
+        return until != null && until > System.currentTimeMillis();
+    }
 
-        User principal = new User(claims.getSubject(), "", authorities);
+    /**
+     * Verify the given token and get the authentication it carries.
+     *
+     * @param token the token.
+     * @return the authentication, or empty if the token is not valid.
+     */
+    public Optional<Authentication> resolveAuthentication(String token) {
+        return resolve(token).map(verified -> verified.authentication);
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    /**
+     * Verify the given token and get the id of its session.
+     *
+     * @param token the token.
+     * @return the id of the session, or empty if the token is not valid or has no session.
+     */
+    public Optional<String> getSessionId(String token) {
+        return resolve(token).map(verified -> verified.sessionId);
     }
 
     public boolean validateToken(String authToken) {
+        return resolveAuthentication(authToken).isPresent();
+    }
+
+    private Optional<VerifiedToken> resolve(String token) {
+        String digest = Digests.toHex(Digests.sha256().digest(token.getBytes(StandardCharsets.UTF_8)));
+        VerifiedToken verified = verifiedTokens.get(digest, VerifiedToken.class);
+        if (verified != null) {
+            if (verified.expiration > System.currentTimeMillis() && !isRevoked(verified.sessionId)) {
+                return Optional.of(verified);
+            }
+            verifiedTokens.evict(digest);
+            log.info("Invalid JWT token.");
+            return Optional.empty();
+        }
+        Claims claims;
         try {
-            Jwts.parser().setSigningKey(key).parseClaimsJws(authToken);
-            return true;
+            claims = Jwts.parser()
+                .setSigningKey(key)
+                .parseClaimsJws(token)
+                .getBody();
         } catch (JwtException | IllegalArgumentException e) {
             log.info("Invalid JWT token.");
             log.trace("Invalid JWT token trace.", e);
+            return Optional.empty();
+        }
+        String sessionId = claims.get(SESSION_KEY, String.class);
+        if (isRevoked(sessionId)) {
+            log.info("Invalid JWT token, its session was revoked.");
+            return Optional.empty();
+        }
+        Authentication authentication = createAuthentication(claims, token);
+        if (claims.getExpiration() == null) {
+            return Optional.of(new VerifiedToken(authentication, sessionId, Long.MAX_VALUE));
+        }
+        verified = new VerifiedToken(authentication, sessionId, claims.getExpiration().getTime());
+        verifiedTokens.put(digest, verified);
+        return Optional.of(verified);
+    }
+
+    private Authentication createAuthentication(Claims claims, String token) {
+        Collection<? extends GrantedAuthority> authorities =
+            Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+                .filter(authority -> !authority.trim().isEmpty())
+                .map(authority -> this.authorities.computeIfAbsent(authority, SimpleGrantedAuthority::new))
+                .collect(Collectors.toList());
+
+        User principal = new User(claims.getSubject(), "", authorities);
+
+        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    }
+
+    /**
+     * The authentication of a verified token, its session, and the time the token expires at.
+     */
+    private static final class VerifiedToken implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Authentication authentication;
+
+        private final String sessionId;
+
+        private final long expiration;
+
+        VerifiedToken(Authentication authentication, String sessionId, long expiration) {
+            this.authentication = authentication;
+            this.sessionId = sessionId;
+            this.expiration = expiration;
         }
-        return false;
     }
 }
@@ -2,18 +2,27 @@ package ir.saha.service;
 
 import io.github.jhipster.config.JHipsterProperties;
 import ir.saha.config.audit.AuditEventConverter;
+import ir.saha.domain.PersistentAuditEvent;
+import ir.saha.domain.PersistentAuditEvent_;
+import ir.saha.repository.AuditEventPartitions;
 import ir.saha.repository.PersistenceAuditEventRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.audit.AuditEvent;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,28 +42,46 @@ public class AuditEventService {
 
     private final AuditEventConverter auditEventConverter;
 
+    private final RetentionPurger retentionPurger;
+
+    private final AuditEventPartitions auditEventPartitions;
+
     public AuditEventService(
         PersistenceAuditEventRepository persistenceAuditEventRepository,
-        AuditEventConverter auditEventConverter, JHipsterProperties jhipsterProperties) {
+        AuditEventConverter auditEventConverter, JHipsterProperties jhipsterProperties,
+        RetentionPurger retentionPurger, AuditEventPartitions auditEventPartitions) {
 
         this.persistenceAuditEventRepository = persistenceAuditEventRepository;
         this.auditEventConverter = auditEventConverter;
         this.jHipsterProperties = jhipsterProperties;
+        this.retentionPurger = retentionPurger;
+        this.auditEventPartitions = auditEventPartitions;
     }
 
     /**
      * Old audit events should be automatically deleted after 30 days.
-     *
+     * <p>
+     * Where the audit events are partitioned by month, the partitions of the expired months are dropped as a whole.
+     * The events left, of the month partly expired, or all of them elsewhere, are deleted in chunks by the
+     * {@link RetentionPurger}, each in a short transaction of its own.
+     * <p>
      * This is scheduled to get fired at 12:00 (am).
      */
     @Scheduled(cron = "0 0 12 * * ?")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void removeOldAuditEvents() {
-        persistenceAuditEventRepository
-            .findByAuditEventDateBefore(Instant.now().minus(jHipsterProperties.getAuditEvents().getRetentionPeriod(), ChronoUnit.DAYS))
-            .forEach(auditEvent -> {
-                log.debug("Deleting audit data {}", auditEvent);
-                persistenceAuditEventRepository.delete(auditEvent);
-            });
+        Instant before = Instant.now().minus(jHipsterProperties.getAuditEvents().getRetentionPeriod(), ChronoUnit.DAYS);
+        if (auditEventPartitions.dropPartitionsBefore(before) > 0) {
+            retentionPurger.purge("audit-event-data", auditEventPartitions::deleteOrphanData);
+        }
+        retentionPurger.purge("audit-events", batchSize -> {
+            List<Long> ids = persistenceAuditEventRepository.findIdsByAuditEventDateBefore(before, PageRequest.of(0, batchSize));
+            if (!ids.isEmpty()) {
+                persistenceAuditEventRepository.deleteDataByEventIdIn(ids);
+                persistenceAuditEventRepository.deleteByIdIn(ids);
+            }
+            return ids.size();
+        });
     }
 
     public Page<AuditEvent> findAll(Pageable pageable) {
@@ -67,6 +94,16 @@ public class AuditEventService {
             .map(auditEventConverter::convertToAuditEvent);
     }
 
+    public Slice<PersistentAuditEvent> findAllAfter(Long afterId, Sort.Direction direction, int size) {
+        return persistenceAuditEventRepository.findAllAfter(null, afterId, direction, size);
+    }
+
+    public Slice<PersistentAuditEvent> findByDatesAfter(Instant fromDate, Instant toDate, Long afterId, Sort.Direction direction, int size) {
+        Specification<PersistentAuditEvent> between = (root, query, cb) ->
+            cb.between(root.get(PersistentAuditEvent_.auditEventDate), fromDate, toDate);
+        return persistenceAuditEventRepository.findAllAfter(between, afterId, direction, size);
+    }
+
     public Optional<AuditEvent> find(Long id) {
         return persistenceAuditEventRepository.findById(id)
             .map(auditEventConverter::convertToAuditEvent);
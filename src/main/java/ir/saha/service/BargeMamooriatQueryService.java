@@ -0,0 +1,183 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.BargeMamooriat;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.BargeMamooriatRepository;
+import ir.saha.service.dto.BargeMamooriatCriteria;
+import ir.saha.service.dto.BargeMamooriatDTO;
+import ir.saha.service.mapper.BargeMamooriatMapper;
+
+/**
+ * Service for executing complex queries for {@link BargeMamooriat} entities in the database.
+ * The main input is a {@link BargeMamooriatCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link BargeMamooriatDTO} or a {@link Page} of {@link BargeMamooriatDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BargeMamooriatQueryService extends QueryService<BargeMamooriat> {
+
+    private final Logger log = LoggerFactory.getLogger(BargeMamooriatQueryService.class);
+
+    private final BargeMamooriatRepository bargeMamooriatRepository;
+
+    private final BargeMamooriatMapper bargeMamooriatMapper;
+
+    public BargeMamooriatQueryService(BargeMamooriatRepository bargeMamooriatRepository, BargeMamooriatMapper bargeMamooriatMapper) {
+        this.bargeMamooriatRepository = bargeMamooriatRepository;
+        this.bargeMamooriatMapper = bargeMamooriatMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link BargeMamooriatDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<BargeMamooriatDTO> findByCriteria(BargeMamooriatCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<BargeMamooriat> specification = createSpecification(criteria);
+        return bargeMamooriatMapper.toDto(bargeMamooriatRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link BargeMamooriatDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<BargeMamooriatDTO> findByCriteria(BargeMamooriatCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<BargeMamooriat> specification = createSpecification(criteria);
+        return bargeMamooriatRepository.findAll(specification, page)
+            .map(bargeMamooriatMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link BargeMamooriatDTO} which matches the criteria from the database, in id order after the given id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param afterId The id of the last entity of the previous slice, or {@code null} for the first slice.
+     * @param direction The direction of the id order.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<BargeMamooriatDTO> findByCriteriaAfter(BargeMamooriatCriteria criteria, Long afterId, Sort.Direction direction, int size) {
+        log.debug("find by criteria : {}, after: {}", criteria, afterId);
+        final Specification<BargeMamooriat> specification = createSpecification(criteria);
+        return bargeMamooriatRepository.findAllAfter(specification, afterId, direction, size)
+            .map(bargeMamooriatMapper::toDto);
+    }
+
+    /**
+     * Return the {@link BargeMamooriatDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<BargeMamooriatDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return bargeMamooriatRepository.findById(id)
+            .map(bargeMamooriatMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Page} of the given fields of the {@link BargeMamooriat}s which match the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated paths of the fields to return.
+     * @param page The page, which should be returned.
+     * @return the fields of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findFieldsByCriteria(BargeMamooriatCriteria criteria, String fields, Pageable page) {
+        log.debug("find fields : {} by criteria : {}, page: {}", fields, criteria, page);
+        final Specification<BargeMamooriat> specification = createSpecification(criteria);
+        return bargeMamooriatRepository.findAllFields(specification, fields, page);
+    }
+
+    /**
+     * Return a {@link Slice} of the given fields of the {@link BargeMamooriat}s which match the criteria from the database, in id order after the given id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated paths of the fields to return.
+     * @param afterId The id of the last entity of the previous slice, or {@code null} for the first slice.
+     * @param direction The direction of the id order.
+     * @param size The maximum number of entities to return.
+     * @return the fields of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findFieldsByCriteriaAfter(BargeMamooriatCriteria criteria, String fields, Long afterId, Sort.Direction direction, int size) {
+        log.debug("find fields : {} by criteria : {}, after: {}", fields, criteria, afterId);
+        final Specification<BargeMamooriat> specification = createSpecification(criteria);
+        return bargeMamooriatRepository.findAllFieldsAfter(specification, fields, afterId, direction, size);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(BargeMamooriatCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<BargeMamooriat> specification = createSpecification(criteria);
+        return bargeMamooriatRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link BargeMamooriatCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<BargeMamooriat> createSpecification(BargeMamooriatCriteria criteria) {
+        Specification<BargeMamooriat> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), BargeMamooriat_.id));
+            }
+            if (criteria.getVaziat() != null) {
+                specification = specification.and(buildSpecification(criteria.getVaziat(), BargeMamooriat_.vaziat));
+            }
+            if (criteria.getSaleMamooriat() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getSaleMamooriat(), BargeMamooriat_.saleMamooriat));
+            }
+            if (criteria.getShorooMamooriat() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getShorooMamooriat(), BargeMamooriat_.shorooMamooriat));
+            }
+            if (criteria.getPayanMamooriat() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getPayanMamooriat(), BargeMamooriat_.payanMamooriat));
+            }
+            if (criteria.getSarparastId() != null) {
+                specification = specification.and(buildSpecification(criteria.getSarparastId(),
+                    root -> root.join(BargeMamooriat_.sarparast, JoinType.LEFT).get(Karbar_.id)));
+            }
+            if (criteria.getYeganId() != null) {
+                specification = specification.and(buildSpecification(criteria.getYeganId(),
+                    root -> root.join(BargeMamooriat_.yegan, JoinType.LEFT).get(Yegan_.id)));
+            }
+            if (criteria.getHesabResiId() != null) {
+                specification = specification.and(buildSpecification(criteria.getHesabResiId(),
+                    root -> root.join(BargeMamooriat_.hesabResi, JoinType.LEFT).get(HesabResi_.id)));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,117 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.BarnameHesabResi;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.BarnameHesabResiRepository;
+import ir.saha.service.dto.BarnameHesabResiCriteria;
+import ir.saha.service.dto.BarnameHesabResiDTO;
+import ir.saha.service.mapper.BarnameHesabResiMapper;
+
+/**
+ * Service for executing complex queries for {@link BarnameHesabResi} entities in the database.
+ * The main input is a {@link BarnameHesabResiCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link BarnameHesabResiDTO} or a {@link Page} of {@link BarnameHesabResiDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BarnameHesabResiQueryService extends QueryService<BarnameHesabResi> {
+
+    private final Logger log = LoggerFactory.getLogger(BarnameHesabResiQueryService.class);
+
+    private final BarnameHesabResiRepository barnameHesabResiRepository;
+
+    private final BarnameHesabResiMapper barnameHesabResiMapper;
+
+    public BarnameHesabResiQueryService(BarnameHesabResiRepository barnameHesabResiRepository, BarnameHesabResiMapper barnameHesabResiMapper) {
+        this.barnameHesabResiRepository = barnameHesabResiRepository;
+        this.barnameHesabResiMapper = barnameHesabResiMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link BarnameHesabResiDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<BarnameHesabResiDTO> findByCriteria(BarnameHesabResiCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<BarnameHesabResi> specification = createSpecification(criteria);
+        return barnameHesabResiMapper.toDto(barnameHesabResiRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link BarnameHesabResiDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<BarnameHesabResiDTO> findByCriteria(BarnameHesabResiCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<BarnameHesabResi> specification = createSpecification(criteria);
+        return barnameHesabResiRepository.findAll(specification, page)
+            .map(barnameHesabResiMapper::toDto);
+    }
+
+    /**
+     * Return the {@link BarnameHesabResiDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<BarnameHesabResiDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return barnameHesabResiRepository.findById(id)
+            .map(barnameHesabResiMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(BarnameHesabResiCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<BarnameHesabResi> specification = createSpecification(criteria);
+        return barnameHesabResiRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link BarnameHesabResiCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<BarnameHesabResi> createSpecification(BarnameHesabResiCriteria criteria) {
+        Specification<BarnameHesabResi> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), BarnameHesabResi_.id));
+            }
+            if (criteria.getNoeBarnameHesabResi() != null) {
+                specification = specification.and(buildSpecification(criteria.getNoeBarnameHesabResi(), BarnameHesabResi_.noeBarnameHesabResi));
+            }
+            if (criteria.getHesabResiId() != null) {
+                specification = specification.and(buildSpecification(criteria.getHesabResiId(),
+                    root -> root.join(BarnameHesabResi_.hesabResi, JoinType.LEFT).get(HesabResi_.id)));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,96 @@
+package ir.saha.service;
+
+import ir.saha.domain.User;
+import ir.saha.repository.UserRepository;
+import ir.saha.service.dto.CachedUserDTO;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Service class for the users by login and by email caches, which hold {@link CachedUserDTO} snapshots of the users
+ * with their authorities.
+ * <p>
+ * A user is evicted once the transaction changing it has committed: evicted any earlier, a concurrent lookup could
+ * put the uncommitted row's previous state back in the cache until it expires.
+ */
+@Service
+public class CachedUserService {
+
+    public static final String USERS_BY_LOGIN_CACHE = "usersByLogin";
+
+    public static final String USERS_BY_EMAIL_CACHE = "usersByEmail";
+
+    private final UserRepository userRepository;
+
+    private final CacheManager cacheManager;
+
+    public CachedUserService(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Get a user with its authorities by login.
+     *
+     * @param login the lower cased login.
+     * @return the snapshot of the user, or empty if there is none.
+     */
+    @Cacheable(cacheNames = USERS_BY_LOGIN_CACHE)
+    @Transactional(readOnly = true)
+    public Optional<CachedUserDTO> findOneByLogin(String login) {
+        return userRepository.findOneWithAuthoritiesByLogin(login).map(CachedUserDTO::new);
+    }
+
+    /**
+     * Get a user with its authorities by email.
+     *
+     * @param email the lower cased email.
+     * @return the snapshot of the user, or empty if there is none.
+     */
+    @Cacheable(cacheNames = USERS_BY_EMAIL_CACHE)
+    @Transactional(readOnly = true)
+    public Optional<CachedUserDTO> findOneByEmail(String email) {
+        return userRepository.findOneWithAuthoritiesByEmailIgnoreCase(email).map(CachedUserDTO::new);
+    }
+
+    /**
+     * Evict a user from both caches, under its current login and email, once the current transaction has committed,
+     * or right away outside of a transaction.
+     *
+     * @param user the user whose login or email, authorities, password or activation changed.
+     */
+    public void evict(User user) {
+        String login = user.getLogin();
+        String email = user.getEmail();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(login, email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                evict(login, email);
+            }
+        });
+    }
+
+    private void evict(String login, String email) {
+        cache(USERS_BY_LOGIN_CACHE).evict(login);
+        if (email != null) {
+            cache(USERS_BY_EMAIL_CACHE).evict(email);
+        }
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name));
+    }
+}
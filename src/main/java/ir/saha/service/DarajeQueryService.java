@@ -0,0 +1,116 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Daraje;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.DarajeRepository;
+import ir.saha.service.dto.DarajeCriteria;
+import ir.saha.service.dto.DarajeDTO;
+import ir.saha.service.mapper.DarajeMapper;
+
+/**
+ * Service for executing complex queries for {@link Daraje} entities in the database.
+ * The main input is a {@link DarajeCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link DarajeDTO} or a {@link Page} of {@link DarajeDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DarajeQueryService extends QueryService<Daraje> {
+
+    private final Logger log = LoggerFactory.getLogger(DarajeQueryService.class);
+
+    private final DarajeRepository darajeRepository;
+
+    private final DarajeMapper darajeMapper;
+
+    public DarajeQueryService(DarajeRepository darajeRepository, DarajeMapper darajeMapper) {
+        this.darajeRepository = darajeRepository;
+        this.darajeMapper = darajeMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link DarajeDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<DarajeDTO> findByCriteria(DarajeCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Daraje> specification = createSpecification(criteria);
+        return darajeMapper.toDto(darajeRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link DarajeDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<DarajeDTO> findByCriteria(DarajeCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Daraje> specification = createSpecification(criteria);
+        return darajeRepository.findAll(specification, page)
+            .map(darajeMapper::toDto);
+    }
+
+    /**
+     * Return the {@link DarajeDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<DarajeDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return darajeRepository.findById(id)
+            .map(darajeMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(DarajeCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Daraje> specification = createSpecification(criteria);
+        return darajeRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link DarajeCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Daraje> createSpecification(DarajeCriteria criteria) {
+        Specification<Daraje> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Daraje_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), Daraje_.name));
+            }
+            if (criteria.getDescription() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getDescription(), Daraje_.description));
+            }
+        }
+        return specification;
+    }
+}
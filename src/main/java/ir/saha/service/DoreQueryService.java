@@ -0,0 +1,120 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Dore;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.DoreRepository;
+import ir.saha.service.dto.DoreCriteria;
+import ir.saha.service.dto.DoreDTO;
+import ir.saha.service.mapper.DoreMapper;
+
+/**
+ * Service for executing complex queries for {@link Dore} entities in the database.
+ * The main input is a {@link DoreCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link DoreDTO} or a {@link Page} of {@link DoreDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DoreQueryService extends QueryService<Dore> {
+
+    private final Logger log = LoggerFactory.getLogger(DoreQueryService.class);
+
+    private final DoreRepository doreRepository;
+
+    private final DoreMapper doreMapper;
+
+    public DoreQueryService(DoreRepository doreRepository, DoreMapper doreMapper) {
+        this.doreRepository = doreRepository;
+        this.doreMapper = doreMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link DoreDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<DoreDTO> findByCriteria(DoreCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Dore> specification = createSpecification(criteria);
+        return doreMapper.toDto(doreRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link DoreDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<DoreDTO> findByCriteria(DoreCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Dore> specification = createSpecification(criteria);
+        return doreRepository.findAll(specification, page)
+            .map(doreMapper::toDto);
+    }
+
+    /**
+     * Return the {@link DoreDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<DoreDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return doreRepository.findById(id)
+            .map(doreMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(DoreCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Dore> specification = createSpecification(criteria);
+        return doreRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link DoreCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Dore> createSpecification(DoreCriteria criteria) {
+        Specification<Dore> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Dore_.id));
+            }
+            if (criteria.getBegin() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getBegin(), Dore_.begin));
+            }
+            if (criteria.getEnd() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getEnd(), Dore_.end));
+            }
+            if (criteria.getKarbarId() != null) {
+                specification = specification.and(buildSpecification(criteria.getKarbarId(),
+                    root -> root.join(Dore_.karbar, JoinType.LEFT).get(Karbar_.id)));
+            }
+        }
+        return specification;
+    }
+}
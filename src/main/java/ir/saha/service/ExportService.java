@@ -0,0 +1,155 @@
+package ir.saha.service;
+
+import ir.saha.repository.BargeMamooriatRepository;
+import ir.saha.repository.HesabResiRepository;
+import ir.saha.repository.KarbarRepository;
+import ir.saha.repository.PersistenceAuditEventRepository;
+import ir.saha.service.tabular.TabularFormat;
+import ir.saha.service.tabular.TabularWriter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Service for exporting whole tables as CSV or XLSX files.
+ * <p>
+ * The rows are streamed from a database cursor and written to the output as they come, so that an export holds a
+ * single row in memory at a time, whatever the size of the table.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private final KarbarRepository karbarRepository;
+
+    private final BargeMamooriatRepository bargeMamooriatRepository;
+
+    private final HesabResiRepository hesabResiRepository;
+
+    private final PersistenceAuditEventRepository persistenceAuditEventRepository;
+
+    public ExportService(KarbarRepository karbarRepository, BargeMamooriatRepository bargeMamooriatRepository,
+                         HesabResiRepository hesabResiRepository,
+                         PersistenceAuditEventRepository persistenceAuditEventRepository) {
+        this.karbarRepository = karbarRepository;
+        this.bargeMamooriatRepository = bargeMamooriatRepository;
+        this.hesabResiRepository = hesabResiRepository;
+        this.persistenceAuditEventRepository = persistenceAuditEventRepository;
+    }
+
+    /**
+     * Export all the karbars.
+     *
+     * @param out the stream to write the file to, closed once written.
+     * @param format the format of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void exportKarbars(OutputStream out, TabularFormat format) throws IOException {
+        log.debug("Request to export Karbars as {}", format);
+        try (Stream<KarbarRepository.ExportRow> rows = karbarRepository.streamAllForExport()) {
+            write(out, format, Arrays.asList("id", "name", "shoghlSazmani", "shoghlAmali", "codePerseneli", "bezaneshate",
+                "sazmani", "tarikhBazneshastegi", "tarikhEstekhdam", "yegan", "yeganCode", "daraje", "semat"), rows,
+                row -> Arrays.asList(row.getId(), row.getName(), row.getShoghlSazmani(), row.getShoghlAmali(),
+                    row.getCodePerseneli(), row.getBezaneshate(), row.getSazmani(), row.getTarikhBazneshastegi(),
+                    row.getTarikhEstekhdam(), row.getYegan(), row.getYeganCode(), row.getDaraje(), row.getSemat()));
+        }
+    }
+
+    /**
+     * Export all the barge mamooriats.
+     *
+     * @param out the stream to write the file to, closed once written.
+     * @param format the format of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void exportBargeMamooriats(OutputStream out, TabularFormat format) throws IOException {
+        log.debug("Request to export BargeMamooriats as {}", format);
+        try (Stream<BargeMamooriatRepository.ExportRow> rows = bargeMamooriatRepository.streamAllForExport()) {
+            write(out, format, Arrays.asList("id", "vaziat", "saleMamooriat", "shorooMamooriat", "payanMamooriat",
+                "sarparast", "yegan", "hesabResiId"), rows,
+                row -> Arrays.asList(row.getId(), row.getVaziat(), row.getSaleMamooriat(), row.getShorooMamooriat(),
+                    row.getPayanMamooriat(), row.getSarparast(), row.getYegan(), row.getHesabResiId()));
+        }
+    }
+
+    /**
+     * Export all the hesab resis.
+     *
+     * @param out the stream to write the file to, closed once written.
+     * @param format the format of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void exportHesabResis(OutputStream out, TabularFormat format) throws IOException {
+        log.debug("Request to export HesabResis as {}", format);
+        try (Stream<HesabResiRepository.ExportRow> rows = hesabResiRepository.streamAllForExport()) {
+            write(out, format, Arrays.asList("id", "sal", "vaziateHesabResi", "gozareshId", "barnameHesabResiId"), rows,
+                row -> Arrays.asList(row.getId(), row.getSal(), row.getVaziateHesabResi(), row.getGozareshId(),
+                    row.getBarnameHesabResiId()));
+        }
+    }
+
+    /**
+     * Export the audit events between two dates, with their data as {@code key=value} entries separated by
+     * {@code ; }.
+     *
+     * @param fromDate the start of the period, inclusive.
+     * @param toDate the end of the period, exclusive.
+     * @param out the stream to write the file to, closed once written.
+     * @param format the format of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void exportAuditEvents(Instant fromDate, Instant toDate, OutputStream out, TabularFormat format) throws IOException {
+        log.debug("Request to export audit events from {} to {} as {}", fromDate, toDate, format);
+        try (Stream<PersistenceAuditEventRepository.ExportRow> rows = persistenceAuditEventRepository.streamForExport(fromDate, toDate);
+             TabularWriter writer = TabularWriter.open(out, format)) {
+            writer.writeRow(Arrays.asList("id", "principal", "auditEventDate", "auditEventType", "data"));
+            // The entries of an event come in consecutive rows: an event is written once the row of the next one is read
+            PersistenceAuditEventRepository.ExportRow event = null;
+            StringBuilder data = new StringBuilder();
+            for (Iterator<PersistenceAuditEventRepository.ExportRow> iterator = rows.iterator(); iterator.hasNext(); ) {
+                PersistenceAuditEventRepository.ExportRow row = iterator.next();
+                if (event != null && !Objects.equals(event.getId(), row.getId())) {
+                    writeAuditEvent(writer, event, data);
+                    data.setLength(0);
+                }
+                event = row;
+                if (row.getDataKey() != null) {
+                    data.append(data.length() == 0 ? "" : "; ").append(row.getDataKey()).append('=').append(row.getDataValue());
+                }
+            }
+            if (event != null) {
+                writeAuditEvent(writer, event, data);
+            }
+        }
+    }
+
+    private void writeAuditEvent(TabularWriter writer, PersistenceAuditEventRepository.ExportRow event, StringBuilder data)
+        throws IOException {
+        writer.writeRow(Arrays.asList(event.getId(), event.getPrincipal(), event.getAuditEventDate(),
+            event.getAuditEventType(), data.toString()));
+    }
+
+    private <T> void write(OutputStream out, TabularFormat format, List<String> header, Stream<T> rows,
+                           Function<T, List<?>> values) throws IOException {
+        try (TabularWriter writer = TabularWriter.open(out, format)) {
+            writer.writeRow(header);
+            for (Iterator<T> iterator = rows.iterator(); iterator.hasNext(); ) {
+                writer.writeRow(values.apply(iterator.next()));
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Gozaresh;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.GozareshRepository;
+import ir.saha.service.dto.GozareshCriteria;
+import ir.saha.service.dto.GozareshDTO;
+import ir.saha.service.mapper.GozareshMapper;
+
+/**
+ * Service for executing complex queries for {@link Gozaresh} entities in the database.
+ * The main input is a {@link GozareshCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link GozareshDTO} or a {@link Page} of {@link GozareshDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GozareshQueryService extends QueryService<Gozaresh> {
+
+    private final Logger log = LoggerFactory.getLogger(GozareshQueryService.class);
+
+    private final GozareshRepository gozareshRepository;
+
+    private final GozareshMapper gozareshMapper;
+
+    public GozareshQueryService(GozareshRepository gozareshRepository, GozareshMapper gozareshMapper) {
+        this.gozareshRepository = gozareshRepository;
+        this.gozareshMapper = gozareshMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link GozareshDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<GozareshDTO> findByCriteria(GozareshCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Gozaresh> specification = createSpecification(criteria);
+        return gozareshMapper.toDto(gozareshRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link GozareshDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<GozareshDTO> findByCriteria(GozareshCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Gozaresh> specification = createSpecification(criteria);
+        return gozareshRepository.findAll(specification, page)
+            .map(gozareshMapper::toDto);
+    }
+
+    /**
+     * Return the {@link GozareshDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<GozareshDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return gozareshRepository.findById(id)
+            .map(gozareshMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(GozareshCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Gozaresh> specification = createSpecification(criteria);
+        return gozareshRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link GozareshCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Gozaresh> createSpecification(GozareshCriteria criteria) {
+        Specification<Gozaresh> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Gozaresh_.id));
+            }
+            if (criteria.getVaziat() != null) {
+                specification = specification.and(buildSpecification(criteria.getVaziat(), Gozaresh_.vaziat));
+            }
+            if (criteria.getHesabResiId() != null) {
+                specification = specification.and(buildSpecification(criteria.getHesabResiId(),
+                    root -> root.join(Gozaresh_.hesabResi, JoinType.LEFT).get(HesabResi_.id)));
+            }
+        }
+        return specification;
+    }
+}
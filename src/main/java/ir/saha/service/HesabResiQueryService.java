@@ -0,0 +1,124 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.HesabResi;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.HesabResiRepository;
+import ir.saha.service.dto.HesabResiCriteria;
+import ir.saha.service.dto.HesabResiDTO;
+import ir.saha.service.mapper.HesabResiMapper;
+
+/**
+ * Service for executing complex queries for {@link HesabResi} entities in the database.
+ * The main input is a {@link HesabResiCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link HesabResiDTO} or a {@link Page} of {@link HesabResiDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class HesabResiQueryService extends QueryService<HesabResi> {
+
+    private final Logger log = LoggerFactory.getLogger(HesabResiQueryService.class);
+
+    private final HesabResiRepository hesabResiRepository;
+
+    private final HesabResiMapper hesabResiMapper;
+
+    public HesabResiQueryService(HesabResiRepository hesabResiRepository, HesabResiMapper hesabResiMapper) {
+        this.hesabResiRepository = hesabResiRepository;
+        this.hesabResiMapper = hesabResiMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link HesabResiDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<HesabResiDTO> findByCriteria(HesabResiCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<HesabResi> specification = createSpecification(criteria);
+        return hesabResiMapper.toDto(hesabResiRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link HesabResiDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<HesabResiDTO> findByCriteria(HesabResiCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<HesabResi> specification = createSpecification(criteria);
+        return hesabResiRepository.findAll(specification, page)
+            .map(hesabResiMapper::toDto);
+    }
+
+    /**
+     * Return the {@link HesabResiDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<HesabResiDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return hesabResiRepository.findById(id)
+            .map(hesabResiMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(HesabResiCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<HesabResi> specification = createSpecification(criteria);
+        return hesabResiRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link HesabResiCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<HesabResi> createSpecification(HesabResiCriteria criteria) {
+        Specification<HesabResi> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), HesabResi_.id));
+            }
+            if (criteria.getSal() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getSal(), HesabResi_.sal));
+            }
+            if (criteria.getVaziateHesabResi() != null) {
+                specification = specification.and(buildSpecification(criteria.getVaziateHesabResi(), HesabResi_.vaziateHesabResi));
+            }
+            if (criteria.getGozareshId() != null) {
+                specification = specification.and(buildSpecification(criteria.getGozareshId(),
+                    root -> root.join(HesabResi_.gozaresh, JoinType.LEFT).get(Gozaresh_.id)));
+            }
+            if (criteria.getBarnameHesabResiId() != null) {
+                specification = specification.and(buildSpecification(criteria.getBarnameHesabResiId(),
+                    root -> root.join(HesabResi_.barnameHesabResi, JoinType.LEFT).get(BarnameHesabResi_.id)));
+            }
+        }
+        return specification;
+    }
+}
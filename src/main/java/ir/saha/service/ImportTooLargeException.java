@@ -0,0 +1,17 @@
+package ir.saha.service;
+
+public class ImportTooLargeException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long maxFileSize;
+
+    public ImportTooLargeException(long maxFileSize) {
+        super("Import files are limited to " + maxFileSize + " bytes!");
+        this.maxFileSize = maxFileSize;
+    }
+
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+}
@@ -0,0 +1,573 @@
+package ir.saha.service;
+
+import ir.saha.config.ApplicationProperties;
+import ir.saha.domain.Daraje;
+import ir.saha.domain.Karbar;
+import ir.saha.domain.Semat;
+import ir.saha.domain.Yegan;
+import ir.saha.domain.YeganCode;
+import ir.saha.security.SecurityUtils;
+import ir.saha.service.dto.KarbarImportDTO;
+import ir.saha.service.storage.BlobStoreException;
+import ir.saha.service.tabular.TabularFormat;
+import ir.saha.service.tabular.TabularReader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Service for the bulk import of {@link Karbar}s from CSV or XLSX files.
+ * <p>
+ * The file is stored, then imported in the background: its rows are read one at a time, validated
+ * {@code application.karbar-import.batch-size} at a time in parallel, and the valid ones written in one transaction
+ * per batch, with the persistence context cleared after each. The {@link Yegan}, {@link YeganCode}, {@link Daraje} and
+ * {@link Semat} of the rows are resolved by their code or name from maps of ids loaded up front, so the memory used
+ * does not grow with the number of rows. The progress of an import, and the errors of the rows that were not imported,
+ * are reported by {@link #getImport(String)}.
+ * <p>
+ * Files larger than {@code application.karbar-import.max-file-size} are rejected while they are stored, and at most
+ * {@code application.karbar-import.max-concurrent-imports} imports are stored or run at once, so that a few large
+ * files can neither fill the disk nor hold all the threads of the task executor.
+ */
+@Service
+public class KarbarImportService {
+
+    private static final int MAX_LENGTH = 255;
+
+    private static final Instant SPREADSHEET_EPOCH = LocalDate.of(1899, 12, 30).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+    private final Logger log = LoggerFactory.getLogger(KarbarImportService.class);
+
+    private final ApplicationProperties.KarbarImport properties;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Executor executor;
+
+    private final Semaphore permits;
+
+    private final ConcurrentMap<String, KarbarImport> imports = new ConcurrentHashMap<>();
+
+    public KarbarImportService(ApplicationProperties applicationProperties, EntityManager entityManager,
+                               PlatformTransactionManager transactionManager, @Qualifier("taskExecutor") Executor executor) {
+        this.properties = applicationProperties.getKarbarImport();
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.executor = executor;
+        this.permits = new Semaphore(properties.getMaxConcurrentImports());
+    }
+
+    /**
+     * Start an import for the current user.
+     * <p>
+     * The first row of the file names its columns, after the fields of {@link Karbar}: {@code name},
+     * {@code shoghlSazmani}, {@code shoghlAmali}, {@code codePerseneli}, {@code bezaneshate}, {@code sazmani},
+     * {@code tarikhBazneshastegi}, {@code tarikhEstekhdam}, and {@code yegan}, {@code yeganCode}, {@code daraje} and
+     * {@code semat} holding the code of the yegan and of the yegan code, the name of the daraje and the onvan shoghli of
+     * the semat.
+     *
+     * @param content the content of the file, consumed but not closed.
+     * @param format  the format of the file.
+     * @return the import, queued.
+     * @throws TooManyImportsException if {@code application.karbar-import.max-concurrent-imports} imports are already
+     * stored or running.
+     * @throws ImportTooLargeException if the file is larger than {@code application.karbar-import.max-file-size}.
+     */
+    public KarbarImportDTO start(InputStream content, TabularFormat format) {
+        if (!permits.tryAcquire()) {
+            throw new TooManyImportsException(properties.getMaxConcurrentImports());
+        }
+        String id = UUID.randomUUID().toString();
+        Path file = null;
+        try {
+            file = Files.createTempFile("karbar-import-", "." + format.getExtension());
+            copy(content, file, properties.getMaxFileSize());
+            KarbarImport karbarImport = new KarbarImport(id, SecurityUtils.getCurrentUserLogin().orElse(null), format, file,
+                Instant.now());
+            imports.put(id, karbarImport);
+            log.debug("Queued import {}", id);
+            executor.execute(() -> run(karbarImport));
+            return toDto(karbarImport);
+        } catch (IOException e) {
+            discard(id, file);
+            throw new BlobStoreException("Could not store import " + id, e);
+        } catch (RejectedExecutionException e) {
+            discard(id, file);
+            throw new TooManyImportsException(properties.getMaxConcurrentImports());
+        } catch (RuntimeException e) {
+            discard(id, file);
+            throw e;
+        }
+    }
+
+    /**
+     * Get an import of the current user.
+     *
+     * @param importId the id of the import.
+     * @return the import, or empty if there is no such import.
+     */
+    public Optional<KarbarImportDTO> getImport(String importId) {
+        return Optional.ofNullable(importId)
+            .map(imports::get)
+            .filter(karbarImport -> Objects.equals(karbarImport.owner, SecurityUtils.getCurrentUserLogin().orElse(null)))
+            .map(KarbarImportService::toDto);
+    }
+
+    /**
+     * Imports that ended {@code application.karbar-import.retention-seconds} ago are forgotten.
+     * <p>
+     * This is scheduled to get fired every hour, at minute 15.
+     */
+    @Scheduled(cron = "0 15 * * * ?")
+    public void removeExpiredImports() {
+        Instant expiry = Instant.now().minusSeconds(properties.getRetentionSeconds());
+        imports.values().removeIf(karbarImport -> {
+            synchronized (karbarImport) {
+                return karbarImport.finishedDate != null && karbarImport.finishedDate.isBefore(expiry);
+            }
+        });
+    }
+
+    /**
+     * Copy the content of a file, failing once more than the given number of bytes are read.
+     */
+    private static void copy(InputStream content, Path file, long maxFileSize) throws IOException {
+        byte[] buffer = new byte[8192];
+        long size = 0;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                size += read;
+                if (size > maxFileSize) {
+                    throw new ImportTooLargeException(maxFileSize);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * Forget an import that could not be queued, and give its permit back.
+     */
+    private void discard(String id, Path file) {
+        imports.remove(id);
+        permits.release();
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", file, e);
+            }
+        }
+    }
+
+    private void run(KarbarImport karbarImport) {
+        synchronized (karbarImport) {
+            karbarImport.status = KarbarImportDTO.Status.RUNNING;
+        }
+        log.debug("Running import {}", karbarImport.id);
+        try (TabularReader reader = TabularReader.open(karbarImport.file, karbarImport.format)) {
+            List<String> header = reader.readRow();
+            if (header == null) {
+                throw new IllegalArgumentException("The file is empty");
+            }
+            Column[] columns = columns(header);
+            Lookups lookups = readOnlyTransactionTemplate.execute(status -> loadLookups());
+            List<Row> rows = new ArrayList<>(properties.getBatchSize());
+            List<String> values;
+            while ((values = reader.readRow()) != null) {
+                if (values.stream().allMatch(value -> value.trim().isEmpty())) {
+                    continue;
+                }
+                rows.add(new Row(reader.getRowNumber(), values));
+                if (rows.size() == properties.getBatchSize()) {
+                    importRows(karbarImport, rows, columns, lookups);
+                    rows.clear();
+                }
+            }
+            importRows(karbarImport, rows, columns, lookups);
+            finish(karbarImport, KarbarImportDTO.Status.COMPLETED, null);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import {} failed: {}", karbarImport.id, e.getMessage());
+            finish(karbarImport, KarbarImportDTO.Status.FAILED, failureMessage(karbarImport, e));
+        } finally {
+            permits.release();
+            try {
+                Files.deleteIfExists(karbarImport.file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", karbarImport.file, e);
+            }
+        }
+    }
+
+    private void importRows(KarbarImport karbarImport, List<Row> rows, Column[] columns, Lookups lookups) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<ParsedRow> parsedRows = rows.parallelStream()
+            .map(row -> parse(row, columns, lookups))
+            .collect(Collectors.toList());
+        List<ParsedRow> valid = parsedRows.stream().filter(ParsedRow::isValid).collect(Collectors.toList());
+        transactionTemplate.execute(status -> {
+            for (ParsedRow row : valid) {
+                Karbar karbar = row.karbar;
+                karbar.setYegan(row.yeganId == null ? null : entityManager.getReference(Yegan.class, row.yeganId));
+                karbar.setYeganCode(row.yeganCodeId == null ? null : entityManager.getReference(YeganCode.class, row.yeganCodeId));
+                karbar.setDaraje(row.darajeId == null ? null : entityManager.getReference(Daraje.class, row.darajeId));
+                karbar.setSemat(row.sematId == null ? null : entityManager.getReference(Semat.class, row.sematId));
+                entityManager.persist(karbar);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return null;
+        });
+        synchronized (karbarImport) {
+            karbarImport.rowsRead += rows.size();
+            karbarImport.rowsImported += valid.size();
+            for (ParsedRow row : parsedRows) {
+                if (!row.isValid()) {
+                    karbarImport.rowsFailed++;
+                    if (karbarImport.errors.size() < properties.getMaxErrors()) {
+                        karbarImport.errors.add(new KarbarImportDTO.RowError(row.rowNumber, String.join("; ", row.errors)));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Describe why an import failed; the batches written before the failure were committed, and stay imported.
+     */
+    private static String failureMessage(KarbarImport karbarImport, Exception e) {
+        synchronized (karbarImport) {
+            if (karbarImport.rowsImported == 0) {
+                return e.getMessage();
+            }
+            return e.getMessage() + " (partial import: the " + karbarImport.rowsImported +
+                " rows imported by the earlier batches stay committed)";
+        }
+    }
+
+    private void finish(KarbarImport karbarImport, KarbarImportDTO.Status status, String message) {
+        synchronized (karbarImport) {
+            karbarImport.status = status;
+            karbarImport.message = message;
+            karbarImport.finishedDate = Instant.now();
+            log.debug("Import {} ended {}: {} rows imported, {} failed", karbarImport.id, status,
+                karbarImport.rowsImported, karbarImport.rowsFailed);
+        }
+    }
+
+    private Lookups loadLookups() {
+        Lookups lookups = new Lookups();
+        lookups.yegans = ids("select yegan.code, yegan.id from Yegan yegan");
+        lookups.yeganCodes = ids("select yeganCode.code, yeganCode.id from YeganCode yeganCode");
+        lookups.darajes = ids("select daraje.name, daraje.id from Daraje daraje");
+        lookups.semats = ids("select semat.onvanShoghli, semat.id from Semat semat");
+        return lookups;
+    }
+
+    /**
+     * Map the keys selected to their ids; a key shared by several rows maps to {@code null}, as it is ambiguous.
+     */
+    private Map<String, Long> ids(String query) {
+        Map<String, Long> ids = new HashMap<>();
+        for (Object[] keyAndId : entityManager.createQuery(query, Object[].class).getResultList()) {
+            if (keyAndId[0] != null) {
+                String key = keyAndId[0].toString().trim();
+                ids.put(key, ids.containsKey(key) ? null : (Long) keyAndId[1]);
+            }
+        }
+        return ids;
+    }
+
+    static Column[] columns(List<String> header) {
+        Column[] columns = new Column[header.size()];
+        Set<Column> seen = EnumSet.noneOf(Column.class);
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            String key = name.replaceAll("[^\\p{L}\\p{N}]", "").toLowerCase(Locale.ROOT);
+            Column column = Arrays.stream(Column.values())
+                .filter(candidate -> candidate.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown column '" + name + "'"));
+            if (!seen.add(column)) {
+                throw new IllegalArgumentException("Duplicate column '" + name + "'");
+            }
+            columns[i] = column;
+        }
+        return columns;
+    }
+
+    static ParsedRow parse(Row row, Column[] columns, Lookups lookups) {
+        ParsedRow parsed = new ParsedRow(row.number);
+        for (int i = 0; i < columns.length && i < row.values.size(); i++) {
+            String value = row.values.get(i).trim();
+            if (columns[i] == null || value.isEmpty()) {
+                continue;
+            }
+            try {
+                parseValue(parsed, columns[i], value, lookups);
+            } catch (IllegalArgumentException e) {
+                parsed.errors.add(columns[i].field + ": " + e.getMessage());
+            }
+        }
+        return parsed;
+    }
+
+    private static void parseValue(ParsedRow parsed, Column column, String value, Lookups lookups) {
+        Karbar karbar = parsed.karbar;
+        switch (column) {
+            case NAME:
+                karbar.setName(text(value));
+                break;
+            case SHOGHL_SAZMANI:
+                karbar.setShoghlSazmani(text(value));
+                break;
+            case SHOGHL_AMALI:
+                karbar.setShoghlAmali(text(value));
+                break;
+            case CODE_PERSENELI:
+                karbar.setCodePerseneli(text(value));
+                break;
+            case BEZANESHATE:
+                karbar.setBezaneshate(bool(value));
+                break;
+            case SAZMANI:
+                karbar.setSazmani(bool(value));
+                break;
+            case TARIKH_BAZNESHASTEGI:
+                karbar.setTarikhBazneshastegi(instant(value));
+                break;
+            case TARIKH_ESTEKHDAM:
+                karbar.setTarikhEstekhdam(instant(value));
+                break;
+            case YEGAN:
+                parsed.yeganId = id(lookups.yegans, value);
+                break;
+            case YEGAN_CODE:
+                parsed.yeganCodeId = id(lookups.yeganCodes, value);
+                break;
+            case DARAJE:
+                parsed.darajeId = id(lookups.darajes, value);
+                break;
+            case SEMAT:
+                parsed.sematId = id(lookups.semats, value);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected column " + column);
+        }
+    }
+
+    private static String text(String value) {
+        if (value.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("longer than " + MAX_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private static Boolean bool(String value) {
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "yes":
+            case "1":
+                return true;
+            case "false":
+            case "no":
+            case "0":
+                return false;
+            default:
+                throw new IllegalArgumentException("'" + value + "' is not a boolean");
+        }
+    }
+
+    /**
+     * Parse an instant, a date at midnight UTC, or the serial number of a date in a spreadsheet.
+     */
+    static Instant instant(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            // Not an instant
+        }
+        try {
+            return LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant();
+        } catch (DateTimeParseException e) {
+            // Not a date
+        }
+        try {
+            return SPREADSHEET_EPOCH.plusSeconds(Math.round(Double.parseDouble(value) * 86400));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("'" + value + "' is not a date");
+        }
+    }
+
+    private static Long id(Map<String, Long> ids, String key) {
+        if (!ids.containsKey(key)) {
+            throw new IllegalArgumentException("'" + key + "' not found");
+        }
+        Long id = ids.get(key);
+        if (id == null) {
+            throw new IllegalArgumentException("'" + key + "' is ambiguous");
+        }
+        return id;
+    }
+
+    private static KarbarImportDTO toDto(KarbarImport karbarImport) {
+        synchronized (karbarImport) {
+            KarbarImportDTO karbarImportDTO = new KarbarImportDTO();
+            karbarImportDTO.setId(karbarImport.id);
+            karbarImportDTO.setFormat(karbarImport.format.name());
+            karbarImportDTO.setStatus(karbarImport.status);
+            karbarImportDTO.setRowsRead(karbarImport.rowsRead);
+            karbarImportDTO.setRowsImported(karbarImport.rowsImported);
+            karbarImportDTO.setRowsFailed(karbarImport.rowsFailed);
+            karbarImportDTO.setErrors(new ArrayList<>(karbarImport.errors));
+            karbarImportDTO.setMessage(karbarImport.message);
+            karbarImportDTO.setCreatedDate(karbarImport.createdDate);
+            karbarImportDTO.setFinishedDate(karbarImport.finishedDate);
+            return karbarImportDTO;
+        }
+    }
+
+    /**
+     * The columns of an import file.
+     */
+    enum Column {
+        NAME, SHOGHL_SAZMANI, SHOGHL_AMALI, CODE_PERSENELI, BEZANESHATE, SAZMANI, TARIKH_BAZNESHASTEGI,
+        TARIKH_ESTEKHDAM, YEGAN, YEGAN_CODE, DARAJE, SEMAT;
+
+        private final String key = name().replace("_", "").toLowerCase(Locale.ROOT);
+
+        private final String field = camelCase(name());
+
+        private static String camelCase(String name) {
+            StringBuilder camelCase = new StringBuilder();
+            for (String word : name.toLowerCase(Locale.ROOT).split("_")) {
+                camelCase.append(camelCase.length() == 0 ? word : Character.toUpperCase(word.charAt(0)) + word.substring(1));
+            }
+            return camelCase.toString();
+        }
+    }
+
+    /**
+     * The ids of the entities referenced by the rows, by their code or name.
+     */
+    static final class Lookups {
+
+        private Map<String, Long> yegans = Collections.emptyMap();
+
+        private Map<String, Long> yeganCodes = Collections.emptyMap();
+
+        private Map<String, Long> darajes = Collections.emptyMap();
+
+        private Map<String, Long> semats = Collections.emptyMap();
+    }
+
+    static final class Row {
+
+        private final int number;
+
+        private final List<String> values;
+
+        Row(int number, List<String> values) {
+            this.number = number;
+            this.values = values;
+        }
+    }
+
+    static final class ParsedRow {
+
+        private final int rowNumber;
+
+        private final Karbar karbar = new Karbar();
+
+        private final List<String> errors = new ArrayList<>();
+
+        private Long yeganId;
+
+        private Long yeganCodeId;
+
+        private Long darajeId;
+
+        private Long sematId;
+
+        private ParsedRow(int rowNumber) {
+            this.rowNumber = rowNumber;
+        }
+
+        boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+
+    /**
+     * State of an import, guarded by its own monitor.
+     */
+    private static final class KarbarImport {
+
+        private final String id;
+
+        private final String owner;
+
+        private final TabularFormat format;
+
+        private final Path file;
+
+        private final Instant createdDate;
+
+        private KarbarImportDTO.Status status = KarbarImportDTO.Status.QUEUED;
+
+        private int rowsRead;
+
+        private int rowsImported;
+
+        private int rowsFailed;
+
+        private final List<KarbarImportDTO.RowError> errors = new ArrayList<>();
+
+        private String message;
+
+        private Instant finishedDate;
+
+        private KarbarImport(String id, String owner, TabularFormat format, Path file, Instant createdDate) {
+            this.id = id;
+            this.owner = owner;
+            this.format = format;
+            this.file = file;
+            this.createdDate = createdDate;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Karbar;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.KarbarRepository;
+import ir.saha.service.dto.KarbarCriteria;
+import ir.saha.service.dto.KarbarDTO;
+import ir.saha.service.mapper.KarbarMapper;
+
+/**
+ * Service for executing complex queries for {@link Karbar} entities in the database.
+ * The main input is a {@link KarbarCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link KarbarDTO} or a {@link Page} of {@link KarbarDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class KarbarQueryService extends QueryService<Karbar> {
+
+    private final Logger log = LoggerFactory.getLogger(KarbarQueryService.class);
+
+    private final KarbarRepository karbarRepository;
+
+    private final KarbarMapper karbarMapper;
+
+    public KarbarQueryService(KarbarRepository karbarRepository, KarbarMapper karbarMapper) {
+        this.karbarRepository = karbarRepository;
+        this.karbarMapper = karbarMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link KarbarDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<KarbarDTO> findByCriteria(KarbarCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Karbar> specification = createSpecification(criteria);
+        return karbarMapper.toDto(karbarRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link KarbarDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param eagerload Whether to fetch and return the many-to-many relationships of the entities.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<KarbarDTO> findByCriteria(KarbarCriteria criteria, Pageable page, boolean eagerload) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Karbar> specification = createSpecification(criteria);
+        Page<Karbar> result = karbarRepository.findAll(specification, page);
+        if (eagerload) {
+            karbarRepository.fetchEagerRelationships(result.getContent());
+            return result.map(karbarMapper::toDtoWithEagerRelationships);
+        }
+        return result.map(karbarMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link KarbarDTO} which matches the criteria from the database, in id order after the given id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param afterId The id of the last entity of the previous slice, or {@code null} for the first slice.
+     * @param direction The direction of the id order.
+     * @param size The maximum number of entities to return.
+     * @param eagerload Whether to fetch and return the many-to-many relationships of the entities.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<KarbarDTO> findByCriteriaAfter(KarbarCriteria criteria, Long afterId, Sort.Direction direction, int size, boolean eagerload) {
+        log.debug("find by criteria : {}, after: {}", criteria, afterId);
+        final Specification<Karbar> specification = createSpecification(criteria);
+        Slice<Karbar> result = karbarRepository.findAllAfter(specification, afterId, direction, size);
+        if (eagerload) {
+            karbarRepository.fetchEagerRelationships(result.getContent());
+            return result.map(karbarMapper::toDtoWithEagerRelationships);
+        }
+        return result.map(karbarMapper::toDto);
+    }
+
+    /**
+     * Return the {@link KarbarDTO} of the given id from the database, with its many-to-many relationships.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<KarbarDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return karbarRepository.findOneWithEagerRelationships(id)
+            .map(karbarMapper::toDtoWithEagerRelationships);
+    }
+
+    /**
+     * Return a {@link Page} of the given fields of the {@link Karbar}s which match the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated paths of the fields to return.
+     * @param page The page, which should be returned.
+     * @return the fields of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findFieldsByCriteria(KarbarCriteria criteria, String fields, Pageable page) {
+        log.debug("find fields : {} by criteria : {}, page: {}", fields, criteria, page);
+        final Specification<Karbar> specification = createSpecification(criteria);
+        return karbarRepository.findAllFields(specification, fields, page);
+    }
+
+    /**
+     * Return a {@link Slice} of the given fields of the {@link Karbar}s which match the criteria from the database, in id order after the given id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated paths of the fields to return.
+     * @param afterId The id of the last entity of the previous slice, or {@code null} for the first slice.
+     * @param direction The direction of the id order.
+     * @param size The maximum number of entities to return.
+     * @return the fields of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findFieldsByCriteriaAfter(KarbarCriteria criteria, String fields, Long afterId, Sort.Direction direction, int size) {
+        log.debug("find fields : {} by criteria : {}, after: {}", fields, criteria, afterId);
+        final Specification<Karbar> specification = createSpecification(criteria);
+        return karbarRepository.findAllFieldsAfter(specification, fields, afterId, direction, size);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(KarbarCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Karbar> specification = createSpecification(criteria);
+        return karbarRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link KarbarCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Karbar> createSpecification(KarbarCriteria criteria) {
+        Specification<Karbar> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Karbar_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), Karbar_.name));
+            }
+            if (criteria.getShoghlSazmani() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getShoghlSazmani(), Karbar_.shoghlSazmani));
+            }
+            if (criteria.getShoghlAmali() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getShoghlAmali(), Karbar_.shoghlAmali));
+            }
+            if (criteria.getCodePerseneli() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getCodePerseneli(), Karbar_.codePerseneli));
+            }
+            if (criteria.getBezaneshate() != null) {
+                specification = specification.and(buildSpecification(criteria.getBezaneshate(), Karbar_.bezaneshate));
+            }
+            if (criteria.getSazmani() != null) {
+                specification = specification.and(buildSpecification(criteria.getSazmani(), Karbar_.sazmani));
+            }
+            if (criteria.getTarikhBazneshastegi() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getTarikhBazneshastegi(), Karbar_.tarikhBazneshastegi));
+            }
+            if (criteria.getTarikhEstekhdam() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getTarikhEstekhdam(), Karbar_.tarikhEstekhdam));
+            }
+            if (criteria.getYeganId() != null) {
+                specification = specification.and(buildSpecification(criteria.getYeganId(),
+                    root -> root.join(Karbar_.yegan, JoinType.LEFT).get(Yegan_.id)));
+            }
+            if (criteria.getYeganCodeId() != null) {
+                specification = specification.and(buildSpecification(criteria.getYeganCodeId(),
+                    root -> root.join(Karbar_.yeganCode, JoinType.LEFT).get(YeganCode_.id)));
+            }
+            if (criteria.getDarajeId() != null) {
+                specification = specification.and(buildSpecification(criteria.getDarajeId(),
+                    root -> root.join(Karbar_.daraje, JoinType.LEFT).get(Daraje_.id)));
+            }
+            if (criteria.getSematId() != null) {
+                specification = specification.and(buildSpecification(criteria.getSematId(),
+                    root -> root.join(Karbar_.semat, JoinType.LEFT).get(Semat_.id)));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,203 @@
+package ir.saha.service;
+
+import ir.saha.config.ApplicationProperties;
+import ir.saha.domain.OutboxMail;
+import ir.saha.domain.enumeration.OutboxMailStatus;
+import ir.saha.repository.OutboxMailRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the mails of the outbox.
+ * <p>
+ * The mails due are claimed {@code application.mail-outbox.batch-size} at a time, rendered, and sent over a single SMTP
+ * connection. A mail that fails is retried with an exponential backoff, and given up on after
+ * {@code application.mail-outbox.max-attempts}. The dispatcher publishes the {@code mail.outbox.pending} depth, the
+ * {@code mail.outbox.sent} and {@code mail.outbox.failed} counts, the {@code mail.outbox.batch} send time and the
+ * {@code mail.outbox.latency} from queueing to delivery.
+ */
+@Component
+public class MailDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final Logger log = LoggerFactory.getLogger(MailDispatcher.class);
+
+    private final ApplicationProperties.MailOutbox properties;
+
+    private final OutboxMailRepository outboxMailRepository;
+
+    private final MailService mailService;
+
+    private final JavaMailSender javaMailSender;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private final Counter sent;
+
+    private final Counter retried;
+
+    private final Counter abandoned;
+
+    private final Timer batchTimer;
+
+    private final Timer latency;
+
+    public MailDispatcher(ApplicationProperties applicationProperties, OutboxMailRepository outboxMailRepository,
+                          MailService mailService, JavaMailSender javaMailSender,
+                          PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = applicationProperties.getMailOutbox();
+        this.outboxMailRepository = outboxMailRepository;
+        this.mailService = mailService;
+        this.javaMailSender = javaMailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get)
+            .description("Mails waiting in the outbox")
+            .register(meterRegistry);
+        this.sent = Counter.builder("mail.outbox.sent")
+            .description("Mails delivered from the outbox")
+            .register(meterRegistry);
+        this.retried = Counter.builder("mail.outbox.failed")
+            .tag("outcome", "retried")
+            .description("Failed deliveries of mails from the outbox")
+            .register(meterRegistry);
+        this.abandoned = Counter.builder("mail.outbox.failed")
+            .tag("outcome", "abandoned")
+            .description("Failed deliveries of mails from the outbox")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("mail.outbox.batch")
+            .description("Time spent sending a batch of mails over one SMTP connection")
+            .register(meterRegistry);
+        this.latency = Timer.builder("mail.outbox.latency")
+            .description("Time from queueing a mail to its delivery")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Deliver the mails due, batch after batch.
+     * <p>
+     * This is scheduled to get fired every {@code application.mail-outbox.dispatch-interval-millis}.
+     */
+    @Scheduled(fixedDelayString = "${application.mail-outbox.dispatch-interval-millis:5000}")
+    public void dispatch() {
+        Integer claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> dispatchBatch());
+        } while (claimed != null && claimed >= properties.getBatchSize());
+        pending.set(outboxMailRepository.countByStatus(OutboxMailStatus.PENDING));
+    }
+
+    private int dispatchBatch() {
+        Instant now = Instant.now();
+        List<OutboxMail> mails = outboxMailRepository.findDueForUpdate(OutboxMailStatus.PENDING, now,
+            PageRequest.of(0, properties.getBatchSize()));
+        Map<MimeMessage, OutboxMail> messages = new LinkedHashMap<>();
+        for (OutboxMail mail : mails) {
+            try {
+                messages.put(mailService.createMessage(mail), mail);
+            } catch (Exception e) {
+                log.warn("Email to '{}' could not be created, and will not be sent", mail.getRecipient(), e);
+                abandon(mail, e);
+            }
+        }
+        Map<Object, Exception> failures = send(messages.keySet());
+        messages.forEach((message, mail) -> {
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                outboxMailRepository.delete(mail);
+                sent.increment();
+                latency.record(Duration.between(mail.getCreatedDate(), Instant.now()));
+            } else {
+                retry(mail, failure, now);
+            }
+        });
+        if (!mails.isEmpty()) {
+            log.debug("Sent {} emails of {} due, {} failed", messages.size() - failures.size(), mails.size(), failures.size());
+        }
+        return mails.size();
+    }
+
+    private Map<Object, Exception> send(Collection<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            javaMailSender.send(messages.toArray(new MimeMessage[0]));
+            return Collections.emptyMap();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                return e.getFailedMessages();
+            }
+            return allFailed(messages, e);
+        } catch (MailException e) {
+            return allFailed(messages, e);
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    private Map<Object, Exception> allFailed(Collection<MimeMessage> messages, Exception e) {
+        Map<Object, Exception> failures = new HashMap<>();
+        messages.forEach(message -> failures.put(message, e));
+        return failures;
+    }
+
+    private void retry(OutboxMail mail, Exception failure, Instant now) {
+        mail.setAttempts(mail.getAttempts() + 1);
+        mail.setLastError(abbreviate(failure.getMessage()));
+        if (mail.getAttempts() >= properties.getMaxAttempts()) {
+            log.warn("Email to '{}' could not be sent after {} attempts, and will not be sent", mail.getRecipient(),
+                mail.getAttempts(), failure);
+            mail.setStatus(OutboxMailStatus.FAILED);
+            abandoned.increment();
+        } else {
+            log.info("Email to '{}' could not be sent, attempt {} of {}: {}", mail.getRecipient(), mail.getAttempts(),
+                properties.getMaxAttempts(), failure.getMessage());
+            mail.setNextAttemptAt(now.plus(backoff(mail.getAttempts(), properties.getInitialBackoffSeconds(),
+                properties.getMaxBackoffSeconds())));
+            retried.increment();
+        }
+    }
+
+    private void abandon(OutboxMail mail, Exception failure) {
+        mail.setAttempts(mail.getAttempts() + 1);
+        mail.setLastError(abbreviate(failure.getMessage()));
+        mail.setStatus(OutboxMailStatus.FAILED);
+        abandoned.increment();
+    }
+
+    static Duration backoff(int attempts, long initialBackoffSeconds, long maxBackoffSeconds) {
+        long backoff = initialBackoffSeconds << Math.min(attempts - 1, 30);
+        return Duration.ofSeconds(Math.min(backoff, maxBackoffSeconds));
+    }
+
+    private static String abbreviate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
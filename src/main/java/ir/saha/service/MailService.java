@@ -1,10 +1,14 @@
 package ir.saha.service;
 
+import ir.saha.domain.OutboxMail;
 import ir.saha.domain.User;
+import ir.saha.domain.enumeration.OutboxMailStatus;
+import ir.saha.repository.OutboxMailRepository;
 
 import io.github.jhipster.config.JHipsterProperties;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Locale;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
@@ -12,10 +16,8 @@ import javax.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSource;
-import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring5.SpringTemplateEngine;
@@ -23,7 +25,8 @@ import org.thymeleaf.spring5.SpringTemplateEngine;
 /**
  * Service for sending emails.
  * <p>
- * We use the {@link Async} annotation to send emails asynchronously.
+ * Emails are queued in the outbox, within the transaction of the caller if any, and delivered in batches by the
+ * {@link MailDispatcher}, which renders their templates and retries them when they fail.
  */
 @Service
 public class MailService {
@@ -42,65 +45,103 @@ public class MailService {
 
     private final SpringTemplateEngine templateEngine;
 
+    private final OutboxMailRepository outboxMailRepository;
+
     public MailService(JHipsterProperties jHipsterProperties, JavaMailSender javaMailSender,
-            MessageSource messageSource, SpringTemplateEngine templateEngine) {
+            MessageSource messageSource, SpringTemplateEngine templateEngine, OutboxMailRepository outboxMailRepository) {
 
         this.jHipsterProperties = jHipsterProperties;
         this.javaMailSender = javaMailSender;
         this.messageSource = messageSource;
         this.templateEngine = templateEngine;
+        this.outboxMailRepository = outboxMailRepository;
     }
 
-    @Async
     public void sendEmail(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
-        log.debug("Send email[multipart '{}' and html '{}'] to '{}' with subject '{}' and content={}",
+        log.debug("Queue email[multipart '{}' and html '{}'] to '{}' with subject '{}' and content={}",
             isMultipart, isHtml, to, subject, content);
-
-        // Prepare message using a Spring helper
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        try {
-            MimeMessageHelper message = new MimeMessageHelper(mimeMessage, isMultipart, StandardCharsets.UTF_8.name());
-            message.setTo(to);
-            message.setFrom(jHipsterProperties.getMail().getFrom());
-            message.setSubject(subject);
-            message.setText(content, isHtml);
-            javaMailSender.send(mimeMessage);
-            log.debug("Sent email to User '{}'", to);
-        }  catch (MailException | MessagingException e) {
-            log.warn("Email could not be sent to user '{}'", to, e);
-        }
+        OutboxMail mail = newOutboxMail(to);
+        mail.setSubject(subject);
+        mail.setContent(content);
+        mail.setMultipart(isMultipart);
+        mail.setHtml(isHtml);
+        outboxMailRepository.save(mail);
     }
 
-    @Async
     public void sendEmailFromTemplate(User user, String templateName, String titleKey) {
         if (user.getEmail() == null) {
             log.debug("Email doesn't exist for user '{}'", user.getLogin());
             return;
         }
-        Locale locale = Locale.forLanguageTag(user.getLangKey());
-        Context context = new Context(locale);
-        context.setVariable(USER, user);
-        context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
-        String content = templateEngine.process(templateName, context);
-        String subject = messageSource.getMessage(titleKey, null, locale);
-        sendEmail(user.getEmail(), subject, content, false, true);
+        log.debug("Queue email from template '{}' to '{}'", templateName, user.getEmail());
+        OutboxMail mail = newOutboxMail(user.getEmail());
+        mail.setHtml(true);
+        mail.setTemplateName(templateName);
+        mail.setTitleKey(titleKey);
+        mail.setLangKey(user.getLangKey());
+        mail.setLogin(user.getLogin());
+        mail.setActivationKey(user.getActivationKey());
+        mail.setResetKey(user.getResetKey());
+        outboxMailRepository.save(mail);
     }
 
-    @Async
     public void sendActivationEmail(User user) {
         log.debug("Sending activation email to '{}'", user.getEmail());
         sendEmailFromTemplate(user, "mail/activationEmail", "email.activation.title");
     }
 
-    @Async
     public void sendCreationEmail(User user) {
         log.debug("Sending creation email to '{}'", user.getEmail());
         sendEmailFromTemplate(user, "mail/creationEmail", "email.activation.title");
     }
 
-    @Async
     public void sendPasswordResetMail(User user) {
         log.debug("Sending password reset email to '{}'", user.getEmail());
         sendEmailFromTemplate(user, "mail/passwordResetEmail", "email.reset.title");
     }
+
+    /**
+     * Create the message of a mail of the outbox, rendering its template if it has one.
+     *
+     * @param mail the mail.
+     * @return the message, ready to be sent.
+     * @throws MessagingException if the message cannot be created.
+     */
+    public MimeMessage createMessage(OutboxMail mail) throws MessagingException {
+        String subject = mail.getSubject();
+        String content = mail.getContent();
+        if (mail.getTemplateName() != null) {
+            User user = new User();
+            user.setLogin(mail.getLogin());
+            user.setEmail(mail.getRecipient());
+            user.setLangKey(mail.getLangKey());
+            user.setActivationKey(mail.getActivationKey());
+            user.setResetKey(mail.getResetKey());
+            Locale locale = Locale.forLanguageTag(mail.getLangKey());
+            Context context = new Context(locale);
+            context.setVariable(USER, user);
+            context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
+            content = templateEngine.process(mail.getTemplateName(), context);
+            subject = messageSource.getMessage(mail.getTitleKey(), null, locale);
+        }
+
+        // Prepare message using a Spring helper
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, mail.isMultipart(), StandardCharsets.UTF_8.name());
+        message.setTo(mail.getRecipient());
+        message.setFrom(jHipsterProperties.getMail().getFrom());
+        message.setSubject(subject);
+        message.setText(content, mail.isHtml());
+        return mimeMessage;
+    }
+
+    private OutboxMail newOutboxMail(String to) {
+        Instant now = Instant.now();
+        OutboxMail mail = new OutboxMail();
+        mail.setRecipient(to);
+        mail.setStatus(OutboxMailStatus.PENDING);
+        mail.setCreatedDate(now);
+        mail.setNextAttemptAt(now);
+        return mail;
+    }
 }
@@ -0,0 +1,113 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Mantaghe;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.MantagheRepository;
+import ir.saha.service.dto.MantagheCriteria;
+import ir.saha.service.dto.MantagheDTO;
+import ir.saha.service.mapper.MantagheMapper;
+
+/**
+ * Service for executing complex queries for {@link Mantaghe} entities in the database.
+ * The main input is a {@link MantagheCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link MantagheDTO} or a {@link Page} of {@link MantagheDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MantagheQueryService extends QueryService<Mantaghe> {
+
+    private final Logger log = LoggerFactory.getLogger(MantagheQueryService.class);
+
+    private final MantagheRepository mantagheRepository;
+
+    private final MantagheMapper mantagheMapper;
+
+    public MantagheQueryService(MantagheRepository mantagheRepository, MantagheMapper mantagheMapper) {
+        this.mantagheRepository = mantagheRepository;
+        this.mantagheMapper = mantagheMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link MantagheDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<MantagheDTO> findByCriteria(MantagheCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Mantaghe> specification = createSpecification(criteria);
+        return mantagheMapper.toDto(mantagheRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link MantagheDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<MantagheDTO> findByCriteria(MantagheCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Mantaghe> specification = createSpecification(criteria);
+        return mantagheRepository.findAll(specification, page)
+            .map(mantagheMapper::toDto);
+    }
+
+    /**
+     * Return the {@link MantagheDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<MantagheDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return mantagheRepository.findById(id)
+            .map(mantagheMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(MantagheCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Mantaghe> specification = createSpecification(criteria);
+        return mantagheRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link MantagheCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Mantaghe> createSpecification(MantagheCriteria criteria) {
+        Specification<Mantaghe> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Mantaghe_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), Mantaghe_.name));
+            }
+        }
+        return specification;
+    }
+}
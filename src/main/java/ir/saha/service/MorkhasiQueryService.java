@@ -0,0 +1,120 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Morkhasi;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.MorkhasiRepository;
+import ir.saha.service.dto.MorkhasiCriteria;
+import ir.saha.service.dto.MorkhasiDTO;
+import ir.saha.service.mapper.MorkhasiMapper;
+
+/**
+ * Service for executing complex queries for {@link Morkhasi} entities in the database.
+ * The main input is a {@link MorkhasiCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link MorkhasiDTO} or a {@link Page} of {@link MorkhasiDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MorkhasiQueryService extends QueryService<Morkhasi> {
+
+    private final Logger log = LoggerFactory.getLogger(MorkhasiQueryService.class);
+
+    private final MorkhasiRepository morkhasiRepository;
+
+    private final MorkhasiMapper morkhasiMapper;
+
+    public MorkhasiQueryService(MorkhasiRepository morkhasiRepository, MorkhasiMapper morkhasiMapper) {
+        this.morkhasiRepository = morkhasiRepository;
+        this.morkhasiMapper = morkhasiMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link MorkhasiDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<MorkhasiDTO> findByCriteria(MorkhasiCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Morkhasi> specification = createSpecification(criteria);
+        return morkhasiMapper.toDto(morkhasiRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link MorkhasiDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<MorkhasiDTO> findByCriteria(MorkhasiCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Morkhasi> specification = createSpecification(criteria);
+        return morkhasiRepository.findAll(specification, page)
+            .map(morkhasiMapper::toDto);
+    }
+
+    /**
+     * Return the {@link MorkhasiDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<MorkhasiDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return morkhasiRepository.findById(id)
+            .map(morkhasiMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(MorkhasiCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Morkhasi> specification = createSpecification(criteria);
+        return morkhasiRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link MorkhasiCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Morkhasi> createSpecification(MorkhasiCriteria criteria) {
+        Specification<Morkhasi> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Morkhasi_.id));
+            }
+            if (criteria.getBegin() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getBegin(), Morkhasi_.begin));
+            }
+            if (criteria.getEnd() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getEnd(), Morkhasi_.end));
+            }
+            if (criteria.getKarbarId() != null) {
+                specification = specification.and(buildSpecification(criteria.getKarbarId(),
+                    root -> root.join(Morkhasi_.karbar, JoinType.LEFT).get(Karbar_.id)));
+            }
+        }
+        return specification;
+    }
+}
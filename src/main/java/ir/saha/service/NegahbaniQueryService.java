@@ -0,0 +1,120 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Negahbani;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.NegahbaniRepository;
+import ir.saha.service.dto.NegahbaniCriteria;
+import ir.saha.service.dto.NegahbaniDTO;
+import ir.saha.service.mapper.NegahbaniMapper;
+
+/**
+ * Service for executing complex queries for {@link Negahbani} entities in the database.
+ * The main input is a {@link NegahbaniCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link NegahbaniDTO} or a {@link Page} of {@link NegahbaniDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class NegahbaniQueryService extends QueryService<Negahbani> {
+
+    private final Logger log = LoggerFactory.getLogger(NegahbaniQueryService.class);
+
+    private final NegahbaniRepository negahbaniRepository;
+
+    private final NegahbaniMapper negahbaniMapper;
+
+    public NegahbaniQueryService(NegahbaniRepository negahbaniRepository, NegahbaniMapper negahbaniMapper) {
+        this.negahbaniRepository = negahbaniRepository;
+        this.negahbaniMapper = negahbaniMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link NegahbaniDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<NegahbaniDTO> findByCriteria(NegahbaniCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Negahbani> specification = createSpecification(criteria);
+        return negahbaniMapper.toDto(negahbaniRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link NegahbaniDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<NegahbaniDTO> findByCriteria(NegahbaniCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Negahbani> specification = createSpecification(criteria);
+        return negahbaniRepository.findAll(specification, page)
+            .map(negahbaniMapper::toDto);
+    }
+
+    /**
+     * Return the {@link NegahbaniDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<NegahbaniDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return negahbaniRepository.findById(id)
+            .map(negahbaniMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(NegahbaniCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Negahbani> specification = createSpecification(criteria);
+        return negahbaniRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link NegahbaniCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Negahbani> createSpecification(NegahbaniCriteria criteria) {
+        Specification<Negahbani> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Negahbani_.id));
+            }
+            if (criteria.getBegin() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getBegin(), Negahbani_.begin));
+            }
+            if (criteria.getEnd() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getEnd(), Negahbani_.end));
+            }
+            if (criteria.getKarbarId() != null) {
+                specification = specification.and(buildSpecification(criteria.getKarbarId(),
+                    root -> root.join(Negahbani_.karbar, JoinType.LEFT).get(Karbar_.id)));
+            }
+        }
+        return specification;
+    }
+}
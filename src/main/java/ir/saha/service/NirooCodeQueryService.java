@@ -0,0 +1,116 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.NirooCode;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.NirooCodeRepository;
+import ir.saha.service.dto.NirooCodeCriteria;
+import ir.saha.service.dto.NirooCodeDTO;
+import ir.saha.service.mapper.NirooCodeMapper;
+
+/**
+ * Service for executing complex queries for {@link NirooCode} entities in the database.
+ * The main input is a {@link NirooCodeCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link NirooCodeDTO} or a {@link Page} of {@link NirooCodeDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class NirooCodeQueryService extends QueryService<NirooCode> {
+
+    private final Logger log = LoggerFactory.getLogger(NirooCodeQueryService.class);
+
+    private final NirooCodeRepository nirooCodeRepository;
+
+    private final NirooCodeMapper nirooCodeMapper;
+
+    public NirooCodeQueryService(NirooCodeRepository nirooCodeRepository, NirooCodeMapper nirooCodeMapper) {
+        this.nirooCodeRepository = nirooCodeRepository;
+        this.nirooCodeMapper = nirooCodeMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link NirooCodeDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<NirooCodeDTO> findByCriteria(NirooCodeCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<NirooCode> specification = createSpecification(criteria);
+        return nirooCodeMapper.toDto(nirooCodeRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link NirooCodeDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<NirooCodeDTO> findByCriteria(NirooCodeCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<NirooCode> specification = createSpecification(criteria);
+        return nirooCodeRepository.findAll(specification, page)
+            .map(nirooCodeMapper::toDto);
+    }
+
+    /**
+     * Return the {@link NirooCodeDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<NirooCodeDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return nirooCodeRepository.findById(id)
+            .map(nirooCodeMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(NirooCodeCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<NirooCode> specification = createSpecification(criteria);
+        return nirooCodeRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link NirooCodeCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<NirooCode> createSpecification(NirooCodeCriteria criteria) {
+        Specification<NirooCode> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), NirooCode_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), NirooCode_.name));
+            }
+            if (criteria.getCode() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getCode(), NirooCode_.code));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,117 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Ostan;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.OstanRepository;
+import ir.saha.service.dto.OstanCriteria;
+import ir.saha.service.dto.OstanDTO;
+import ir.saha.service.mapper.OstanMapper;
+
+/**
+ * Service for executing complex queries for {@link Ostan} entities in the database.
+ * The main input is a {@link OstanCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link OstanDTO} or a {@link Page} of {@link OstanDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OstanQueryService extends QueryService<Ostan> {
+
+    private final Logger log = LoggerFactory.getLogger(OstanQueryService.class);
+
+    private final OstanRepository ostanRepository;
+
+    private final OstanMapper ostanMapper;
+
+    public OstanQueryService(OstanRepository ostanRepository, OstanMapper ostanMapper) {
+        this.ostanRepository = ostanRepository;
+        this.ostanMapper = ostanMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link OstanDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<OstanDTO> findByCriteria(OstanCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Ostan> specification = createSpecification(criteria);
+        return ostanMapper.toDto(ostanRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link OstanDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<OstanDTO> findByCriteria(OstanCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Ostan> specification = createSpecification(criteria);
+        return ostanRepository.findAll(specification, page)
+            .map(ostanMapper::toDto);
+    }
+
+    /**
+     * Return the {@link OstanDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OstanDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return ostanRepository.findById(id)
+            .map(ostanMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(OstanCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Ostan> specification = createSpecification(criteria);
+        return ostanRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link OstanCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Ostan> createSpecification(OstanCriteria criteria) {
+        Specification<Ostan> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Ostan_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), Ostan_.name));
+            }
+            if (criteria.getMantagheId() != null) {
+                specification = specification.and(buildSpecification(criteria.getMantagheId(),
+                    root -> root.join(Ostan_.mantaghe, JoinType.LEFT).get(Mantaghe_.id)));
+            }
+        }
+        return specification;
+    }
+}
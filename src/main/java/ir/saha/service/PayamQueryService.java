@@ -0,0 +1,178 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Payam;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.PayamRepository;
+import ir.saha.service.dto.PayamCriteria;
+import ir.saha.service.dto.PayamDTO;
+import ir.saha.service.mapper.PayamMapper;
+
+/**
+ * Service for executing complex queries for {@link Payam} entities in the database.
+ * The main input is a {@link PayamCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link PayamDTO} or a {@link Page} of {@link PayamDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PayamQueryService extends QueryService<Payam> {
+
+    private final Logger log = LoggerFactory.getLogger(PayamQueryService.class);
+
+    private final PayamRepository payamRepository;
+
+    private final PayamMapper payamMapper;
+
+    public PayamQueryService(PayamRepository payamRepository, PayamMapper payamMapper) {
+        this.payamRepository = payamRepository;
+        this.payamMapper = payamMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link PayamDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<PayamDTO> findByCriteria(PayamCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Payam> specification = createSpecification(criteria);
+        return payamMapper.toDto(payamRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link PayamDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<PayamDTO> findByCriteria(PayamCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Payam> specification = createSpecification(criteria);
+        return payamRepository.findAll(specification, page)
+            .map(payamMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link PayamDTO} which matches the criteria from the database, in id order after the given id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param afterId The id of the last entity of the previous slice, or {@code null} for the first slice.
+     * @param direction The direction of the id order.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<PayamDTO> findByCriteriaAfter(PayamCriteria criteria, Long afterId, Sort.Direction direction, int size) {
+        log.debug("find by criteria : {}, after: {}", criteria, afterId);
+        final Specification<Payam> specification = createSpecification(criteria);
+        return payamRepository.findAllAfter(specification, afterId, direction, size)
+            .map(payamMapper::toDto);
+    }
+
+    /**
+     * Return the {@link PayamDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<PayamDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return payamRepository.findById(id)
+            .map(payamMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Page} of the given fields of the {@link Payam}s which match the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated paths of the fields to return.
+     * @param page The page, which should be returned.
+     * @return the fields of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findFieldsByCriteria(PayamCriteria criteria, String fields, Pageable page) {
+        log.debug("find fields : {} by criteria : {}, page: {}", fields, criteria, page);
+        final Specification<Payam> specification = createSpecification(criteria);
+        return payamRepository.findAllFields(specification, fields, page);
+    }
+
+    /**
+     * Return a {@link Slice} of the given fields of the {@link Payam}s which match the criteria from the database, in id order after the given id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated paths of the fields to return.
+     * @param afterId The id of the last entity of the previous slice, or {@code null} for the first slice.
+     * @param direction The direction of the id order.
+     * @param size The maximum number of entities to return.
+     * @return the fields of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findFieldsByCriteriaAfter(PayamCriteria criteria, String fields, Long afterId, Sort.Direction direction, int size) {
+        log.debug("find fields : {} by criteria : {}, after: {}", fields, criteria, afterId);
+        final Specification<Payam> specification = createSpecification(criteria);
+        return payamRepository.findAllFieldsAfter(specification, fields, afterId, direction, size);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(PayamCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Payam> specification = createSpecification(criteria);
+        return payamRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link PayamCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Payam> createSpecification(PayamCriteria criteria) {
+        Specification<Payam> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Payam_.id));
+            }
+            if (criteria.getOnvan() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getOnvan(), Payam_.onvan));
+            }
+            if (criteria.getKarbarErsalKonandeId() != null) {
+                specification = specification.and(buildSpecification(criteria.getKarbarErsalKonandeId(),
+                    root -> root.join(Payam_.karbarErsalKonande, JoinType.LEFT).get(Karbar_.id)));
+            }
+            if (criteria.getKarbarDaryaftKonandId() != null) {
+                specification = specification.and(buildSpecification(criteria.getKarbarDaryaftKonandId(),
+                    root -> root.join(Payam_.karbarDaryaftKonand, JoinType.LEFT).get(Karbar_.id)));
+            }
+            if (criteria.getYeganErsalKonanadeId() != null) {
+                specification = specification.and(buildSpecification(criteria.getYeganErsalKonanadeId(),
+                    root -> root.join(Payam_.yeganErsalKonanade, JoinType.LEFT).get(Yegan_.id)));
+            }
+            if (criteria.getYeganDaryaftKonanadeId() != null) {
+                specification = specification.and(buildSpecification(criteria.getYeganDaryaftKonanadeId(),
+                    root -> root.join(Payam_.yeganDaryaftKonanade, JoinType.LEFT).get(Yegan_.id)));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,249 @@
+package ir.saha.service;
+
+import ir.saha.config.ApplicationProperties;
+import ir.saha.domain.RefreshToken;
+import ir.saha.domain.User;
+import ir.saha.repository.RefreshTokenRepository;
+import ir.saha.repository.UserRepository;
+import ir.saha.security.SecurityUtils;
+import ir.saha.security.jwt.TokenProvider;
+import ir.saha.service.dto.CachedUserDTO;
+import ir.saha.service.dto.SessionTokensDTO;
+import ir.saha.service.storage.Digests;
+
+import io.github.jhipster.config.JHipsterProperties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for the sessions of the users, renewed with rotating refresh tokens.
+ * <p>
+ * A session is opened by a password check, and then renewed with its refresh token, which only costs a lookup of
+ * the token by its digest. The refresh token is replaced on every renewal; the replaced one is kept until the next
+ * renewal, so that a leaked copy presented again revokes the whole session.
+ * <p>
+ * The access tokens of a revoked session are rejected once the transaction revoking it has committed.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final UserRepository userRepository;
+
+    private final CachedUserService cachedUserService;
+
+    private final TokenProvider tokenProvider;
+
+    private final long refreshTokenValidityInSeconds;
+
+    private final long refreshTokenValidityInSecondsForRememberMe;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, UserRepository userRepository,
+                               CachedUserService cachedUserService, TokenProvider tokenProvider, ApplicationProperties applicationProperties,
+                               JHipsterProperties jHipsterProperties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.cachedUserService = cachedUserService;
+        this.tokenProvider = tokenProvider;
+        this.refreshTokenValidityInSeconds = applicationProperties.getSecurity().getRefreshTokenValidityInSeconds();
+        this.refreshTokenValidityInSecondsForRememberMe =
+            jHipsterProperties.getSecurity().getAuthentication().getJwt().getTokenValidityInSecondsForRememberMe();
+    }
+
+    /**
+     * Open a session for an authenticated user.
+     *
+     * @param authentication the authentication of the user, from a password check.
+     * @param rememberMe whether the session lasts for the remember-me validity rather than the default one.
+     * @return the tokens of the new session.
+     */
+    public SessionTokensDTO createSession(Authentication authentication, boolean rememberMe) {
+        CachedUserDTO user = cachedUserService.findOneByLogin(authentication.getName())
+            .orElseThrow(() -> new IllegalStateException("User " + authentication.getName() + " not found"));
+        String sessionId = UUID.randomUUID().toString();
+        log.debug("Opening session {} for User: {}", sessionId, user.getLogin());
+        return issueTokens(authentication, userRepository.getOne(user.getId()), sessionId, rememberMe);
+    }
+
+    /**
+     * Renew a session with its refresh token, which is replaced by a new one.
+     *
+     * @param refreshTokenValue the refresh token.
+     * @return the new tokens of the session, or empty if the refresh token is unknown, expired, revoked or used.
+     */
+    public Optional<SessionTokensDTO> refresh(String refreshTokenValue) {
+        Optional<RefreshToken> found = refreshTokenRepository.findOneWithUserByTokenHash(digest(refreshTokenValue));
+        if (!found.isPresent()) {
+            return Optional.empty();
+        }
+        RefreshToken refreshToken = found.get();
+        Instant now = Instant.now();
+        if (refreshToken.getRevokedDate() != null || !refreshToken.getExpiresAt().isAfter(now)) {
+            return Optional.empty();
+        }
+        if (refreshToken.getUsedDate() != null) {
+            log.warn("Refresh token of session {} used twice, revoking the session", refreshToken.getSessionId());
+            revokeSession(refreshToken.getSessionId(), now);
+            return Optional.empty();
+        }
+        if (refreshTokenRepository.markUsed(refreshToken.getId(), now) == 0) {
+            // Another request renewed the session with the same token in the meantime
+            return Optional.empty();
+        }
+        refreshTokenRepository.deleteUsedBySessionIdExcept(refreshToken.getSessionId(), refreshToken.getId());
+        Optional<CachedUserDTO> user = cachedUserService.findOneByLogin(refreshToken.getUser().getLogin())
+            .filter(CachedUserDTO::isActivated);
+        if (!user.isPresent()) {
+            revokeSession(refreshToken.getSessionId(), now);
+            return Optional.empty();
+        }
+        Set<GrantedAuthority> authorities = user.get().getAuthorities().stream()
+            .map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toSet());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user.get().getLogin(), null, authorities);
+        return Optional.of(issueTokens(authentication, refreshToken.getUser(), refreshToken.getSessionId(),
+            refreshToken.isRememberMe()));
+    }
+
+    /**
+     * Revoke the session of a refresh token, such as on logout.
+     *
+     * @param refreshTokenValue the refresh token.
+     */
+    public void revoke(String refreshTokenValue) {
+        refreshTokenRepository.findOneWithUserByTokenHash(digest(refreshTokenValue))
+            .ifPresent(refreshToken -> revokeSession(refreshToken.getSessionId(), Instant.now()));
+    }
+
+    /**
+     * Revoke every session of a user, such as when its password is reset.
+     *
+     * @param user the user.
+     */
+    public void revokeAllSessions(User user) {
+        Instant now = Instant.now();
+        List<String> sessionIds = refreshTokenRepository.findActiveSessionIdsByUser(user);
+        refreshTokenRepository.revokeAllByUser(user, now);
+        revokeAccessTokens(sessionIds, now);
+    }
+
+    /**
+     * Revoke every session of a user but the one of the current request, such as when its password is changed.
+     *
+     * @param user the user, authenticated by the current request.
+     */
+    public void revokeOtherSessions(User user) {
+        Optional<String> currentSessionId = SecurityUtils.getCurrentUserJWT().flatMap(tokenProvider::getSessionId);
+        if (!currentSessionId.isPresent()) {
+            revokeAllSessions(user);
+            return;
+        }
+        Instant now = Instant.now();
+        List<String> sessionIds = refreshTokenRepository.findActiveSessionIdsByUser(user).stream()
+            .filter(sessionId -> !sessionId.equals(currentSessionId.get()))
+            .collect(Collectors.toList());
+        refreshTokenRepository.revokeAllByUserExceptSession(user, currentSessionId.get(), now);
+        revokeAccessTokens(sessionIds, now);
+    }
+
+    /**
+     * Revoke and remove every session of a user, before the user is deleted.
+     *
+     * @param user the user.
+     */
+    public void deleteAllSessions(User user) {
+        revokeAllSessions(user);
+        refreshTokenRepository.deleteAllByUser(user);
+    }
+
+    /**
+     * Rebuild the index of the revoked sessions whose access tokens may not have expired yet, after a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRevokedSessions() {
+        Instant now = Instant.now();
+        List<String> sessionIds = refreshTokenRepository
+            .findSessionIdsRevokedSince(now.minusMillis(tokenProvider.getTokenValidityInMilliseconds()));
+        tokenProvider.revokeSessions(sessionIds, now);
+        log.debug("Loaded {} revoked sessions", sessionIds.size());
+    }
+
+    /**
+     * Expired refresh tokens are deleted.
+     * <p>
+     * This is scheduled to get fired everyday, at 02:00 (am).
+     */
+    @Scheduled(cron = "0 0 2 * * ?")
+    public void removeExpiredTokens() {
+        int removed = refreshTokenRepository.deleteAllExpired(Instant.now());
+        log.debug("Deleted {} expired refresh tokens", removed);
+    }
+
+    private void revokeSession(String sessionId, Instant now) {
+        refreshTokenRepository.revokeSession(sessionId, now);
+        revokeAccessTokens(Collections.singleton(sessionId), now);
+    }
+
+    private void revokeAccessTokens(Collection<String> sessionIds, Instant now) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tokenProvider.revokeSessions(sessionIds, now);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                tokenProvider.revokeSessions(sessionIds, now);
+            }
+        });
+    }
+
+    private SessionTokensDTO issueTokens(Authentication authentication, User user, String sessionId, boolean rememberMe) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String refreshTokenValue = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Instant now = Instant.now();
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(digest(refreshTokenValue));
+        refreshToken.setSessionId(sessionId);
+        refreshToken.setUser(user);
+        refreshToken.setRememberMe(rememberMe);
+        refreshToken.setCreatedDate(now);
+        refreshToken.setExpiresAt(now.plusSeconds(rememberMe ? refreshTokenValidityInSecondsForRememberMe : refreshTokenValidityInSeconds));
+        refreshTokenRepository.save(refreshToken);
+
+        String accessToken = tokenProvider.createToken(authentication, sessionId);
+        return new SessionTokensDTO(accessToken, refreshTokenValue, tokenProvider.getTokenValidityInMilliseconds() / 1000);
+    }
+
+    private static String digest(String refreshTokenValue) {
+        return Digests.toHex(Digests.sha256().digest(refreshTokenValue.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,94 @@
+package ir.saha.service;
+
+import ir.saha.config.ApplicationProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Deletes expired rows in chunks of {@code application.purge.batch-size}, each chunk in its own short transaction, so
+ * that a purge never holds its locks for long.
+ * <p>
+ * A purge stops once nothing is left to delete, or after {@code application.purge.max-run-time-seconds}, leaving the
+ * rest to its next run. Its progress is published as the {@code retention.purge.deleted} count and the
+ * {@code retention.purge.chunk} latency, tagged by target.
+ */
+@Component
+public class RetentionPurger {
+
+    private final Logger log = LoggerFactory.getLogger(RetentionPurger.class);
+
+    private final ApplicationProperties.Purge properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    public RetentionPurger(ApplicationProperties applicationProperties, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.properties = applicationProperties.getPurge();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Run the chunks of a purge.
+     * <p>
+     * Each chunk runs in a transaction of its own, unless the purge is called within a transaction, which the chunks
+     * then join.
+     *
+     * @param target the name of what is purged, for the logs and metrics.
+     * @param chunk deletes at most the given number of rows, and returns the number of rows it found to delete.
+     * @return the number of rows found to delete.
+     */
+    public long purge(String target, IntUnaryOperator chunk) {
+        Counter deleted = meterRegistry.counter("retention.purge.deleted", "target", target);
+        Timer chunkTimer = meterRegistry.timer("retention.purge.chunk", "target", target);
+        int batchSize = properties.getBatchSize();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(properties.getMaxRunTimeSeconds());
+        long total = 0;
+        while (true) {
+            Integer count = chunkTimer.record(() -> transactionTemplate.execute(status -> chunk.applyAsInt(batchSize)));
+            int found = count == null ? 0 : count;
+            total += found;
+            deleted.increment(found);
+            log.debug("Purged {} {}, {} in this run", found, target, total);
+            if (found < batchSize) {
+                break;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("Purge of {} stopped after {} seconds, with {} deleted; the rest is left to the next run",
+                    target, properties.getMaxRunTimeSeconds(), total);
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        log.info("Purged {} {}", total, target);
+        return total;
+    }
+
+    private boolean pause() {
+        if (properties.getPauseMillis() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getPauseMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
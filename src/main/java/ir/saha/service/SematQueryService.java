@@ -0,0 +1,113 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Semat;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.SematRepository;
+import ir.saha.service.dto.SematCriteria;
+import ir.saha.service.dto.SematDTO;
+import ir.saha.service.mapper.SematMapper;
+
+/**
+ * Service for executing complex queries for {@link Semat} entities in the database.
+ * The main input is a {@link SematCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link SematDTO} or a {@link Page} of {@link SematDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SematQueryService extends QueryService<Semat> {
+
+    private final Logger log = LoggerFactory.getLogger(SematQueryService.class);
+
+    private final SematRepository sematRepository;
+
+    private final SematMapper sematMapper;
+
+    public SematQueryService(SematRepository sematRepository, SematMapper sematMapper) {
+        this.sematRepository = sematRepository;
+        this.sematMapper = sematMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link SematDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<SematDTO> findByCriteria(SematCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Semat> specification = createSpecification(criteria);
+        return sematMapper.toDto(sematRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link SematDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<SematDTO> findByCriteria(SematCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Semat> specification = createSpecification(criteria);
+        return sematRepository.findAll(specification, page)
+            .map(sematMapper::toDto);
+    }
+
+    /**
+     * Return the {@link SematDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<SematDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return sematRepository.findById(id)
+            .map(sematMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(SematCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Semat> specification = createSpecification(criteria);
+        return sematRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link SematCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Semat> createSpecification(SematCriteria criteria) {
+        Specification<Semat> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Semat_.id));
+            }
+            if (criteria.getOnvanShoghli() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getOnvanShoghli(), Semat_.onvanShoghli));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,126 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Shahr;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.ShahrRepository;
+import ir.saha.service.dto.ShahrCriteria;
+import ir.saha.service.dto.ShahrDTO;
+import ir.saha.service.mapper.ShahrMapper;
+
+/**
+ * Service for executing complex queries for {@link Shahr} entities in the database.
+ * The main input is a {@link ShahrCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link ShahrDTO} or a {@link Page} of {@link ShahrDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ShahrQueryService extends QueryService<Shahr> {
+
+    private final Logger log = LoggerFactory.getLogger(ShahrQueryService.class);
+
+    private final ShahrRepository shahrRepository;
+
+    private final ShahrMapper shahrMapper;
+
+    public ShahrQueryService(ShahrRepository shahrRepository, ShahrMapper shahrMapper) {
+        this.shahrRepository = shahrRepository;
+        this.shahrMapper = shahrMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link ShahrDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<ShahrDTO> findByCriteria(ShahrCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Shahr> specification = createSpecification(criteria);
+        return shahrMapper.toDto(shahrRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link ShahrDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ShahrDTO> findByCriteria(ShahrCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Shahr> specification = createSpecification(criteria);
+        return shahrRepository.findAll(specification, page)
+            .map(shahrMapper::toDto);
+    }
+
+    /**
+     * Return the {@link ShahrDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ShahrDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return shahrRepository.findById(id)
+            .map(shahrMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ShahrCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Shahr> specification = createSpecification(criteria);
+        return shahrRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link ShahrCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Shahr> createSpecification(ShahrCriteria criteria) {
+        Specification<Shahr> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Shahr_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), Shahr_.name));
+            }
+            if (criteria.getZaribAboHava() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getZaribAboHava(), Shahr_.zaribAboHava));
+            }
+            if (criteria.getZaribTashilat() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getZaribTashilat(), Shahr_.zaribTashilat));
+            }
+            if (criteria.getMasafatTaMarkaz() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getMasafatTaMarkaz(), Shahr_.masafatTaMarkaz));
+            }
+            if (criteria.getOstanId() != null) {
+                specification = specification.and(buildSpecification(criteria.getOstanId(),
+                    root -> root.join(Shahr_.ostan, JoinType.LEFT).get(Ostan_.id)));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,10 @@
+package ir.saha.service;
+
+public class TooManyImportsException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TooManyImportsException(int maxConcurrentImports) {
+        super("Only " + maxConcurrentImports + " imports can run at once!");
+    }
+}
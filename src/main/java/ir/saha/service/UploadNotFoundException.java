@@ -0,0 +1,11 @@
+package ir.saha.service;
+
+public class UploadNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UploadNotFoundException(String uploadId) {
+        super("Upload " + uploadId + " not found!");
+    }
+
+}
@@ -0,0 +1,17 @@
+package ir.saha.service;
+
+public class UploadPartOutOfOrderException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int expectedPart;
+
+    public UploadPartOutOfOrderException(int expectedPart) {
+        super("Upload part out of order, expected part " + expectedPart + "!");
+        this.expectedPart = expectedPart;
+    }
+
+    public int getExpectedPart() {
+        return expectedPart;
+    }
+}
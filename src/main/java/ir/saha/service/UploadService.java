@@ -0,0 +1,399 @@
+package ir.saha.service;
+
+import ir.saha.config.ApplicationProperties;
+import ir.saha.security.SecurityUtils;
+import ir.saha.service.dto.UploadDTO;
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.BlobStoreException;
+import ir.saha.service.storage.Digests;
+import ir.saha.service.storage.StoredBlob;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Service for chunked, resumable uploads.
+ * <p>
+ * An upload is initiated, receives its parts in order, and is then completed, which moves the assembled
+ * content into the {@link BlobStore}. Parts are appended straight to a file on disk while the SHA-256 of
+ * the content is computed, so neither the parts nor the whole content are ever held in memory. Resending
+ * the last received part replaces it, so a client whose connection dropped can resume from the part
+ * reported by {@link #getUpload(String)}.
+ */
+@Service
+public class UploadService {
+
+    private static final String DATA_FILE = "data";
+
+    private static final String METADATA_FILE = "upload.properties";
+
+    private final Logger log = LoggerFactory.getLogger(UploadService.class);
+
+    private final BlobStore blobStore;
+
+    private final Path uploadRoot;
+
+    private final ConcurrentMap<String, Upload> uploads = new ConcurrentHashMap<>();
+
+    public UploadService(BlobStore blobStore, ApplicationProperties applicationProperties) {
+        this.blobStore = blobStore;
+        this.uploadRoot = Paths.get(applicationProperties.getStorage().getUploadRoot()).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(uploadRoot);
+        } catch (IOException e) {
+            throw new BlobStoreException("Could not create upload directory " + uploadRoot, e);
+        }
+    }
+
+    /**
+     * Start a new upload for the current user.
+     *
+     * @param contentType the content type of the file being uploaded.
+     * @return the new upload.
+     */
+    public UploadDTO initiate(String contentType) {
+        String id = UUID.randomUUID().toString();
+        Upload upload = new Upload(id, uploadRoot.resolve(id), SecurityUtils.getCurrentUserLogin().orElse(null),
+            contentType, Instant.now());
+        try {
+            Files.createDirectories(upload.directory);
+            Files.createFile(upload.directory.resolve(DATA_FILE));
+            upload.digest = Digests.sha256();
+            writeMetadata(upload);
+        } catch (IOException e) {
+            throw new BlobStoreException("Could not create upload " + id, e);
+        }
+        uploads.put(id, upload);
+        log.debug("Initiated upload {}", id);
+        return toDto(upload);
+    }
+
+    /**
+     * Get an upload of the current user.
+     *
+     * @param uploadId the id of the upload.
+     * @return the upload, or empty if there is no such upload.
+     */
+    public Optional<UploadDTO> getUpload(String uploadId) {
+        try {
+            Upload upload = lookup(uploadId);
+            synchronized (upload) {
+                return Optional.of(toDto(upload));
+            }
+        } catch (UploadNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Append a part to an upload of the current user.
+     * <p>
+     * Parts are numbered from 1 and must be sent in order; sending the last received part again replaces it.
+     *
+     * @param uploadId   the id of the upload.
+     * @param partNumber the number of the part.
+     * @param content    the content of the part, consumed but not closed.
+     * @return the upload.
+     * @throws UploadNotFoundException        if there is no such upload.
+     * @throws UploadPartOutOfOrderException if the part is neither the next part nor the last received one.
+     */
+    public UploadDTO putPart(String uploadId, int partNumber, InputStream content) {
+        Upload upload = lookup(uploadId);
+        synchronized (upload) {
+            ensureOpen(upload);
+            Path data = upload.directory.resolve(DATA_FILE);
+            try {
+                if (upload.lastPartOffset >= 0 && partNumber == upload.nextPart - 1) {
+                    // The last part is sent again, drop what was received of it
+                    truncate(data, upload.lastPartOffset);
+                    upload.size = upload.lastPartOffset;
+                    upload.digest = upload.digestBeforeLastPart == null ? null : copyOf(upload.digestBeforeLastPart);
+                    upload.nextPart = partNumber;
+                    // The part before it can no longer be replaced
+                    upload.lastPartOffset = -1;
+                    upload.digestBeforeLastPart = null;
+                    writeMetadata(upload);
+                } else if (partNumber != upload.nextPart) {
+                    throw new UploadPartOutOfOrderException(upload.nextPart);
+                }
+                if (upload.digest == null) {
+                    upload.digest = digestOf(data, upload.size);
+                }
+                MessageDigest digestBeforePart = copyOf(upload.digest);
+                long offset = upload.size;
+                long received;
+                try (OutputStream out = new DigestOutputStream(
+                        Files.newOutputStream(data, StandardOpenOption.APPEND), upload.digest)) {
+                    received = IOUtils.copyLarge(content, out);
+                } catch (IOException e) {
+                    truncate(data, offset);
+                    upload.digest = digestBeforePart;
+                    throw e;
+                }
+                upload.lastPartOffset = offset;
+                upload.digestBeforeLastPart = digestBeforePart;
+                upload.size = offset + received;
+                upload.nextPart = partNumber + 1;
+                writeMetadata(upload);
+            } catch (IOException e) {
+                throw new BlobStoreException("Could not write part " + partNumber + " of upload " + uploadId, e);
+            }
+            return toDto(upload);
+        }
+    }
+
+    /**
+     * Complete an upload of the current user, moving its content into the {@link BlobStore}.
+     *
+     * @param uploadId the id of the upload.
+     * @return the completed upload, with the hash and size of the stored blob.
+     * @throws UploadNotFoundException if there is no such upload.
+     */
+    public UploadDTO complete(String uploadId) {
+        Upload upload = lookup(uploadId);
+        synchronized (upload) {
+            ensureOpen(upload);
+            Path data = upload.directory.resolve(DATA_FILE);
+            StoredBlob blob;
+            try {
+                MessageDigest digest = upload.digest == null ? digestOf(data, upload.size) : upload.digest;
+                blob = blobStore.move(data, Digests.toHex(digest.digest()));
+            } catch (IOException e) {
+                throw new BlobStoreException("Could not complete upload " + uploadId, e);
+            }
+            remove(upload);
+            UploadDTO uploadDTO = toDto(upload);
+            uploadDTO.setHash(blob.getHash());
+            uploadDTO.setSize(blob.getSize());
+            log.debug("Completed upload {} as blob {}", uploadId, blob);
+            return uploadDTO;
+        }
+    }
+
+    /**
+     * Abort an upload of the current user, discarding the parts received so far.
+     *
+     * @param uploadId the id of the upload.
+     * @throws UploadNotFoundException if there is no such upload.
+     */
+    public void abort(String uploadId) {
+        Upload upload = lookup(uploadId);
+        synchronized (upload) {
+            ensureOpen(upload);
+            remove(upload);
+            log.debug("Aborted upload {}", uploadId);
+        }
+    }
+
+    /**
+     * Uploads that did not receive a part for 1 day are removed.
+     * <p>
+     * This is scheduled to get fired everyday, at 03:00 (am).
+     */
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void removeExpiredUploads() {
+        Instant expiry = Instant.now().minus(1, ChronoUnit.DAYS);
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(uploadRoot, Files::isDirectory)) {
+            for (Path directory : directories) {
+                Path metadata = directory.resolve(METADATA_FILE);
+                if (Files.exists(metadata) && Files.getLastModifiedTime(metadata).toInstant().isAfter(expiry)) {
+                    continue;
+                }
+                String id = directory.getFileName().toString();
+                Upload upload = uploads.remove(id);
+                if (upload != null) {
+                    synchronized (upload) {
+                        upload.closed = true;
+                    }
+                }
+                log.debug("Deleting expired upload {}", id);
+                FileUtils.deleteDirectory(directory.toFile());
+            }
+        } catch (IOException e) {
+            log.warn("Could not remove expired uploads", e);
+        }
+    }
+
+    private Upload lookup(String uploadId) {
+        if (!isUploadId(uploadId)) {
+            throw new UploadNotFoundException(uploadId);
+        }
+        Upload upload = uploads.computeIfAbsent(uploadId, this::readMetadata);
+        if (upload == null || !Objects.equals(upload.owner, SecurityUtils.getCurrentUserLogin().orElse(null))) {
+            throw new UploadNotFoundException(uploadId);
+        }
+        return upload;
+    }
+
+    private void ensureOpen(Upload upload) {
+        if (upload.closed) {
+            throw new UploadNotFoundException(upload.id);
+        }
+    }
+
+    private void remove(Upload upload) {
+        upload.closed = true;
+        uploads.remove(upload.id);
+        try {
+            FileUtils.deleteDirectory(upload.directory.toFile());
+        } catch (IOException e) {
+            log.warn("Could not delete upload directory {}", upload.directory, e);
+        }
+    }
+
+    private static boolean isUploadId(String uploadId) {
+        try {
+            return uploadId != null && UUID.fromString(uploadId).toString().equals(uploadId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private Upload readMetadata(String uploadId) {
+        Path directory = uploadRoot.resolve(uploadId);
+        Path metadata = directory.resolve(METADATA_FILE);
+        if (!Files.exists(metadata)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(metadata)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new BlobStoreException("Could not read upload " + uploadId, e);
+        }
+        Upload upload = new Upload(uploadId, directory, properties.getProperty("owner"),
+            properties.getProperty("contentType"), Instant.parse(properties.getProperty("createdDate")));
+        upload.nextPart = Integer.parseInt(properties.getProperty("nextPart"));
+        upload.size = Long.parseLong(properties.getProperty("size"));
+        upload.lastPartOffset = Long.parseLong(properties.getProperty("lastPartOffset"));
+        // Digests are only kept in memory; they are computed again from the data file when needed
+        return upload;
+    }
+
+    private void writeMetadata(Upload upload) throws IOException {
+        Properties properties = new Properties();
+        if (upload.owner != null) {
+            properties.setProperty("owner", upload.owner);
+        }
+        if (upload.contentType != null) {
+            properties.setProperty("contentType", upload.contentType);
+        }
+        properties.setProperty("createdDate", upload.createdDate.toString());
+        properties.setProperty("nextPart", String.valueOf(upload.nextPart));
+        properties.setProperty("size", String.valueOf(upload.size));
+        properties.setProperty("lastPartOffset", String.valueOf(upload.lastPartOffset));
+        Path tmp = upload.directory.resolve(METADATA_FILE + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            properties.store(out, null);
+        }
+        Files.move(tmp, upload.directory.resolve(METADATA_FILE), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static MessageDigest digestOf(Path data, long length) throws IOException {
+        MessageDigest digest = Digests.sha256();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(data)) {
+            long remaining = length;
+            int read;
+            while (remaining > 0 && (read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+                digest.update(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+        return digest;
+    }
+
+    private static MessageDigest copyOf(MessageDigest digest) {
+        try {
+            return (MessageDigest) digest.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digest cannot be cloned", e);
+        }
+    }
+
+    private static void truncate(Path data, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(data, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private static UploadDTO toDto(Upload upload) {
+        UploadDTO uploadDTO = new UploadDTO();
+        uploadDTO.setId(upload.id);
+        uploadDTO.setContentType(upload.contentType);
+        uploadDTO.setNextPart(upload.nextPart);
+        uploadDTO.setSize(upload.size);
+        uploadDTO.setCreatedDate(upload.createdDate);
+        return uploadDTO;
+    }
+
+    /**
+     * State of an upload in progress, guarded by its own monitor.
+     */
+    private static final class Upload {
+
+        private final String id;
+
+        private final Path directory;
+
+        private final String owner;
+
+        private final String contentType;
+
+        private final Instant createdDate;
+
+        private int nextPart = 1;
+
+        private long size;
+
+        /**
+         * Offset of the last received part, or -1 when it cannot be replaced.
+         */
+        private long lastPartOffset = -1;
+
+        /**
+         * Digest of the first {@code size} bytes, or null when it has to be computed again.
+         */
+        private MessageDigest digest;
+
+        /**
+         * Digest of the first {@code lastPartOffset} bytes, or null when it has to be computed again.
+         */
+        private MessageDigest digestBeforeLastPart;
+
+        private boolean closed;
+
+        private Upload(String id, Path directory, String owner, String contentType, Instant createdDate) {
+            this.id = id;
+            this.directory = directory;
+            this.owner = owner;
+            this.contentType = contentType;
+            this.createdDate = createdDate;
+        }
+    }
+}
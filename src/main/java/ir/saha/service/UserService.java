@@ -7,6 +7,7 @@ import ir.saha.repository.AuthorityRepository;
 import ir.saha.repository.UserRepository;
 import ir.saha.security.AuthoritiesConstants;
 import ir.saha.security.SecurityUtils;
+import ir.saha.service.dto.CachedUserDTO;
 import ir.saha.service.dto.UserDTO;
 
 import io.github.jhipster.security.RandomUtil;
@@ -14,10 +15,13 @@ import io.github.jhipster.security.RandomUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
@@ -40,10 +44,19 @@ public class UserService {
 
     private final AuthorityRepository authorityRepository;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthorityRepository authorityRepository) {
+    private final CachedUserService cachedUserService;
+
+    private final RefreshTokenService refreshTokenService;
+
+    private final RetentionPurger retentionPurger;
+
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthorityRepository authorityRepository, CachedUserService cachedUserService, RefreshTokenService refreshTokenService, RetentionPurger retentionPurger) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityRepository = authorityRepository;
+        this.cachedUserService = cachedUserService;
+        this.refreshTokenService = refreshTokenService;
+        this.retentionPurger = retentionPurger;
     }
 
     public Optional<User> activateRegistration(String key) {
@@ -53,6 +66,7 @@ public class UserService {
                 // activate given user for the registration key.
                 user.setActivated(true);
                 user.setActivationKey(null);
+                cachedUserService.evict(user);
                 log.debug("Activated user: {}", user);
                 return user;
             });
@@ -66,6 +80,8 @@ public class UserService {
                 user.setPassword(passwordEncoder.encode(newPassword));
                 user.setResetKey(null);
                 user.setResetDate(null);
+                refreshTokenService.revokeAllSessions(user);
+                cachedUserService.evict(user);
                 return user;
             });
     }
@@ -76,6 +92,7 @@ public class UserService {
             .map(user -> {
                 user.setResetKey(RandomUtil.generateResetKey());
                 user.setResetDate(Instant.now());
+                cachedUserService.evict(user);
                 return user;
             });
     }
@@ -113,6 +130,7 @@ public class UserService {
         authorityRepository.findById(AuthoritiesConstants.USER).ifPresent(authorities::add);
         newUser.setAuthorities(authorities);
         userRepository.save(newUser);
+        cachedUserService.evict(newUser);
         log.debug("Created Information for User: {}", newUser);
         return newUser;
     }
@@ -123,6 +141,7 @@ public class UserService {
         }
         userRepository.delete(existingUser);
         userRepository.flush();
+        cachedUserService.evict(existingUser);
         return true;
     }
 
@@ -154,6 +173,7 @@ public class UserService {
             user.setAuthorities(authorities);
         }
         userRepository.save(user);
+        cachedUserService.evict(user);
         log.debug("Created Information for User: {}", user);
         return user;
     }
@@ -171,6 +191,7 @@ public class UserService {
         SecurityUtils.getCurrentUserLogin()
             .flatMap(userRepository::findOneByLogin)
             .ifPresent(user -> {
+                cachedUserService.evict(user);
                 user.setFirstName(firstName);
                 user.setLastName(lastName);
                 if (email != null) {
@@ -178,6 +199,7 @@ public class UserService {
                 }
                 user.setLangKey(langKey);
                 user.setImageUrl(imageUrl);
+                cachedUserService.evict(user);
                 log.debug("Changed Information for User: {}", user);
             });
     }
@@ -194,6 +216,7 @@ public class UserService {
             .filter(Optional::isPresent)
             .map(Optional::get)
             .map(user -> {
+                cachedUserService.evict(user);
                 user.setLogin(userDTO.getLogin().toLowerCase());
                 user.setFirstName(userDTO.getFirstName());
                 user.setLastName(userDTO.getLastName());
@@ -201,6 +224,9 @@ public class UserService {
                     user.setEmail(userDTO.getEmail().toLowerCase());
                 }
                 user.setImageUrl(userDTO.getImageUrl());
+                if (user.getActivated() && !userDTO.isActivated()) {
+                    refreshTokenService.revokeAllSessions(user);
+                }
                 user.setActivated(userDTO.isActivated());
                 user.setLangKey(userDTO.getLangKey());
                 Set<Authority> managedAuthorities = user.getAuthorities();
@@ -210,6 +236,7 @@ public class UserService {
                     .filter(Optional::isPresent)
                     .map(Optional::get)
                     .forEach(managedAuthorities::add);
+                cachedUserService.evict(user);
                 log.debug("Changed Information for User: {}", user);
                 return user;
             })
@@ -218,7 +245,9 @@ public class UserService {
 
     public void deleteUser(String login) {
         userRepository.findOneByLogin(login).ifPresent(user -> {
+            refreshTokenService.deleteAllSessions(user);
             userRepository.delete(user);
+            cachedUserService.evict(user);
             log.debug("Deleted User: {}", user);
         });
     }
@@ -233,6 +262,8 @@ public class UserService {
                 }
                 String encryptedPassword = passwordEncoder.encode(newPassword);
                 user.setPassword(encryptedPassword);
+                refreshTokenService.revokeOtherSessions(user);
+                cachedUserService.evict(user);
                 log.debug("Changed password for User: {}", user);
             });
     }
@@ -243,8 +274,8 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    public Optional<User> getUserWithAuthoritiesByLogin(String login) {
-        return userRepository.findOneWithAuthoritiesByLogin(login);
+    public Optional<CachedUserDTO> getUserWithAuthoritiesByLogin(String login) {
+        return cachedUserService.findOneByLogin(login);
     }
 
     @Transactional(readOnly = true)
@@ -253,23 +284,35 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    public Optional<User> getUserWithAuthorities() {
-        return SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findOneWithAuthoritiesByLogin);
+    public Optional<CachedUserDTO> getUserWithAuthorities() {
+        return SecurityUtils.getCurrentUserLogin().flatMap(cachedUserService::findOneByLogin);
     }
 
     /**
      * Not activated users should be automatically deleted after 3 days.
      * <p>
+     * They are deleted in chunks by the {@link RetentionPurger}, each in a short transaction of its own.
+     * <p>
      * This is scheduled to get fired everyday, at 01:00 (am).
      */
     @Scheduled(cron = "0 0 1 * * ?")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void removeNotActivatedUsers() {
-        userRepository
-            .findAllByActivatedIsFalseAndActivationKeyIsNotNullAndCreatedDateBefore(Instant.now().minus(3, ChronoUnit.DAYS))
-            .forEach(user -> {
-                log.debug("Deleting not activated user {}", user.getLogin());
-                userRepository.delete(user);
-            });
+        Instant before = Instant.now().minus(3, ChronoUnit.DAYS);
+        retentionPurger.purge("not-activated-users", batchSize -> {
+            List<User> users = userRepository.findAllByActivatedIsFalseAndActivationKeyIsNotNullAndCreatedDateBefore(
+                before, PageRequest.of(0, batchSize, Sort.by("id")));
+            if (!users.isEmpty()) {
+                List<Long> ids = users.stream().map(User::getId).collect(Collectors.toList());
+                userRepository.deleteAuthoritiesByUserIdIn(ids);
+                userRepository.deleteByIdIn(ids);
+                users.forEach(user -> {
+                    log.debug("Deleted not activated user {}", user.getLogin());
+                    cachedUserService.evict(user);
+                });
+            }
+            return users.size();
+        });
     }
 
     /**
@@ -279,5 +322,4 @@ public class UserService {
     public List<String> getAuthorities() {
         return authorityRepository.findAll().stream().map(Authority::getName).collect(Collectors.toList());
     }
-
 }
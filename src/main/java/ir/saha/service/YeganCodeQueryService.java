@@ -0,0 +1,124 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.YeganCode;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.YeganCodeRepository;
+import ir.saha.service.dto.YeganCodeCriteria;
+import ir.saha.service.dto.YeganCodeDTO;
+import ir.saha.service.mapper.YeganCodeMapper;
+
+/**
+ * Service for executing complex queries for {@link YeganCode} entities in the database.
+ * The main input is a {@link YeganCodeCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link YeganCodeDTO} or a {@link Page} of {@link YeganCodeDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class YeganCodeQueryService extends QueryService<YeganCode> {
+
+    private final Logger log = LoggerFactory.getLogger(YeganCodeQueryService.class);
+
+    private final YeganCodeRepository yeganCodeRepository;
+
+    private final YeganCodeMapper yeganCodeMapper;
+
+    public YeganCodeQueryService(YeganCodeRepository yeganCodeRepository, YeganCodeMapper yeganCodeMapper) {
+        this.yeganCodeRepository = yeganCodeRepository;
+        this.yeganCodeMapper = yeganCodeMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link YeganCodeDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<YeganCodeDTO> findByCriteria(YeganCodeCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<YeganCode> specification = createSpecification(criteria);
+        return yeganCodeMapper.toDto(yeganCodeRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link YeganCodeDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<YeganCodeDTO> findByCriteria(YeganCodeCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<YeganCode> specification = createSpecification(criteria);
+        return yeganCodeRepository.findAll(specification, page)
+            .map(yeganCodeMapper::toDto);
+    }
+
+    /**
+     * Return the {@link YeganCodeDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<YeganCodeDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return yeganCodeRepository.findById(id)
+            .map(yeganCodeMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(YeganCodeCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<YeganCode> specification = createSpecification(criteria);
+        return yeganCodeRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link YeganCodeCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<YeganCode> createSpecification(YeganCodeCriteria criteria) {
+        Specification<YeganCode> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), YeganCode_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), YeganCode_.name));
+            }
+            if (criteria.getCode() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getCode(), YeganCode_.code));
+            }
+            if (criteria.getYeganId() != null) {
+                specification = specification.and(buildSpecification(criteria.getYeganId(),
+                    root -> root.join(YeganCode_.yegan, JoinType.LEFT).get(Yegan_.id)));
+            }
+            if (criteria.getNirooCodeId() != null) {
+                specification = specification.and(buildSpecification(criteria.getNirooCodeId(),
+                    root -> root.join(YeganCode_.nirooCode, JoinType.LEFT).get(NirooCode_.id)));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,186 @@
+package ir.saha.service;
+
+import ir.saha.domain.Yegan;
+import ir.saha.domain.YeganClosure;
+import ir.saha.domain.YeganClosureId;
+import ir.saha.repository.YeganClosureRepository;
+import ir.saha.repository.YeganLink;
+import ir.saha.repository.YeganRepository;
+import ir.saha.service.dto.YeganDTO;
+import ir.saha.service.mapper.YeganMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service keeping the {@link YeganClosure} table in sync with the zirYegan links of the {@link Yegan} hierarchy,
+ * and answering subtree and ancestor queries from it with a single query.
+ * <p>
+ * The links of a yegan are only changed by saving that yegan, so only its own rows and those of its ancestors
+ * can change. These are recomputed from the links, which are all read with one query, and only the rows that
+ * differ are written.
+ */
+@Service
+@Transactional
+public class YeganHierarchyService {
+
+    private final Logger log = LoggerFactory.getLogger(YeganHierarchyService.class);
+
+    private final YeganRepository yeganRepository;
+
+    private final YeganClosureRepository yeganClosureRepository;
+
+    private final YeganMapper yeganMapper;
+
+    public YeganHierarchyService(YeganRepository yeganRepository, YeganClosureRepository yeganClosureRepository, YeganMapper yeganMapper) {
+        this.yeganRepository = yeganRepository;
+        this.yeganClosureRepository = yeganClosureRepository;
+        this.yeganMapper = yeganMapper;
+    }
+
+    /**
+     * Check whether saving the given yegan would put it below itself.
+     *
+     * @param yegan the yegan about to be saved.
+     * @return {@code true} if one of its zirYegans is the yegan itself or one of its ancestors.
+     */
+    @Transactional(readOnly = true)
+    public boolean wouldCreateCycle(Yegan yegan) {
+        if (yegan.getId() == null || yegan.getZirYegans().isEmpty()) {
+            return false;
+        }
+        Set<Long> zirYeganIds = yegan.getZirYegans().stream().map(Yegan::getId).collect(Collectors.toSet());
+        return zirYeganIds.contains(yegan.getId())
+            || yeganClosureRepository.existsByIdAncestorIdInAndIdDescendantId(zirYeganIds, yegan.getId());
+    }
+
+    /**
+     * Update the hierarchy after the given yegan has been created or updated.
+     *
+     * @param yegan the saved yegan.
+     */
+    public void updateHierarchy(Yegan yegan) {
+        log.debug("Request to update the hierarchy of Yegan : {}", yegan.getId());
+        yeganRepository.flush();
+        Set<Long> ancestorIds = new HashSet<>(yeganClosureRepository.findAncestorIds(yegan.getId()));
+        ancestorIds.add(yegan.getId());
+        sync(ancestorIds, groupLinks(yeganRepository.findAllLinks(), null));
+    }
+
+    /**
+     * Remove the given yegan from the hierarchy, before it is deleted.
+     *
+     * @param id the id of the yegan about to be deleted.
+     */
+    public void removeFromHierarchy(Long id) {
+        log.debug("Request to remove Yegan : {} from the hierarchy", id);
+        Set<Long> ancestorIds = new HashSet<>(yeganClosureRepository.findAncestorIds(id));
+        ancestorIds.remove(id);
+        yeganClosureRepository.deleteAll(yeganClosureRepository.findAllByYeganId(id));
+        sync(ancestorIds, groupLinks(yeganRepository.findAllLinks(), id));
+    }
+
+    /**
+     * Get the yegans below the given one, nearest first.
+     *
+     * @param id the id of the yegan.
+     * @param maxDepth the maximum number of links from the yegan, unlimited if {@code null}.
+     * @param pageable the pagination information.
+     * @return the page of yegans.
+     */
+    @Transactional(readOnly = true)
+    public Page<YeganDTO> findDescendants(Long id, Integer maxDepth, Pageable pageable) {
+        return yeganRepository.findAllDescendants(id, maxDepth == null ? Integer.MAX_VALUE : maxDepth, pageable)
+            .map(yeganMapper::toDto);
+    }
+
+    /**
+     * Get the yegans above the given one, nearest first.
+     *
+     * @param id the id of the yegan.
+     * @param maxDepth the maximum number of links to the yegan, unlimited if {@code null}.
+     * @return the list of yegans.
+     */
+    @Transactional(readOnly = true)
+    public List<YeganDTO> findAncestors(Long id, Integer maxDepth) {
+        return yeganMapper.toDto(yeganRepository.findAllAncestors(id, maxDepth == null ? Integer.MAX_VALUE : maxDepth));
+    }
+
+    private void sync(Set<Long> ancestorIds, Map<Long, List<Long>> links) {
+        if (ancestorIds.isEmpty()) {
+            return;
+        }
+        Map<YeganClosureId, YeganClosure> stale = yeganClosureRepository.findByIdAncestorIdIn(ancestorIds).stream()
+            .collect(Collectors.toMap(YeganClosure::getId, Function.identity()));
+        List<YeganClosure> added = new ArrayList<>();
+        for (Long ancestorId : ancestorIds) {
+            for (Map.Entry<Long, Integer> descendant : descendantDepths(ancestorId, links).entrySet()) {
+                YeganClosure closure = stale.remove(new YeganClosureId(ancestorId, descendant.getKey()));
+                if (closure == null) {
+                    added.add(new YeganClosure(ancestorId, descendant.getKey(), descendant.getValue()));
+                } else if (!closure.getDepth().equals(descendant.getValue())) {
+                    closure.setDepth(descendant.getValue());
+                }
+            }
+        }
+        yeganClosureRepository.saveAll(added);
+        yeganClosureRepository.deleteAll(stale.values());
+        log.debug("Updated the hierarchy below {} yegans: {} rows added, {} removed", ancestorIds.size(), added.size(), stale.size());
+    }
+
+    private static Map<Long, List<Long>> groupLinks(List<YeganLink> links, Long excludedId) {
+        Map<Long, List<Long>> zirYeganIds = new HashMap<>();
+        for (YeganLink link : links) {
+            if (!link.getYeganId().equals(excludedId) && !link.getZirYeganId().equals(excludedId)) {
+                zirYeganIds.computeIfAbsent(link.getYeganId(), id -> new ArrayList<>()).add(link.getZirYeganId());
+            }
+        }
+        return zirYeganIds;
+    }
+
+    /**
+     * Walk the links breadth first from the given yegan.
+     *
+     * @param ancestorId the id of the yegan to start from.
+     * @param links the ids of the zirYegans of each yegan.
+     * @return the depth of the shortest path to each yegan reachable from the given one, itself included at depth 0.
+     */
+    public static Map<Long, Integer> descendantDepths(Long ancestorId, Map<Long, ? extends Collection<Long>> links) {
+        Map<Long, Integer> depths = new LinkedHashMap<>();
+        depths.put(ancestorId, 0);
+        Deque<Long> queue = new ArrayDeque<>();
+        queue.add(ancestorId);
+        while (!queue.isEmpty()) {
+            Long id = queue.poll();
+            Collection<Long> zirYeganIds = links.get(id);
+            if (zirYeganIds == null) {
+                continue;
+            }
+            int depth = depths.get(id) + 1;
+            for (Long zirYeganId : zirYeganIds) {
+                if (!depths.containsKey(zirYeganId)) {
+                    depths.put(zirYeganId, depth);
+                    queue.add(zirYeganId);
+                }
+            }
+        }
+        return depths;
+    }
+}
@@ -0,0 +1,152 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.Yegan;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.YeganRepository;
+import ir.saha.service.dto.YeganCriteria;
+import ir.saha.service.dto.YeganDTO;
+import ir.saha.service.mapper.YeganMapper;
+
+/**
+ * Service for executing complex queries for {@link Yegan} entities in the database.
+ * The main input is a {@link YeganCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link YeganDTO} or a {@link Page} of {@link YeganDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class YeganQueryService extends QueryService<Yegan> {
+
+    private final Logger log = LoggerFactory.getLogger(YeganQueryService.class);
+
+    private final YeganRepository yeganRepository;
+
+    private final YeganMapper yeganMapper;
+
+    public YeganQueryService(YeganRepository yeganRepository, YeganMapper yeganMapper) {
+        this.yeganRepository = yeganRepository;
+        this.yeganMapper = yeganMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link YeganDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<YeganDTO> findByCriteria(YeganCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Yegan> specification = createSpecification(criteria);
+        return yeganMapper.toDto(yeganRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link YeganDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param eagerload Whether to fetch and return the many-to-many relationships of the entities.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<YeganDTO> findByCriteria(YeganCriteria criteria, Pageable page, boolean eagerload) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Yegan> specification = createSpecification(criteria);
+        Page<Yegan> result = yeganRepository.findAll(specification, page);
+        if (eagerload) {
+            yeganRepository.fetchEagerRelationships(result.getContent());
+            return result.map(yeganMapper::toDtoWithEagerRelationships);
+        }
+        return result.map(yeganMapper::toDto);
+    }
+
+    /**
+     * Return the {@link YeganDTO} of the given id from the database, with its many-to-many relationships.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<YeganDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return yeganRepository.findOneWithEagerRelationships(id)
+            .map(yeganMapper::toDtoWithEagerRelationships);
+    }
+
+    /**
+     * Return a {@link Page} of the given fields of the {@link Yegan}s which match the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated paths of the fields to return.
+     * @param page The page, which should be returned.
+     * @return the fields of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findFieldsByCriteria(YeganCriteria criteria, String fields, Pageable page) {
+        log.debug("find fields : {} by criteria : {}, page: {}", fields, criteria, page);
+        final Specification<Yegan> specification = createSpecification(criteria);
+        return yeganRepository.findAllFields(specification, fields, page);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(YeganCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Yegan> specification = createSpecification(criteria);
+        return yeganRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link YeganCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Yegan> createSpecification(YeganCriteria criteria) {
+        Specification<Yegan> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Yegan_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), Yegan_.name));
+            }
+            if (criteria.getCode() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getCode(), Yegan_.code));
+            }
+            if (criteria.getYeganCodeId() != null) {
+                specification = specification.and(buildSpecification(criteria.getYeganCodeId(),
+                    root -> root.join(Yegan_.yeganCode, JoinType.LEFT).get(YeganCode_.id)));
+            }
+            if (criteria.getNirooCodeId() != null) {
+                specification = specification.and(buildSpecification(criteria.getNirooCodeId(),
+                    root -> root.join(Yegan_.nirooCode, JoinType.LEFT).get(NirooCode_.id)));
+            }
+            if (criteria.getShahrId() != null) {
+                specification = specification.and(buildSpecification(criteria.getShahrId(),
+                    root -> root.join(Yegan_.shahr, JoinType.LEFT).get(Shahr_.id)));
+            }
+            if (criteria.getYeganTypeId() != null) {
+                specification = specification.and(buildSpecification(criteria.getYeganTypeId(),
+                    root -> root.join(Yegan_.yeganType, JoinType.LEFT).get(YeganType_.id)));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,113 @@
+package ir.saha.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.criteria.JoinType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.jhipster.service.QueryService;
+
+import ir.saha.domain.YeganType;
+import ir.saha.domain.*; // for static metamodels
+import ir.saha.repository.YeganTypeRepository;
+import ir.saha.service.dto.YeganTypeCriteria;
+import ir.saha.service.dto.YeganTypeDTO;
+import ir.saha.service.mapper.YeganTypeMapper;
+
+/**
+ * Service for executing complex queries for {@link YeganType} entities in the database.
+ * The main input is a {@link YeganTypeCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link YeganTypeDTO} or a {@link Page} of {@link YeganTypeDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class YeganTypeQueryService extends QueryService<YeganType> {
+
+    private final Logger log = LoggerFactory.getLogger(YeganTypeQueryService.class);
+
+    private final YeganTypeRepository yeganTypeRepository;
+
+    private final YeganTypeMapper yeganTypeMapper;
+
+    public YeganTypeQueryService(YeganTypeRepository yeganTypeRepository, YeganTypeMapper yeganTypeMapper) {
+        this.yeganTypeRepository = yeganTypeRepository;
+        this.yeganTypeMapper = yeganTypeMapper;
+    }
+
+    /**
+     * Return a {@link List} of {@link YeganTypeDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<YeganTypeDTO> findByCriteria(YeganTypeCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<YeganType> specification = createSpecification(criteria);
+        return yeganTypeMapper.toDto(yeganTypeRepository.findAll(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link YeganTypeDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<YeganTypeDTO> findByCriteria(YeganTypeCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<YeganType> specification = createSpecification(criteria);
+        return yeganTypeRepository.findAll(specification, page)
+            .map(yeganTypeMapper::toDto);
+    }
+
+    /**
+     * Return the {@link YeganTypeDTO} of the given id from the database.
+     * @param id The id of the entity.
+     * @return the entity, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<YeganTypeDTO> findOne(Long id) {
+        log.debug("find one : {}", id);
+        return yeganTypeRepository.findById(id)
+            .map(yeganTypeMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(YeganTypeCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<YeganType> specification = createSpecification(criteria);
+        return yeganTypeRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link YeganTypeCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<YeganType> createSpecification(YeganTypeCriteria criteria) {
+        Specification<YeganType> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), YeganType_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), YeganType_.name));
+            }
+        }
+        return specification;
+    }
+}
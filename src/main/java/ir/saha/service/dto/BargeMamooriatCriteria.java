@@ -0,0 +1,195 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import ir.saha.domain.enumeration.VaziatBargeMamooriat;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.BargeMamooriat} entity. This class is used
+ * in {@link ir.saha.web.rest.BargeMamooriatResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /barge-mamooriats?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class BargeMamooriatCriteria implements Serializable, Criteria {
+    /**
+     * Class for filtering VaziatBargeMamooriat
+     */
+    public static class VaziatBargeMamooriatFilter extends Filter<VaziatBargeMamooriat> {
+
+        public VaziatBargeMamooriatFilter() {
+        }
+
+        public VaziatBargeMamooriatFilter(VaziatBargeMamooriatFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public VaziatBargeMamooriatFilter copy() {
+            return new VaziatBargeMamooriatFilter(this);
+        }
+
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private VaziatBargeMamooriatFilter vaziat;
+
+    private IntegerFilter saleMamooriat;
+
+    private InstantFilter shorooMamooriat;
+
+    private InstantFilter payanMamooriat;
+
+    private LongFilter sarparastId;
+
+    private LongFilter yeganId;
+
+    private LongFilter hesabResiId;
+
+    public BargeMamooriatCriteria() {
+    }
+
+    public BargeMamooriatCriteria(BargeMamooriatCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.vaziat = other.vaziat == null ? null : other.vaziat.copy();
+        this.saleMamooriat = other.saleMamooriat == null ? null : other.saleMamooriat.copy();
+        this.shorooMamooriat = other.shorooMamooriat == null ? null : other.shorooMamooriat.copy();
+        this.payanMamooriat = other.payanMamooriat == null ? null : other.payanMamooriat.copy();
+        this.sarparastId = other.sarparastId == null ? null : other.sarparastId.copy();
+        this.yeganId = other.yeganId == null ? null : other.yeganId.copy();
+        this.hesabResiId = other.hesabResiId == null ? null : other.hesabResiId.copy();
+    }
+
+    @Override
+    public BargeMamooriatCriteria copy() {
+        return new BargeMamooriatCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public VaziatBargeMamooriatFilter getVaziat() {
+        return vaziat;
+    }
+
+    public void setVaziat(VaziatBargeMamooriatFilter vaziat) {
+        this.vaziat = vaziat;
+    }
+
+    public IntegerFilter getSaleMamooriat() {
+        return saleMamooriat;
+    }
+
+    public void setSaleMamooriat(IntegerFilter saleMamooriat) {
+        this.saleMamooriat = saleMamooriat;
+    }
+
+    public InstantFilter getShorooMamooriat() {
+        return shorooMamooriat;
+    }
+
+    public void setShorooMamooriat(InstantFilter shorooMamooriat) {
+        this.shorooMamooriat = shorooMamooriat;
+    }
+
+    public InstantFilter getPayanMamooriat() {
+        return payanMamooriat;
+    }
+
+    public void setPayanMamooriat(InstantFilter payanMamooriat) {
+        this.payanMamooriat = payanMamooriat;
+    }
+
+    public LongFilter getSarparastId() {
+        return sarparastId;
+    }
+
+    public void setSarparastId(LongFilter sarparastId) {
+        this.sarparastId = sarparastId;
+    }
+
+    public LongFilter getYeganId() {
+        return yeganId;
+    }
+
+    public void setYeganId(LongFilter yeganId) {
+        this.yeganId = yeganId;
+    }
+
+    public LongFilter getHesabResiId() {
+        return hesabResiId;
+    }
+
+    public void setHesabResiId(LongFilter hesabResiId) {
+        this.hesabResiId = hesabResiId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BargeMamooriatCriteria that = (BargeMamooriatCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(vaziat, that.vaziat) &&
+            Objects.equals(saleMamooriat, that.saleMamooriat) &&
+            Objects.equals(shorooMamooriat, that.shorooMamooriat) &&
+            Objects.equals(payanMamooriat, that.payanMamooriat) &&
+            Objects.equals(sarparastId, that.sarparastId) &&
+            Objects.equals(yeganId, that.yeganId) &&
+            Objects.equals(hesabResiId, that.hesabResiId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        vaziat,
+        saleMamooriat,
+        shorooMamooriat,
+        payanMamooriat,
+        sarparastId,
+        yeganId,
+        hesabResiId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "BargeMamooriatCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (vaziat != null ? "vaziat=" + vaziat + ", " : "") +
+                (saleMamooriat != null ? "saleMamooriat=" + saleMamooriat + ", " : "") +
+                (shorooMamooriat != null ? "shorooMamooriat=" + shorooMamooriat + ", " : "") +
+                (payanMamooriat != null ? "payanMamooriat=" + payanMamooriat + ", " : "") +
+                (sarparastId != null ? "sarparastId=" + sarparastId + ", " : "") +
+                (yeganId != null ? "yeganId=" + yeganId + ", " : "") +
+                (hesabResiId != null ? "hesabResiId=" + hesabResiId + ", " : "") +
+            "}";
+    }
+
+}
@@ -0,0 +1,128 @@
+package ir.saha.service.dto;
+
+import ir.saha.domain.enumeration.VaziatBargeMamooriat;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link ir.saha.domain.BargeMamooriat} entity, as it is read.
+ */
+public class BargeMamooriatDTO implements Serializable {
+
+    private Long id;
+
+    private VaziatBargeMamooriat vaziat;
+
+    private Integer saleMamooriat;
+
+    private Instant shorooMamooriat;
+
+    private Instant payanMamooriat;
+
+    private Long sarparastId;
+
+    private Long yeganId;
+
+    private Long hesabResiId;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public VaziatBargeMamooriat getVaziat() {
+        return vaziat;
+    }
+
+    public void setVaziat(VaziatBargeMamooriat vaziat) {
+        this.vaziat = vaziat;
+    }
+
+    public Integer getSaleMamooriat() {
+        return saleMamooriat;
+    }
+
+    public void setSaleMamooriat(Integer saleMamooriat) {
+        this.saleMamooriat = saleMamooriat;
+    }
+
+    public Instant getShorooMamooriat() {
+        return shorooMamooriat;
+    }
+
+    public void setShorooMamooriat(Instant shorooMamooriat) {
+        this.shorooMamooriat = shorooMamooriat;
+    }
+
+    public Instant getPayanMamooriat() {
+        return payanMamooriat;
+    }
+
+    public void setPayanMamooriat(Instant payanMamooriat) {
+        this.payanMamooriat = payanMamooriat;
+    }
+
+    public Long getSarparastId() {
+        return sarparastId;
+    }
+
+    public void setSarparastId(Long sarparastId) {
+        this.sarparastId = sarparastId;
+    }
+
+    public Long getYeganId() {
+        return yeganId;
+    }
+
+    public void setYeganId(Long yeganId) {
+        this.yeganId = yeganId;
+    }
+
+    public Long getHesabResiId() {
+        return hesabResiId;
+    }
+
+    public void setHesabResiId(Long hesabResiId) {
+        this.hesabResiId = hesabResiId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BargeMamooriatDTO bargeMamooriatDTO = (BargeMamooriatDTO) o;
+        if (bargeMamooriatDTO.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), bargeMamooriatDTO.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "BargeMamooriatDTO{" +
+            "id=" + getId() +
+            ", vaziat='" + getVaziat() + "'" +
+            ", saleMamooriat=" + getSaleMamooriat() +
+            ", shorooMamooriat='" + getShorooMamooriat() + "'" +
+            ", payanMamooriat='" + getPayanMamooriat() + "'" +
+            ", sarparastId=" + getSarparastId() +
+            ", yeganId=" + getYeganId() +
+            ", hesabResiId=" + getHesabResiId() +
+            "}";
+    }
+}
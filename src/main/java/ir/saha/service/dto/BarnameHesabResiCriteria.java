@@ -0,0 +1,125 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import ir.saha.domain.enumeration.NoeBarnameHesabResi;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.BarnameHesabResi} entity. This class is used
+ * in {@link ir.saha.web.rest.BarnameHesabResiResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /barname-hesab-resis?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class BarnameHesabResiCriteria implements Serializable, Criteria {
+    /**
+     * Class for filtering NoeBarnameHesabResi
+     */
+    public static class NoeBarnameHesabResiFilter extends Filter<NoeBarnameHesabResi> {
+
+        public NoeBarnameHesabResiFilter() {
+        }
+
+        public NoeBarnameHesabResiFilter(NoeBarnameHesabResiFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public NoeBarnameHesabResiFilter copy() {
+            return new NoeBarnameHesabResiFilter(this);
+        }
+
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private NoeBarnameHesabResiFilter noeBarnameHesabResi;
+
+    private LongFilter hesabResiId;
+
+    public BarnameHesabResiCriteria() {
+    }
+
+    public BarnameHesabResiCriteria(BarnameHesabResiCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.noeBarnameHesabResi = other.noeBarnameHesabResi == null ? null : other.noeBarnameHesabResi.copy();
+        this.hesabResiId = other.hesabResiId == null ? null : other.hesabResiId.copy();
+    }
+
+    @Override
+    public BarnameHesabResiCriteria copy() {
+        return new BarnameHesabResiCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public NoeBarnameHesabResiFilter getNoeBarnameHesabResi() {
+        return noeBarnameHesabResi;
+    }
+
+    public void setNoeBarnameHesabResi(NoeBarnameHesabResiFilter noeBarnameHesabResi) {
+        this.noeBarnameHesabResi = noeBarnameHesabResi;
+    }
+
+    public LongFilter getHesabResiId() {
+        return hesabResiId;
+    }
+
+    public void setHesabResiId(LongFilter hesabResiId) {
+        this.hesabResiId = hesabResiId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BarnameHesabResiCriteria that = (BarnameHesabResiCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(noeBarnameHesabResi, that.noeBarnameHesabResi) &&
+            Objects.equals(hesabResiId, that.hesabResiId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        noeBarnameHesabResi,
+        hesabResiId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "BarnameHesabResiCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (noeBarnameHesabResi != null ? "noeBarnameHesabResi=" + noeBarnameHesabResi + ", " : "") +
+                (hesabResiId != null ? "hesabResiId=" + hesabResiId + ", " : "") +
+            "}";
+    }
+
+}
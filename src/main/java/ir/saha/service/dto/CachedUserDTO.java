@@ -0,0 +1,133 @@
+package ir.saha.service.dto;
+
+import ir.saha.domain.Authority;
+import ir.saha.domain.User;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable snapshot of a user and its authorities, as kept in the users by login and by email caches.
+ * <p>
+ * Unlike a {@link User} entity, a snapshot is detached from any persistence context, so it can be shared by every
+ * thread reading the cache.
+ */
+public final class CachedUserDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+
+    private final String login;
+
+    private final String password;
+
+    private final String firstName;
+
+    private final String lastName;
+
+    private final String email;
+
+    private final String imageUrl;
+
+    private final boolean activated;
+
+    private final String langKey;
+
+    private final String createdBy;
+
+    private final Instant createdDate;
+
+    private final String lastModifiedBy;
+
+    private final Instant lastModifiedDate;
+
+    private final Set<String> authorities;
+
+    public CachedUserDTO(User user) {
+        this.id = user.getId();
+        this.login = user.getLogin();
+        this.password = user.getPassword();
+        this.firstName = user.getFirstName();
+        this.lastName = user.getLastName();
+        this.email = user.getEmail();
+        this.imageUrl = user.getImageUrl();
+        this.activated = user.getActivated();
+        this.langKey = user.getLangKey();
+        this.createdBy = user.getCreatedBy();
+        this.createdDate = user.getCreatedDate();
+        this.lastModifiedBy = user.getLastModifiedBy();
+        this.lastModifiedDate = user.getLastModifiedDate();
+        this.authorities = Collections.unmodifiableSet(user.getAuthorities().stream()
+            .map(Authority::getName)
+            .collect(Collectors.toSet()));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public boolean isActivated() {
+        return activated;
+    }
+
+    public String getLangKey() {
+        return langKey;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public String getLastModifiedBy() {
+        return lastModifiedBy;
+    }
+
+    public Instant getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    public Set<String> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedUserDTO{" +
+            "login='" + login + '\'' +
+            ", activated=" + activated +
+            ", authorities=" + authorities +
+            "}";
+    }
+}
@@ -0,0 +1,119 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.Dore} entity. This class is used
+ * in {@link ir.saha.web.rest.DoreResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /dores?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class DoreCriteria implements Serializable, Criteria {
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private InstantFilter begin;
+
+    private InstantFilter end;
+
+    private LongFilter karbarId;
+
+    public DoreCriteria() {
+    }
+
+    public DoreCriteria(DoreCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.begin = other.begin == null ? null : other.begin.copy();
+        this.end = other.end == null ? null : other.end.copy();
+        this.karbarId = other.karbarId == null ? null : other.karbarId.copy();
+    }
+
+    @Override
+    public DoreCriteria copy() {
+        return new DoreCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public InstantFilter getBegin() {
+        return begin;
+    }
+
+    public void setBegin(InstantFilter begin) {
+        this.begin = begin;
+    }
+
+    public InstantFilter getEnd() {
+        return end;
+    }
+
+    public void setEnd(InstantFilter end) {
+        this.end = end;
+    }
+
+    public LongFilter getKarbarId() {
+        return karbarId;
+    }
+
+    public void setKarbarId(LongFilter karbarId) {
+        this.karbarId = karbarId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DoreCriteria that = (DoreCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(begin, that.begin) &&
+            Objects.equals(end, that.end) &&
+            Objects.equals(karbarId, that.karbarId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        begin,
+        end,
+        karbarId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "DoreCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (begin != null ? "begin=" + begin + ", " : "") +
+                (end != null ? "end=" + end + ", " : "") +
+                (karbarId != null ? "karbarId=" + karbarId + ", " : "") +
+            "}";
+    }
+
+}
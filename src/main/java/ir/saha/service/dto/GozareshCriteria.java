@@ -0,0 +1,125 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import ir.saha.domain.enumeration.VaziatGozaresh;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.Gozaresh} entity. This class is used
+ * in {@link ir.saha.web.rest.GozareshResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /gozareshes?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class GozareshCriteria implements Serializable, Criteria {
+    /**
+     * Class for filtering VaziatGozaresh
+     */
+    public static class VaziatGozareshFilter extends Filter<VaziatGozaresh> {
+
+        public VaziatGozareshFilter() {
+        }
+
+        public VaziatGozareshFilter(VaziatGozareshFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public VaziatGozareshFilter copy() {
+            return new VaziatGozareshFilter(this);
+        }
+
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private VaziatGozareshFilter vaziat;
+
+    private LongFilter hesabResiId;
+
+    public GozareshCriteria() {
+    }
+
+    public GozareshCriteria(GozareshCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.vaziat = other.vaziat == null ? null : other.vaziat.copy();
+        this.hesabResiId = other.hesabResiId == null ? null : other.hesabResiId.copy();
+    }
+
+    @Override
+    public GozareshCriteria copy() {
+        return new GozareshCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public VaziatGozareshFilter getVaziat() {
+        return vaziat;
+    }
+
+    public void setVaziat(VaziatGozareshFilter vaziat) {
+        this.vaziat = vaziat;
+    }
+
+    public LongFilter getHesabResiId() {
+        return hesabResiId;
+    }
+
+    public void setHesabResiId(LongFilter hesabResiId) {
+        this.hesabResiId = hesabResiId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final GozareshCriteria that = (GozareshCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(vaziat, that.vaziat) &&
+            Objects.equals(hesabResiId, that.hesabResiId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        vaziat,
+        hesabResiId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "GozareshCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (vaziat != null ? "vaziat=" + vaziat + ", " : "") +
+                (hesabResiId != null ? "hesabResiId=" + hesabResiId + ", " : "") +
+            "}";
+    }
+
+}
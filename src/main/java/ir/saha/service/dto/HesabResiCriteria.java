@@ -0,0 +1,153 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import ir.saha.domain.enumeration.VaziateHesabResi;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.HesabResi} entity. This class is used
+ * in {@link ir.saha.web.rest.HesabResiResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /hesab-resis?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class HesabResiCriteria implements Serializable, Criteria {
+    /**
+     * Class for filtering VaziateHesabResi
+     */
+    public static class VaziateHesabResiFilter extends Filter<VaziateHesabResi> {
+
+        public VaziateHesabResiFilter() {
+        }
+
+        public VaziateHesabResiFilter(VaziateHesabResiFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public VaziateHesabResiFilter copy() {
+            return new VaziateHesabResiFilter(this);
+        }
+
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private IntegerFilter sal;
+
+    private VaziateHesabResiFilter vaziateHesabResi;
+
+    private LongFilter gozareshId;
+
+    private LongFilter barnameHesabResiId;
+
+    public HesabResiCriteria() {
+    }
+
+    public HesabResiCriteria(HesabResiCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.sal = other.sal == null ? null : other.sal.copy();
+        this.vaziateHesabResi = other.vaziateHesabResi == null ? null : other.vaziateHesabResi.copy();
+        this.gozareshId = other.gozareshId == null ? null : other.gozareshId.copy();
+        this.barnameHesabResiId = other.barnameHesabResiId == null ? null : other.barnameHesabResiId.copy();
+    }
+
+    @Override
+    public HesabResiCriteria copy() {
+        return new HesabResiCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public IntegerFilter getSal() {
+        return sal;
+    }
+
+    public void setSal(IntegerFilter sal) {
+        this.sal = sal;
+    }
+
+    public VaziateHesabResiFilter getVaziateHesabResi() {
+        return vaziateHesabResi;
+    }
+
+    public void setVaziateHesabResi(VaziateHesabResiFilter vaziateHesabResi) {
+        this.vaziateHesabResi = vaziateHesabResi;
+    }
+
+    public LongFilter getGozareshId() {
+        return gozareshId;
+    }
+
+    public void setGozareshId(LongFilter gozareshId) {
+        this.gozareshId = gozareshId;
+    }
+
+    public LongFilter getBarnameHesabResiId() {
+        return barnameHesabResiId;
+    }
+
+    public void setBarnameHesabResiId(LongFilter barnameHesabResiId) {
+        this.barnameHesabResiId = barnameHesabResiId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HesabResiCriteria that = (HesabResiCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(sal, that.sal) &&
+            Objects.equals(vaziateHesabResi, that.vaziateHesabResi) &&
+            Objects.equals(gozareshId, that.gozareshId) &&
+            Objects.equals(barnameHesabResiId, that.barnameHesabResiId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        sal,
+        vaziateHesabResi,
+        gozareshId,
+        barnameHesabResiId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "HesabResiCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (sal != null ? "sal=" + sal + ", " : "") +
+                (vaziateHesabResi != null ? "vaziateHesabResi=" + vaziateHesabResi + ", " : "") +
+                (gozareshId != null ? "gozareshId=" + gozareshId + ", " : "") +
+                (barnameHesabResiId != null ? "barnameHesabResiId=" + barnameHesabResiId + ", " : "") +
+            "}";
+    }
+
+}
@@ -0,0 +1,245 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.Karbar} entity. This class is used
+ * in {@link ir.saha.web.rest.KarbarResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /karbars?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class KarbarCriteria implements Serializable, Criteria {
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private StringFilter shoghlSazmani;
+
+    private StringFilter shoghlAmali;
+
+    private StringFilter codePerseneli;
+
+    private BooleanFilter bezaneshate;
+
+    private BooleanFilter sazmani;
+
+    private InstantFilter tarikhBazneshastegi;
+
+    private InstantFilter tarikhEstekhdam;
+
+    private LongFilter yeganId;
+
+    private LongFilter yeganCodeId;
+
+    private LongFilter darajeId;
+
+    private LongFilter sematId;
+
+    public KarbarCriteria() {
+    }
+
+    public KarbarCriteria(KarbarCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.name = other.name == null ? null : other.name.copy();
+        this.shoghlSazmani = other.shoghlSazmani == null ? null : other.shoghlSazmani.copy();
+        this.shoghlAmali = other.shoghlAmali == null ? null : other.shoghlAmali.copy();
+        this.codePerseneli = other.codePerseneli == null ? null : other.codePerseneli.copy();
+        this.bezaneshate = other.bezaneshate == null ? null : other.bezaneshate.copy();
+        this.sazmani = other.sazmani == null ? null : other.sazmani.copy();
+        this.tarikhBazneshastegi = other.tarikhBazneshastegi == null ? null : other.tarikhBazneshastegi.copy();
+        this.tarikhEstekhdam = other.tarikhEstekhdam == null ? null : other.tarikhEstekhdam.copy();
+        this.yeganId = other.yeganId == null ? null : other.yeganId.copy();
+        this.yeganCodeId = other.yeganCodeId == null ? null : other.yeganCodeId.copy();
+        this.darajeId = other.darajeId == null ? null : other.darajeId.copy();
+        this.sematId = other.sematId == null ? null : other.sematId.copy();
+    }
+
+    @Override
+    public KarbarCriteria copy() {
+        return new KarbarCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public StringFilter getShoghlSazmani() {
+        return shoghlSazmani;
+    }
+
+    public void setShoghlSazmani(StringFilter shoghlSazmani) {
+        this.shoghlSazmani = shoghlSazmani;
+    }
+
+    public StringFilter getShoghlAmali() {
+        return shoghlAmali;
+    }
+
+    public void setShoghlAmali(StringFilter shoghlAmali) {
+        this.shoghlAmali = shoghlAmali;
+    }
+
+    public StringFilter getCodePerseneli() {
+        return codePerseneli;
+    }
+
+    public void setCodePerseneli(StringFilter codePerseneli) {
+        this.codePerseneli = codePerseneli;
+    }
+
+    public BooleanFilter getBezaneshate() {
+        return bezaneshate;
+    }
+
+    public void setBezaneshate(BooleanFilter bezaneshate) {
+        this.bezaneshate = bezaneshate;
+    }
+
+    public BooleanFilter getSazmani() {
+        return sazmani;
+    }
+
+    public void setSazmani(BooleanFilter sazmani) {
+        this.sazmani = sazmani;
+    }
+
+    public InstantFilter getTarikhBazneshastegi() {
+        return tarikhBazneshastegi;
+    }
+
+    public void setTarikhBazneshastegi(InstantFilter tarikhBazneshastegi) {
+        this.tarikhBazneshastegi = tarikhBazneshastegi;
+    }
+
+    public InstantFilter getTarikhEstekhdam() {
+        return tarikhEstekhdam;
+    }
+
+    public void setTarikhEstekhdam(InstantFilter tarikhEstekhdam) {
+        this.tarikhEstekhdam = tarikhEstekhdam;
+    }
+
+    public LongFilter getYeganId() {
+        return yeganId;
+    }
+
+    public void setYeganId(LongFilter yeganId) {
+        this.yeganId = yeganId;
+    }
+
+    public LongFilter getYeganCodeId() {
+        return yeganCodeId;
+    }
+
+    public void setYeganCodeId(LongFilter yeganCodeId) {
+        this.yeganCodeId = yeganCodeId;
+    }
+
+    public LongFilter getDarajeId() {
+        return darajeId;
+    }
+
+    public void setDarajeId(LongFilter darajeId) {
+        this.darajeId = darajeId;
+    }
+
+    public LongFilter getSematId() {
+        return sematId;
+    }
+
+    public void setSematId(LongFilter sematId) {
+        this.sematId = sematId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final KarbarCriteria that = (KarbarCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(shoghlSazmani, that.shoghlSazmani) &&
+            Objects.equals(shoghlAmali, that.shoghlAmali) &&
+            Objects.equals(codePerseneli, that.codePerseneli) &&
+            Objects.equals(bezaneshate, that.bezaneshate) &&
+            Objects.equals(sazmani, that.sazmani) &&
+            Objects.equals(tarikhBazneshastegi, that.tarikhBazneshastegi) &&
+            Objects.equals(tarikhEstekhdam, that.tarikhEstekhdam) &&
+            Objects.equals(yeganId, that.yeganId) &&
+            Objects.equals(yeganCodeId, that.yeganCodeId) &&
+            Objects.equals(darajeId, that.darajeId) &&
+            Objects.equals(sematId, that.sematId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        name,
+        shoghlSazmani,
+        shoghlAmali,
+        codePerseneli,
+        bezaneshate,
+        sazmani,
+        tarikhBazneshastegi,
+        tarikhEstekhdam,
+        yeganId,
+        yeganCodeId,
+        darajeId,
+        sematId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "KarbarCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (name != null ? "name=" + name + ", " : "") +
+                (shoghlSazmani != null ? "shoghlSazmani=" + shoghlSazmani + ", " : "") +
+                (shoghlAmali != null ? "shoghlAmali=" + shoghlAmali + ", " : "") +
+                (codePerseneli != null ? "codePerseneli=" + codePerseneli + ", " : "") +
+                (bezaneshate != null ? "bezaneshate=" + bezaneshate + ", " : "") +
+                (sazmani != null ? "sazmani=" + sazmani + ", " : "") +
+                (tarikhBazneshastegi != null ? "tarikhBazneshastegi=" + tarikhBazneshastegi + ", " : "") +
+                (tarikhEstekhdam != null ? "tarikhEstekhdam=" + tarikhEstekhdam + ", " : "") +
+                (yeganId != null ? "yeganId=" + yeganId + ", " : "") +
+                (yeganCodeId != null ? "yeganCodeId=" + yeganCodeId + ", " : "") +
+                (darajeId != null ? "darajeId=" + darajeId + ", " : "") +
+                (sematId != null ? "sematId=" + sematId + ", " : "") +
+            "}";
+    }
+
+}
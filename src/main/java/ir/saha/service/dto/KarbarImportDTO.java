@@ -0,0 +1,174 @@
+package ir.saha.service.dto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing a bulk import of {@link ir.saha.domain.Karbar}s, and its progress.
+ */
+public class KarbarImportDTO {
+
+    /**
+     * The states of an import.
+     */
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String id;
+
+    private String format;
+
+    private Status status;
+
+    private int rowsRead;
+
+    private int rowsImported;
+
+    private int rowsFailed;
+
+    private List<RowError> errors = new ArrayList<>();
+
+    private String message;
+
+    private Instant createdDate;
+
+    private Instant finishedDate;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    public void setRowsRead(int rowsRead) {
+        this.rowsRead = rowsRead;
+    }
+
+    public int getRowsImported() {
+        return rowsImported;
+    }
+
+    public void setRowsImported(int rowsImported) {
+        this.rowsImported = rowsImported;
+    }
+
+    public int getRowsFailed() {
+        return rowsFailed;
+    }
+
+    public void setRowsFailed(int rowsFailed) {
+        this.rowsFailed = rowsFailed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public Instant getFinishedDate() {
+        return finishedDate;
+    }
+
+    public void setFinishedDate(Instant finishedDate) {
+        this.finishedDate = finishedDate;
+    }
+
+    @Override
+    public String toString() {
+        return "KarbarImportDTO{" +
+            "id='" + id + "'" +
+            ", format='" + format + "'" +
+            ", status='" + status + "'" +
+            ", rowsRead=" + rowsRead +
+            ", rowsImported=" + rowsImported +
+            ", rowsFailed=" + rowsFailed +
+            ", message='" + message + "'" +
+            "}";
+    }
+
+    /**
+     * The reason a row of the file was not imported.
+     */
+    public static class RowError {
+
+        private int row;
+
+        private String message;
+
+        public RowError() {
+            // Empty constructor needed for Jackson.
+        }
+
+        public RowError(int row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public void setRow(int row) {
+            this.row = row;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public String toString() {
+            return "RowError{" +
+                "row=" + row +
+                ", message='" + message + "'" +
+                "}";
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.Payam} entity. This class is used
+ * in {@link ir.saha.web.rest.PayamResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /payams?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class PayamCriteria implements Serializable, Criteria {
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter onvan;
+
+    private LongFilter karbarErsalKonandeId;
+
+    private LongFilter karbarDaryaftKonandId;
+
+    private LongFilter yeganErsalKonanadeId;
+
+    private LongFilter yeganDaryaftKonanadeId;
+
+    public PayamCriteria() {
+    }
+
+    public PayamCriteria(PayamCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.onvan = other.onvan == null ? null : other.onvan.copy();
+        this.karbarErsalKonandeId = other.karbarErsalKonandeId == null ? null : other.karbarErsalKonandeId.copy();
+        this.karbarDaryaftKonandId = other.karbarDaryaftKonandId == null ? null : other.karbarDaryaftKonandId.copy();
+        this.yeganErsalKonanadeId = other.yeganErsalKonanadeId == null ? null : other.yeganErsalKonanadeId.copy();
+        this.yeganDaryaftKonanadeId = other.yeganDaryaftKonanadeId == null ? null : other.yeganDaryaftKonanadeId.copy();
+    }
+
+    @Override
+    public PayamCriteria copy() {
+        return new PayamCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getOnvan() {
+        return onvan;
+    }
+
+    public void setOnvan(StringFilter onvan) {
+        this.onvan = onvan;
+    }
+
+    public LongFilter getKarbarErsalKonandeId() {
+        return karbarErsalKonandeId;
+    }
+
+    public void setKarbarErsalKonandeId(LongFilter karbarErsalKonandeId) {
+        this.karbarErsalKonandeId = karbarErsalKonandeId;
+    }
+
+    public LongFilter getKarbarDaryaftKonandId() {
+        return karbarDaryaftKonandId;
+    }
+
+    public void setKarbarDaryaftKonandId(LongFilter karbarDaryaftKonandId) {
+        this.karbarDaryaftKonandId = karbarDaryaftKonandId;
+    }
+
+    public LongFilter getYeganErsalKonanadeId() {
+        return yeganErsalKonanadeId;
+    }
+
+    public void setYeganErsalKonanadeId(LongFilter yeganErsalKonanadeId) {
+        this.yeganErsalKonanadeId = yeganErsalKonanadeId;
+    }
+
+    public LongFilter getYeganDaryaftKonanadeId() {
+        return yeganDaryaftKonanadeId;
+    }
+
+    public void setYeganDaryaftKonanadeId(LongFilter yeganDaryaftKonanadeId) {
+        this.yeganDaryaftKonanadeId = yeganDaryaftKonanadeId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PayamCriteria that = (PayamCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(onvan, that.onvan) &&
+            Objects.equals(karbarErsalKonandeId, that.karbarErsalKonandeId) &&
+            Objects.equals(karbarDaryaftKonandId, that.karbarDaryaftKonandId) &&
+            Objects.equals(yeganErsalKonanadeId, that.yeganErsalKonanadeId) &&
+            Objects.equals(yeganDaryaftKonanadeId, that.yeganDaryaftKonanadeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        onvan,
+        karbarErsalKonandeId,
+        karbarDaryaftKonandId,
+        yeganErsalKonanadeId,
+        yeganDaryaftKonanadeId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "PayamCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (onvan != null ? "onvan=" + onvan + ", " : "") +
+                (karbarErsalKonandeId != null ? "karbarErsalKonandeId=" + karbarErsalKonandeId + ", " : "") +
+                (karbarDaryaftKonandId != null ? "karbarDaryaftKonandId=" + karbarDaryaftKonandId + ", " : "") +
+                (yeganErsalKonanadeId != null ? "yeganErsalKonanadeId=" + yeganErsalKonanadeId + ", " : "") +
+                (yeganDaryaftKonanadeId != null ? "yeganDaryaftKonanadeId=" + yeganDaryaftKonanadeId + ", " : "") +
+            "}";
+    }
+
+}
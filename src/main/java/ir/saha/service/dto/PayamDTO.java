@@ -0,0 +1,114 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link ir.saha.domain.Payam} entity, as it is read.
+ */
+public class PayamDTO implements Serializable {
+
+    private Long id;
+
+    private String onvan;
+
+    private String matn;
+
+    private Long karbarErsalKonandeId;
+
+    private Long karbarDaryaftKonandId;
+
+    private Long yeganErsalKonanadeId;
+
+    private Long yeganDaryaftKonanadeId;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getOnvan() {
+        return onvan;
+    }
+
+    public void setOnvan(String onvan) {
+        this.onvan = onvan;
+    }
+
+    public String getMatn() {
+        return matn;
+    }
+
+    public void setMatn(String matn) {
+        this.matn = matn;
+    }
+
+    public Long getKarbarErsalKonandeId() {
+        return karbarErsalKonandeId;
+    }
+
+    public void setKarbarErsalKonandeId(Long karbarErsalKonandeId) {
+        this.karbarErsalKonandeId = karbarErsalKonandeId;
+    }
+
+    public Long getKarbarDaryaftKonandId() {
+        return karbarDaryaftKonandId;
+    }
+
+    public void setKarbarDaryaftKonandId(Long karbarDaryaftKonandId) {
+        this.karbarDaryaftKonandId = karbarDaryaftKonandId;
+    }
+
+    public Long getYeganErsalKonanadeId() {
+        return yeganErsalKonanadeId;
+    }
+
+    public void setYeganErsalKonanadeId(Long yeganErsalKonanadeId) {
+        this.yeganErsalKonanadeId = yeganErsalKonanadeId;
+    }
+
+    public Long getYeganDaryaftKonanadeId() {
+        return yeganDaryaftKonanadeId;
+    }
+
+    public void setYeganDaryaftKonanadeId(Long yeganDaryaftKonanadeId) {
+        this.yeganDaryaftKonanadeId = yeganDaryaftKonanadeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PayamDTO payamDTO = (PayamDTO) o;
+        if (payamDTO.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), payamDTO.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "PayamDTO{" +
+            "id=" + getId() +
+            ", onvan='" + getOnvan() + "'" +
+            ", matn='" + getMatn() + "'" +
+            ", karbarErsalKonandeId=" + getKarbarErsalKonandeId() +
+            ", karbarDaryaftKonandId=" + getKarbarDaryaftKonandId() +
+            ", yeganErsalKonanadeId=" + getYeganErsalKonanadeId() +
+            ", yeganDaryaftKonanadeId=" + getYeganDaryaftKonanadeId() +
+            "}";
+    }
+}
@@ -0,0 +1,91 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.Semat} entity. This class is used
+ * in {@link ir.saha.web.rest.SematResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /semats?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class SematCriteria implements Serializable, Criteria {
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter onvanShoghli;
+
+    public SematCriteria() {
+    }
+
+    public SematCriteria(SematCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.onvanShoghli = other.onvanShoghli == null ? null : other.onvanShoghli.copy();
+    }
+
+    @Override
+    public SematCriteria copy() {
+        return new SematCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getOnvanShoghli() {
+        return onvanShoghli;
+    }
+
+    public void setOnvanShoghli(StringFilter onvanShoghli) {
+        this.onvanShoghli = onvanShoghli;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SematCriteria that = (SematCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(onvanShoghli, that.onvanShoghli);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        onvanShoghli
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "SematCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (onvanShoghli != null ? "onvanShoghli=" + onvanShoghli + ", " : "") +
+            "}";
+    }
+
+}
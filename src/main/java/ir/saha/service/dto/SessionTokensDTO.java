@@ -0,0 +1,31 @@
+package ir.saha.service.dto;
+
+/**
+ * A DTO representing the tokens issued for a session - a short-lived access token and the refresh token renewing it.
+ */
+public class SessionTokensDTO {
+
+    private final String accessToken;
+
+    private final String refreshToken;
+
+    private final long expiresInSeconds;
+
+    public SessionTokensDTO(String accessToken, String refreshToken, long expiresInSeconds) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.expiresInSeconds = expiresInSeconds;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public long getExpiresInSeconds() {
+        return expiresInSeconds;
+    }
+}
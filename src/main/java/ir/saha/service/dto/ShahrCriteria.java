@@ -0,0 +1,147 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.Shahr} entity. This class is used
+ * in {@link ir.saha.web.rest.ShahrResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /shahrs?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class ShahrCriteria implements Serializable, Criteria {
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private IntegerFilter zaribAboHava;
+
+    private IntegerFilter zaribTashilat;
+
+    private IntegerFilter masafatTaMarkaz;
+
+    private LongFilter ostanId;
+
+    public ShahrCriteria() {
+    }
+
+    public ShahrCriteria(ShahrCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.name = other.name == null ? null : other.name.copy();
+        this.zaribAboHava = other.zaribAboHava == null ? null : other.zaribAboHava.copy();
+        this.zaribTashilat = other.zaribTashilat == null ? null : other.zaribTashilat.copy();
+        this.masafatTaMarkaz = other.masafatTaMarkaz == null ? null : other.masafatTaMarkaz.copy();
+        this.ostanId = other.ostanId == null ? null : other.ostanId.copy();
+    }
+
+    @Override
+    public ShahrCriteria copy() {
+        return new ShahrCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public IntegerFilter getZaribAboHava() {
+        return zaribAboHava;
+    }
+
+    public void setZaribAboHava(IntegerFilter zaribAboHava) {
+        this.zaribAboHava = zaribAboHava;
+    }
+
+    public IntegerFilter getZaribTashilat() {
+        return zaribTashilat;
+    }
+
+    public void setZaribTashilat(IntegerFilter zaribTashilat) {
+        this.zaribTashilat = zaribTashilat;
+    }
+
+    public IntegerFilter getMasafatTaMarkaz() {
+        return masafatTaMarkaz;
+    }
+
+    public void setMasafatTaMarkaz(IntegerFilter masafatTaMarkaz) {
+        this.masafatTaMarkaz = masafatTaMarkaz;
+    }
+
+    public LongFilter getOstanId() {
+        return ostanId;
+    }
+
+    public void setOstanId(LongFilter ostanId) {
+        this.ostanId = ostanId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ShahrCriteria that = (ShahrCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(zaribAboHava, that.zaribAboHava) &&
+            Objects.equals(zaribTashilat, that.zaribTashilat) &&
+            Objects.equals(masafatTaMarkaz, that.masafatTaMarkaz) &&
+            Objects.equals(ostanId, that.ostanId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        name,
+        zaribAboHava,
+        zaribTashilat,
+        masafatTaMarkaz,
+        ostanId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "ShahrCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (name != null ? "name=" + name + ", " : "") +
+                (zaribAboHava != null ? "zaribAboHava=" + zaribAboHava + ", " : "") +
+                (zaribTashilat != null ? "zaribTashilat=" + zaribTashilat + ", " : "") +
+                (masafatTaMarkaz != null ? "masafatTaMarkaz=" + masafatTaMarkaz + ", " : "") +
+                (ostanId != null ? "ostanId=" + ostanId + ", " : "") +
+            "}";
+    }
+
+}
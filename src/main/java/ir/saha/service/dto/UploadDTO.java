@@ -0,0 +1,81 @@
+package ir.saha.service.dto;
+
+import java.time.Instant;
+
+/**
+ * A DTO representing a chunked upload.
+ */
+public class UploadDTO {
+
+    private String id;
+
+    private String contentType;
+
+    private int nextPart;
+
+    private long size;
+
+    private Instant createdDate;
+
+    private String hash;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public int getNextPart() {
+        return nextPart;
+    }
+
+    public void setNextPart(int nextPart) {
+        this.nextPart = nextPart;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    @Override
+    public String toString() {
+        return "UploadDTO{" +
+            "id='" + id + '\'' +
+            ", contentType='" + contentType + '\'' +
+            ", nextPart=" + nextPart +
+            ", size=" + size +
+            ", createdDate=" + createdDate +
+            ", hash='" + hash + '\'' +
+            "}";
+    }
+}
@@ -0,0 +1,133 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.YeganCode} entity. This class is used
+ * in {@link ir.saha.web.rest.YeganCodeResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /yegan-codes?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class YeganCodeCriteria implements Serializable, Criteria {
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private StringFilter code;
+
+    private LongFilter yeganId;
+
+    private LongFilter nirooCodeId;
+
+    public YeganCodeCriteria() {
+    }
+
+    public YeganCodeCriteria(YeganCodeCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.name = other.name == null ? null : other.name.copy();
+        this.code = other.code == null ? null : other.code.copy();
+        this.yeganId = other.yeganId == null ? null : other.yeganId.copy();
+        this.nirooCodeId = other.nirooCodeId == null ? null : other.nirooCodeId.copy();
+    }
+
+    @Override
+    public YeganCodeCriteria copy() {
+        return new YeganCodeCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public StringFilter getCode() {
+        return code;
+    }
+
+    public void setCode(StringFilter code) {
+        this.code = code;
+    }
+
+    public LongFilter getYeganId() {
+        return yeganId;
+    }
+
+    public void setYeganId(LongFilter yeganId) {
+        this.yeganId = yeganId;
+    }
+
+    public LongFilter getNirooCodeId() {
+        return nirooCodeId;
+    }
+
+    public void setNirooCodeId(LongFilter nirooCodeId) {
+        this.nirooCodeId = nirooCodeId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final YeganCodeCriteria that = (YeganCodeCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(code, that.code) &&
+            Objects.equals(yeganId, that.yeganId) &&
+            Objects.equals(nirooCodeId, that.nirooCodeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        name,
+        code,
+        yeganId,
+        nirooCodeId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "YeganCodeCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (name != null ? "name=" + name + ", " : "") +
+                (code != null ? "code=" + code + ", " : "") +
+                (yeganId != null ? "yeganId=" + yeganId + ", " : "") +
+                (nirooCodeId != null ? "nirooCodeId=" + nirooCodeId + ", " : "") +
+            "}";
+    }
+
+}
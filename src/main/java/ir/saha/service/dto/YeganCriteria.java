@@ -0,0 +1,161 @@
+package ir.saha.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import io.github.jhipster.service.Criteria;
+import io.github.jhipster.service.filter.BooleanFilter;
+import io.github.jhipster.service.filter.DoubleFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.FloatFilter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+import io.github.jhipster.service.filter.InstantFilter;
+
+/**
+ * Criteria class for the {@link ir.saha.domain.Yegan} entity. This class is used
+ * in {@link ir.saha.web.rest.YeganResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /yegans?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class YeganCriteria implements Serializable, Criteria {
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private StringFilter code;
+
+    private LongFilter yeganCodeId;
+
+    private LongFilter nirooCodeId;
+
+    private LongFilter shahrId;
+
+    private LongFilter yeganTypeId;
+
+    public YeganCriteria() {
+    }
+
+    public YeganCriteria(YeganCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.name = other.name == null ? null : other.name.copy();
+        this.code = other.code == null ? null : other.code.copy();
+        this.yeganCodeId = other.yeganCodeId == null ? null : other.yeganCodeId.copy();
+        this.nirooCodeId = other.nirooCodeId == null ? null : other.nirooCodeId.copy();
+        this.shahrId = other.shahrId == null ? null : other.shahrId.copy();
+        this.yeganTypeId = other.yeganTypeId == null ? null : other.yeganTypeId.copy();
+    }
+
+    @Override
+    public YeganCriteria copy() {
+        return new YeganCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public StringFilter getCode() {
+        return code;
+    }
+
+    public void setCode(StringFilter code) {
+        this.code = code;
+    }
+
+    public LongFilter getYeganCodeId() {
+        return yeganCodeId;
+    }
+
+    public void setYeganCodeId(LongFilter yeganCodeId) {
+        this.yeganCodeId = yeganCodeId;
+    }
+
+    public LongFilter getNirooCodeId() {
+        return nirooCodeId;
+    }
+
+    public void setNirooCodeId(LongFilter nirooCodeId) {
+        this.nirooCodeId = nirooCodeId;
+    }
+
+    public LongFilter getShahrId() {
+        return shahrId;
+    }
+
+    public void setShahrId(LongFilter shahrId) {
+        this.shahrId = shahrId;
+    }
+
+    public LongFilter getYeganTypeId() {
+        return yeganTypeId;
+    }
+
+    public void setYeganTypeId(LongFilter yeganTypeId) {
+        this.yeganTypeId = yeganTypeId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final YeganCriteria that = (YeganCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(code, that.code) &&
+            Objects.equals(yeganCodeId, that.yeganCodeId) &&
+            Objects.equals(nirooCodeId, that.nirooCodeId) &&
+            Objects.equals(shahrId, that.shahrId) &&
+            Objects.equals(yeganTypeId, that.yeganTypeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        name,
+        code,
+        yeganCodeId,
+        nirooCodeId,
+        shahrId,
+        yeganTypeId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "YeganCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (name != null ? "name=" + name + ", " : "") +
+                (code != null ? "code=" + code + ", " : "") +
+                (yeganCodeId != null ? "yeganCodeId=" + yeganCodeId + ", " : "") +
+                (nirooCodeId != null ? "nirooCodeId=" + nirooCodeId + ", " : "") +
+                (shahrId != null ? "shahrId=" + shahrId + ", " : "") +
+                (yeganTypeId != null ? "yeganTypeId=" + yeganTypeId + ", " : "") +
+            "}";
+    }
+
+}
@@ -0,0 +1,19 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.BargeMamooriat;
+import ir.saha.service.dto.BargeMamooriatDTO;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for the entity {@link BargeMamooriat} and its DTO {@link BargeMamooriatDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface BargeMamooriatMapper extends EntityMapper<BargeMamooriatDTO, BargeMamooriat> {
+
+    @Mapping(source = "sarparast.id", target = "sarparastId")
+    @Mapping(source = "yegan.id", target = "yeganId")
+    @Mapping(source = "hesabResi.id", target = "hesabResiId")
+    BargeMamooriatDTO toDto(BargeMamooriat bargeMamooriat);
+}
@@ -0,0 +1,13 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.BarnameHesabResi;
+import ir.saha.service.dto.BarnameHesabResiDTO;
+
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper for the entity {@link BarnameHesabResi} and its DTO {@link BarnameHesabResiDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface BarnameHesabResiMapper extends EntityMapper<BarnameHesabResiDTO, BarnameHesabResi> {
+}
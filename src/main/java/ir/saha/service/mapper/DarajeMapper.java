@@ -0,0 +1,13 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Daraje;
+import ir.saha.service.dto.DarajeDTO;
+
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper for the entity {@link Daraje} and its DTO {@link DarajeDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface DarajeMapper extends EntityMapper<DarajeDTO, Daraje> {
+}
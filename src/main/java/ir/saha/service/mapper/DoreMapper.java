@@ -0,0 +1,17 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Dore;
+import ir.saha.service.dto.DoreDTO;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for the entity {@link Dore} and its DTO {@link DoreDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface DoreMapper extends EntityMapper<DoreDTO, Dore> {
+
+    @Mapping(source = "karbar.id", target = "karbarId")
+    DoreDTO toDto(Dore dore);
+}
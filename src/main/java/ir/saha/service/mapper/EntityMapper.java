@@ -0,0 +1,16 @@
+package ir.saha.service.mapper;
+
+import java.util.List;
+
+/**
+ * Contract for a generic entity to dto mapper, for the entities as they are read.
+ *
+ * @param <D> - DTO type parameter.
+ * @param <E> - Entity type parameter.
+ */
+public interface EntityMapper<D, E> {
+
+    D toDto(E entity);
+
+    List<D> toDto(List<E> entityList);
+}
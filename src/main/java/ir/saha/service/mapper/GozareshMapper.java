@@ -0,0 +1,13 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Gozaresh;
+import ir.saha.service.dto.GozareshDTO;
+
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper for the entity {@link Gozaresh} and its DTO {@link GozareshDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface GozareshMapper extends EntityMapper<GozareshDTO, Gozaresh> {
+}
@@ -0,0 +1,18 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.HesabResi;
+import ir.saha.service.dto.HesabResiDTO;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for the entity {@link HesabResi} and its DTO {@link HesabResiDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface HesabResiMapper extends EntityMapper<HesabResiDTO, HesabResi> {
+
+    @Mapping(source = "gozaresh.id", target = "gozareshId")
+    @Mapping(source = "barnameHesabResi.id", target = "barnameHesabResiId")
+    HesabResiDTO toDto(HesabResi hesabResi);
+}
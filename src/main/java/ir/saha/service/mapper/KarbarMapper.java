@@ -0,0 +1,33 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Karbar;
+import ir.saha.service.dto.KarbarDTO;
+
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+/**
+ * Mapper for the entity {@link Karbar} and its DTO {@link KarbarDTO}.
+ * <p>
+ * The many-to-many relationships are only mapped by {@link #toDtoWithEagerRelationships(Karbar)}, so that mapping a
+ * {@link Karbar} whose relationships were not fetched does not load them one by one.
+ */
+@Mapper(componentModel = "spring", uses = {BargeMamooriatMapper.class})
+public interface KarbarMapper extends EntityMapper<KarbarDTO, Karbar> {
+
+    @Mapping(source = "yegan.id", target = "yeganId")
+    @Mapping(source = "yeganCode.id", target = "yeganCodeId")
+    @Mapping(source = "daraje.id", target = "darajeId")
+    @Mapping(source = "semat.id", target = "sematId")
+    @Mapping(target = "bargeMamoorits", ignore = true)
+    @Mapping(target = "binanadeBargeMamoorits", ignore = true)
+    KarbarDTO toDto(Karbar karbar);
+
+    @Named("withEagerRelationships")
+    @InheritConfiguration(name = "toDto")
+    @Mapping(source = "bargeMamoorits", target = "bargeMamoorits")
+    @Mapping(source = "binanadeBargeMamoorits", target = "binanadeBargeMamoorits")
+    KarbarDTO toDtoWithEagerRelationships(Karbar karbar);
+}
@@ -0,0 +1,13 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Mantaghe;
+import ir.saha.service.dto.MantagheDTO;
+
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper for the entity {@link Mantaghe} and its DTO {@link MantagheDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface MantagheMapper extends EntityMapper<MantagheDTO, Mantaghe> {
+}
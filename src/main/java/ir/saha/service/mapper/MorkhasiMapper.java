@@ -0,0 +1,17 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Morkhasi;
+import ir.saha.service.dto.MorkhasiDTO;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for the entity {@link Morkhasi} and its DTO {@link MorkhasiDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface MorkhasiMapper extends EntityMapper<MorkhasiDTO, Morkhasi> {
+
+    @Mapping(source = "karbar.id", target = "karbarId")
+    MorkhasiDTO toDto(Morkhasi morkhasi);
+}
@@ -0,0 +1,17 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Negahbani;
+import ir.saha.service.dto.NegahbaniDTO;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for the entity {@link Negahbani} and its DTO {@link NegahbaniDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface NegahbaniMapper extends EntityMapper<NegahbaniDTO, Negahbani> {
+
+    @Mapping(source = "karbar.id", target = "karbarId")
+    NegahbaniDTO toDto(Negahbani negahbani);
+}
@@ -0,0 +1,13 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.NirooCode;
+import ir.saha.service.dto.NirooCodeDTO;
+
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper for the entity {@link NirooCode} and its DTO {@link NirooCodeDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface NirooCodeMapper extends EntityMapper<NirooCodeDTO, NirooCode> {
+}
@@ -0,0 +1,17 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Ostan;
+import ir.saha.service.dto.OstanDTO;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for the entity {@link Ostan} and its DTO {@link OstanDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface OstanMapper extends EntityMapper<OstanDTO, Ostan> {
+
+    @Mapping(source = "mantaghe.id", target = "mantagheId")
+    OstanDTO toDto(Ostan ostan);
+}
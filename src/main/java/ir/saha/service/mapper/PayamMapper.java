@@ -0,0 +1,20 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Payam;
+import ir.saha.service.dto.PayamDTO;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for the entity {@link Payam} and its DTO {@link PayamDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface PayamMapper extends EntityMapper<PayamDTO, Payam> {
+
+    @Mapping(source = "karbarErsalKonande.id", target = "karbarErsalKonandeId")
+    @Mapping(source = "karbarDaryaftKonand.id", target = "karbarDaryaftKonandId")
+    @Mapping(source = "yeganErsalKonanade.id", target = "yeganErsalKonanadeId")
+    @Mapping(source = "yeganDaryaftKonanade.id", target = "yeganDaryaftKonanadeId")
+    PayamDTO toDto(Payam payam);
+}
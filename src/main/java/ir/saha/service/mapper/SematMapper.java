@@ -0,0 +1,13 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Semat;
+import ir.saha.service.dto.SematDTO;
+
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper for the entity {@link Semat} and its DTO {@link SematDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface SematMapper extends EntityMapper<SematDTO, Semat> {
+}
@@ -0,0 +1,17 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Shahr;
+import ir.saha.service.dto.ShahrDTO;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for the entity {@link Shahr} and its DTO {@link ShahrDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface ShahrMapper extends EntityMapper<ShahrDTO, Shahr> {
+
+    @Mapping(source = "ostan.id", target = "ostanId")
+    ShahrDTO toDto(Shahr shahr);
+}
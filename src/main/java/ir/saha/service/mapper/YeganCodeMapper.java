@@ -0,0 +1,18 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.YeganCode;
+import ir.saha.service.dto.YeganCodeDTO;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for the entity {@link YeganCode} and its DTO {@link YeganCodeDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface YeganCodeMapper extends EntityMapper<YeganCodeDTO, YeganCode> {
+
+    @Mapping(source = "yegan.id", target = "yeganId")
+    @Mapping(source = "nirooCode.id", target = "nirooCodeId")
+    YeganCodeDTO toDto(YeganCode yeganCode);
+}
@@ -0,0 +1,30 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.Yegan;
+import ir.saha.service.dto.YeganDTO;
+
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+/**
+ * Mapper for the entity {@link Yegan} and its DTO {@link YeganDTO}.
+ * <p>
+ * The many-to-many relationships are only mapped by {@link #toDtoWithEagerRelationships(Yegan)}, so that mapping a
+ * {@link Yegan} whose relationships were not fetched does not load them one by one.
+ */
+@Mapper(componentModel = "spring")
+public interface YeganMapper extends EntityMapper<YeganDTO, Yegan> {
+
+    @Mapping(source = "nirooCode.id", target = "nirooCodeId")
+    @Mapping(source = "shahr.id", target = "shahrId")
+    @Mapping(source = "yeganType.id", target = "yeganTypeId")
+    @Mapping(target = "zirYegans", ignore = true)
+    YeganDTO toDto(Yegan yegan);
+
+    @Named("withEagerRelationships")
+    @InheritConfiguration(name = "toDto")
+    @Mapping(source = "zirYegans", target = "zirYegans")
+    YeganDTO toDtoWithEagerRelationships(Yegan yegan);
+}
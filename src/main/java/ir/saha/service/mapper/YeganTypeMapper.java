@@ -0,0 +1,13 @@
+package ir.saha.service.mapper;
+
+import ir.saha.domain.YeganType;
+import ir.saha.service.dto.YeganTypeDTO;
+
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper for the entity {@link YeganType} and its DTO {@link YeganTypeDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface YeganTypeMapper extends EntityMapper<YeganTypeDTO, YeganType> {
+}
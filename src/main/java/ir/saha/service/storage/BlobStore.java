@@ -0,0 +1,90 @@
+package ir.saha.service.storage;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Content-addressed store for file contents.
+ * <p>
+ * Blobs are identified by the lowercase hex SHA-256 of their content, so storing the same content twice
+ * yields the same {@link StoredBlob} and keeps a single copy.
+ */
+public interface BlobStore {
+
+    /**
+     * Stores the content of the stream, which is consumed but not closed.
+     *
+     * @param content the content to store.
+     * @return the reference to the stored blob.
+     */
+    StoredBlob put(InputStream content);
+
+    /**
+     * Stores the given content.
+     *
+     * @param content the content to store.
+     * @return the reference to the stored blob.
+     */
+    default StoredBlob put(byte[] content) {
+        return put(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Stores the content of a file whose SHA-256 hash has already been computed. The file is removed.
+     *
+     * @param file the file to store.
+     * @param hash the SHA-256 hash of the file content.
+     * @return the reference to the stored blob.
+     */
+    default StoredBlob move(Path file, String hash) {
+        try {
+            StoredBlob blob;
+            try (InputStream in = Files.newInputStream(file)) {
+                blob = put(in);
+            }
+            Files.delete(file);
+            return blob;
+        } catch (IOException e) {
+            throw new BlobStoreException("Could not store blob " + hash, e);
+        }
+    }
+
+    /**
+     * Returns the blob with the given hash.
+     *
+     * @param hash the SHA-256 hash of the blob.
+     * @return the blob as a readable {@link Resource}, or empty if it is not in the store.
+     */
+    Optional<Resource> get(String hash);
+
+    /**
+     * Reads the whole blob with the given hash into memory.
+     *
+     * @param hash the SHA-256 hash of the blob.
+     * @return the content of the blob, or empty if it is not in the store.
+     */
+    default Optional<byte[]> read(String hash) {
+        return get(hash).map(resource -> {
+            try (InputStream in = resource.getInputStream()) {
+                return StreamUtils.copyToByteArray(in);
+            } catch (IOException e) {
+                throw new BlobStoreException("Could not read blob " + hash, e);
+            }
+        });
+    }
+
+    /**
+     * Removes the blob with the given hash, if present.
+     *
+     * @param hash the SHA-256 hash of the blob.
+     * @return {@code true} if the blob was removed.
+     */
+    boolean delete(String hash);
+}
@@ -0,0 +1,56 @@
+package ir.saha.service.storage;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class for the SHA-256 digests identifying blobs.
+ */
+public final class Digests {
+
+    private static final Pattern SHA_256_HEX = Pattern.compile("^[0-9a-f]{64}$");
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private Digests() {
+    }
+
+    /**
+     * Create a new SHA-256 digest.
+     *
+     * @return the digest.
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Encode a digest as lowercase hex.
+     *
+     * @param bytes the digest.
+     * @return the hex string.
+     */
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Check whether the value is a lowercase hex SHA-256 digest.
+     *
+     * @param hash the value to check, may be null.
+     * @return true if the value is a SHA-256 hex digest.
+     */
+    public static boolean isSha256Hex(String hash) {
+        return hash != null && SHA_256_HEX.matcher(hash).matches();
+    }
+}
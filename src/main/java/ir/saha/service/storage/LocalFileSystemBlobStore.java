@@ -0,0 +1,144 @@
+package ir.saha.service.storage;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+/**
+ * {@link BlobStore} keeping blobs as files on the local filesystem.
+ * <p>
+ * A blob with hash {@code abcdef...} is stored as {@code <root>/ab/cd/abcdef...}. Content is first streamed
+ * to a temporary file under {@code <root>/tmp} while its digest is computed, then moved into place, so
+ * readers never see a partially written blob.
+ */
+public class LocalFileSystemBlobStore implements BlobStore {
+
+    private final Logger log = LoggerFactory.getLogger(LocalFileSystemBlobStore.class);
+
+    private final Path root;
+
+    private final Path tmp;
+
+    public LocalFileSystemBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tmp = this.root.resolve("tmp");
+        try {
+            Files.createDirectories(tmp);
+        } catch (IOException e) {
+            throw new BlobStoreException("Could not create blob store directory " + this.root, e);
+        }
+        log.debug("Using local blob store in {}", this.root);
+    }
+
+    @Override
+    public StoredBlob put(InputStream content) {
+        Path upload = null;
+        try {
+            upload = Files.createTempFile(tmp, "upload-", ".part");
+            MessageDigest digest = Digests.sha256();
+            long size;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(upload), digest)) {
+                size = IOUtils.copyLarge(content, out);
+            }
+            StoredBlob blob = new StoredBlob(Digests.toHex(digest.digest()), size);
+            moveIntoPlace(upload, pathOf(blob.getHash()));
+            return blob;
+        } catch (IOException e) {
+            throw new BlobStoreException("Could not store blob", e);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    @Override
+    public StoredBlob move(Path file, String hash) {
+        if (!Digests.isSha256Hex(hash)) {
+            throw new IllegalArgumentException("Not a SHA-256 hash: " + hash);
+        }
+        try {
+            long size = Files.size(file);
+            moveIntoPlace(file, pathOf(hash));
+            return new StoredBlob(hash, size);
+        } catch (IOException e) {
+            throw new BlobStoreException("Could not store blob " + hash, e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(String hash) {
+        if (!Digests.isSha256Hex(hash)) {
+            return Optional.empty();
+        }
+        Path path = pathOf(hash);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(new FileSystemResource(path));
+    }
+
+    @Override
+    public boolean delete(String hash) {
+        if (!Digests.isSha256Hex(hash)) {
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(pathOf(hash));
+        } catch (IOException e) {
+            throw new BlobStoreException("Could not delete blob " + hash, e);
+        }
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private void moveIntoPlace(Path source, Path target) throws IOException {
+        if (Files.exists(target)) {
+            // Same content is already stored
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(source, target);
+            } catch (FileAlreadyExistsException ignored) {
+                // Stored concurrently by another writer
+            }
+        } catch (FileAlreadyExistsException ignored) {
+            // Stored concurrently by another writer
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ir.saha.service.storage;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Reference to a blob held by a {@link BlobStore}: its SHA-256 hash and its size in bytes.
+ */
+public final class StoredBlob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String hash;
+
+    private final long size;
+
+    public StoredBlob(String hash, long size) {
+        this.hash = hash;
+        this.size = size;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StoredBlob)) {
+            return false;
+        }
+        StoredBlob that = (StoredBlob) o;
+        return size == that.size && hash.equals(that.hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hash, size);
+    }
+
+    @Override
+    public String toString() {
+        return "StoredBlob{" +
+            "hash='" + hash + "'" +
+            ", size=" + size +
+            "}";
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Content-addressed storage for file contents kept outside of the database.
+ */
+package ir.saha.service.storage;
@@ -0,0 +1,86 @@
+package ir.saha.service.tabular;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a UTF-8 CSV file, as specified by RFC 4180: comma separated values, which can be quoted to hold commas, line
+ * breaks and doubled quotes. A leading byte order mark is skipped.
+ */
+public class CsvReader implements TabularReader {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+
+    private int rowNumber;
+
+    private int next;
+
+    public CsvReader(Path file) throws IOException {
+        this(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+    }
+
+    public CsvReader(Reader reader) throws IOException {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+        this.next = this.reader.read();
+        if (next == BYTE_ORDER_MARK) {
+            next = this.reader.read();
+        }
+    }
+
+    @Override
+    public List<String> readRow() throws IOException {
+        if (next == -1) {
+            return null;
+        }
+        rowNumber++;
+        List<String> row = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            int c = next;
+            next = reader.read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted value in row " + rowNumber);
+                } else if (c == '"' && next == '"') {
+                    value.append('"');
+                    next = reader.read();
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append((char) c);
+                }
+            } else if (c == '"' && value.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                row.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\r' && next == '\n') {
+                continue;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                row.add(value.toString());
+                return row;
+            } else {
+                value.append((char) c);
+            }
+        }
+    }
+
+    @Override
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
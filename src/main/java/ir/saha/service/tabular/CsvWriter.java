@@ -0,0 +1,66 @@
+package ir.saha.service.tabular;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes a UTF-8 CSV file, as specified by RFC 4180. The file starts with a byte order mark, for spreadsheets to
+ * recognize its encoding.
+ * <p>
+ * The text values that a spreadsheet would take for a formula, starting with {@code =}, {@code +}, {@code -},
+ * {@code @}, a tab or a carriage return, are written with a leading {@code '}, so that opening an export never runs
+ * what a user typed. Numbers and the other values are written as they are.
+ */
+public class CsvWriter implements TabularWriter {
+
+    private final Writer writer;
+
+    public CsvWriter(OutputStream out) throws IOException {
+        this(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    public CsvWriter(Writer writer) throws IOException {
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        this.writer.write('\uFEFF');
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value instanceof CharSequence) {
+                writer.write(escape(neutralize(value.toString())));
+            } else if (value != null) {
+                writer.write(escape(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    static String neutralize(String text) {
+        if (text.isEmpty() || "=+-@\t\r".indexOf(text.charAt(0)) < 0) {
+            return text;
+        }
+        return "'" + text;
+    }
+
+    static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\r') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,59 @@
+package ir.saha.service.tabular;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The formats of tabular files.
+ */
+public enum TabularFormat {
+
+    CSV("text/csv", "csv"),
+
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+
+    private final String extension;
+
+    TabularFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Get the format of a file extension.
+     *
+     * @param extension the extension, for example {@code xlsx}, in any case.
+     * @return the format, or empty if the extension is not the one of a tabular format.
+     */
+    public static Optional<TabularFormat> fromExtension(String extension) {
+        return Arrays.stream(values())
+            .filter(format -> format.extension.equalsIgnoreCase(extension))
+            .findFirst();
+    }
+
+    /**
+     * Get the format of a content type, ignoring its parameters.
+     *
+     * @param contentType the content type, for example {@code text/csv;charset=UTF-8}.
+     * @return the format, or empty if the content type is not a tabular format.
+     */
+    public static Optional<TabularFormat> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        String mediaType = contentType.split(";", 2)[0].trim();
+        return Arrays.stream(values())
+            .filter(format -> format.contentType.equalsIgnoreCase(mediaType))
+            .findFirst();
+    }
+}
@@ -0,0 +1,46 @@
+package ir.saha.service.tabular;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Reads a tabular file row by row.
+ */
+public interface TabularReader extends Closeable {
+
+    /**
+     * Read the next row.
+     *
+     * @return the values of the row, in the order of its columns, or {@code null} at the end of the file.
+     * @throws IOException if the file cannot be read, or is malformed.
+     */
+    List<String> readRow() throws IOException;
+
+    /**
+     * Get the number of the last row read, as shown to the user: starting from 1, and counting the header row.
+     *
+     * @return the number of the row.
+     */
+    int getRowNumber();
+
+    /**
+     * Open a reader of a file.
+     *
+     * @param file   the file.
+     * @param format the format of the file.
+     * @return the reader, positioned before the first row.
+     * @throws IOException if the file cannot be opened.
+     */
+    static TabularReader open(Path file, TabularFormat format) throws IOException {
+        switch (format) {
+            case CSV:
+                return new CsvReader(file);
+            case XLSX:
+                return new XlsxReader(file);
+            default:
+                throw new IllegalArgumentException("Unsupported format " + format);
+        }
+    }
+}
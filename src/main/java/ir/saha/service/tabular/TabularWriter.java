@@ -0,0 +1,47 @@
+package ir.saha.service.tabular;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes a tabular file row by row.
+ */
+public interface TabularWriter extends Closeable {
+
+    /**
+     * Write the next row.
+     *
+     * @param values the values of the row, in the order of its columns; {@code null} values are left empty.
+     * @throws IOException if the row cannot be written.
+     */
+    void writeRow(List<?> values) throws IOException;
+
+    /**
+     * Complete the file, and close the stream it is written to.
+     *
+     * @throws IOException if the file cannot be completed.
+     */
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Open a writer to a stream.
+     *
+     * @param out    the stream.
+     * @param format the format of the file.
+     * @return the writer.
+     * @throws IOException if the start of the file cannot be written.
+     */
+    static TabularWriter open(OutputStream out, TabularFormat format) throws IOException {
+        switch (format) {
+            case CSV:
+                return new CsvWriter(out);
+            case XLSX:
+                return new XlsxWriter(out);
+            default:
+                throw new IllegalArgumentException("Unsupported format " + format);
+        }
+    }
+}
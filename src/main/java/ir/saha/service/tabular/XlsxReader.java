@@ -0,0 +1,327 @@
+package ir.saha.service.tabular;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the first worksheet of an XLSX file, with a streaming XML parser.
+ * <p>
+ * The cells refer to the shared strings of the workbook by their index: these are spilled to a temporary file, so that
+ * only their offsets are held in memory. Cells are read as their text: numbers and dates as the number stored, booleans
+ * as {@code true} or {@code false}, and formulas as their cached value.
+ * <p>
+ * A worksheet with a cell beyond the last column of a spreadsheet, {@code XFD}, is rejected as malformed, so that a
+ * cell reference never makes a row grow unbounded.
+ */
+public class XlsxReader implements TabularReader {
+
+    private static final String RELATIONSHIPS_NAMESPACE =
+        "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private static final String DEFAULT_SHEET = "xl/worksheets/sheet1.xml";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = newXmlInputFactory();
+
+    /**
+     * The number of columns of a worksheet, up to {@code XFD}.
+     */
+    static final int MAX_COLUMNS = 16384;
+
+    private final ZipFile zip;
+
+    private SharedStrings sharedStrings;
+
+    private InputStream sheetInput;
+
+    private XMLStreamReader sheet;
+
+    private int rowNumber;
+
+    public XlsxReader(Path file) throws IOException {
+        this.zip = new ZipFile(file.toFile());
+        try {
+            this.sharedStrings = SharedStrings.read(zip);
+            ZipEntry entry = zip.getEntry(firstSheet(zip));
+            if (entry == null) {
+                throw new IOException("The workbook has no worksheet");
+            }
+            this.sheetInput = zip.getInputStream(entry);
+            this.sheet = XML_INPUT_FACTORY.createXMLStreamReader(sheetInput);
+        } catch (XMLStreamException e) {
+            close();
+            throw new IOException("Malformed workbook", e);
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public List<String> readRow() throws IOException {
+        try {
+            while (sheet.hasNext()) {
+                if (sheet.next() == XMLStreamConstants.START_ELEMENT && "row".equals(sheet.getLocalName())) {
+                    String reference = sheet.getAttributeValue(null, "r");
+                    rowNumber = reference == null ? rowNumber + 1 : Integer.parseInt(reference);
+                    return readCells();
+                }
+            }
+            return null;
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new IOException("Malformed worksheet after row " + rowNumber, e);
+        }
+    }
+
+    @Override
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (sheet != null) {
+                sheet.close();
+            }
+        } catch (XMLStreamException e) {
+            // The stream itself is closed below
+        }
+        try (Closeable z = zip; Closeable s = sharedStrings; Closeable i = sheetInput) {
+            // Closed in reverse order
+        }
+    }
+
+    private List<String> readCells() throws XMLStreamException, IOException {
+        List<String> row = new ArrayList<>();
+        while (true) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(sheet.getLocalName())) {
+                String reference = sheet.getAttributeValue(null, "r");
+                String type = sheet.getAttributeValue(null, "t");
+                int column = reference == null ? row.size() : columnIndex(reference);
+                if (column < 0 || column >= MAX_COLUMNS) {
+                    throw new IOException("Malformed worksheet: cell " + (reference == null ? column + 1 : reference) +
+                        " of row " + rowNumber + " is not within columns A to XFD");
+                }
+                String value = readCell(type);
+                while (row.size() < column) {
+                    row.add("");
+                }
+                if (column < row.size()) {
+                    row.set(column, value);
+                } else {
+                    row.add(value);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheet.getLocalName())) {
+                return row;
+            }
+        }
+    }
+
+    private String readCell(String type) throws XMLStreamException, IOException {
+        StringBuilder text = new StringBuilder();
+        boolean inText = false;
+        while (true) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = sheet.getLocalName();
+                if ("rPh".equals(name)) {
+                    skipElement(sheet);
+                } else {
+                    inText = "v".equals(name) || "t".equals(name);
+                }
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                if (inText) {
+                    text.append(sheet.getText());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if ("c".equals(sheet.getLocalName())) {
+                    break;
+                }
+                inText = false;
+            }
+        }
+        String value = text.toString();
+        if ("s".equals(type)) {
+            return value.trim().isEmpty() ? "" : sharedStrings.get(Integer.parseInt(value.trim()));
+        } else if ("b".equals(type)) {
+            return String.valueOf("1".equals(value.trim()));
+        }
+        return value;
+    }
+
+    static int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+            if (column > MAX_COLUMNS) {
+                // Beyond XFD, and soon beyond an int
+                return MAX_COLUMNS;
+            }
+        }
+        return column - 1;
+    }
+
+    private static String firstSheet(ZipFile zip) throws IOException, XMLStreamException {
+        String relationshipId = null;
+        XMLStreamReader workbook = open(zip, "xl/workbook.xml");
+        if (workbook != null) {
+            try {
+                while (relationshipId == null && workbook.hasNext()) {
+                    if (workbook.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(workbook.getLocalName())) {
+                        relationshipId = workbook.getAttributeValue(RELATIONSHIPS_NAMESPACE, "id");
+                    }
+                }
+            } finally {
+                workbook.close();
+            }
+        }
+        XMLStreamReader relationships = relationshipId == null ? null : open(zip, "xl/_rels/workbook.xml.rels");
+        if (relationships != null) {
+            try {
+                while (relationships.hasNext()) {
+                    if (relationships.next() == XMLStreamConstants.START_ELEMENT &&
+                        relationshipId.equals(relationships.getAttributeValue(null, "Id"))) {
+                        String target = relationships.getAttributeValue(null, "Target");
+                        return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+                    }
+                }
+            } finally {
+                relationships.close();
+            }
+        }
+        return DEFAULT_SHEET;
+    }
+
+    private static XMLStreamReader open(ZipFile zip, String name) throws IOException, XMLStreamException {
+        ZipEntry entry = zip.getEntry(name);
+        return entry == null ? null : XML_INPUT_FACTORY.createXMLStreamReader(zip.getInputStream(entry));
+    }
+
+    private static void skipElement(XMLStreamReader xml) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLInputFactory newXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * The shared strings of a workbook, kept in a temporary file.
+     */
+    private static final class SharedStrings implements Closeable {
+
+        private Path file;
+
+        private RandomAccessFile data;
+
+        private long[] offsets = new long[0];
+
+        private int size;
+
+        static SharedStrings read(ZipFile zip) throws IOException, XMLStreamException {
+            SharedStrings strings = new SharedStrings();
+            ZipEntry entry = zip.getEntry("xl/sharedStrings.xml");
+            if (entry == null) {
+                return strings;
+            }
+            strings.file = Files.createTempFile("xlsx-shared-strings-", ".bin");
+            try (InputStream in = zip.getInputStream(entry);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(strings.file)))) {
+                XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(in);
+                StringBuilder text = new StringBuilder();
+                boolean inText = false;
+                long offset = 0;
+                while (xml.hasNext()) {
+                    int event = xml.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = xml.getLocalName();
+                        if ("si".equals(name)) {
+                            text.setLength(0);
+                        } else if ("rPh".equals(name)) {
+                            skipElement(xml);
+                        } else {
+                            inText = "t".equals(name);
+                        }
+                    } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                        if (inText) {
+                            text.append(xml.getText());
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        inText = false;
+                        if ("si".equals(xml.getLocalName())) {
+                            byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+                            out.writeInt(bytes.length);
+                            out.write(bytes);
+                            strings.add(offset);
+                            offset += Integer.BYTES + bytes.length;
+                        }
+                    }
+                }
+                xml.close();
+            } catch (IOException | XMLStreamException | RuntimeException e) {
+                strings.close();
+                throw e;
+            }
+            strings.data = new RandomAccessFile(strings.file.toFile(), "r");
+            return strings;
+        }
+
+        private void add(long offset) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, Math.max(1024, size * 2));
+            }
+            offsets[size++] = offset;
+        }
+
+        String get(int index) throws IOException {
+            if (index < 0 || index >= size) {
+                throw new IOException("No shared string " + index);
+            }
+            data.seek(offsets[index]);
+            byte[] bytes = new byte[data.readInt()];
+            data.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (data != null) {
+                    data.close();
+                }
+            } finally {
+                if (file != null) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package ir.saha.service.tabular;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes an XLSX file of a single worksheet, as the rows come, without building the workbook in memory.
+ * <p>
+ * Numbers and booleans are written as such; any other value is written as its text, in an inline string, so that
+ * the workbook needs no shared strings.
+ */
+public class XlsxWriter implements TabularWriter {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+    private static final String CONTENT_TYPES = XML_DECLARATION +
+        "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">" +
+        "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>" +
+        "<Default Extension=\"xml\" ContentType=\"application/xml\"/>" +
+        "<Override PartName=\"/xl/workbook.xml\" " +
+        "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>" +
+        "<Override PartName=\"/xl/worksheets/sheet1.xml\" " +
+        "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>" +
+        "<Override PartName=\"/xl/styles.xml\" " +
+        "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>" +
+        "</Types>";
+
+    private static final String RELATIONSHIPS = XML_DECLARATION +
+        "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+        "<Relationship Id=\"rId1\" " +
+        "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" " +
+        "Target=\"xl/workbook.xml\"/>" +
+        "</Relationships>";
+
+    private static final String WORKBOOK = XML_DECLARATION +
+        "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" " +
+        "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">" +
+        "<sheets><sheet name=\"Sheet1\" sheetId=\"1\" r:id=\"rId1\"/></sheets>" +
+        "</workbook>";
+
+    private static final String WORKBOOK_RELATIONSHIPS = XML_DECLARATION +
+        "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+        "<Relationship Id=\"rId1\" " +
+        "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" " +
+        "Target=\"worksheets/sheet1.xml\"/>" +
+        "<Relationship Id=\"rId2\" " +
+        "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles\" " +
+        "Target=\"styles.xml\"/>" +
+        "</Relationships>";
+
+    private static final String STYLES = XML_DECLARATION +
+        "<styleSheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">" +
+        "<fonts count=\"1\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>" +
+        "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>" +
+        "<fill><patternFill patternType=\"gray125\"/></fill></fills>" +
+        "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>" +
+        "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>" +
+        "<cellXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/></cellXfs>" +
+        "</styleSheet>";
+
+    private final ZipOutputStream zip;
+
+    private final Writer writer;
+
+    private int rowNumber;
+
+    public XlsxWriter(OutputStream out) throws IOException {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+        writeEntry("[Content_Types].xml", CONTENT_TYPES);
+        writeEntry("_rels/.rels", RELATIONSHIPS);
+        writeEntry("xl/workbook.xml", WORKBOOK);
+        writeEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELATIONSHIPS);
+        writeEntry("xl/styles.xml", STYLES);
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        writer.write(XML_DECLARATION);
+        writer.write("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        rowNumber++;
+        writer.write("<row r=\"");
+        writer.write(Integer.toString(rowNumber));
+        writer.write("\">");
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            writer.write("<c r=\"");
+            writer.write(columnName(i));
+            writer.write(Integer.toString(rowNumber));
+            if (value instanceof Number && isFinite((Number) value)) {
+                writer.write("\"><v>");
+                writer.write(value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString());
+                writer.write("</v></c>");
+            } else if (value instanceof Boolean) {
+                writer.write("\" t=\"b\"><v>");
+                writer.write((Boolean) value ? "1" : "0");
+                writer.write("</v></c>");
+            } else {
+                writer.write("\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                writer.write(escape(value.toString()));
+                writer.write("</t></is></c>");
+            }
+        }
+        writer.write("</row>");
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.write("</sheetData></worksheet>");
+            writer.flush();
+            zip.closeEntry();
+        } finally {
+            zip.close();
+        }
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    static String columnName(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int column = index + 1; column > 0; column = (column - 1) / 26) {
+            name.insert(0, (char) ('A' + (column - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    private static boolean isFinite(Number number) {
+        return !(number instanceof Double && !Double.isFinite((Double) number)) &&
+            !(number instanceof Float && !Float.isFinite((Float) number));
+    }
+
+    /**
+     * Escape the text of a cell, dropping the characters XML 1.0 does not allow.
+     */
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&':
+                    escaped.append("&amp;");
+                    break;
+                case '<':
+                    escaped.append("&lt;");
+                    break;
+                case '>':
+                    escaped.append("&gt;");
+                    break;
+                case '\t':
+                case '\n':
+                case '\r':
+                    escaped.append(c);
+                    break;
+                default:
+                    if (c >= 0x20 && c != 0xFFFE && c != 0xFFFF) {
+                        escaped.append(c);
+                    }
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Streaming readers and writers of tabular files, CSV and XLSX, that hold a single row in memory at a time.
+ */
+package ir.saha.service.tabular;
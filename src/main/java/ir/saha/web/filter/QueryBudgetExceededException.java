@@ -0,0 +1,14 @@
+package ir.saha.web.filter;
+
+/**
+ * Thrown when a request prepares more SQL statements than the {@link ir.saha.web.rest.util.QueryBudget} of its
+ * endpoint, and {@code application.request-timing.fail-over-budget} is set.
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,182 @@
+package ir.saha.web.filter;
+
+import ir.saha.config.ApplicationProperties;
+import ir.saha.config.timing.RequestTimings;
+import ir.saha.web.rest.util.QueryBudget;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTags;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter measuring what each request spends its time on, with {@link RequestTimings}.
+ * <p>
+ * The number of SQL statements, the JDBC time and the serialization time of each request are published as the
+ * {@code http.server.requests.statements}, {@code http.server.requests.jdbc} and
+ * {@code http.server.requests.serialization} metrics, tagged by method and URI like {@code http.server.requests}.
+ * When enabled, they are also sent back in a {@code Server-Timing} header, added when the response is committed.
+ * <p>
+ * A request preparing more statements than the {@link QueryBudget} of its endpoint is logged, or fails with a
+ * {@link QueryBudgetExceededException} when {@code application.request-timing.fail-over-budget} is set. When
+ * {@code application.request-timing.repeated-load-threshold} is set, the associations a request loads one at a time
+ * that many times are logged as likely N+1 patterns.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private final MeterRegistry meterRegistry;
+
+    private final ApplicationProperties.RequestTiming properties;
+
+    public ServerTimingFilter(MeterRegistry meterRegistry, ApplicationProperties.RequestTiming properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            if (properties.isServerTimingHeader()) {
+                ServerTimingResponse timedResponse = new ServerTimingResponse(response, timings);
+                filterChain.doFilter(request, timedResponse);
+                timedResponse.addServerTiming();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            RequestTimings.end();
+            record(request, response, timings);
+        }
+        checkRepeatedLoads(request, timings);
+        checkBudget(request, timings);
+    }
+
+    private void checkRepeatedLoads(HttpServletRequest request, RequestTimings timings) {
+        if (properties.getRepeatedLoadThreshold() <= 0) {
+            return;
+        }
+        for (Map.Entry<String, Integer> load : timings.getRepeatedAssociationLoads(properties.getRepeatedLoadThreshold()).entrySet()) {
+            log.warn("Likely N+1 in {} {}: {} loaded one at a time {} times, {} statements in all",
+                request.getMethod(), request.getRequestURI(), load.getKey(), load.getValue(), timings.getStatements());
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, RequestTimings timings) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod)) {
+            return;
+        }
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), QueryBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+        }
+        if (budget == null || timings.getStatements() <= budget.value()) {
+            return;
+        }
+        String message = String.format("%s %s prepared %d SQL statements, over the budget of %d of %s",
+            request.getMethod(), request.getRequestURI(), timings.getStatements(), budget.value(), handlerMethod.getShortLogMessage());
+        if (properties.isFailOverBudget()) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestTimings timings) {
+        Tags tags = Tags.of(WebMvcTags.method(request), WebMvcTags.uri(request, response));
+        DistributionSummary.builder("http.server.requests.statements")
+            .description("SQL statements prepared by a request")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(timings.getStatements());
+        Timer.builder("http.server.requests.jdbc")
+            .description("Time a request spent executing SQL statements")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(timings.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("http.server.requests.serialization")
+            .description("Time a request spent serializing its response body")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(timings.getSerializationNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Adds the {@code Server-Timing} header just before the response is committed.
+     */
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        void addServerTiming() {
+            if (!isCommitted() && !containsHeader(SERVER_TIMING_HEADER)) {
+                setHeader(SERVER_TIMING_HEADER, timings.toServerTiming());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.User;
 import ir.saha.repository.UserRepository;
+import ir.saha.security.LoginThrottle;
 import ir.saha.security.SecurityUtils;
 import ir.saha.service.MailService;
 import ir.saha.service.UserService;
@@ -42,11 +43,15 @@ public class AccountResource {
 
     private final MailService mailService;
 
-    public AccountResource(UserRepository userRepository, UserService userService, MailService mailService) {
+    private final LoginThrottle loginThrottle;
+
+    public AccountResource(UserRepository userRepository, UserService userService, MailService mailService,
+                           LoginThrottle loginThrottle) {
 
         this.userRepository = userRepository;
         this.userService = userService;
         this.mailService = mailService;
+        this.loginThrottle = loginThrottle;
     }
 
     /**
@@ -59,10 +64,11 @@ public class AccountResource {
      */
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED)
-    public void registerAccount(@Valid @RequestBody ManagedUserVM managedUserVM) {
+    public void registerAccount(@Valid @RequestBody ManagedUserVM managedUserVM, HttpServletRequest request) {
         if (!checkPasswordLength(managedUserVM.getPassword())) {
             throw new InvalidPasswordException();
         }
+        loginThrottle.acquire(null, request.getRemoteAddr());
         User user = userService.registerUser(managedUserVM, managedUserVM.getPassword());
         mailService.sendActivationEmail(user);
     }
@@ -135,10 +141,11 @@ public class AccountResource {
      * @throws InvalidPasswordException {@code 400 (Bad Request)} if the new password is incorrect.
      */
     @PostMapping(path = "/account/change-password")
-    public void changePassword(@RequestBody PasswordChangeDTO passwordChangeDto) {
+    public void changePassword(@RequestBody PasswordChangeDTO passwordChangeDto, HttpServletRequest request) {
         if (!checkPasswordLength(passwordChangeDto.getNewPassword())) {
             throw new InvalidPasswordException();
         }
+        loginThrottle.acquire(SecurityUtils.getCurrentUserLogin().orElse(null), request.getRemoteAddr());
         userService.changePassword(passwordChangeDto.getCurrentPassword(), passwordChangeDto.getNewPassword());
     }
 
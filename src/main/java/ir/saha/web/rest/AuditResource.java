@@ -1,15 +1,20 @@
 package ir.saha.web.rest;
 
+import ir.saha.config.audit.AuditEventConverter;
+import ir.saha.domain.PersistentAuditEvent;
 import ir.saha.service.AuditEventService;
+import ir.saha.web.rest.util.KeysetPaginationUtil;
 
 import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.springframework.boot.actuate.audit.AuditEvent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -23,22 +28,34 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/management/audits")
+@Transactional(readOnly = true)
 public class AuditResource {
 
+    private static final String ENTITY_NAME = "audit";
+
     private final AuditEventService auditEventService;
 
-    public AuditResource(AuditEventService auditEventService) {
+    private final AuditEventConverter auditEventConverter;
+
+    public AuditResource(AuditEventService auditEventService, AuditEventConverter auditEventConverter) {
         this.auditEventService = auditEventService;
+        this.auditEventConverter = auditEventConverter;
     }
 
     /**
      * {@code GET /audits} : get a page of {@link AuditEvent}s.
      *
      * @param pageable the pagination information.
+     * @param after the continuation token of the page to get in keyset mode, empty for the first page; without it pages are selected by offset.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of {@link AuditEvent}s in body.
      */
     @GetMapping
-    public ResponseEntity<List<AuditEvent>> getAll(Pageable pageable) {
+    public ResponseEntity<List<AuditEvent>> getAll(Pageable pageable, @RequestParam(required = false) String after) {
+        if (after != null) {
+            Slice<PersistentAuditEvent> slice = auditEventService.findAllAfter(KeysetPaginationUtil.decodeAfter(after, ENTITY_NAME),
+                KeysetPaginationUtil.idDirection(pageable), pageable.getPageSize());
+            return keysetResponse(slice);
+        }
         Page<AuditEvent> page = auditEventService.findAll(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
@@ -50,17 +67,25 @@ public class AuditResource {
      * @param fromDate the start of the time period of {@link AuditEvent} to get.
      * @param toDate the end of the time period of {@link AuditEvent} to get.
      * @param pageable the pagination information.
+     * @param after the continuation token of the page to get in keyset mode, empty for the first page; without it pages are selected by offset.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of {@link AuditEvent} in body.
      */
     @GetMapping(params = {"fromDate", "toDate"})
     public ResponseEntity<List<AuditEvent>> getByDates(
         @RequestParam(value = "fromDate") LocalDate fromDate,
         @RequestParam(value = "toDate") LocalDate toDate,
-        Pageable pageable) {
+        Pageable pageable,
+        @RequestParam(required = false) String after) {
 
         Instant from = fromDate.atStartOfDay(ZoneId.systemDefault()).toInstant();
         Instant to = toDate.atStartOfDay(ZoneId.systemDefault()).plusDays(1).toInstant();
 
+        if (after != null) {
+            Slice<PersistentAuditEvent> slice = auditEventService.findByDatesAfter(from, to, KeysetPaginationUtil.decodeAfter(after, ENTITY_NAME),
+                KeysetPaginationUtil.idDirection(pageable), pageable.getPageSize());
+            return keysetResponse(slice);
+        }
+
         Page<AuditEvent> page = auditEventService.findByDates(from, to, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
@@ -76,4 +101,9 @@ public class AuditResource {
     public ResponseEntity<AuditEvent> get(@PathVariable Long id) {
         return ResponseUtil.wrapOrNotFound(auditEventService.find(id));
     }
+
+    private ResponseEntity<List<AuditEvent>> keysetResponse(Slice<PersistentAuditEvent> slice) {
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice, PersistentAuditEvent::getId);
+        return new ResponseEntity<>(auditEventConverter.convertToAuditEvent(slice.getContent()), headers, HttpStatus.OK);
+    }
 }
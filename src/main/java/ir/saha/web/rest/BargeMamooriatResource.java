@@ -2,20 +2,32 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.BargeMamooriat;
 import ir.saha.repository.BargeMamooriatRepository;
+import ir.saha.service.BargeMamooriatQueryService;
+import ir.saha.service.dto.BargeMamooriatCriteria;
+import ir.saha.service.dto.BargeMamooriatDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
+import ir.saha.web.rest.util.KeysetPaginationUtil;
+import ir.saha.web.rest.util.QueryBudget;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,7 +35,7 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
+@QueryBudget(10)
 public class BargeMamooriatResource {
 
     private final Logger log = LoggerFactory.getLogger(BargeMamooriatResource.class);
@@ -35,8 +47,11 @@ public class BargeMamooriatResource {
 
     private final BargeMamooriatRepository bargeMamooriatRepository;
 
-    public BargeMamooriatResource(BargeMamooriatRepository bargeMamooriatRepository) {
+    private final BargeMamooriatQueryService bargeMamooriatQueryService;
+
+    public BargeMamooriatResource(BargeMamooriatRepository bargeMamooriatRepository, BargeMamooriatQueryService bargeMamooriatQueryService) {
         this.bargeMamooriatRepository = bargeMamooriatRepository;
+        this.bargeMamooriatQueryService = bargeMamooriatQueryService;
     }
 
     /**
@@ -47,6 +62,7 @@ public class BargeMamooriatResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/barge-mamooriats")
+    @Transactional
     public ResponseEntity<BargeMamooriat> createBargeMamooriat(@RequestBody BargeMamooriat bargeMamooriat) throws URISyntaxException {
         log.debug("REST request to save BargeMamooriat : {}", bargeMamooriat);
         if (bargeMamooriat.getId() != null) {
@@ -68,6 +84,7 @@ public class BargeMamooriatResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/barge-mamooriats")
+    @Transactional
     public ResponseEntity<BargeMamooriat> updateBargeMamooriat(@RequestBody BargeMamooriat bargeMamooriat) throws URISyntaxException {
         log.debug("REST request to update BargeMamooriat : {}", bargeMamooriat);
         if (bargeMamooriat.getId() == null) {
@@ -82,12 +99,61 @@ public class BargeMamooriatResource {
     /**
      * {@code GET  /barge-mamooriats} : get all the bargeMamooriats.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param after the continuation token of the page to get in keyset mode, empty for the first page; without it pages are selected by offset.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of bargeMamooriats in body.
      */
     @GetMapping("/barge-mamooriats")
-    public List<BargeMamooriat> getAllBargeMamooriats() {
-        log.debug("REST request to get all BargeMamooriats");
-        return bargeMamooriatRepository.findAll();
+    @QueryBudget(3)
+    public ResponseEntity<List<BargeMamooriatDTO>> getAllBargeMamooriats(BargeMamooriatCriteria criteria, Pageable pageable, @RequestParam(required = false) String after) {
+        log.debug("REST request to get BargeMamooriats by criteria: {}", criteria);
+        if (after != null) {
+            Slice<BargeMamooriatDTO> slice = bargeMamooriatQueryService.findByCriteriaAfter(criteria, KeysetPaginationUtil.decodeAfter(after, ENTITY_NAME),
+                KeysetPaginationUtil.idDirection(pageable), pageable.getPageSize());
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice, BargeMamooriatDTO::getId);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<BargeMamooriatDTO> page = bargeMamooriatQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /barge-mamooriats?fields=} : get the given fields of all the bargeMamooriats, without loading the others.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param fields the comma-separated paths of the fields to get, such as {@code id,vaziat,sarparast.name}; the ids are always included.
+     * @param pageable the pagination information.
+     * @param after the continuation token of the page to get in keyset mode, empty for the first page; without it pages are selected by offset.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of the fields of the bargeMamooriats in body,
+     * or with status {@code 400 (Bad Request)} if a field is unknown.
+     */
+    @GetMapping(value = "/barge-mamooriats", params = "fields")
+    @QueryBudget(2)
+    public ResponseEntity<List<Map<String, Object>>> getAllBargeMamooriatFields(BargeMamooriatCriteria criteria, @RequestParam String fields, Pageable pageable, @RequestParam(required = false) String after) {
+        log.debug("REST request to get fields {} of BargeMamooriats by criteria: {}", fields, criteria);
+        if (after != null) {
+            Slice<Map<String, Object>> slice = bargeMamooriatQueryService.findFieldsByCriteriaAfter(criteria, fields, KeysetPaginationUtil.decodeAfter(after, ENTITY_NAME),
+                KeysetPaginationUtil.idDirection(pageable), pageable.getPageSize());
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice, values -> (Long) values.get("id"));
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<Map<String, Object>> page = bargeMamooriatQueryService.findFieldsByCriteria(criteria, fields, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /barge-mamooriats/count} : count all the bargeMamooriats.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/barge-mamooriats/count")
+    public ResponseEntity<Long> countBargeMamooriats(BargeMamooriatCriteria criteria) {
+        log.debug("REST request to count BargeMamooriats by criteria: {}", criteria);
+        return ResponseEntity.ok().body(bargeMamooriatQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +163,26 @@ public class BargeMamooriatResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the bargeMamooriat, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/barge-mamooriats/{id}")
-    public ResponseEntity<BargeMamooriat> getBargeMamooriat(@PathVariable Long id) {
+    @QueryBudget(1)
+    public ResponseEntity<BargeMamooriatDTO> getBargeMamooriat(@PathVariable Long id) {
         log.debug("REST request to get BargeMamooriat : {}", id);
-        Optional<BargeMamooriat> bargeMamooriat = bargeMamooriatRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(bargeMamooriat);
+        Optional<BargeMamooriatDTO> bargeMamooriatDTO = bargeMamooriatQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(bargeMamooriatDTO);
+    }
+
+    /**
+     * {@code GET  /barge-mamooriats/:id?fields=} : get the given fields of the "id" bargeMamooriat, without loading the others.
+     *
+     * @param id the id of the bargeMamooriat to retrieve.
+     * @param fields the comma-separated paths of the fields to get, such as {@code id,vaziat,sarparast.name}; the id is always included.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the fields of the bargeMamooriat, or with status {@code 404 (Not Found)},
+     * or with status {@code 400 (Bad Request)} if a field is unknown.
+     */
+    @GetMapping(value = "/barge-mamooriats/{id}", params = "fields")
+    @QueryBudget(1)
+    public ResponseEntity<Map<String, Object>> getBargeMamooriatFields(@PathVariable Long id, @RequestParam String fields) {
+        log.debug("REST request to get fields {} of BargeMamooriat : {}", fields, id);
+        return ResponseUtil.wrapOrNotFound(bargeMamooriatRepository.findFieldsById(id, fields));
     }
 
     /**
@@ -110,6 +192,7 @@ public class BargeMamooriatResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/barge-mamooriats/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteBargeMamooriat(@PathVariable Long id) {
         log.debug("REST request to delete BargeMamooriat : {}", id);
         bargeMamooriatRepository.deleteById(id);
@@ -2,16 +2,25 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.BarnameHesabResi;
 import ir.saha.repository.BarnameHesabResiRepository;
+import ir.saha.service.BarnameHesabResiQueryService;
+import ir.saha.service.dto.BarnameHesabResiCriteria;
+import ir.saha.service.dto.BarnameHesabResiDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
+import io.github.jhipster.service.filter.LongFilter;
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -25,7 +34,6 @@ import java.util.stream.StreamSupport;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class BarnameHesabResiResource {
 
     private final Logger log = LoggerFactory.getLogger(BarnameHesabResiResource.class);
@@ -37,8 +45,11 @@ public class BarnameHesabResiResource {
 
     private final BarnameHesabResiRepository barnameHesabResiRepository;
 
-    public BarnameHesabResiResource(BarnameHesabResiRepository barnameHesabResiRepository) {
+    private final BarnameHesabResiQueryService barnameHesabResiQueryService;
+
+    public BarnameHesabResiResource(BarnameHesabResiRepository barnameHesabResiRepository, BarnameHesabResiQueryService barnameHesabResiQueryService) {
         this.barnameHesabResiRepository = barnameHesabResiRepository;
+        this.barnameHesabResiQueryService = barnameHesabResiQueryService;
     }
 
     /**
@@ -49,6 +60,7 @@ public class BarnameHesabResiResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/barname-hesab-resis")
+    @Transactional
     public ResponseEntity<BarnameHesabResi> createBarnameHesabResi(@RequestBody BarnameHesabResi barnameHesabResi) throws URISyntaxException {
         log.debug("REST request to save BarnameHesabResi : {}", barnameHesabResi);
         if (barnameHesabResi.getId() != null) {
@@ -70,6 +82,7 @@ public class BarnameHesabResiResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/barname-hesab-resis")
+    @Transactional
     public ResponseEntity<BarnameHesabResi> updateBarnameHesabResi(@RequestBody BarnameHesabResi barnameHesabResi) throws URISyntaxException {
         log.debug("REST request to update BarnameHesabResi : {}", barnameHesabResi);
         if (barnameHesabResi.getId() == null) {
@@ -84,20 +97,34 @@ public class BarnameHesabResiResource {
     /**
      * {@code GET  /barname-hesab-resis} : get all the barnameHesabResis.
      *
-     * @param filter the filter of the request.
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param filter the filter of the request, {@code hesabresi-is-null} is kept as an alias of {@code hesabResiId.specified=false}.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of barnameHesabResis in body.
      */
     @GetMapping("/barname-hesab-resis")
-    public List<BarnameHesabResi> getAllBarnameHesabResis(@RequestParam(required = false) String filter) {
+    public ResponseEntity<List<BarnameHesabResiDTO>> getAllBarnameHesabResis(BarnameHesabResiCriteria criteria, Pageable pageable, @RequestParam(required = false) String filter) {
+        log.debug("REST request to get BarnameHesabResis by criteria: {}", criteria);
         if ("hesabresi-is-null".equals(filter)) {
-            log.debug("REST request to get all BarnameHesabResis where hesabResi is null");
-            return StreamSupport
-                .stream(barnameHesabResiRepository.findAll().spliterator(), false)
-                .filter(barnameHesabResi -> barnameHesabResi.getHesabResi() == null)
-                .collect(Collectors.toList());
+            LongFilter hesabResiId = new LongFilter();
+            hesabResiId.setSpecified(false);
+            criteria.setHesabResiId(hesabResiId);
         }
-        log.debug("REST request to get all BarnameHesabResis");
-        return barnameHesabResiRepository.findAll();
+        Page<BarnameHesabResiDTO> page = barnameHesabResiQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /barname-hesab-resis/count} : count all the barnameHesabResis.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/barname-hesab-resis/count")
+    public ResponseEntity<Long> countBarnameHesabResis(BarnameHesabResiCriteria criteria) {
+        log.debug("REST request to count BarnameHesabResis by criteria: {}", criteria);
+        return ResponseEntity.ok().body(barnameHesabResiQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -107,10 +134,10 @@ public class BarnameHesabResiResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the barnameHesabResi, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/barname-hesab-resis/{id}")
-    public ResponseEntity<BarnameHesabResi> getBarnameHesabResi(@PathVariable Long id) {
+    public ResponseEntity<BarnameHesabResiDTO> getBarnameHesabResi(@PathVariable Long id) {
         log.debug("REST request to get BarnameHesabResi : {}", id);
-        Optional<BarnameHesabResi> barnameHesabResi = barnameHesabResiRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(barnameHesabResi);
+        Optional<BarnameHesabResiDTO> barnameHesabResiDTO = barnameHesabResiQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(barnameHesabResiDTO);
     }
 
     /**
@@ -120,6 +147,7 @@ public class BarnameHesabResiResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/barname-hesab-resis/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteBarnameHesabResi(@PathVariable Long id) {
         log.debug("REST request to delete BarnameHesabResi : {}", id);
         barnameHesabResiRepository.deleteById(id);
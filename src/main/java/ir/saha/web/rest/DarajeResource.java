@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Daraje;
 import ir.saha.repository.DarajeRepository;
+import ir.saha.service.DarajeQueryService;
+import ir.saha.service.dto.DarajeCriteria;
+import ir.saha.service.dto.DarajeDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class DarajeResource {
 
     private final Logger log = LoggerFactory.getLogger(DarajeResource.class);
@@ -35,8 +42,11 @@ public class DarajeResource {
 
     private final DarajeRepository darajeRepository;
 
-    public DarajeResource(DarajeRepository darajeRepository) {
+    private final DarajeQueryService darajeQueryService;
+
+    public DarajeResource(DarajeRepository darajeRepository, DarajeQueryService darajeQueryService) {
         this.darajeRepository = darajeRepository;
+        this.darajeQueryService = darajeQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class DarajeResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/darajes")
+    @Transactional
     public ResponseEntity<Daraje> createDaraje(@RequestBody Daraje daraje) throws URISyntaxException {
         log.debug("REST request to save Daraje : {}", daraje);
         if (daraje.getId() != null) {
@@ -68,6 +79,7 @@ public class DarajeResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/darajes")
+    @Transactional
     public ResponseEntity<Daraje> updateDaraje(@RequestBody Daraje daraje) throws URISyntaxException {
         log.debug("REST request to update Daraje : {}", daraje);
         if (daraje.getId() == null) {
@@ -82,12 +94,28 @@ public class DarajeResource {
     /**
      * {@code GET  /darajes} : get all the darajes.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of darajes in body.
      */
     @GetMapping("/darajes")
-    public List<Daraje> getAllDarajes() {
-        log.debug("REST request to get all Darajes");
-        return darajeRepository.findAll();
+    public ResponseEntity<List<DarajeDTO>> getAllDarajes(DarajeCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Darajes by criteria: {}", criteria);
+        Page<DarajeDTO> page = darajeQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /darajes/count} : count all the darajes.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/darajes/count")
+    public ResponseEntity<Long> countDarajes(DarajeCriteria criteria) {
+        log.debug("REST request to count Darajes by criteria: {}", criteria);
+        return ResponseEntity.ok().body(darajeQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class DarajeResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the daraje, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/darajes/{id}")
-    public ResponseEntity<Daraje> getDaraje(@PathVariable Long id) {
+    public ResponseEntity<DarajeDTO> getDaraje(@PathVariable Long id) {
         log.debug("REST request to get Daraje : {}", id);
-        Optional<Daraje> daraje = darajeRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(daraje);
+        Optional<DarajeDTO> darajeDTO = darajeQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(darajeDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class DarajeResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/darajes/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteDaraje(@PathVariable Long id) {
         log.debug("REST request to delete Daraje : {}", id);
         darajeRepository.deleteById(id);
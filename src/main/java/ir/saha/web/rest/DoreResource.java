@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Dore;
 import ir.saha.repository.DoreRepository;
+import ir.saha.service.DoreQueryService;
+import ir.saha.service.dto.DoreCriteria;
+import ir.saha.service.dto.DoreDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class DoreResource {
 
     private final Logger log = LoggerFactory.getLogger(DoreResource.class);
@@ -35,8 +42,11 @@ public class DoreResource {
 
     private final DoreRepository doreRepository;
 
-    public DoreResource(DoreRepository doreRepository) {
+    private final DoreQueryService doreQueryService;
+
+    public DoreResource(DoreRepository doreRepository, DoreQueryService doreQueryService) {
         this.doreRepository = doreRepository;
+        this.doreQueryService = doreQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class DoreResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/dores")
+    @Transactional
     public ResponseEntity<Dore> createDore(@RequestBody Dore dore) throws URISyntaxException {
         log.debug("REST request to save Dore : {}", dore);
         if (dore.getId() != null) {
@@ -68,6 +79,7 @@ public class DoreResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/dores")
+    @Transactional
     public ResponseEntity<Dore> updateDore(@RequestBody Dore dore) throws URISyntaxException {
         log.debug("REST request to update Dore : {}", dore);
         if (dore.getId() == null) {
@@ -82,12 +94,28 @@ public class DoreResource {
     /**
      * {@code GET  /dores} : get all the dores.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of dores in body.
      */
     @GetMapping("/dores")
-    public List<Dore> getAllDores() {
-        log.debug("REST request to get all Dores");
-        return doreRepository.findAll();
+    public ResponseEntity<List<DoreDTO>> getAllDores(DoreCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Dores by criteria: {}", criteria);
+        Page<DoreDTO> page = doreQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /dores/count} : count all the dores.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/dores/count")
+    public ResponseEntity<Long> countDores(DoreCriteria criteria) {
+        log.debug("REST request to count Dores by criteria: {}", criteria);
+        return ResponseEntity.ok().body(doreQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class DoreResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the dore, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/dores/{id}")
-    public ResponseEntity<Dore> getDore(@PathVariable Long id) {
+    public ResponseEntity<DoreDTO> getDore(@PathVariable Long id) {
         log.debug("REST request to get Dore : {}", id);
-        Optional<Dore> dore = doreRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(dore);
+        Optional<DoreDTO> doreDTO = doreQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(doreDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class DoreResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/dores/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteDore(@PathVariable Long id) {
         log.debug("REST request to delete Dore : {}", id);
         doreRepository.deleteById(id);
@@ -0,0 +1,116 @@
+package ir.saha.web.rest;
+
+import ir.saha.service.ExportService;
+import ir.saha.service.tabular.TabularFormat;
+import ir.saha.web.rest.errors.BadRequestAlertException;
+import ir.saha.web.rest.util.QueryBudget;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * REST controller for exporting whole tables as CSV or XLSX files, for reporting.
+ * <p>
+ * Unlike the list endpoints, the exports are not paginated: the rows are written to the response as they are read
+ * from the database, each export in a single statement.
+ */
+@RestController
+@QueryBudget(1)
+public class ExportResource {
+
+    private static final String ENTITY_NAME = "export";
+
+    private final Logger log = LoggerFactory.getLogger(ExportResource.class);
+
+    private final ExportService exportService;
+
+    public ExportResource(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * {@code GET  /api/karbars/export} : export all the karbars.
+     *
+     * @param format the format of the file, {@code csv} or {@code xlsx}.
+     * @param response the response to write the file to, with status {@code 400 (Bad Request)} if the format is unknown.
+     * @throws IOException if the file cannot be written.
+     */
+    @GetMapping("/api/karbars/export")
+    public void exportKarbars(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) throws IOException {
+        log.debug("REST request to export Karbars as {}", format);
+        TabularFormat tabularFormat = parseFormat(format);
+        exportService.exportKarbars(startFile(response, "karbars", tabularFormat), tabularFormat);
+    }
+
+    /**
+     * {@code GET  /api/barge-mamooriats/export} : export all the bargeMamooriats.
+     *
+     * @param format the format of the file, {@code csv} or {@code xlsx}.
+     * @param response the response to write the file to, with status {@code 400 (Bad Request)} if the format is unknown.
+     * @throws IOException if the file cannot be written.
+     */
+    @GetMapping("/api/barge-mamooriats/export")
+    public void exportBargeMamooriats(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) throws IOException {
+        log.debug("REST request to export BargeMamooriats as {}", format);
+        TabularFormat tabularFormat = parseFormat(format);
+        exportService.exportBargeMamooriats(startFile(response, "barge-mamooriats", tabularFormat), tabularFormat);
+    }
+
+    /**
+     * {@code GET  /api/hesab-resis/export} : export all the hesabResis.
+     *
+     * @param format the format of the file, {@code csv} or {@code xlsx}.
+     * @param response the response to write the file to, with status {@code 400 (Bad Request)} if the format is unknown.
+     * @throws IOException if the file cannot be written.
+     */
+    @GetMapping("/api/hesab-resis/export")
+    public void exportHesabResis(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) throws IOException {
+        log.debug("REST request to export HesabResis as {}", format);
+        TabularFormat tabularFormat = parseFormat(format);
+        exportService.exportHesabResis(startFile(response, "hesab-resis", tabularFormat), tabularFormat);
+    }
+
+    /**
+     * {@code GET  /management/audits/export} : export the audit events between the {@code fromDate} and {@code toDate}.
+     *
+     * @param fromDate the first day of the audit events to export.
+     * @param toDate the last day of the audit events to export.
+     * @param format the format of the file, {@code csv} or {@code xlsx}.
+     * @param response the response to write the file to, with status {@code 400 (Bad Request)} if the format is unknown.
+     * @throws IOException if the file cannot be written.
+     */
+    @GetMapping("/management/audits/export")
+    public void exportAuditEvents(@RequestParam LocalDate fromDate, @RequestParam LocalDate toDate,
+                                  @RequestParam(defaultValue = "csv") String format, HttpServletResponse response) throws IOException {
+        log.debug("REST request to export audit events from {} to {} as {}", fromDate, toDate, format);
+        TabularFormat tabularFormat = parseFormat(format);
+        Instant from = fromDate.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        Instant to = toDate.atStartOfDay(ZoneId.systemDefault()).plusDays(1).toInstant();
+        exportService.exportAuditEvents(from, to, startFile(response, "audits", tabularFormat), tabularFormat);
+    }
+
+    private static TabularFormat parseFormat(String format) {
+        return TabularFormat.fromExtension(format)
+            .orElseThrow(() -> new BadRequestAlertException("Exports are either csv or xlsx", ENTITY_NAME, "unsupportedformat"));
+    }
+
+    private static OutputStream startFile(HttpServletResponse response, String name, TabularFormat format)
+        throws IOException {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder("attachment")
+            .filename(name + "." + format.getExtension()).build().toString());
+        return response.getOutputStream();
+    }
+}
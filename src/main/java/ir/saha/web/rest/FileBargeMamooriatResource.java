@@ -1,18 +1,31 @@
 package ir.saha.web.rest;
 
 import ir.saha.domain.FileBargeMamooriat;
+import ir.saha.repository.FileBargeMamooriatMetadata;
 import ir.saha.repository.FileBargeMamooriatRepository;
+import ir.saha.service.UploadService;
+import ir.saha.service.dto.UploadDTO;
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.StoredBlob;
 import ir.saha.web.rest.errors.BadRequestAlertException;
+import ir.saha.web.rest.util.BlobResponseUtil;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -23,7 +36,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class FileBargeMamooriatResource {
 
     private final Logger log = LoggerFactory.getLogger(FileBargeMamooriatResource.class);
@@ -35,8 +47,14 @@ public class FileBargeMamooriatResource {
 
     private final FileBargeMamooriatRepository fileBargeMamooriatRepository;
 
-    public FileBargeMamooriatResource(FileBargeMamooriatRepository fileBargeMamooriatRepository) {
+    private final BlobStore blobStore;
+
+    private final UploadService uploadService;
+
+    public FileBargeMamooriatResource(FileBargeMamooriatRepository fileBargeMamooriatRepository, BlobStore blobStore, UploadService uploadService) {
         this.fileBargeMamooriatRepository = fileBargeMamooriatRepository;
+        this.blobStore = blobStore;
+        this.uploadService = uploadService;
     }
 
     /**
@@ -47,11 +65,13 @@ public class FileBargeMamooriatResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/file-barge-mamooriats")
+    @Transactional
     public ResponseEntity<FileBargeMamooriat> createFileBargeMamooriat(@RequestBody FileBargeMamooriat fileBargeMamooriat) throws URISyntaxException {
         log.debug("REST request to save FileBargeMamooriat : {}", fileBargeMamooriat);
         if (fileBargeMamooriat.getId() != null) {
             throw new BadRequestAlertException("A new fileBargeMamooriat cannot already have an ID", ENTITY_NAME, "idexists");
         }
+        storeMadarek(fileBargeMamooriat);
         FileBargeMamooriat result = fileBargeMamooriatRepository.save(fileBargeMamooriat);
         return ResponseEntity.created(new URI("/api/file-barge-mamooriats/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -68,11 +88,13 @@ public class FileBargeMamooriatResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/file-barge-mamooriats")
+    @Transactional
     public ResponseEntity<FileBargeMamooriat> updateFileBargeMamooriat(@RequestBody FileBargeMamooriat fileBargeMamooriat) throws URISyntaxException {
         log.debug("REST request to update FileBargeMamooriat : {}", fileBargeMamooriat);
         if (fileBargeMamooriat.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
+        storeMadarek(fileBargeMamooriat);
         FileBargeMamooriat result = fileBargeMamooriatRepository.save(fileBargeMamooriat);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, fileBargeMamooriat.getId().toString()))
@@ -80,14 +102,24 @@ public class FileBargeMamooriatResource {
     }
 
     /**
-     * {@code GET  /file-barge-mamooriats} : get all the fileBargeMamooriats.
+     * {@code GET  /file-barge-mamooriats} : get the metadata of all the fileBargeMamooriats, without their content.
      *
+     * @param bargeMamooriatId the id of the bargeMamooriat to filter the fileBargeMamooriats by, if any.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of fileBargeMamooriats in body.
      */
     @GetMapping("/file-barge-mamooriats")
-    public List<FileBargeMamooriat> getAllFileBargeMamooriats() {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<FileBargeMamooriatMetadata>> getAllFileBargeMamooriats(@RequestParam(required = false) Long bargeMamooriatId, Pageable pageable) {
         log.debug("REST request to get all FileBargeMamooriats");
-        return fileBargeMamooriatRepository.findAll();
+        Page<FileBargeMamooriatMetadata> page;
+        if (bargeMamooriatId != null) {
+            page = fileBargeMamooriatRepository.findAllMetadataByBargeMamooriatId(bargeMamooriatId, pageable);
+        } else {
+            page = fileBargeMamooriatRepository.findAllMetadata(pageable);
+        }
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     /**
@@ -97,12 +129,61 @@ public class FileBargeMamooriatResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the fileBargeMamooriat, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/file-barge-mamooriats/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<FileBargeMamooriat> getFileBargeMamooriat(@PathVariable Long id) {
         log.debug("REST request to get FileBargeMamooriat : {}", id);
-        Optional<FileBargeMamooriat> fileBargeMamooriat = fileBargeMamooriatRepository.findById(id);
+        Optional<FileBargeMamooriat> fileBargeMamooriat = fileBargeMamooriatRepository.findById(id).map(this::loadMadarek);
         return ResponseUtil.wrapOrNotFound(fileBargeMamooriat);
     }
 
+    /**
+     * {@code GET  /file-barge-mamooriats/:id/content} : get the madarek content of the "id" fileBargeMamooriat.
+     * <p>
+     * Supports {@code Range} and {@code If-None-Match} requests, with the blob hash as entity tag.
+     *
+     * @param id the id of the fileBargeMamooriat whose content to retrieve.
+     * @param request the current request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} or {@code 206 (Partial Content)} and with body the content,
+     * or with status {@code 304 (Not Modified)}, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/file-barge-mamooriats/{id}/content")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Resource> getFileBargeMamooriatContent(@PathVariable Long id, HttpServletRequest request) {
+        log.debug("REST request to get content of FileBargeMamooriat : {}", id);
+        return fileBargeMamooriatRepository.findById(id)
+            .map(fileBargeMamooriat -> BlobResponseUtil.wrapOrNotFound(blobStore, fileBargeMamooriat.getMadarekHash(), fileBargeMamooriat.getMadarekContentType(), request))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * {@code PUT  /file-barge-mamooriats/:id/content} : Completes an upload and attaches it as the madarek content of the "id" fileBargeMamooriat.
+     *
+     * @param id the id of the fileBargeMamooriat to update.
+     * @param uploadId the id of the upload, see {@link UploadResource}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated fileBargeMamooriat,
+     * or with status {@code 404 (Not Found)} if there is no such fileBargeMamooriat or upload.
+     */
+    @PutMapping("/file-barge-mamooriats/{id}/content")
+    @Transactional
+    public ResponseEntity<FileBargeMamooriat> attachFileBargeMamooriatContent(@PathVariable Long id, @RequestParam String uploadId) {
+        log.debug("REST request to attach Upload {} to FileBargeMamooriat : {}", uploadId, id);
+        Optional<FileBargeMamooriat> fileBargeMamooriat = fileBargeMamooriatRepository.findById(id);
+        if (!fileBargeMamooriat.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        UploadDTO upload = uploadService.complete(uploadId);
+        FileBargeMamooriat result = fileBargeMamooriat.get()
+            .madarekHash(upload.getHash())
+            .madarekSize(upload.getSize());
+        if (upload.getContentType() != null) {
+            result.setMadarekContentType(upload.getContentType());
+        }
+        result = fileBargeMamooriatRepository.save(result);
+        return ResponseEntity.ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, id.toString()))
+            .body(result);
+    }
+
     /**
      * {@code DELETE  /file-barge-mamooriats/:id} : delete the "id" fileBargeMamooriat.
      *
@@ -110,9 +191,25 @@ public class FileBargeMamooriatResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/file-barge-mamooriats/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteFileBargeMamooriat(@PathVariable Long id) {
         log.debug("REST request to delete FileBargeMamooriat : {}", id);
         fileBargeMamooriatRepository.deleteById(id);
         return ResponseEntity.noContent().headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString())).build();
     }
+
+    private void storeMadarek(FileBargeMamooriat fileBargeMamooriat) {
+        if (fileBargeMamooriat.getMadarek() != null) {
+            StoredBlob blob = blobStore.put(fileBargeMamooriat.getMadarek());
+            fileBargeMamooriat.setMadarekHash(blob.getHash());
+            fileBargeMamooriat.setMadarekSize(blob.getSize());
+        }
+    }
+
+    private FileBargeMamooriat loadMadarek(FileBargeMamooriat fileBargeMamooriat) {
+        if (fileBargeMamooriat.getMadarekHash() != null) {
+            blobStore.read(fileBargeMamooriat.getMadarekHash()).ifPresent(fileBargeMamooriat::setMadarek);
+        }
+        return fileBargeMamooriat;
+    }
 }
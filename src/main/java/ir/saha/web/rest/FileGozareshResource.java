@@ -1,18 +1,29 @@
 package ir.saha.web.rest;
 
 import ir.saha.domain.FileGozaresh;
+import ir.saha.repository.FileGozareshMetadata;
 import ir.saha.repository.FileGozareshRepository;
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.StoredBlob;
 import ir.saha.web.rest.errors.BadRequestAlertException;
+import ir.saha.web.rest.util.BlobResponseUtil;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -23,7 +34,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class FileGozareshResource {
 
     private final Logger log = LoggerFactory.getLogger(FileGozareshResource.class);
@@ -35,8 +45,11 @@ public class FileGozareshResource {
 
     private final FileGozareshRepository fileGozareshRepository;
 
-    public FileGozareshResource(FileGozareshRepository fileGozareshRepository) {
+    private final BlobStore blobStore;
+
+    public FileGozareshResource(FileGozareshRepository fileGozareshRepository, BlobStore blobStore) {
         this.fileGozareshRepository = fileGozareshRepository;
+        this.blobStore = blobStore;
     }
 
     /**
@@ -47,11 +60,13 @@ public class FileGozareshResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/file-gozareshes")
+    @Transactional
     public ResponseEntity<FileGozaresh> createFileGozaresh(@RequestBody FileGozaresh fileGozaresh) throws URISyntaxException {
         log.debug("REST request to save FileGozaresh : {}", fileGozaresh);
         if (fileGozaresh.getId() != null) {
             throw new BadRequestAlertException("A new fileGozaresh cannot already have an ID", ENTITY_NAME, "idexists");
         }
+        storeFile(fileGozaresh);
         FileGozaresh result = fileGozareshRepository.save(fileGozaresh);
         return ResponseEntity.created(new URI("/api/file-gozareshes/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -68,11 +83,13 @@ public class FileGozareshResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/file-gozareshes")
+    @Transactional
     public ResponseEntity<FileGozaresh> updateFileGozaresh(@RequestBody FileGozaresh fileGozaresh) throws URISyntaxException {
         log.debug("REST request to update FileGozaresh : {}", fileGozaresh);
         if (fileGozaresh.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
+        storeFile(fileGozaresh);
         FileGozaresh result = fileGozareshRepository.save(fileGozaresh);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, fileGozaresh.getId().toString()))
@@ -80,14 +97,24 @@ public class FileGozareshResource {
     }
 
     /**
-     * {@code GET  /file-gozareshes} : get all the fileGozareshes.
+     * {@code GET  /file-gozareshes} : get the metadata of all the fileGozareshes, without their content.
      *
+     * @param hesabResiId the id of the gozaresh to filter the fileGozareshes by, if any.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of fileGozareshes in body.
      */
     @GetMapping("/file-gozareshes")
-    public List<FileGozaresh> getAllFileGozareshes() {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<FileGozareshMetadata>> getAllFileGozareshes(@RequestParam(required = false) Long hesabResiId, Pageable pageable) {
         log.debug("REST request to get all FileGozareshes");
-        return fileGozareshRepository.findAll();
+        Page<FileGozareshMetadata> page;
+        if (hesabResiId != null) {
+            page = fileGozareshRepository.findAllMetadataByHesabResiId(hesabResiId, pageable);
+        } else {
+            page = fileGozareshRepository.findAllMetadata(pageable);
+        }
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     /**
@@ -97,12 +124,32 @@ public class FileGozareshResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the fileGozaresh, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/file-gozareshes/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<FileGozaresh> getFileGozaresh(@PathVariable Long id) {
         log.debug("REST request to get FileGozaresh : {}", id);
-        Optional<FileGozaresh> fileGozaresh = fileGozareshRepository.findById(id);
+        Optional<FileGozaresh> fileGozaresh = fileGozareshRepository.findById(id).map(this::loadFile);
         return ResponseUtil.wrapOrNotFound(fileGozaresh);
     }
 
+    /**
+     * {@code GET  /file-gozareshes/:id/content} : get the file content of the "id" fileGozaresh.
+     * <p>
+     * Supports {@code Range} and {@code If-None-Match} requests, with the blob hash as entity tag.
+     *
+     * @param id the id of the fileGozaresh whose content to retrieve.
+     * @param request the current request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} or {@code 206 (Partial Content)} and with body the content,
+     * or with status {@code 304 (Not Modified)}, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/file-gozareshes/{id}/content")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Resource> getFileGozareshContent(@PathVariable Long id, HttpServletRequest request) {
+        log.debug("REST request to get content of FileGozaresh : {}", id);
+        return fileGozareshRepository.findById(id)
+            .map(fileGozaresh -> BlobResponseUtil.wrapOrNotFound(blobStore, fileGozaresh.getFileHash(), fileGozaresh.getFileContentType(), request))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * {@code DELETE  /file-gozareshes/:id} : delete the "id" fileGozaresh.
      *
@@ -110,9 +157,25 @@ public class FileGozareshResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/file-gozareshes/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteFileGozaresh(@PathVariable Long id) {
         log.debug("REST request to delete FileGozaresh : {}", id);
         fileGozareshRepository.deleteById(id);
         return ResponseEntity.noContent().headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString())).build();
     }
+
+    private void storeFile(FileGozaresh fileGozaresh) {
+        if (fileGozaresh.getFile() != null) {
+            StoredBlob blob = blobStore.put(fileGozaresh.getFile());
+            fileGozaresh.setFileHash(blob.getHash());
+            fileGozaresh.setFileSize(blob.getSize());
+        }
+    }
+
+    private FileGozaresh loadFile(FileGozaresh fileGozaresh) {
+        if (fileGozaresh.getFileHash() != null) {
+            blobStore.read(fileGozaresh.getFileHash()).ifPresent(fileGozaresh::setFile);
+        }
+        return fileGozaresh;
+    }
 }
@@ -1,18 +1,31 @@
 package ir.saha.web.rest;
 
 import ir.saha.domain.FileHesabResi;
+import ir.saha.repository.FileHesabResiMetadata;
 import ir.saha.repository.FileHesabResiRepository;
+import ir.saha.service.UploadService;
+import ir.saha.service.dto.UploadDTO;
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.StoredBlob;
 import ir.saha.web.rest.errors.BadRequestAlertException;
+import ir.saha.web.rest.util.BlobResponseUtil;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -23,7 +36,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class FileHesabResiResource {
 
     private final Logger log = LoggerFactory.getLogger(FileHesabResiResource.class);
@@ -35,8 +47,14 @@ public class FileHesabResiResource {
 
     private final FileHesabResiRepository fileHesabResiRepository;
 
-    public FileHesabResiResource(FileHesabResiRepository fileHesabResiRepository) {
+    private final BlobStore blobStore;
+
+    private final UploadService uploadService;
+
+    public FileHesabResiResource(FileHesabResiRepository fileHesabResiRepository, BlobStore blobStore, UploadService uploadService) {
         this.fileHesabResiRepository = fileHesabResiRepository;
+        this.blobStore = blobStore;
+        this.uploadService = uploadService;
     }
 
     /**
@@ -47,11 +65,13 @@ public class FileHesabResiResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/file-hesab-resis")
+    @Transactional
     public ResponseEntity<FileHesabResi> createFileHesabResi(@RequestBody FileHesabResi fileHesabResi) throws URISyntaxException {
         log.debug("REST request to save FileHesabResi : {}", fileHesabResi);
         if (fileHesabResi.getId() != null) {
             throw new BadRequestAlertException("A new fileHesabResi cannot already have an ID", ENTITY_NAME, "idexists");
         }
+        storeFile(fileHesabResi);
         FileHesabResi result = fileHesabResiRepository.save(fileHesabResi);
         return ResponseEntity.created(new URI("/api/file-hesab-resis/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -68,11 +88,13 @@ public class FileHesabResiResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/file-hesab-resis")
+    @Transactional
     public ResponseEntity<FileHesabResi> updateFileHesabResi(@RequestBody FileHesabResi fileHesabResi) throws URISyntaxException {
         log.debug("REST request to update FileHesabResi : {}", fileHesabResi);
         if (fileHesabResi.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
+        storeFile(fileHesabResi);
         FileHesabResi result = fileHesabResiRepository.save(fileHesabResi);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, fileHesabResi.getId().toString()))
@@ -80,14 +102,27 @@ public class FileHesabResiResource {
     }
 
     /**
-     * {@code GET  /file-hesab-resis} : get all the fileHesabResis.
+     * {@code GET  /file-hesab-resis} : get the metadata of all the fileHesabResis, without their content.
      *
+     * @param hesabResiId the id of the hesabResi to filter the fileHesabResis by, if any.
+     * @param barnameHesabResiId the id of the barnameHesabResi to filter the fileHesabResis by, if any.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of fileHesabResis in body.
      */
     @GetMapping("/file-hesab-resis")
-    public List<FileHesabResi> getAllFileHesabResis() {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<FileHesabResiMetadata>> getAllFileHesabResis(@RequestParam(required = false) Long hesabResiId, @RequestParam(required = false) Long barnameHesabResiId, Pageable pageable) {
         log.debug("REST request to get all FileHesabResis");
-        return fileHesabResiRepository.findAll();
+        Page<FileHesabResiMetadata> page;
+        if (hesabResiId != null) {
+            page = fileHesabResiRepository.findAllMetadataByHesabResiId(hesabResiId, pageable);
+        } else if (barnameHesabResiId != null) {
+            page = fileHesabResiRepository.findAllMetadataByBarnameHesabResiId(barnameHesabResiId, pageable);
+        } else {
+            page = fileHesabResiRepository.findAllMetadata(pageable);
+        }
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     /**
@@ -97,12 +132,61 @@ public class FileHesabResiResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the fileHesabResi, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/file-hesab-resis/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<FileHesabResi> getFileHesabResi(@PathVariable Long id) {
         log.debug("REST request to get FileHesabResi : {}", id);
-        Optional<FileHesabResi> fileHesabResi = fileHesabResiRepository.findById(id);
+        Optional<FileHesabResi> fileHesabResi = fileHesabResiRepository.findById(id).map(this::loadFile);
         return ResponseUtil.wrapOrNotFound(fileHesabResi);
     }
 
+    /**
+     * {@code GET  /file-hesab-resis/:id/content} : get the file content of the "id" fileHesabResi.
+     * <p>
+     * Supports {@code Range} and {@code If-None-Match} requests, with the blob hash as entity tag.
+     *
+     * @param id the id of the fileHesabResi whose content to retrieve.
+     * @param request the current request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} or {@code 206 (Partial Content)} and with body the content,
+     * or with status {@code 304 (Not Modified)}, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/file-hesab-resis/{id}/content")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Resource> getFileHesabResiContent(@PathVariable Long id, HttpServletRequest request) {
+        log.debug("REST request to get content of FileHesabResi : {}", id);
+        return fileHesabResiRepository.findById(id)
+            .map(fileHesabResi -> BlobResponseUtil.wrapOrNotFound(blobStore, fileHesabResi.getFileHash(), fileHesabResi.getFileContentType(), request))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * {@code PUT  /file-hesab-resis/:id/content} : Completes an upload and attaches it as the file content of the "id" fileHesabResi.
+     *
+     * @param id the id of the fileHesabResi to update.
+     * @param uploadId the id of the upload, see {@link UploadResource}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated fileHesabResi,
+     * or with status {@code 404 (Not Found)} if there is no such fileHesabResi or upload.
+     */
+    @PutMapping("/file-hesab-resis/{id}/content")
+    @Transactional
+    public ResponseEntity<FileHesabResi> attachFileHesabResiContent(@PathVariable Long id, @RequestParam String uploadId) {
+        log.debug("REST request to attach Upload {} to FileHesabResi : {}", uploadId, id);
+        Optional<FileHesabResi> fileHesabResi = fileHesabResiRepository.findById(id);
+        if (!fileHesabResi.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        UploadDTO upload = uploadService.complete(uploadId);
+        FileHesabResi result = fileHesabResi.get()
+            .fileHash(upload.getHash())
+            .fileSize(upload.getSize());
+        if (upload.getContentType() != null) {
+            result.setFileContentType(upload.getContentType());
+        }
+        result = fileHesabResiRepository.save(result);
+        return ResponseEntity.ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, id.toString()))
+            .body(result);
+    }
+
     /**
      * {@code DELETE  /file-hesab-resis/:id} : delete the "id" fileHesabResi.
      *
@@ -110,9 +194,25 @@ public class FileHesabResiResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/file-hesab-resis/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteFileHesabResi(@PathVariable Long id) {
         log.debug("REST request to delete FileHesabResi : {}", id);
         fileHesabResiRepository.deleteById(id);
         return ResponseEntity.noContent().headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString())).build();
     }
+
+    private void storeFile(FileHesabResi fileHesabResi) {
+        if (fileHesabResi.getFile() != null) {
+            StoredBlob blob = blobStore.put(fileHesabResi.getFile());
+            fileHesabResi.setFileHash(blob.getHash());
+            fileHesabResi.setFileSize(blob.getSize());
+        }
+    }
+
+    private FileHesabResi loadFile(FileHesabResi fileHesabResi) {
+        if (fileHesabResi.getFileHash() != null) {
+            blobStore.read(fileHesabResi.getFileHash()).ifPresent(fileHesabResi::setFile);
+        }
+        return fileHesabResi;
+    }
 }
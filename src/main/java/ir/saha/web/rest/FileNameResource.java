@@ -1,18 +1,29 @@
 package ir.saha.web.rest;
 
 import ir.saha.domain.FileName;
+import ir.saha.repository.FileNameMetadata;
 import ir.saha.repository.FileNameRepository;
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.StoredBlob;
 import ir.saha.web.rest.errors.BadRequestAlertException;
+import ir.saha.web.rest.util.BlobResponseUtil;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -23,7 +34,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class FileNameResource {
 
     private final Logger log = LoggerFactory.getLogger(FileNameResource.class);
@@ -35,8 +45,11 @@ public class FileNameResource {
 
     private final FileNameRepository fileNameRepository;
 
-    public FileNameResource(FileNameRepository fileNameRepository) {
+    private final BlobStore blobStore;
+
+    public FileNameResource(FileNameRepository fileNameRepository, BlobStore blobStore) {
         this.fileNameRepository = fileNameRepository;
+        this.blobStore = blobStore;
     }
 
     /**
@@ -47,11 +60,13 @@ public class FileNameResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/file-names")
+    @Transactional
     public ResponseEntity<FileName> createFileName(@RequestBody FileName fileName) throws URISyntaxException {
         log.debug("REST request to save FileName : {}", fileName);
         if (fileName.getId() != null) {
             throw new BadRequestAlertException("A new fileName cannot already have an ID", ENTITY_NAME, "idexists");
         }
+        storeMadrak(fileName);
         FileName result = fileNameRepository.save(fileName);
         return ResponseEntity.created(new URI("/api/file-names/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -68,11 +83,13 @@ public class FileNameResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/file-names")
+    @Transactional
     public ResponseEntity<FileName> updateFileName(@RequestBody FileName fileName) throws URISyntaxException {
         log.debug("REST request to update FileName : {}", fileName);
         if (fileName.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
+        storeMadrak(fileName);
         FileName result = fileNameRepository.save(fileName);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, fileName.getId().toString()))
@@ -80,14 +97,24 @@ public class FileNameResource {
     }
 
     /**
-     * {@code GET  /file-names} : get all the fileNames.
+     * {@code GET  /file-names} : get the metadata of all the fileNames, without their content.
      *
+     * @param nameId the id of the payam to filter the fileNames by, if any.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of fileNames in body.
      */
     @GetMapping("/file-names")
-    public List<FileName> getAllFileNames() {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<FileNameMetadata>> getAllFileNames(@RequestParam(required = false) Long nameId, Pageable pageable) {
         log.debug("REST request to get all FileNames");
-        return fileNameRepository.findAll();
+        Page<FileNameMetadata> page;
+        if (nameId != null) {
+            page = fileNameRepository.findAllMetadataByNameId(nameId, pageable);
+        } else {
+            page = fileNameRepository.findAllMetadata(pageable);
+        }
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     /**
@@ -97,12 +124,32 @@ public class FileNameResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the fileName, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/file-names/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<FileName> getFileName(@PathVariable Long id) {
         log.debug("REST request to get FileName : {}", id);
-        Optional<FileName> fileName = fileNameRepository.findById(id);
+        Optional<FileName> fileName = fileNameRepository.findById(id).map(this::loadMadrak);
         return ResponseUtil.wrapOrNotFound(fileName);
     }
 
+    /**
+     * {@code GET  /file-names/:id/content} : get the madrak content of the "id" fileName.
+     * <p>
+     * Supports {@code Range} and {@code If-None-Match} requests, with the blob hash as entity tag.
+     *
+     * @param id the id of the fileName whose content to retrieve.
+     * @param request the current request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} or {@code 206 (Partial Content)} and with body the content,
+     * or with status {@code 304 (Not Modified)}, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/file-names/{id}/content")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Resource> getFileNameContent(@PathVariable Long id, HttpServletRequest request) {
+        log.debug("REST request to get content of FileName : {}", id);
+        return fileNameRepository.findById(id)
+            .map(fileName -> BlobResponseUtil.wrapOrNotFound(blobStore, fileName.getMadrakHash(), fileName.getMadrakContentType(), request))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * {@code DELETE  /file-names/:id} : delete the "id" fileName.
      *
@@ -110,9 +157,25 @@ public class FileNameResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/file-names/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteFileName(@PathVariable Long id) {
         log.debug("REST request to delete FileName : {}", id);
         fileNameRepository.deleteById(id);
         return ResponseEntity.noContent().headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString())).build();
     }
+
+    private void storeMadrak(FileName fileName) {
+        if (fileName.getMadrak() != null) {
+            StoredBlob blob = blobStore.put(fileName.getMadrak());
+            fileName.setMadrakHash(blob.getHash());
+            fileName.setMadrakSize(blob.getSize());
+        }
+    }
+
+    private FileName loadMadrak(FileName fileName) {
+        if (fileName.getMadrakHash() != null) {
+            blobStore.read(fileName.getMadrakHash()).ifPresent(fileName::setMadrak);
+        }
+        return fileName;
+    }
 }
@@ -2,16 +2,25 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Gozaresh;
 import ir.saha.repository.GozareshRepository;
+import ir.saha.service.GozareshQueryService;
+import ir.saha.service.dto.GozareshCriteria;
+import ir.saha.service.dto.GozareshDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
+import io.github.jhipster.service.filter.LongFilter;
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -25,7 +34,6 @@ import java.util.stream.StreamSupport;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class GozareshResource {
 
     private final Logger log = LoggerFactory.getLogger(GozareshResource.class);
@@ -37,8 +45,11 @@ public class GozareshResource {
 
     private final GozareshRepository gozareshRepository;
 
-    public GozareshResource(GozareshRepository gozareshRepository) {
+    private final GozareshQueryService gozareshQueryService;
+
+    public GozareshResource(GozareshRepository gozareshRepository, GozareshQueryService gozareshQueryService) {
         this.gozareshRepository = gozareshRepository;
+        this.gozareshQueryService = gozareshQueryService;
     }
 
     /**
@@ -49,6 +60,7 @@ public class GozareshResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/gozareshes")
+    @Transactional
     public ResponseEntity<Gozaresh> createGozaresh(@RequestBody Gozaresh gozaresh) throws URISyntaxException {
         log.debug("REST request to save Gozaresh : {}", gozaresh);
         if (gozaresh.getId() != null) {
@@ -70,6 +82,7 @@ public class GozareshResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/gozareshes")
+    @Transactional
     public ResponseEntity<Gozaresh> updateGozaresh(@RequestBody Gozaresh gozaresh) throws URISyntaxException {
         log.debug("REST request to update Gozaresh : {}", gozaresh);
         if (gozaresh.getId() == null) {
@@ -84,20 +97,34 @@ public class GozareshResource {
     /**
      * {@code GET  /gozareshes} : get all the gozareshes.
      *
-     * @param filter the filter of the request.
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param filter the filter of the request, {@code hesabresi-is-null} is kept as an alias of {@code hesabResiId.specified=false}.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of gozareshes in body.
      */
     @GetMapping("/gozareshes")
-    public List<Gozaresh> getAllGozareshes(@RequestParam(required = false) String filter) {
+    public ResponseEntity<List<GozareshDTO>> getAllGozareshes(GozareshCriteria criteria, Pageable pageable, @RequestParam(required = false) String filter) {
+        log.debug("REST request to get Gozareshes by criteria: {}", criteria);
         if ("hesabresi-is-null".equals(filter)) {
-            log.debug("REST request to get all Gozareshs where hesabResi is null");
-            return StreamSupport
-                .stream(gozareshRepository.findAll().spliterator(), false)
-                .filter(gozaresh -> gozaresh.getHesabResi() == null)
-                .collect(Collectors.toList());
+            LongFilter hesabResiId = new LongFilter();
+            hesabResiId.setSpecified(false);
+            criteria.setHesabResiId(hesabResiId);
         }
-        log.debug("REST request to get all Gozareshes");
-        return gozareshRepository.findAll();
+        Page<GozareshDTO> page = gozareshQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /gozareshes/count} : count all the gozareshes.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/gozareshes/count")
+    public ResponseEntity<Long> countGozareshes(GozareshCriteria criteria) {
+        log.debug("REST request to count Gozareshes by criteria: {}", criteria);
+        return ResponseEntity.ok().body(gozareshQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -107,10 +134,10 @@ public class GozareshResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the gozaresh, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/gozareshes/{id}")
-    public ResponseEntity<Gozaresh> getGozaresh(@PathVariable Long id) {
+    public ResponseEntity<GozareshDTO> getGozaresh(@PathVariable Long id) {
         log.debug("REST request to get Gozaresh : {}", id);
-        Optional<Gozaresh> gozaresh = gozareshRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(gozaresh);
+        Optional<GozareshDTO> gozareshDTO = gozareshQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(gozareshDTO);
     }
 
     /**
@@ -120,6 +147,7 @@ public class GozareshResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/gozareshes/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteGozaresh(@PathVariable Long id) {
         log.debug("REST request to delete Gozaresh : {}", id);
         gozareshRepository.deleteById(id);
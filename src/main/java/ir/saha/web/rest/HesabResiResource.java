@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.HesabResi;
 import ir.saha.repository.HesabResiRepository;
+import ir.saha.service.HesabResiQueryService;
+import ir.saha.service.dto.HesabResiCriteria;
+import ir.saha.service.dto.HesabResiDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class HesabResiResource {
 
     private final Logger log = LoggerFactory.getLogger(HesabResiResource.class);
@@ -35,8 +42,11 @@ public class HesabResiResource {
 
     private final HesabResiRepository hesabResiRepository;
 
-    public HesabResiResource(HesabResiRepository hesabResiRepository) {
+    private final HesabResiQueryService hesabResiQueryService;
+
+    public HesabResiResource(HesabResiRepository hesabResiRepository, HesabResiQueryService hesabResiQueryService) {
         this.hesabResiRepository = hesabResiRepository;
+        this.hesabResiQueryService = hesabResiQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class HesabResiResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/hesab-resis")
+    @Transactional
     public ResponseEntity<HesabResi> createHesabResi(@RequestBody HesabResi hesabResi) throws URISyntaxException {
         log.debug("REST request to save HesabResi : {}", hesabResi);
         if (hesabResi.getId() != null) {
@@ -68,6 +79,7 @@ public class HesabResiResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/hesab-resis")
+    @Transactional
     public ResponseEntity<HesabResi> updateHesabResi(@RequestBody HesabResi hesabResi) throws URISyntaxException {
         log.debug("REST request to update HesabResi : {}", hesabResi);
         if (hesabResi.getId() == null) {
@@ -82,12 +94,28 @@ public class HesabResiResource {
     /**
      * {@code GET  /hesab-resis} : get all the hesabResis.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of hesabResis in body.
      */
     @GetMapping("/hesab-resis")
-    public List<HesabResi> getAllHesabResis() {
-        log.debug("REST request to get all HesabResis");
-        return hesabResiRepository.findAll();
+    public ResponseEntity<List<HesabResiDTO>> getAllHesabResis(HesabResiCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get HesabResis by criteria: {}", criteria);
+        Page<HesabResiDTO> page = hesabResiQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /hesab-resis/count} : count all the hesabResis.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/hesab-resis/count")
+    public ResponseEntity<Long> countHesabResis(HesabResiCriteria criteria) {
+        log.debug("REST request to count HesabResis by criteria: {}", criteria);
+        return ResponseEntity.ok().body(hesabResiQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class HesabResiResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the hesabResi, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/hesab-resis/{id}")
-    public ResponseEntity<HesabResi> getHesabResi(@PathVariable Long id) {
+    public ResponseEntity<HesabResiDTO> getHesabResi(@PathVariable Long id) {
         log.debug("REST request to get HesabResi : {}", id);
-        Optional<HesabResi> hesabResi = hesabResiRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(hesabResi);
+        Optional<HesabResiDTO> hesabResiDTO = hesabResiQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(hesabResiDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class HesabResiResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/hesab-resis/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteHesabResi(@PathVariable Long id) {
         log.debug("REST request to delete HesabResi : {}", id);
         hesabResiRepository.deleteById(id);
@@ -0,0 +1,71 @@
+package ir.saha.web.rest;
+
+import ir.saha.service.KarbarImportService;
+import ir.saha.service.dto.KarbarImportDTO;
+import ir.saha.service.tabular.TabularFormat;
+import ir.saha.web.rest.errors.BadRequestAlertException;
+
+import io.github.jhipster.web.util.ResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+/**
+ * REST controller for the bulk import of {@link ir.saha.domain.Karbar}s.
+ * <p>
+ * A client posts a CSV or XLSX file, then gets the import to follow its progress, until it is
+ * {@code COMPLETED} or {@code FAILED}, and to learn which rows were not imported and why.
+ */
+@RestController
+@RequestMapping("/api")
+public class KarbarImportResource {
+
+    private static final String ENTITY_NAME = "karbarImport";
+
+    private final Logger log = LoggerFactory.getLogger(KarbarImportResource.class);
+
+    private final KarbarImportService karbarImportService;
+
+    public KarbarImportResource(KarbarImportService karbarImportService) {
+        this.karbarImportService = karbarImportService;
+    }
+
+    /**
+     * {@code POST  /karbar-imports} : Start a new import.
+     *
+     * @param contentType the content type of the file, {@code text/csv} or the one of XLSX files.
+     * @param content the raw content of the file, whose first row names the columns.
+     * @return the {@link ResponseEntity} with status {@code 202 (Accepted)} and with body the new import,
+     * or with status {@code 400 (Bad Request)} if the file is neither CSV nor XLSX,
+     * or with status {@code 413 (Payload Too Large)} if the file is larger than {@code application.karbar-import.max-file-size},
+     * or with status {@code 429 (Too Many Requests)} if {@code application.karbar-import.max-concurrent-imports} imports are already running.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("/karbar-imports")
+    public ResponseEntity<KarbarImportDTO> startImport(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                       InputStream content) throws URISyntaxException {
+        log.debug("REST request to start Karbar import of {}", contentType);
+        TabularFormat format = TabularFormat.fromContentType(contentType)
+            .orElseThrow(() -> new BadRequestAlertException("Only CSV and XLSX files can be imported", ENTITY_NAME, "unsupportedformat"));
+        KarbarImportDTO result = karbarImportService.start(content, format);
+        return ResponseEntity.accepted().location(new URI("/api/karbar-imports/" + result.getId())).body(result);
+    }
+
+    /**
+     * {@code GET  /karbar-imports/:importId} : get the "importId" import.
+     *
+     * @param importId the id of the import to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the import, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/karbar-imports/{importId}")
+    public ResponseEntity<KarbarImportDTO> getImport(@PathVariable String importId) {
+        log.debug("REST request to get Karbar import : {}", importId);
+        return ResponseUtil.wrapOrNotFound(karbarImportService.getImport(importId));
+    }
+}
@@ -2,20 +2,32 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Karbar;
 import ir.saha.repository.KarbarRepository;
+import ir.saha.service.KarbarQueryService;
+import ir.saha.service.dto.KarbarCriteria;
+import ir.saha.service.dto.KarbarDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
+import ir.saha.web.rest.util.KeysetPaginationUtil;
+import ir.saha.web.rest.util.QueryBudget;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,7 +35,7 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
+@QueryBudget(10)
 public class KarbarResource {
 
     private final Logger log = LoggerFactory.getLogger(KarbarResource.class);
@@ -35,8 +47,11 @@ public class KarbarResource {
 
     private final KarbarRepository karbarRepository;
 
-    public KarbarResource(KarbarRepository karbarRepository) {
+    private final KarbarQueryService karbarQueryService;
+
+    public KarbarResource(KarbarRepository karbarRepository, KarbarQueryService karbarQueryService) {
         this.karbarRepository = karbarRepository;
+        this.karbarQueryService = karbarQueryService;
     }
 
     /**
@@ -47,6 +62,7 @@ public class KarbarResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/karbars")
+    @Transactional
     public ResponseEntity<Karbar> createKarbar(@RequestBody Karbar karbar) throws URISyntaxException {
         log.debug("REST request to save Karbar : {}", karbar);
         if (karbar.getId() != null) {
@@ -68,6 +84,7 @@ public class KarbarResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/karbars")
+    @Transactional
     public ResponseEntity<Karbar> updateKarbar(@RequestBody Karbar karbar) throws URISyntaxException {
         log.debug("REST request to update Karbar : {}", karbar);
         if (karbar.getId() == null) {
@@ -82,13 +99,62 @@ public class KarbarResource {
     /**
      * {@code GET  /karbars} : get all the karbars.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
+     * @param after the continuation token of the page to get in keyset mode, empty for the first page; without it pages are selected by offset.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of karbars in body.
      */
     @GetMapping("/karbars")
-    public List<Karbar> getAllKarbars(@RequestParam(required = false, defaultValue = "false") boolean eagerload) {
-        log.debug("REST request to get all Karbars");
-        return karbarRepository.findAllWithEagerRelationships();
+    @QueryBudget(4)
+    public ResponseEntity<List<KarbarDTO>> getAllKarbars(KarbarCriteria criteria, Pageable pageable, @RequestParam(required = false, defaultValue = "false") boolean eagerload, @RequestParam(required = false) String after) {
+        log.debug("REST request to get Karbars by criteria: {}", criteria);
+        if (after != null) {
+            Slice<KarbarDTO> slice = karbarQueryService.findByCriteriaAfter(criteria, KeysetPaginationUtil.decodeAfter(after, ENTITY_NAME),
+                KeysetPaginationUtil.idDirection(pageable), pageable.getPageSize(), eagerload);
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice, KarbarDTO::getId);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<KarbarDTO> page = karbarQueryService.findByCriteria(criteria, pageable, eagerload);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /karbars?fields=} : get the given fields of all the karbars, without loading the others.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param fields the comma-separated paths of the fields to get, such as {@code id,name,yegan.name}; the ids are always included.
+     * @param pageable the pagination information.
+     * @param after the continuation token of the page to get in keyset mode, empty for the first page; without it pages are selected by offset.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of the fields of the karbars in body,
+     * or with status {@code 400 (Bad Request)} if a field is unknown.
+     */
+    @GetMapping(value = "/karbars", params = "fields")
+    @QueryBudget(2)
+    public ResponseEntity<List<Map<String, Object>>> getAllKarbarFields(KarbarCriteria criteria, @RequestParam String fields, Pageable pageable, @RequestParam(required = false) String after) {
+        log.debug("REST request to get fields {} of Karbars by criteria: {}", fields, criteria);
+        if (after != null) {
+            Slice<Map<String, Object>> slice = karbarQueryService.findFieldsByCriteriaAfter(criteria, fields, KeysetPaginationUtil.decodeAfter(after, ENTITY_NAME),
+                KeysetPaginationUtil.idDirection(pageable), pageable.getPageSize());
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice, values -> (Long) values.get("id"));
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<Map<String, Object>> page = karbarQueryService.findFieldsByCriteria(criteria, fields, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /karbars/count} : count all the karbars.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/karbars/count")
+    public ResponseEntity<Long> countKarbars(KarbarCriteria criteria) {
+        log.debug("REST request to count Karbars by criteria: {}", criteria);
+        return ResponseEntity.ok().body(karbarQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -98,10 +164,26 @@ public class KarbarResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the karbar, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/karbars/{id}")
-    public ResponseEntity<Karbar> getKarbar(@PathVariable Long id) {
+    @QueryBudget(3)
+    public ResponseEntity<KarbarDTO> getKarbar(@PathVariable Long id) {
         log.debug("REST request to get Karbar : {}", id);
-        Optional<Karbar> karbar = karbarRepository.findOneWithEagerRelationships(id);
-        return ResponseUtil.wrapOrNotFound(karbar);
+        Optional<KarbarDTO> karbarDTO = karbarQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(karbarDTO);
+    }
+
+    /**
+     * {@code GET  /karbars/:id?fields=} : get the given fields of the "id" karbar, without loading the others.
+     *
+     * @param id the id of the karbar to retrieve.
+     * @param fields the comma-separated paths of the fields to get, such as {@code id,name,yegan.name}; the id is always included.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the fields of the karbar, or with status {@code 404 (Not Found)},
+     * or with status {@code 400 (Bad Request)} if a field is unknown.
+     */
+    @GetMapping(value = "/karbars/{id}", params = "fields")
+    @QueryBudget(1)
+    public ResponseEntity<Map<String, Object>> getKarbarFields(@PathVariable Long id, @RequestParam String fields) {
+        log.debug("REST request to get fields {} of Karbar : {}", fields, id);
+        return ResponseUtil.wrapOrNotFound(karbarRepository.findFieldsById(id, fields));
     }
 
     /**
@@ -111,6 +193,7 @@ public class KarbarResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/karbars/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteKarbar(@PathVariable Long id) {
         log.debug("REST request to delete Karbar : {}", id);
         karbarRepository.deleteById(id);
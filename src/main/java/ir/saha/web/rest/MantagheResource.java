@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Mantaghe;
 import ir.saha.repository.MantagheRepository;
+import ir.saha.service.MantagheQueryService;
+import ir.saha.service.dto.MantagheCriteria;
+import ir.saha.service.dto.MantagheDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class MantagheResource {
 
     private final Logger log = LoggerFactory.getLogger(MantagheResource.class);
@@ -35,8 +42,11 @@ public class MantagheResource {
 
     private final MantagheRepository mantagheRepository;
 
-    public MantagheResource(MantagheRepository mantagheRepository) {
+    private final MantagheQueryService mantagheQueryService;
+
+    public MantagheResource(MantagheRepository mantagheRepository, MantagheQueryService mantagheQueryService) {
         this.mantagheRepository = mantagheRepository;
+        this.mantagheQueryService = mantagheQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class MantagheResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/mantaghes")
+    @Transactional
     public ResponseEntity<Mantaghe> createMantaghe(@RequestBody Mantaghe mantaghe) throws URISyntaxException {
         log.debug("REST request to save Mantaghe : {}", mantaghe);
         if (mantaghe.getId() != null) {
@@ -68,6 +79,7 @@ public class MantagheResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/mantaghes")
+    @Transactional
     public ResponseEntity<Mantaghe> updateMantaghe(@RequestBody Mantaghe mantaghe) throws URISyntaxException {
         log.debug("REST request to update Mantaghe : {}", mantaghe);
         if (mantaghe.getId() == null) {
@@ -82,12 +94,28 @@ public class MantagheResource {
     /**
      * {@code GET  /mantaghes} : get all the mantaghes.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of mantaghes in body.
      */
     @GetMapping("/mantaghes")
-    public List<Mantaghe> getAllMantaghes() {
-        log.debug("REST request to get all Mantaghes");
-        return mantagheRepository.findAll();
+    public ResponseEntity<List<MantagheDTO>> getAllMantaghes(MantagheCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Mantaghes by criteria: {}", criteria);
+        Page<MantagheDTO> page = mantagheQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /mantaghes/count} : count all the mantaghes.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/mantaghes/count")
+    public ResponseEntity<Long> countMantaghes(MantagheCriteria criteria) {
+        log.debug("REST request to count Mantaghes by criteria: {}", criteria);
+        return ResponseEntity.ok().body(mantagheQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class MantagheResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the mantaghe, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/mantaghes/{id}")
-    public ResponseEntity<Mantaghe> getMantaghe(@PathVariable Long id) {
+    public ResponseEntity<MantagheDTO> getMantaghe(@PathVariable Long id) {
         log.debug("REST request to get Mantaghe : {}", id);
-        Optional<Mantaghe> mantaghe = mantagheRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(mantaghe);
+        Optional<MantagheDTO> mantagheDTO = mantagheQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(mantagheDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class MantagheResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/mantaghes/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteMantaghe(@PathVariable Long id) {
         log.debug("REST request to delete Mantaghe : {}", id);
         mantagheRepository.deleteById(id);
@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Morkhasi;
 import ir.saha.repository.MorkhasiRepository;
+import ir.saha.service.MorkhasiQueryService;
+import ir.saha.service.dto.MorkhasiCriteria;
+import ir.saha.service.dto.MorkhasiDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class MorkhasiResource {
 
     private final Logger log = LoggerFactory.getLogger(MorkhasiResource.class);
@@ -35,8 +42,11 @@ public class MorkhasiResource {
 
     private final MorkhasiRepository morkhasiRepository;
 
-    public MorkhasiResource(MorkhasiRepository morkhasiRepository) {
+    private final MorkhasiQueryService morkhasiQueryService;
+
+    public MorkhasiResource(MorkhasiRepository morkhasiRepository, MorkhasiQueryService morkhasiQueryService) {
         this.morkhasiRepository = morkhasiRepository;
+        this.morkhasiQueryService = morkhasiQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class MorkhasiResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/morkhasis")
+    @Transactional
     public ResponseEntity<Morkhasi> createMorkhasi(@RequestBody Morkhasi morkhasi) throws URISyntaxException {
         log.debug("REST request to save Morkhasi : {}", morkhasi);
         if (morkhasi.getId() != null) {
@@ -68,6 +79,7 @@ public class MorkhasiResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/morkhasis")
+    @Transactional
     public ResponseEntity<Morkhasi> updateMorkhasi(@RequestBody Morkhasi morkhasi) throws URISyntaxException {
         log.debug("REST request to update Morkhasi : {}", morkhasi);
         if (morkhasi.getId() == null) {
@@ -82,12 +94,28 @@ public class MorkhasiResource {
     /**
      * {@code GET  /morkhasis} : get all the morkhasis.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of morkhasis in body.
      */
     @GetMapping("/morkhasis")
-    public List<Morkhasi> getAllMorkhasis() {
-        log.debug("REST request to get all Morkhasis");
-        return morkhasiRepository.findAll();
+    public ResponseEntity<List<MorkhasiDTO>> getAllMorkhasis(MorkhasiCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Morkhasis by criteria: {}", criteria);
+        Page<MorkhasiDTO> page = morkhasiQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /morkhasis/count} : count all the morkhasis.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/morkhasis/count")
+    public ResponseEntity<Long> countMorkhasis(MorkhasiCriteria criteria) {
+        log.debug("REST request to count Morkhasis by criteria: {}", criteria);
+        return ResponseEntity.ok().body(morkhasiQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class MorkhasiResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the morkhasi, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/morkhasis/{id}")
-    public ResponseEntity<Morkhasi> getMorkhasi(@PathVariable Long id) {
+    public ResponseEntity<MorkhasiDTO> getMorkhasi(@PathVariable Long id) {
         log.debug("REST request to get Morkhasi : {}", id);
-        Optional<Morkhasi> morkhasi = morkhasiRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(morkhasi);
+        Optional<MorkhasiDTO> morkhasiDTO = morkhasiQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(morkhasiDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class MorkhasiResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/morkhasis/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteMorkhasi(@PathVariable Long id) {
         log.debug("REST request to delete Morkhasi : {}", id);
         morkhasiRepository.deleteById(id);
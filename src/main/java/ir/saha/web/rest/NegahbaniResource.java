@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Negahbani;
 import ir.saha.repository.NegahbaniRepository;
+import ir.saha.service.NegahbaniQueryService;
+import ir.saha.service.dto.NegahbaniCriteria;
+import ir.saha.service.dto.NegahbaniDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class NegahbaniResource {
 
     private final Logger log = LoggerFactory.getLogger(NegahbaniResource.class);
@@ -35,8 +42,11 @@ public class NegahbaniResource {
 
     private final NegahbaniRepository negahbaniRepository;
 
-    public NegahbaniResource(NegahbaniRepository negahbaniRepository) {
+    private final NegahbaniQueryService negahbaniQueryService;
+
+    public NegahbaniResource(NegahbaniRepository negahbaniRepository, NegahbaniQueryService negahbaniQueryService) {
         this.negahbaniRepository = negahbaniRepository;
+        this.negahbaniQueryService = negahbaniQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class NegahbaniResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/negahbanis")
+    @Transactional
     public ResponseEntity<Negahbani> createNegahbani(@RequestBody Negahbani negahbani) throws URISyntaxException {
         log.debug("REST request to save Negahbani : {}", negahbani);
         if (negahbani.getId() != null) {
@@ -68,6 +79,7 @@ public class NegahbaniResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/negahbanis")
+    @Transactional
     public ResponseEntity<Negahbani> updateNegahbani(@RequestBody Negahbani negahbani) throws URISyntaxException {
         log.debug("REST request to update Negahbani : {}", negahbani);
         if (negahbani.getId() == null) {
@@ -82,12 +94,28 @@ public class NegahbaniResource {
     /**
      * {@code GET  /negahbanis} : get all the negahbanis.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of negahbanis in body.
      */
     @GetMapping("/negahbanis")
-    public List<Negahbani> getAllNegahbanis() {
-        log.debug("REST request to get all Negahbanis");
-        return negahbaniRepository.findAll();
+    public ResponseEntity<List<NegahbaniDTO>> getAllNegahbanis(NegahbaniCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Negahbanis by criteria: {}", criteria);
+        Page<NegahbaniDTO> page = negahbaniQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /negahbanis/count} : count all the negahbanis.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/negahbanis/count")
+    public ResponseEntity<Long> countNegahbanis(NegahbaniCriteria criteria) {
+        log.debug("REST request to count Negahbanis by criteria: {}", criteria);
+        return ResponseEntity.ok().body(negahbaniQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class NegahbaniResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the negahbani, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/negahbanis/{id}")
-    public ResponseEntity<Negahbani> getNegahbani(@PathVariable Long id) {
+    public ResponseEntity<NegahbaniDTO> getNegahbani(@PathVariable Long id) {
         log.debug("REST request to get Negahbani : {}", id);
-        Optional<Negahbani> negahbani = negahbaniRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(negahbani);
+        Optional<NegahbaniDTO> negahbaniDTO = negahbaniQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(negahbaniDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class NegahbaniResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/negahbanis/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteNegahbani(@PathVariable Long id) {
         log.debug("REST request to delete Negahbani : {}", id);
         negahbaniRepository.deleteById(id);
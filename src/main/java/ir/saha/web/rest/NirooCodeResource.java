@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.NirooCode;
 import ir.saha.repository.NirooCodeRepository;
+import ir.saha.service.NirooCodeQueryService;
+import ir.saha.service.dto.NirooCodeCriteria;
+import ir.saha.service.dto.NirooCodeDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class NirooCodeResource {
 
     private final Logger log = LoggerFactory.getLogger(NirooCodeResource.class);
@@ -35,8 +42,11 @@ public class NirooCodeResource {
 
     private final NirooCodeRepository nirooCodeRepository;
 
-    public NirooCodeResource(NirooCodeRepository nirooCodeRepository) {
+    private final NirooCodeQueryService nirooCodeQueryService;
+
+    public NirooCodeResource(NirooCodeRepository nirooCodeRepository, NirooCodeQueryService nirooCodeQueryService) {
         this.nirooCodeRepository = nirooCodeRepository;
+        this.nirooCodeQueryService = nirooCodeQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class NirooCodeResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/niroo-codes")
+    @Transactional
     public ResponseEntity<NirooCode> createNirooCode(@RequestBody NirooCode nirooCode) throws URISyntaxException {
         log.debug("REST request to save NirooCode : {}", nirooCode);
         if (nirooCode.getId() != null) {
@@ -68,6 +79,7 @@ public class NirooCodeResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/niroo-codes")
+    @Transactional
     public ResponseEntity<NirooCode> updateNirooCode(@RequestBody NirooCode nirooCode) throws URISyntaxException {
         log.debug("REST request to update NirooCode : {}", nirooCode);
         if (nirooCode.getId() == null) {
@@ -82,12 +94,28 @@ public class NirooCodeResource {
     /**
      * {@code GET  /niroo-codes} : get all the nirooCodes.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of nirooCodes in body.
      */
     @GetMapping("/niroo-codes")
-    public List<NirooCode> getAllNirooCodes() {
-        log.debug("REST request to get all NirooCodes");
-        return nirooCodeRepository.findAll();
+    public ResponseEntity<List<NirooCodeDTO>> getAllNirooCodes(NirooCodeCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get NirooCodes by criteria: {}", criteria);
+        Page<NirooCodeDTO> page = nirooCodeQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /niroo-codes/count} : count all the nirooCodes.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/niroo-codes/count")
+    public ResponseEntity<Long> countNirooCodes(NirooCodeCriteria criteria) {
+        log.debug("REST request to count NirooCodes by criteria: {}", criteria);
+        return ResponseEntity.ok().body(nirooCodeQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class NirooCodeResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the nirooCode, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/niroo-codes/{id}")
-    public ResponseEntity<NirooCode> getNirooCode(@PathVariable Long id) {
+    public ResponseEntity<NirooCodeDTO> getNirooCode(@PathVariable Long id) {
         log.debug("REST request to get NirooCode : {}", id);
-        Optional<NirooCode> nirooCode = nirooCodeRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(nirooCode);
+        Optional<NirooCodeDTO> nirooCodeDTO = nirooCodeQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(nirooCodeDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class NirooCodeResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/niroo-codes/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteNirooCode(@PathVariable Long id) {
         log.debug("REST request to delete NirooCode : {}", id);
         nirooCodeRepository.deleteById(id);
@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Ostan;
 import ir.saha.repository.OstanRepository;
+import ir.saha.service.OstanQueryService;
+import ir.saha.service.dto.OstanCriteria;
+import ir.saha.service.dto.OstanDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class OstanResource {
 
     private final Logger log = LoggerFactory.getLogger(OstanResource.class);
@@ -35,8 +42,11 @@ public class OstanResource {
 
     private final OstanRepository ostanRepository;
 
-    public OstanResource(OstanRepository ostanRepository) {
+    private final OstanQueryService ostanQueryService;
+
+    public OstanResource(OstanRepository ostanRepository, OstanQueryService ostanQueryService) {
         this.ostanRepository = ostanRepository;
+        this.ostanQueryService = ostanQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class OstanResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/ostans")
+    @Transactional
     public ResponseEntity<Ostan> createOstan(@RequestBody Ostan ostan) throws URISyntaxException {
         log.debug("REST request to save Ostan : {}", ostan);
         if (ostan.getId() != null) {
@@ -68,6 +79,7 @@ public class OstanResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/ostans")
+    @Transactional
     public ResponseEntity<Ostan> updateOstan(@RequestBody Ostan ostan) throws URISyntaxException {
         log.debug("REST request to update Ostan : {}", ostan);
         if (ostan.getId() == null) {
@@ -82,12 +94,28 @@ public class OstanResource {
     /**
      * {@code GET  /ostans} : get all the ostans.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of ostans in body.
      */
     @GetMapping("/ostans")
-    public List<Ostan> getAllOstans() {
-        log.debug("REST request to get all Ostans");
-        return ostanRepository.findAll();
+    public ResponseEntity<List<OstanDTO>> getAllOstans(OstanCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Ostans by criteria: {}", criteria);
+        Page<OstanDTO> page = ostanQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /ostans/count} : count all the ostans.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/ostans/count")
+    public ResponseEntity<Long> countOstans(OstanCriteria criteria) {
+        log.debug("REST request to count Ostans by criteria: {}", criteria);
+        return ResponseEntity.ok().body(ostanQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class OstanResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the ostan, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/ostans/{id}")
-    public ResponseEntity<Ostan> getOstan(@PathVariable Long id) {
+    public ResponseEntity<OstanDTO> getOstan(@PathVariable Long id) {
         log.debug("REST request to get Ostan : {}", id);
-        Optional<Ostan> ostan = ostanRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(ostan);
+        Optional<OstanDTO> ostanDTO = ostanQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(ostanDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class OstanResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/ostans/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteOstan(@PathVariable Long id) {
         log.debug("REST request to delete Ostan : {}", id);
         ostanRepository.deleteById(id);
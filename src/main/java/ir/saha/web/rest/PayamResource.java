@@ -2,20 +2,31 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Payam;
 import ir.saha.repository.PayamRepository;
+import ir.saha.service.PayamQueryService;
+import ir.saha.service.dto.PayamCriteria;
+import ir.saha.service.dto.PayamDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
+import ir.saha.web.rest.util.KeysetPaginationUtil;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,7 +34,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class PayamResource {
 
     private final Logger log = LoggerFactory.getLogger(PayamResource.class);
@@ -35,8 +45,11 @@ public class PayamResource {
 
     private final PayamRepository payamRepository;
 
-    public PayamResource(PayamRepository payamRepository) {
+    private final PayamQueryService payamQueryService;
+
+    public PayamResource(PayamRepository payamRepository, PayamQueryService payamQueryService) {
         this.payamRepository = payamRepository;
+        this.payamQueryService = payamQueryService;
     }
 
     /**
@@ -47,6 +60,7 @@ public class PayamResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/payams")
+    @Transactional
     public ResponseEntity<Payam> createPayam(@RequestBody Payam payam) throws URISyntaxException {
         log.debug("REST request to save Payam : {}", payam);
         if (payam.getId() != null) {
@@ -68,6 +82,7 @@ public class PayamResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/payams")
+    @Transactional
     public ResponseEntity<Payam> updatePayam(@RequestBody Payam payam) throws URISyntaxException {
         log.debug("REST request to update Payam : {}", payam);
         if (payam.getId() == null) {
@@ -82,12 +97,59 @@ public class PayamResource {
     /**
      * {@code GET  /payams} : get all the payams.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param after the continuation token of the page to get in keyset mode, empty for the first page; without it pages are selected by offset.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of payams in body.
      */
     @GetMapping("/payams")
-    public List<Payam> getAllPayams() {
-        log.debug("REST request to get all Payams");
-        return payamRepository.findAll();
+    public ResponseEntity<List<PayamDTO>> getAllPayams(PayamCriteria criteria, Pageable pageable, @RequestParam(required = false) String after) {
+        log.debug("REST request to get Payams by criteria: {}", criteria);
+        if (after != null) {
+            Slice<PayamDTO> slice = payamQueryService.findByCriteriaAfter(criteria, KeysetPaginationUtil.decodeAfter(after, ENTITY_NAME),
+                KeysetPaginationUtil.idDirection(pageable), pageable.getPageSize());
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice, PayamDTO::getId);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<PayamDTO> page = payamQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /payams?fields=} : get the given fields of all the payams, without loading the others.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param fields the comma-separated paths of the fields to get, such as {@code id,onvan,karbarErsalKonande.name}; the ids are always included.
+     * @param pageable the pagination information.
+     * @param after the continuation token of the page to get in keyset mode, empty for the first page; without it pages are selected by offset.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of the fields of the payams in body,
+     * or with status {@code 400 (Bad Request)} if a field is unknown.
+     */
+    @GetMapping(value = "/payams", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllPayamFields(PayamCriteria criteria, @RequestParam String fields, Pageable pageable, @RequestParam(required = false) String after) {
+        log.debug("REST request to get fields {} of Payams by criteria: {}", fields, criteria);
+        if (after != null) {
+            Slice<Map<String, Object>> slice = payamQueryService.findFieldsByCriteriaAfter(criteria, fields, KeysetPaginationUtil.decodeAfter(after, ENTITY_NAME),
+                KeysetPaginationUtil.idDirection(pageable), pageable.getPageSize());
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice, values -> (Long) values.get("id"));
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<Map<String, Object>> page = payamQueryService.findFieldsByCriteria(criteria, fields, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /payams/count} : count all the payams.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/payams/count")
+    public ResponseEntity<Long> countPayams(PayamCriteria criteria) {
+        log.debug("REST request to count Payams by criteria: {}", criteria);
+        return ResponseEntity.ok().body(payamQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +159,24 @@ public class PayamResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the payam, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/payams/{id}")
-    public ResponseEntity<Payam> getPayam(@PathVariable Long id) {
+    public ResponseEntity<PayamDTO> getPayam(@PathVariable Long id) {
         log.debug("REST request to get Payam : {}", id);
-        Optional<Payam> payam = payamRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(payam);
+        Optional<PayamDTO> payamDTO = payamQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(payamDTO);
+    }
+
+    /**
+     * {@code GET  /payams/:id?fields=} : get the given fields of the "id" payam, without loading the others.
+     *
+     * @param id the id of the payam to retrieve.
+     * @param fields the comma-separated paths of the fields to get, such as {@code id,onvan,karbarErsalKonande.name}; the id is always included.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the fields of the payam, or with status {@code 404 (Not Found)},
+     * or with status {@code 400 (Bad Request)} if a field is unknown.
+     */
+    @GetMapping(value = "/payams/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getPayamFields(@PathVariable Long id, @RequestParam String fields) {
+        log.debug("REST request to get fields {} of Payam : {}", fields, id);
+        return ResponseUtil.wrapOrNotFound(payamRepository.findFieldsById(id, fields));
     }
 
     /**
@@ -110,6 +186,7 @@ public class PayamResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/payams/{id}")
+    @Transactional
     public ResponseEntity<Void> deletePayam(@PathVariable Long id) {
         log.debug("REST request to delete Payam : {}", id);
         payamRepository.deleteById(id);
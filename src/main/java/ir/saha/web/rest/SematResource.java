@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Semat;
 import ir.saha.repository.SematRepository;
+import ir.saha.service.SematQueryService;
+import ir.saha.service.dto.SematCriteria;
+import ir.saha.service.dto.SematDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class SematResource {
 
     private final Logger log = LoggerFactory.getLogger(SematResource.class);
@@ -35,8 +42,11 @@ public class SematResource {
 
     private final SematRepository sematRepository;
 
-    public SematResource(SematRepository sematRepository) {
+    private final SematQueryService sematQueryService;
+
+    public SematResource(SematRepository sematRepository, SematQueryService sematQueryService) {
         this.sematRepository = sematRepository;
+        this.sematQueryService = sematQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class SematResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/semats")
+    @Transactional
     public ResponseEntity<Semat> createSemat(@RequestBody Semat semat) throws URISyntaxException {
         log.debug("REST request to save Semat : {}", semat);
         if (semat.getId() != null) {
@@ -68,6 +79,7 @@ public class SematResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/semats")
+    @Transactional
     public ResponseEntity<Semat> updateSemat(@RequestBody Semat semat) throws URISyntaxException {
         log.debug("REST request to update Semat : {}", semat);
         if (semat.getId() == null) {
@@ -82,12 +94,28 @@ public class SematResource {
     /**
      * {@code GET  /semats} : get all the semats.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of semats in body.
      */
     @GetMapping("/semats")
-    public List<Semat> getAllSemats() {
-        log.debug("REST request to get all Semats");
-        return sematRepository.findAll();
+    public ResponseEntity<List<SematDTO>> getAllSemats(SematCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Semats by criteria: {}", criteria);
+        Page<SematDTO> page = sematQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /semats/count} : count all the semats.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/semats/count")
+    public ResponseEntity<Long> countSemats(SematCriteria criteria) {
+        log.debug("REST request to count Semats by criteria: {}", criteria);
+        return ResponseEntity.ok().body(sematQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class SematResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the semat, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/semats/{id}")
-    public ResponseEntity<Semat> getSemat(@PathVariable Long id) {
+    public ResponseEntity<SematDTO> getSemat(@PathVariable Long id) {
         log.debug("REST request to get Semat : {}", id);
-        Optional<Semat> semat = sematRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(semat);
+        Optional<SematDTO> sematDTO = sematQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(sematDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class SematResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/semats/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteSemat(@PathVariable Long id) {
         log.debug("REST request to delete Semat : {}", id);
         sematRepository.deleteById(id);
@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Shahr;
 import ir.saha.repository.ShahrRepository;
+import ir.saha.service.ShahrQueryService;
+import ir.saha.service.dto.ShahrCriteria;
+import ir.saha.service.dto.ShahrDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class ShahrResource {
 
     private final Logger log = LoggerFactory.getLogger(ShahrResource.class);
@@ -35,8 +42,11 @@ public class ShahrResource {
 
     private final ShahrRepository shahrRepository;
 
-    public ShahrResource(ShahrRepository shahrRepository) {
+    private final ShahrQueryService shahrQueryService;
+
+    public ShahrResource(ShahrRepository shahrRepository, ShahrQueryService shahrQueryService) {
         this.shahrRepository = shahrRepository;
+        this.shahrQueryService = shahrQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class ShahrResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/shahrs")
+    @Transactional
     public ResponseEntity<Shahr> createShahr(@RequestBody Shahr shahr) throws URISyntaxException {
         log.debug("REST request to save Shahr : {}", shahr);
         if (shahr.getId() != null) {
@@ -68,6 +79,7 @@ public class ShahrResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/shahrs")
+    @Transactional
     public ResponseEntity<Shahr> updateShahr(@RequestBody Shahr shahr) throws URISyntaxException {
         log.debug("REST request to update Shahr : {}", shahr);
         if (shahr.getId() == null) {
@@ -82,12 +94,28 @@ public class ShahrResource {
     /**
      * {@code GET  /shahrs} : get all the shahrs.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of shahrs in body.
      */
     @GetMapping("/shahrs")
-    public List<Shahr> getAllShahrs() {
-        log.debug("REST request to get all Shahrs");
-        return shahrRepository.findAll();
+    public ResponseEntity<List<ShahrDTO>> getAllShahrs(ShahrCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Shahrs by criteria: {}", criteria);
+        Page<ShahrDTO> page = shahrQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /shahrs/count} : count all the shahrs.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/shahrs/count")
+    public ResponseEntity<Long> countShahrs(ShahrCriteria criteria) {
+        log.debug("REST request to count Shahrs by criteria: {}", criteria);
+        return ResponseEntity.ok().body(shahrQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class ShahrResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shahr, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/shahrs/{id}")
-    public ResponseEntity<Shahr> getShahr(@PathVariable Long id) {
+    public ResponseEntity<ShahrDTO> getShahr(@PathVariable Long id) {
         log.debug("REST request to get Shahr : {}", id);
-        Optional<Shahr> shahr = shahrRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(shahr);
+        Optional<ShahrDTO> shahrDTO = shahrQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(shahrDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class ShahrResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/shahrs/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteShahr(@PathVariable Long id) {
         log.debug("REST request to delete Shahr : {}", id);
         shahrRepository.deleteById(id);
@@ -0,0 +1,89 @@
+package ir.saha.web.rest;
+
+import ir.saha.service.UploadService;
+import ir.saha.service.dto.UploadDTO;
+
+import io.github.jhipster.web.util.ResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+/**
+ * REST controller for chunked, resumable uploads.
+ * <p>
+ * A client initiates an upload, sends the file as numbered parts, then attaches the upload to an entity,
+ * for example with {@code PUT /api/file-hesab-resis/:id/content?uploadId=}. After a dropped connection,
+ * the client gets the upload to learn which part to send next; sending the last part again replaces it.
+ */
+@RestController
+@RequestMapping("/api")
+public class UploadResource {
+
+    private final Logger log = LoggerFactory.getLogger(UploadResource.class);
+
+    private final UploadService uploadService;
+
+    public UploadResource(UploadService uploadService) {
+        this.uploadService = uploadService;
+    }
+
+    /**
+     * {@code POST  /uploads} : Initiate a new upload.
+     *
+     * @param uploadDTO the upload to initiate, only its content type is used.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new upload.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadDTO> initiateUpload(@RequestBody UploadDTO uploadDTO) throws URISyntaxException {
+        log.debug("REST request to initiate Upload : {}", uploadDTO);
+        UploadDTO result = uploadService.initiate(uploadDTO.getContentType());
+        return ResponseEntity.created(new URI("/api/uploads/" + result.getId())).body(result);
+    }
+
+    /**
+     * {@code GET  /uploads/:uploadId} : get the "uploadId" upload.
+     *
+     * @param uploadId the id of the upload to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the upload, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<UploadDTO> getUpload(@PathVariable String uploadId) {
+        log.debug("REST request to get Upload : {}", uploadId);
+        return ResponseUtil.wrapOrNotFound(uploadService.getUpload(uploadId));
+    }
+
+    /**
+     * {@code PUT  /uploads/:uploadId/parts/:partNumber} : Append a part to the "uploadId" upload.
+     *
+     * @param uploadId the id of the upload.
+     * @param partNumber the number of the part, starting from 1.
+     * @param content the raw content of the part.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the upload,
+     * or with status {@code 404 (Not Found)} if there is no such upload,
+     * or with status {@code 409 (Conflict)} if the part is out of order.
+     */
+    @PutMapping("/uploads/{uploadId}/parts/{partNumber}")
+    public ResponseEntity<UploadDTO> putUploadPart(@PathVariable String uploadId, @PathVariable int partNumber, InputStream content) {
+        log.debug("REST request to put part {} of Upload : {}", partNumber, uploadId);
+        return ResponseEntity.ok(uploadService.putPart(uploadId, partNumber, content));
+    }
+
+    /**
+     * {@code DELETE  /uploads/:uploadId} : abort the "uploadId" upload.
+     *
+     * @param uploadId the id of the upload to abort.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
+     */
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> abortUpload(@PathVariable String uploadId) {
+        log.debug("REST request to abort Upload : {}", uploadId);
+        uploadService.abort(uploadId);
+        return ResponseEntity.noContent().build();
+    }
+}
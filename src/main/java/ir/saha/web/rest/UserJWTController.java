@@ -1,40 +1,53 @@
 package ir.saha.web.rest;
 
+import ir.saha.security.LoginThrottle;
 import ir.saha.security.jwt.JWTFilter;
-import ir.saha.security.jwt.TokenProvider;
+import ir.saha.service.RefreshTokenService;
+import ir.saha.service.dto.SessionTokensDTO;
 import ir.saha.web.rest.vm.LoginVM;
+import ir.saha.web.rest.vm.RefreshTokenVM;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
 /**
  * Controller to authenticate users.
+ * <p>
+ * A password check opens a session, with a short-lived access token and a refresh token. The refresh token renews the
+ * session without a new password check, and is replaced on every renewal.
  */
 @RestController
 @RequestMapping("/api")
 public class UserJWTController {
 
-    private final TokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
-    public UserJWTController(TokenProvider tokenProvider, AuthenticationManagerBuilder authenticationManagerBuilder) {
-        this.tokenProvider = tokenProvider;
+    private final LoginThrottle loginThrottle;
+
+    public UserJWTController(RefreshTokenService refreshTokenService, AuthenticationManagerBuilder authenticationManagerBuilder,
+                             LoginThrottle loginThrottle) {
+        this.refreshTokenService = refreshTokenService;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.loginThrottle = loginThrottle;
     }
 
     @PostMapping("/authenticate")
-    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM) {
+    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM, HttpServletRequest request) {
+        loginThrottle.acquire(loginVM.getUsername(), request.getRemoteAddr());
 
         UsernamePasswordAuthenticationToken authenticationToken =
             new UsernamePasswordAuthenticationToken(loginVM.getUsername(), loginVM.getPassword());
@@ -42,11 +55,41 @@ public class UserJWTController {
         Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
         SecurityContextHolder.getContext().setAuthentication(authentication);
         boolean rememberMe = (loginVM.isRememberMe() == null) ? false : loginVM.isRememberMe();
-        String jwt = tokenProvider.createToken(authentication, rememberMe);
+        return createResponse(refreshTokenService.createSession(authentication, rememberMe));
+    }
+
+    /**
+     * {@code POST  /authenticate/refresh} : renew a session with its refresh token.
+     *
+     * @param refreshTokenVM the refresh token, which can't be used again afterwards.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the new tokens of the session, or with status
+     * {@code 401 (Unauthorized)} if the refresh token is unknown, expired, revoked or already used.
+     */
+    @PostMapping("/authenticate/refresh")
+    public ResponseEntity<JWTToken> refresh(@Valid @RequestBody RefreshTokenVM refreshTokenVM) {
+        return refreshTokenService.refresh(refreshTokenVM.getRefreshToken())
+            .map(this::createResponse)
+            .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+    }
+
+    /**
+     * {@code POST  /authenticate/revoke} : end the session of a refresh token, rejecting its access tokens too.
+     *
+     * @param refreshTokenVM the refresh token.
+     */
+    @PostMapping("/authenticate/revoke")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void revoke(@Valid @RequestBody RefreshTokenVM refreshTokenVM) {
+        refreshTokenService.revoke(refreshTokenVM.getRefreshToken());
+    }
+
+    private ResponseEntity<JWTToken> createResponse(SessionTokensDTO tokens) {
         HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.add(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
-        return new ResponseEntity<>(new JWTToken(jwt), httpHeaders, HttpStatus.OK);
+        httpHeaders.add(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + tokens.getAccessToken());
+        JWTToken jwtToken = new JWTToken(tokens.getAccessToken(), tokens.getRefreshToken(), tokens.getExpiresInSeconds());
+        return new ResponseEntity<>(jwtToken, httpHeaders, HttpStatus.OK);
     }
+
     /**
      * Object to return as body in JWT Authentication.
      */
@@ -54,8 +97,14 @@ public class UserJWTController {
 
         private String idToken;
 
-        JWTToken(String idToken) {
+        private String refreshToken;
+
+        private long expiresIn;
+
+        JWTToken(String idToken, String refreshToken, long expiresIn) {
             this.idToken = idToken;
+            this.refreshToken = refreshToken;
+            this.expiresIn = expiresIn;
         }
 
         @JsonProperty("id_token")
@@ -66,5 +115,23 @@ public class UserJWTController {
         void setIdToken(String idToken) {
             this.idToken = idToken;
         }
+
+        @JsonProperty("refresh_token")
+        String getRefreshToken() {
+            return refreshToken;
+        }
+
+        void setRefreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+        }
+
+        @JsonProperty("expires_in")
+        long getExpiresIn() {
+            return expiresIn;
+        }
+
+        void setExpiresIn(long expiresIn) {
+            this.expiresIn = expiresIn;
+        }
     }
 }
@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.YeganCode;
 import ir.saha.repository.YeganCodeRepository;
+import ir.saha.service.YeganCodeQueryService;
+import ir.saha.service.dto.YeganCodeCriteria;
+import ir.saha.service.dto.YeganCodeDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class YeganCodeResource {
 
     private final Logger log = LoggerFactory.getLogger(YeganCodeResource.class);
@@ -35,8 +42,11 @@ public class YeganCodeResource {
 
     private final YeganCodeRepository yeganCodeRepository;
 
-    public YeganCodeResource(YeganCodeRepository yeganCodeRepository) {
+    private final YeganCodeQueryService yeganCodeQueryService;
+
+    public YeganCodeResource(YeganCodeRepository yeganCodeRepository, YeganCodeQueryService yeganCodeQueryService) {
         this.yeganCodeRepository = yeganCodeRepository;
+        this.yeganCodeQueryService = yeganCodeQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class YeganCodeResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/yegan-codes")
+    @Transactional
     public ResponseEntity<YeganCode> createYeganCode(@RequestBody YeganCode yeganCode) throws URISyntaxException {
         log.debug("REST request to save YeganCode : {}", yeganCode);
         if (yeganCode.getId() != null) {
@@ -68,6 +79,7 @@ public class YeganCodeResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/yegan-codes")
+    @Transactional
     public ResponseEntity<YeganCode> updateYeganCode(@RequestBody YeganCode yeganCode) throws URISyntaxException {
         log.debug("REST request to update YeganCode : {}", yeganCode);
         if (yeganCode.getId() == null) {
@@ -82,12 +94,28 @@ public class YeganCodeResource {
     /**
      * {@code GET  /yegan-codes} : get all the yeganCodes.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of yeganCodes in body.
      */
     @GetMapping("/yegan-codes")
-    public List<YeganCode> getAllYeganCodes() {
-        log.debug("REST request to get all YeganCodes");
-        return yeganCodeRepository.findAll();
+    public ResponseEntity<List<YeganCodeDTO>> getAllYeganCodes(YeganCodeCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get YeganCodes by criteria: {}", criteria);
+        Page<YeganCodeDTO> page = yeganCodeQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /yegan-codes/count} : count all the yeganCodes.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/yegan-codes/count")
+    public ResponseEntity<Long> countYeganCodes(YeganCodeCriteria criteria) {
+        log.debug("REST request to count YeganCodes by criteria: {}", criteria);
+        return ResponseEntity.ok().body(yeganCodeQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class YeganCodeResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the yeganCode, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/yegan-codes/{id}")
-    public ResponseEntity<YeganCode> getYeganCode(@PathVariable Long id) {
+    public ResponseEntity<YeganCodeDTO> getYeganCode(@PathVariable Long id) {
         log.debug("REST request to get YeganCode : {}", id);
-        Optional<YeganCode> yeganCode = yeganCodeRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(yeganCode);
+        Optional<YeganCodeDTO> yeganCodeDTO = yeganCodeQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(yeganCodeDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class YeganCodeResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/yegan-codes/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteYeganCode(@PathVariable Long id) {
         log.debug("REST request to delete YeganCode : {}", id);
         yeganCodeRepository.deleteById(id);
@@ -2,20 +2,32 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.Yegan;
 import ir.saha.repository.YeganRepository;
+import ir.saha.service.YeganHierarchyService;
+import ir.saha.service.YeganQueryService;
+import ir.saha.service.dto.YeganCriteria;
+import ir.saha.service.dto.YeganDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
+import ir.saha.web.rest.util.QueryBudget;
 
+import io.github.jhipster.service.filter.LongFilter;
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -25,7 +37,7 @@ import java.util.stream.StreamSupport;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
+@QueryBudget(10)
 public class YeganResource {
 
     private final Logger log = LoggerFactory.getLogger(YeganResource.class);
@@ -37,8 +49,14 @@ public class YeganResource {
 
     private final YeganRepository yeganRepository;
 
-    public YeganResource(YeganRepository yeganRepository) {
+    private final YeganQueryService yeganQueryService;
+
+    private final YeganHierarchyService yeganHierarchyService;
+
+    public YeganResource(YeganRepository yeganRepository, YeganQueryService yeganQueryService, YeganHierarchyService yeganHierarchyService) {
         this.yeganRepository = yeganRepository;
+        this.yeganQueryService = yeganQueryService;
+        this.yeganHierarchyService = yeganHierarchyService;
     }
 
     /**
@@ -49,12 +67,14 @@ public class YeganResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/yegans")
+    @Transactional
     public ResponseEntity<Yegan> createYegan(@RequestBody Yegan yegan) throws URISyntaxException {
         log.debug("REST request to save Yegan : {}", yegan);
         if (yegan.getId() != null) {
             throw new BadRequestAlertException("A new yegan cannot already have an ID", ENTITY_NAME, "idexists");
         }
         Yegan result = yeganRepository.save(yegan);
+        yeganHierarchyService.updateHierarchy(result);
         return ResponseEntity.created(new URI("/api/yegans/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
             .body(result);
@@ -65,17 +85,22 @@ public class YeganResource {
      *
      * @param yegan the yegan to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated yegan,
-     * or with status {@code 400 (Bad Request)} if the yegan is not valid,
+     * or with status {@code 400 (Bad Request)} if the yegan is not valid or would be below itself,
      * or with status {@code 500 (Internal Server Error)} if the yegan couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/yegans")
+    @Transactional
     public ResponseEntity<Yegan> updateYegan(@RequestBody Yegan yegan) throws URISyntaxException {
         log.debug("REST request to update Yegan : {}", yegan);
         if (yegan.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
+        if (yeganHierarchyService.wouldCreateCycle(yegan)) {
+            throw new BadRequestAlertException("A yegan cannot be below itself", ENTITY_NAME, "hierarchycycle");
+        }
         Yegan result = yeganRepository.save(yegan);
+        yeganHierarchyService.updateHierarchy(result);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, yegan.getId().toString()))
             .body(result);
@@ -84,21 +109,60 @@ public class YeganResource {
     /**
      * {@code GET  /yegans} : get all the yegans.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param filter the filter of the request, {@code yegancode-is-null} is kept as an alias of {@code yeganCodeId.specified=false}.
      * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
-     * @param filter the filter of the request.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of yegans in body.
      */
     @GetMapping("/yegans")
-    public List<Yegan> getAllYegans(@RequestParam(required = false) String filter,@RequestParam(required = false, defaultValue = "false") boolean eagerload) {
+    @QueryBudget(4)
+    public ResponseEntity<List<YeganDTO>> getAllYegans(YeganCriteria criteria, Pageable pageable, @RequestParam(required = false) String filter, @RequestParam(required = false, defaultValue = "false") boolean eagerload) {
+        log.debug("REST request to get Yegans by criteria: {}", criteria);
         if ("yegancode-is-null".equals(filter)) {
-            log.debug("REST request to get all Yegans where yeganCode is null");
-            return StreamSupport
-                .stream(yeganRepository.findAll().spliterator(), false)
-                .filter(yegan -> yegan.getYeganCode() == null)
-                .collect(Collectors.toList());
+            LongFilter yeganCodeId = new LongFilter();
+            yeganCodeId.setSpecified(false);
+            criteria.setYeganCodeId(yeganCodeId);
         }
-        log.debug("REST request to get all Yegans");
-        return yeganRepository.findAllWithEagerRelationships();
+        Page<YeganDTO> page = yeganQueryService.findByCriteria(criteria, pageable, eagerload);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /yegans?fields=} : get the given fields of all the yegans, without loading the others.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param fields the comma-separated paths of the fields to get, such as {@code id,name,shahr.name}; the ids are always included.
+     * @param pageable the pagination information.
+     * @param filter the filter of the request, {@code yegancode-is-null} is kept as an alias of {@code yeganCodeId.specified=false}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of the fields of the yegans in body,
+     * or with status {@code 400 (Bad Request)} if a field is unknown.
+     */
+    @GetMapping(value = "/yegans", params = "fields")
+    @QueryBudget(2)
+    public ResponseEntity<List<Map<String, Object>>> getAllYeganFields(YeganCriteria criteria, @RequestParam String fields, Pageable pageable, @RequestParam(required = false) String filter) {
+        log.debug("REST request to get fields {} of Yegans by criteria: {}", fields, criteria);
+        if ("yegancode-is-null".equals(filter)) {
+            LongFilter yeganCodeId = new LongFilter();
+            yeganCodeId.setSpecified(false);
+            criteria.setYeganCodeId(yeganCodeId);
+        }
+        Page<Map<String, Object>> page = yeganQueryService.findFieldsByCriteria(criteria, fields, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /yegans/count} : count all the yegans.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/yegans/count")
+    public ResponseEntity<Long> countYegans(YeganCriteria criteria) {
+        log.debug("REST request to count Yegans by criteria: {}", criteria);
+        return ResponseEntity.ok().body(yeganQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -108,10 +172,61 @@ public class YeganResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the yegan, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/yegans/{id}")
-    public ResponseEntity<Yegan> getYegan(@PathVariable Long id) {
+    @QueryBudget(2)
+    public ResponseEntity<YeganDTO> getYegan(@PathVariable Long id) {
         log.debug("REST request to get Yegan : {}", id);
-        Optional<Yegan> yegan = yeganRepository.findOneWithEagerRelationships(id);
-        return ResponseUtil.wrapOrNotFound(yegan);
+        Optional<YeganDTO> yeganDTO = yeganQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(yeganDTO);
+    }
+
+    /**
+     * {@code GET  /yegans/:id?fields=} : get the given fields of the "id" yegan, without loading the others.
+     *
+     * @param id the id of the yegan to retrieve.
+     * @param fields the comma-separated paths of the fields to get, such as {@code id,name,shahr.name}; the id is always included.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the fields of the yegan, or with status {@code 404 (Not Found)},
+     * or with status {@code 400 (Bad Request)} if a field is unknown.
+     */
+    @GetMapping(value = "/yegans/{id}", params = "fields")
+    @QueryBudget(1)
+    public ResponseEntity<Map<String, Object>> getYeganFields(@PathVariable Long id, @RequestParam String fields) {
+        log.debug("REST request to get fields {} of Yegan : {}", fields, id);
+        return ResponseUtil.wrapOrNotFound(yeganRepository.findFieldsById(id, fields));
+    }
+
+    /**
+     * {@code GET  /yegans/:id/subtree} : get the yegans below the "id" yegan, nearest first.
+     *
+     * @param id the id of the yegan whose subtree to retrieve.
+     * @param maxDepth the maximum number of zirYegan links from the yegan, if any.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of yegans in body, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/yegans/{id}/subtree")
+    public ResponseEntity<List<YeganDTO>> getYeganSubtree(@PathVariable Long id, @RequestParam(required = false) Integer maxDepth, Pageable pageable) {
+        log.debug("REST request to get the subtree of Yegan : {}", id);
+        if (!yeganRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        Page<YeganDTO> page = yeganHierarchyService.findDescendants(id, maxDepth, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /yegans/:id/ancestors} : get the yegans above the "id" yegan, nearest first.
+     *
+     * @param id the id of the yegan whose ancestors to retrieve.
+     * @param maxDepth the maximum number of zirYegan links to the yegan, if any.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of yegans in body, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/yegans/{id}/ancestors")
+    public ResponseEntity<List<YeganDTO>> getYeganAncestors(@PathVariable Long id, @RequestParam(required = false) Integer maxDepth) {
+        log.debug("REST request to get the ancestors of Yegan : {}", id);
+        if (!yeganRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().body(yeganHierarchyService.findAncestors(id, maxDepth));
     }
 
     /**
@@ -121,8 +236,10 @@ public class YeganResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/yegans/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteYegan(@PathVariable Long id) {
         log.debug("REST request to delete Yegan : {}", id);
+        yeganHierarchyService.removeFromHierarchy(id);
         yeganRepository.deleteById(id);
         return ResponseEntity.noContent().headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString())).build();
     }
@@ -2,16 +2,24 @@ package ir.saha.web.rest;
 
 import ir.saha.domain.YeganType;
 import ir.saha.repository.YeganTypeRepository;
+import ir.saha.service.YeganTypeQueryService;
+import ir.saha.service.dto.YeganTypeCriteria;
+import ir.saha.service.dto.YeganTypeDTO;
 import ir.saha.web.rest.errors.BadRequestAlertException;
 
 import io.github.jhipster.web.util.HeaderUtil;
+import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,7 +31,6 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class YeganTypeResource {
 
     private final Logger log = LoggerFactory.getLogger(YeganTypeResource.class);
@@ -35,8 +42,11 @@ public class YeganTypeResource {
 
     private final YeganTypeRepository yeganTypeRepository;
 
-    public YeganTypeResource(YeganTypeRepository yeganTypeRepository) {
+    private final YeganTypeQueryService yeganTypeQueryService;
+
+    public YeganTypeResource(YeganTypeRepository yeganTypeRepository, YeganTypeQueryService yeganTypeQueryService) {
         this.yeganTypeRepository = yeganTypeRepository;
+        this.yeganTypeQueryService = yeganTypeQueryService;
     }
 
     /**
@@ -47,6 +57,7 @@ public class YeganTypeResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/yegan-types")
+    @Transactional
     public ResponseEntity<YeganType> createYeganType(@RequestBody YeganType yeganType) throws URISyntaxException {
         log.debug("REST request to save YeganType : {}", yeganType);
         if (yeganType.getId() != null) {
@@ -68,6 +79,7 @@ public class YeganTypeResource {
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/yegan-types")
+    @Transactional
     public ResponseEntity<YeganType> updateYeganType(@RequestBody YeganType yeganType) throws URISyntaxException {
         log.debug("REST request to update YeganType : {}", yeganType);
         if (yeganType.getId() == null) {
@@ -82,12 +94,28 @@ public class YeganTypeResource {
     /**
      * {@code GET  /yegan-types} : get all the yeganTypes.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of yeganTypes in body.
      */
     @GetMapping("/yegan-types")
-    public List<YeganType> getAllYeganTypes() {
-        log.debug("REST request to get all YeganTypes");
-        return yeganTypeRepository.findAll();
+    public ResponseEntity<List<YeganTypeDTO>> getAllYeganTypes(YeganTypeCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get YeganTypes by criteria: {}", criteria);
+        Page<YeganTypeDTO> page = yeganTypeQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /yegan-types/count} : count all the yeganTypes.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/yegan-types/count")
+    public ResponseEntity<Long> countYeganTypes(YeganTypeCriteria criteria) {
+        log.debug("REST request to count YeganTypes by criteria: {}", criteria);
+        return ResponseEntity.ok().body(yeganTypeQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -97,10 +125,10 @@ public class YeganTypeResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the yeganType, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/yegan-types/{id}")
-    public ResponseEntity<YeganType> getYeganType(@PathVariable Long id) {
+    public ResponseEntity<YeganTypeDTO> getYeganType(@PathVariable Long id) {
         log.debug("REST request to get YeganType : {}", id);
-        Optional<YeganType> yeganType = yeganTypeRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(yeganType);
+        Optional<YeganTypeDTO> yeganTypeDTO = yeganTypeQueryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(yeganTypeDTO);
     }
 
     /**
@@ -110,6 +138,7 @@ public class YeganTypeResource {
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/yegan-types/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteYeganType(@PathVariable Long id) {
         log.debug("REST request to delete YeganType : {}", id);
         yeganTypeRepository.deleteById(id);
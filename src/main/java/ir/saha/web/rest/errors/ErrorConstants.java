@@ -6,6 +6,13 @@ public final class ErrorConstants {
 
     public static final String ERR_CONCURRENCY_FAILURE = "error.concurrencyFailure";
     public static final String ERR_VALIDATION = "error.validation";
+    public static final String ERR_UPLOAD_NOT_FOUND = "error.uploadNotFound";
+    public static final String ERR_UPLOAD_PART_OUT_OF_ORDER = "error.uploadPartOutOfOrder";
+    public static final String ERR_TOO_MANY_LOGIN_ATTEMPTS = "error.tooManyLoginAttempts";
+    public static final String ERR_PASSWORD_HASHING_UNAVAILABLE = "error.passwordHashingUnavailable";
+    public static final String ERR_UNKNOWN_FIELD = "error.unknownField";
+    public static final String ERR_IMPORT_TOO_LARGE = "error.importTooLarge";
+    public static final String ERR_TOO_MANY_IMPORTS = "error.tooManyImports";
     public static final String PROBLEM_BASE_URL = "https://www.jhipster.tech/problem";
     public static final URI DEFAULT_TYPE = URI.create(PROBLEM_BASE_URL + "/problem-with-message");
     public static final URI CONSTRAINT_VIOLATION_TYPE = URI.create(PROBLEM_BASE_URL + "/constraint-violation");
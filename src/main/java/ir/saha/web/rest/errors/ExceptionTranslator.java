@@ -4,7 +4,9 @@ import io.github.jhipster.web.util.HeaderUtil;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -113,6 +115,94 @@ public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait
         return create(ex, request, HeaderUtil.createFailureAlert(applicationName, true, ex.getEntityName(), ex.getErrorKey(), ex.getMessage()));
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleUploadNotFoundException(ir.saha.service.UploadNotFoundException ex, NativeWebRequest request) {
+        Problem problem = Problem.builder()
+            .withStatus(Status.NOT_FOUND)
+            .with(MESSAGE_KEY, ErrorConstants.ERR_UPLOAD_NOT_FOUND)
+            .build();
+        return create(ex, problem, request);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleUploadPartOutOfOrderException(ir.saha.service.UploadPartOutOfOrderException ex, NativeWebRequest request) {
+        Problem problem = Problem.builder()
+            .withStatus(Status.CONFLICT)
+            .withDetail(ex.getMessage())
+            .with(MESSAGE_KEY, ErrorConstants.ERR_UPLOAD_PART_OUT_OF_ORDER)
+            .with("expectedPart", ex.getExpectedPart())
+            .build();
+        return create(ex, problem, request);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleUnknownFieldException(ir.saha.repository.UnknownFieldException ex, NativeWebRequest request) {
+        Problem problem = Problem.builder()
+            .withStatus(Status.BAD_REQUEST)
+            .withDetail(ex.getMessage())
+            .with(MESSAGE_KEY, ErrorConstants.ERR_UNKNOWN_FIELD)
+            .with("field", ex.getField())
+            .build();
+        return create(ex, problem, request);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleImportTooLargeException(ir.saha.service.ImportTooLargeException ex, NativeWebRequest request) {
+        Problem problem = Problem.builder()
+            .withStatus(Status.REQUEST_ENTITY_TOO_LARGE)
+            .withDetail(ex.getMessage())
+            .with(MESSAGE_KEY, ErrorConstants.ERR_IMPORT_TOO_LARGE)
+            .with("maxFileSize", ex.getMaxFileSize())
+            .build();
+        return create(ex, problem, request);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleTooManyImportsException(ir.saha.service.TooManyImportsException ex, NativeWebRequest request) {
+        Problem problem = Problem.builder()
+            .withStatus(Status.TOO_MANY_REQUESTS)
+            .withDetail(ex.getMessage())
+            .with(MESSAGE_KEY, ErrorConstants.ERR_TOO_MANY_IMPORTS)
+            .build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "60");
+        return create(ex, problem, request, headers);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleTooManyLoginAttemptsException(ir.saha.security.TooManyLoginAttemptsException ex, NativeWebRequest request) {
+        Problem problem = Problem.builder()
+            .withStatus(Status.TOO_MANY_REQUESTS)
+            .with(MESSAGE_KEY, ErrorConstants.ERR_TOO_MANY_LOGIN_ATTEMPTS)
+            .build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return create(ex, problem, request, headers);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Problem> handlePasswordHashingUnavailableException(ir.saha.security.PasswordHashingUnavailableException ex, NativeWebRequest request) {
+        Problem problem = Problem.builder()
+            .withStatus(Status.SERVICE_UNAVAILABLE)
+            .with(MESSAGE_KEY, ErrorConstants.ERR_PASSWORD_HASHING_UNAVAILABLE)
+            .build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return create(ex, problem, request, headers);
+    }
+
+    /**
+     * The authentication provider wraps the errors of the user lookup, which checks a dummy password when the user
+     * does not exist, so a busy password encoder must be unwrapped there too.
+     */
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleInternalAuthenticationServiceException(InternalAuthenticationServiceException ex, NativeWebRequest request) {
+        if (ex.getCause() instanceof ir.saha.security.PasswordHashingUnavailableException) {
+            return handlePasswordHashingUnavailableException((ir.saha.security.PasswordHashingUnavailableException) ex.getCause(), request);
+        }
+        return handleAuthentication(ex, request);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Problem> handleConcurrencyFailure(ConcurrencyFailureException ex, NativeWebRequest request) {
         Problem problem = Problem.builder()
@@ -0,0 +1,112 @@
+package ir.saha.web.rest.util;
+
+import ir.saha.service.storage.BlobStore;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Utility class for streaming blob store content in REST responses.
+ * <p>
+ * The body is a {@link Resource}, so Spring MVC answers {@code Range} requests with {@code 206 (Partial Content)}
+ * and {@code If-None-Match} requests with {@code 304 (Not Modified)}. When the container supports sendfile and
+ * the whole file is requested, the transfer is handed to the container instead of being copied through the JVM.
+ */
+public final class BlobResponseUtil {
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private BlobResponseUtil() {
+    }
+
+    /**
+     * Wrap the blob with the given hash into a {@link ResponseEntity}, or return {@code 404 (Not Found)} if there
+     * is no such blob.
+     *
+     * @param blobStore   the store holding the blob.
+     * @param hash        the hash of the blob, may be null.
+     * @param contentType the content type recorded for the blob, may be null.
+     * @param request     the current request.
+     * @return the response with the blob content.
+     */
+    public static ResponseEntity<Resource> wrapOrNotFound(BlobStore blobStore, String hash, String contentType,
+            HttpServletRequest request) {
+        Optional<Resource> blob = hash == null ? Optional.empty() : blobStore.get(hash);
+        if (!blob.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        String eTag = "\"" + hash + "\"";
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        Resource resource = blob.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+            .contentType(mediaTypeOf(contentType));
+        if (canSendfile(request, resource)) {
+            try {
+                File file = resource.getFile();
+                request.setAttribute(SENDFILE_FILENAME_ATTR, file.getAbsolutePath());
+                request.setAttribute(SENDFILE_START_ATTR, 0L);
+                request.setAttribute(SENDFILE_END_ATTR, file.length());
+                return response.contentLength(file.length()).build();
+            } catch (IOException e) {
+                // Fall back to streaming the resource
+            }
+        }
+        return response.body(resource);
+    }
+
+    private static boolean canSendfile(HttpServletRequest request, Resource resource) {
+        return Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))
+            && "GET".equals(request.getMethod())
+            && request.getHeader(HttpHeaders.RANGE) == null
+            && resource.isFile();
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return false;
+        }
+        for (String candidate : StringUtils.commaDelimitedListToStringArray(ifNoneMatch)) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if ("*".equals(candidate) || eTag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MediaType mediaTypeOf(String contentType) {
+        if (StringUtils.hasText(contentType)) {
+            try {
+                return MediaType.parseMediaType(contentType);
+            } catch (InvalidMediaTypeException e) {
+                // Recorded content type is not usable, serve the raw bytes
+            }
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+}
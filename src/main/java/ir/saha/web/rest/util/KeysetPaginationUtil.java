@@ -0,0 +1,106 @@
+package ir.saha.web.rest.util;
+
+import ir.saha.web.rest.errors.BadRequestAlertException;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utility class for keyset (seek) pagination.
+ * <p>
+ * A client asks for keyset mode with an {@code after} request parameter, empty for the first page. When there is a
+ * next page, the response has its opaque continuation token in the {@value #CONTINUATION_TOKEN_HEADER} header and a
+ * {@code Link} header with {@code rel="next"}; the client passes the token back as {@code after}. A plain id is
+ * accepted as {@code after} too.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String AFTER_PARAMETER = "after";
+
+    public static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
+
+    private static final String TOKEN_PREFIX = "id:";
+
+    private KeysetPaginationUtil() {
+    }
+
+    /**
+     * Decodes the {@code after} request parameter.
+     *
+     * @param after the continuation token or id, or an empty string for the first page.
+     * @param entityName the name of the listed entity, for the error message.
+     * @return the id to continue after, or {@code null} for the first page.
+     * @throws BadRequestAlertException if {@code after} is neither a continuation token nor an id.
+     */
+    public static Long decodeAfter(String after, String entityName) {
+        if (after == null || after.isEmpty()) {
+            return null;
+        }
+        try {
+            if (after.chars().allMatch(Character::isDigit)) {
+                return Long.valueOf(after);
+            }
+            String decoded = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+            if (decoded.startsWith(TOKEN_PREFIX)) {
+                return Long.valueOf(decoded.substring(TOKEN_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // Falls through to the bad request below
+        }
+        throw new BadRequestAlertException("Invalid continuation token", entityName, "invalidcontinuationtoken");
+    }
+
+    /**
+     * Encodes the continuation token for the page after the given id.
+     *
+     * @param id the id of the last entity of the current page.
+     * @return the opaque continuation token.
+     */
+    public static String encodeToken(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((TOKEN_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the direction of the id order requested with the {@code sort} parameter, ascending by default.
+     *
+     * @param pageable the pagination information.
+     * @return the direction of the id order.
+     */
+    public static Sort.Direction idDirection(Pageable pageable) {
+        Sort.Order order = pageable.getSort().getOrderFor("id");
+        return order == null ? Sort.Direction.ASC : order.getDirection();
+    }
+
+    /**
+     * Generate keyset pagination headers for a Spring Data {@link Slice} object.
+     *
+     * @param uriBuilder the URI builder of the current request.
+     * @param slice the slice.
+     * @param idOf the function returning the id of an element of the slice.
+     * @param <T> the type of the elements of the slice.
+     * @return the http headers.
+     */
+    public static <T> HttpHeaders generateKeysetHttpHeaders(UriComponentsBuilder uriBuilder, Slice<T> slice, Function<T, Long> idOf) {
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.hasNext()) {
+            List<T> content = slice.getContent();
+            String token = encodeToken(idOf.apply(content.get(content.size() - 1)));
+            String next = uriBuilder
+                .replaceQueryParam(AFTER_PARAMETER, token)
+                .replaceQueryParam("size", slice.getSize())
+                .replaceQueryParam("page")
+                .toUriString();
+            headers.add(CONTINUATION_TOKEN_HEADER, token);
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+}
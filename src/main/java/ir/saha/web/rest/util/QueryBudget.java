@@ -0,0 +1,21 @@
+package ir.saha.web.rest.util;
+
+import java.lang.annotation.*;
+
+/**
+ * The maximum number of SQL statements a REST endpoint may prepare for one request.
+ * <p>
+ * Put on a controller, it applies to all its endpoints that do not declare their own. Requests over budget are logged
+ * by the {@link ir.saha.web.filter.ServerTimingFilter}, and fail when {@code application.request-timing.fail-over-budget}
+ * is set, as it is in the tests.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * @return the maximum number of SQL statements.
+     */
+    int value();
+}
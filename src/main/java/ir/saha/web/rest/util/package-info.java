@@ -0,0 +1,4 @@
+/**
+ * Helpers shared by Spring MVC REST controllers.
+ */
+package ir.saha.web.rest.util;
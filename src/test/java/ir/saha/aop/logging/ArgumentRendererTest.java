@@ -0,0 +1,45 @@
+package ir.saha.aop.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ArgumentRenderer}.
+ */
+public class ArgumentRendererTest {
+
+    private final ArgumentRenderer renderer = new ArgumentRenderer(10, Arrays.asList("password", "Key"));
+
+    @Test
+    public void testBlobsAndCollectionsAreRenderedBySize() {
+        assertThat(renderer.render(new byte[4096])).isEqualTo("byte[4096]");
+        assertThat(renderer.render(Arrays.asList(1, 2, 3))).isEqualTo("ArrayList[size=3]");
+        assertThat(renderer.render(Collections.singletonMap("a", "b"))).isEqualTo("SingletonMap[size=1]");
+    }
+
+    @Test
+    public void testLongValuesAreCut() {
+        assertThat(renderer.render("short")).isEqualTo("'short'");
+        assertThat(renderer.render("a much longer text")).isEqualTo("'a much lon...(18 chars)");
+        assertThat(renderer.render(Instant.EPOCH)).isEqualTo("1970-01-01T00:00:00Z");
+        assertThat(renderer.render(null)).isEqualTo("null");
+    }
+
+    @Test
+    public void testSecretParametersAreRedacted() {
+        String rendered = renderer.renderArguments(new String[]{"login", "newPassword", "resetKey"},
+            new Object[]{"user", "secret", "12345"});
+
+        assertThat(rendered).isEqualTo("[login='user', newPassword=***, resetKey=***]");
+    }
+
+    @Test
+    public void testArgumentsWithoutParameterNamesAreRendered() {
+        assertThat(renderer.renderArguments(null, new Object[]{1L, new byte[2]})).isEqualTo("[1, byte[2]]");
+    }
+}
@@ -0,0 +1,36 @@
+package ir.saha.aop.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TracedPackages}.
+ */
+public class TracedPackagesTest {
+
+    @Test
+    public void testTypesOfTracedPackagesAndSubPackagesAreTraced() {
+        TracedPackages tracedPackages = new TracedPackages(Collections.singleton("ir.saha.service"));
+
+        assertThat(tracedPackages.isTraced("ir.saha.service.UserService")).isTrue();
+        assertThat(tracedPackages.isTraced("ir.saha.service.storage.BlobStore")).isTrue();
+        assertThat(tracedPackages.isTraced("ir.saha.serviceimpl.Other")).isFalse();
+        assertThat(tracedPackages.isTraced("ir.saha.repository.UserRepository")).isFalse();
+    }
+
+    @Test
+    public void testPackagesAreSwitchedAtRuntime() {
+        TracedPackages tracedPackages = new TracedPackages(Collections.singleton("ir.saha.service"));
+        assertThat(tracedPackages.isTraced("ir.saha.repository.UserRepository")).isFalse();
+
+        tracedPackages.enable("ir.saha.repository");
+        tracedPackages.disable("ir.saha.service");
+
+        assertThat(tracedPackages.isTraced("ir.saha.repository.UserRepository")).isTrue();
+        assertThat(tracedPackages.isTraced("ir.saha.service.UserService")).isFalse();
+        assertThat(tracedPackages.getPackages()).containsExactly("ir.saha.repository");
+    }
+}
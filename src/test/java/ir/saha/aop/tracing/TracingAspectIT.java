@@ -0,0 +1,63 @@
+package ir.saha.aop.tracing;
+
+import ir.saha.SahaApp;
+import ir.saha.service.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link TracingAspect}.
+ */
+@SpringBootTest(classes = SahaApp.class)
+public class TracingAspectIT {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TracingEndpoint tracingEndpoint;
+
+    @Test
+    public void testTracedMethodIsTimed() {
+        long before = count();
+
+        userService.getAuthorities();
+
+        assertThat(count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    public void testMethodOfDisabledPackageIsNotTimed() {
+        tracingEndpoint.disable("ir.saha");
+        try {
+            long before = count();
+            userService.getAuthorities();
+            assertThat(count()).isEqualTo(before);
+
+            tracingEndpoint.enable("ir.saha.service");
+            userService.getAuthorities();
+            assertThat(count()).isEqualTo(before + 1);
+        } finally {
+            tracingEndpoint.disable("ir.saha.service");
+            tracingEndpoint.enable("ir.saha");
+        }
+    }
+
+    private long count() {
+        Timer timer = meterRegistry.find(TracingAspect.TIMER_NAME)
+            .tag("class", UserService.class.getName())
+            .tag("method", "getAuthorities")
+            .tag("exception", "none")
+            .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
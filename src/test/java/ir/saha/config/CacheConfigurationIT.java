@@ -0,0 +1,82 @@
+package ir.saha.config;
+
+import ir.saha.SahaApp;
+import ir.saha.domain.Ostan;
+import ir.saha.repository.OstanRepository;
+import ir.saha.service.CachedUserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.cache.CacheManager;
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the second-level cache set up by {@link CacheConfiguration}.
+ */
+@SpringBootTest(classes = SahaApp.class)
+public class CacheConfigurationIT {
+
+    @Autowired
+    private OstanRepository ostanRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void cachesAreCreatedForReferenceData() {
+        assertThat(cacheManager.getCacheNames()).contains(
+            ir.saha.security.jwt.TokenProvider.VERIFIED_TOKENS_CACHE,
+            CachedUserService.USERS_BY_LOGIN_CACHE,
+            CachedUserService.USERS_BY_EMAIL_CACHE,
+            ir.saha.domain.Authority.class.getName(),
+            ir.saha.domain.Ostan.class.getName(),
+            ir.saha.domain.Mantaghe.class.getName(),
+            ir.saha.domain.Shahr.class.getName(),
+            ir.saha.domain.Daraje.class.getName(),
+            ir.saha.domain.Semat.class.getName(),
+            ir.saha.domain.YeganType.class.getName(),
+            ir.saha.domain.NirooCode.class.getName(),
+            ir.saha.domain.YeganCode.class.getName());
+    }
+
+    @Test
+    public void entityIsReadFromTheSecondLevelCache() {
+        Ostan ostan = ostanRepository.saveAndFlush(new Ostan().name("AAAAAAAAAA"));
+        try {
+            entityManagerFactory.getCache().evict(Ostan.class);
+            double hits = cacheGets("hit");
+            double misses = cacheGets("miss");
+
+            // Each call runs in its own transaction, so only the first one reads the database
+            assertThat(ostanRepository.findById(ostan.getId())).isPresent();
+            assertThat(ostanRepository.findById(ostan.getId())).isPresent();
+
+            assertThat(entityManagerFactory.getCache().contains(Ostan.class, ostan.getId())).isTrue();
+            assertThat(cacheGets("miss")).isGreaterThan(misses);
+            assertThat(cacheGets("hit")).isGreaterThan(hits);
+            assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", Ostan.class.getName()).gauge().value())
+                .isBetween(0.0, 1.0);
+        } finally {
+            ostanRepository.deleteById(ostan.getId());
+        }
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", Ostan.class.getName())
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+}
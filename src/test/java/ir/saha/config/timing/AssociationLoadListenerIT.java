@@ -0,0 +1,66 @@
+package ir.saha.config.timing;
+
+import ir.saha.SahaApp;
+import ir.saha.domain.NirooCode;
+import ir.saha.domain.Yegan;
+import ir.saha.web.rest.NirooCodeResourceIT;
+import ir.saha.web.rest.YeganResourceIT;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link AssociationLoadListener}.
+ */
+@SpringBootTest(classes = SahaApp.class)
+@Transactional
+public class AssociationLoadListenerIT {
+
+    @Autowired
+    private EntityManager em;
+
+    @AfterEach
+    public void end() {
+        RequestTimings.end();
+    }
+
+    @Test
+    public void testToOneLoadedOnePerRowIsReported() {
+        for (int i = 0; i < 5; i++) {
+            NirooCode nirooCode = NirooCodeResourceIT.createEntity(em);
+            em.persist(nirooCode);
+            em.persist(YeganResourceIT.createEntity(em).nirooCode(nirooCode));
+        }
+        em.flush();
+        em.clear();
+
+        RequestTimings timings = RequestTimings.start();
+        List<Yegan> yegans = em.createQuery("select yegan from Yegan yegan", Yegan.class).getResultList();
+
+        assertThat(yegans).hasSize(5);
+        assertThat(timings.getRepeatedAssociationLoads(5)).containsEntry("NirooCode (eager to-one)", 5);
+    }
+
+    @Test
+    public void testToOneAlreadyLoadedIsNotReported() {
+        for (int i = 0; i < 5; i++) {
+            NirooCode nirooCode = NirooCodeResourceIT.createEntity(em);
+            em.persist(nirooCode);
+            em.persist(YeganResourceIT.createEntity(em).nirooCode(nirooCode));
+        }
+        em.flush();
+
+        RequestTimings timings = RequestTimings.start();
+        em.createQuery("select yegan from Yegan yegan", Yegan.class).getResultList();
+
+        assertThat(timings.getRepeatedAssociationLoads(1)).isEmpty();
+    }
+}
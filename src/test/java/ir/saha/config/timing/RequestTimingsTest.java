@@ -0,0 +1,90 @@
+package ir.saha.config.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link RequestTimings} and the Hibernate hooks feeding it.
+ */
+public class RequestTimingsTest {
+
+    @AfterEach
+    public void end() {
+        RequestTimings.end();
+    }
+
+    @Test
+    public void testStatementsAreCountedWithinARequestOnly() {
+        StatementCountingInspector inspector = new StatementCountingInspector();
+        inspector.inspect("select 1");
+
+        RequestTimings timings = RequestTimings.start();
+        assertThat(inspector.inspect("select 2")).isEqualTo("select 2");
+        inspector.inspect("select 3");
+        RequestTimings.end();
+        inspector.inspect("select 4");
+
+        assertThat(timings.getStatements()).isEqualTo(2);
+        assertThat(RequestTimings.current()).isNull();
+    }
+
+    @Test
+    public void testJdbcTimeIsAddedUp() {
+        RequestTimings timings = RequestTimings.start();
+        JdbcTimingSessionListener listener = new JdbcTimingSessionListener();
+
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        listener.jdbcExecuteBatchStart();
+        listener.jdbcExecuteBatchEnd();
+
+        assertThat(timings.getJdbcNanos()).isPositive();
+    }
+
+    @Test
+    public void testSerializationIsTimedWithAndWithoutBuffering() throws IOException {
+        for (boolean buffered : new boolean[] {true, false}) {
+            TimedMappingJackson2HttpMessageConverter converter = new TimedMappingJackson2HttpMessageConverter(new ObjectMapper(), buffered);
+            RequestTimings timings = RequestTimings.start();
+            MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+            converter.write(Collections.singletonMap("name", "Ali"), MediaType.APPLICATION_JSON, outputMessage);
+
+            assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"Ali\"}");
+            assertThat(timings.getSerializationNanos()).isPositive();
+            RequestTimings.end();
+        }
+    }
+
+    @Test
+    public void testWritesToTheResponseAreTimedApart() throws IOException {
+        TimedMappingJackson2HttpMessageConverter.WriteTimingOutputStream out =
+            new TimedMappingJackson2HttpMessageConverter.WriteTimingOutputStream(new ByteArrayOutputStream());
+        out.write(new byte[] {1, 2, 3}, 0, 3);
+        out.flush();
+
+        assertThat(out.getWriteNanos()).isPositive();
+    }
+
+    @Test
+    public void testServerTimingIsRenderedInMilliseconds() {
+        RequestTimings timings = RequestTimings.start();
+        timings.statementPrepared("select 1");
+        timings.jdbcExecuted(TimeUnit.MICROSECONDS.toNanos(2500));
+        timings.serialized(TimeUnit.MICROSECONDS.toNanos(1250));
+
+        assertThat(timings.toServerTiming())
+            .startsWith("db;dur=2.5;desc=\"1 statements\", ser;dur=1.3, app;dur=");
+    }
+}
@@ -0,0 +1,22 @@
+package ir.saha.domain;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import ir.saha.web.rest.TestUtil;
+
+public class OutboxMailTest {
+
+    @Test
+    public void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(OutboxMail.class);
+        OutboxMail outboxMail1 = new OutboxMail();
+        outboxMail1.setId(1L);
+        OutboxMail outboxMail2 = new OutboxMail();
+        outboxMail2.setId(outboxMail1.getId());
+        assertThat(outboxMail1).isEqualTo(outboxMail2);
+        outboxMail2.setId(2L);
+        assertThat(outboxMail1).isNotEqualTo(outboxMail2);
+        outboxMail1.setId(null);
+        assertThat(outboxMail1).isNotEqualTo(outboxMail2);
+    }
+}
@@ -0,0 +1,20 @@
+package ir.saha.domain;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import ir.saha.web.rest.TestUtil;
+
+public class YeganClosureTest {
+
+    @Test
+    public void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(YeganClosure.class);
+        YeganClosure yeganClosure1 = new YeganClosure(1L, 2L, 1);
+        YeganClosure yeganClosure2 = new YeganClosure(1L, 2L, 3);
+        assertThat(yeganClosure1).isEqualTo(yeganClosure2);
+        yeganClosure2.setId(new YeganClosureId(1L, 3L));
+        assertThat(yeganClosure1).isNotEqualTo(yeganClosure2);
+        yeganClosure1.setId(null);
+        assertThat(yeganClosure1).isNotEqualTo(yeganClosure2);
+    }
+}
@@ -0,0 +1,65 @@
+package ir.saha.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the partition bookkeeping of {@link AuditEventPartitions}.
+ */
+public class AuditEventPartitionsTest {
+
+    @Test
+    public void testUpperBoundIsTheStartOfTheNextMonthInUtc() {
+        assertThat(AuditEventPartitions.upperBound(YearMonth.of(2026, 10)))
+            .isEqualTo(Instant.parse("2026-11-01T00:00:00Z").getEpochSecond());
+        assertThat(AuditEventPartitions.upperBound(YearMonth.of(2026, 12)))
+            .isEqualTo(Instant.parse("2027-01-01T00:00:00Z").getEpochSecond());
+    }
+
+    @Test
+    public void testInitialPartitioningHasEveryMonthSinceTheOldestEvent() {
+        assertThat(AuditEventPartitions.initialPartitioning(YearMonth.of(2026, 11), YearMonth.of(2027, 1)))
+            .isEqualTo("partition by range (unix_timestamp(event_date)) (" +
+                "partition p_202611 values less than (" + AuditEventPartitions.upperBound(YearMonth.of(2026, 11)) + "), " +
+                "partition p_202612 values less than (" + AuditEventPartitions.upperBound(YearMonth.of(2026, 12)) + "), " +
+                "partition p_202701 values less than (" + AuditEventPartitions.upperBound(YearMonth.of(2027, 1)) + "), " +
+                "partition p_future values less than maxvalue)");
+    }
+
+    @Test
+    public void testAllMonthsAreMissingFromAnUnsplitTable() {
+        assertThat(AuditEventPartitions.missingMonths(OptionalLong.empty(), YearMonth.of(2026, 11), 2))
+            .containsExactly(YearMonth.of(2026, 11), YearMonth.of(2026, 12), YearMonth.of(2027, 1));
+    }
+
+    @Test
+    public void testOnlyMonthsBeyondTheLastPartitionAreMissing() {
+        OptionalLong highestBound = OptionalLong.of(AuditEventPartitions.upperBound(YearMonth.of(2026, 12)));
+
+        assertThat(AuditEventPartitions.missingMonths(highestBound, YearMonth.of(2026, 11), 2))
+            .containsExactly(YearMonth.of(2027, 1));
+        assertThat(AuditEventPartitions.missingMonths(highestBound, YearMonth.of(2026, 10), 2)).isEmpty();
+    }
+
+    @Test
+    public void testOnlyPartitionsOfMonthsEndedBeforeTheDateAreExpired() {
+        Map<String, Long> bounds = new HashMap<>();
+        bounds.put("p_202609", AuditEventPartitions.upperBound(YearMonth.of(2026, 9)));
+        bounds.put("p_202608", AuditEventPartitions.upperBound(YearMonth.of(2026, 8)));
+        bounds.put("p_202610", AuditEventPartitions.upperBound(YearMonth.of(2026, 10)));
+        bounds.put(AuditEventPartitions.FUTURE_PARTITION, null);
+
+        assertThat(AuditEventPartitions.expiredPartitions(bounds, Instant.parse("2026-10-18T00:00:00Z")))
+            .containsExactly("p_202608", "p_202609");
+        assertThat(AuditEventPartitions.expiredPartitions(bounds, Instant.parse("2026-10-01T00:00:00Z")))
+            .containsExactly("p_202608", "p_202609");
+        assertThat(AuditEventPartitions.expiredPartitions(bounds, Instant.parse("2026-08-31T23:59:59Z"))).isEmpty();
+    }
+}
@@ -0,0 +1,136 @@
+package ir.saha.repository;
+
+import ir.saha.SahaApp;
+import ir.saha.config.ApplicationProperties;
+import ir.saha.domain.PersistentAuditEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link AuditEventWriter}.
+ */
+@SpringBootTest(classes = SahaApp.class)
+@Transactional
+public class AuditEventWriterIT {
+
+    @Autowired
+    private PersistenceAuditEventRepository persistenceAuditEventRepository;
+
+    @Autowired
+    private AuditEventWriter auditEventWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuditEventWriter writer;
+
+    @BeforeEach
+    public void setup() {
+        auditEventWriter.flush();
+        persistenceAuditEventRepository.deleteAll();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    @Test
+    public void writesQueuedEventsInBatches() {
+        writer = createWriter(1000, ApplicationProperties.Audit.OverflowPolicy.DROP_NEWEST);
+        for (int i = 0; i < 250; i++) {
+            writer.write(createEvent("user-" + i));
+        }
+        assertThat(persistenceAuditEventRepository.count()).isZero();
+
+        writer.flush();
+
+        assertThat(persistenceAuditEventRepository.count()).isEqualTo(250);
+        assertThat(persistenceAuditEventRepository.findByPrincipal("user-42")).hasSize(1)
+            .allSatisfy(event -> assertThat(event.getData()).containsEntry("remoteAddress", "user-42"));
+        assertThat(meterRegistry.get("audit.events.written").counter().count()).isEqualTo(250);
+        assertThat(meterRegistry.get("audit.events.flush").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    public void dropsNewestEventsWhenTheQueueIsFull() {
+        writer = createWriter(2, ApplicationProperties.Audit.OverflowPolicy.DROP_NEWEST);
+        writer.write(createEvent("first"));
+        writer.write(createEvent("second"));
+        writer.write(createEvent("third"));
+
+        writer.flush();
+
+        assertThat(principals()).containsExactlyInAnyOrder("first", "second");
+        assertThat(meterRegistry.get("audit.events.dropped").tag("reason", "overflow").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void dropsOldestEventsWhenTheQueueIsFull() {
+        writer = createWriter(2, ApplicationProperties.Audit.OverflowPolicy.DROP_OLDEST);
+        writer.write(createEvent("first"));
+        writer.write(createEvent("second"));
+        writer.write(createEvent("third"));
+
+        writer.flush();
+
+        assertThat(principals()).containsExactlyInAnyOrder("second", "third");
+        assertThat(meterRegistry.get("audit.events.dropped").tag("reason", "overflow").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void writesThroughWhenTheQueueIsFull() {
+        writer = createWriter(1, ApplicationProperties.Audit.OverflowPolicy.WRITE_THROUGH);
+        writer.write(createEvent("queued"));
+        writer.write(createEvent("written"));
+
+        assertThat(principals()).containsExactly("written");
+        writer.flush();
+        assertThat(principals()).containsExactlyInAnyOrder("queued", "written");
+    }
+
+    private AuditEventWriter createWriter(int queueCapacity, ApplicationProperties.Audit.OverflowPolicy overflowPolicy) {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getAudit().setQueueCapacity(queueCapacity);
+        applicationProperties.getAudit().setFlushIntervalMillis(3600000);
+        applicationProperties.getAudit().setOverflowPolicy(overflowPolicy);
+        return new AuditEventWriter(applicationProperties, jdbcTemplate, transactionManager, meterRegistry);
+    }
+
+    private PersistentAuditEvent createEvent(String principal) {
+        PersistentAuditEvent event = new PersistentAuditEvent();
+        event.setPrincipal(principal);
+        event.setAuditEventType("test-type");
+        event.setAuditEventDate(Instant.now());
+        event.setData(Collections.singletonMap("remoteAddress", principal));
+        return event;
+    }
+
+    private List<String> principals() {
+        return persistenceAuditEventRepository.findAll().stream()
+            .map(PersistentAuditEvent::getPrincipal)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,74 @@
+package ir.saha.repository;
+
+import ir.saha.SahaApp;
+import ir.saha.config.timing.RequestTimings;
+import ir.saha.domain.Karbar;
+import ir.saha.domain.Payam;
+import ir.saha.domain.User;
+import ir.saha.web.rest.KarbarResourceIT;
+import ir.saha.web.rest.PayamResourceIT;
+import ir.saha.web.rest.UserResourceIT;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the pooled {@code idGenerator} of the domain objects.
+ */
+@SpringBootTest(classes = SahaApp.class)
+@Transactional
+public class IdGeneratorIT {
+
+    @Autowired
+    private EntityManager em;
+
+    @AfterEach
+    public void end() {
+        RequestTimings.end();
+    }
+
+    @Test
+    public void testInsertsAreBatched() {
+        em.flush();
+        RequestTimings timings = RequestTimings.start();
+        for (int i = 0; i < 10; i++) {
+            em.persist(KarbarResourceIT.createEntity(em));
+            em.persist(PayamResourceIT.createEntity(em));
+        }
+        em.flush();
+
+        assertThat(timings.getStatements()).isEqualTo(2);
+    }
+
+    @Test
+    public void testIdsAreAllocatedInBlocks() {
+        List<Karbar> karbars = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Karbar karbar = KarbarResourceIT.createEntity(em);
+            em.persist(karbar);
+            karbars.add(karbar);
+        }
+
+        assertThat(karbars.get(1).getId()).isEqualTo(karbars.get(0).getId() + 1);
+        assertThat(karbars.get(2).getId()).isEqualTo(karbars.get(0).getId() + 2);
+    }
+
+    @Test
+    public void testIdsFollowSeededIds() {
+        Long highestId = em.createQuery("select max(user.id) from User user", Long.class).getSingleResult();
+        User user = UserResourceIT.createEntity(em);
+        em.persist(user);
+
+        assertThat(user.getId()).isGreaterThan(highestId);
+        em.flush();
+    }
+}
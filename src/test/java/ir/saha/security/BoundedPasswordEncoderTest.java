@@ -0,0 +1,95 @@
+package ir.saha.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for the {@link BoundedPasswordEncoder}.
+ */
+public class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testPasswordsAreHashedOnThePool() {
+        passwordEncoder = new BoundedPasswordEncoder(NoOpPasswordEncoder.getInstance(), 1, 1, 5000, meterRegistry);
+
+        assertThat(passwordEncoder.encode("password")).isEqualTo("password");
+        assertThat(passwordEncoder.matches("password", "password")).isTrue();
+        assertThat(meterRegistry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPasswordIsRefusedWhenTheQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(started), 1, 1, 5000, meterRegistry);
+        CompletableFuture.runAsync(() -> passwordEncoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> passwordEncoder.encode("queued"));
+        while (meterRegistry.get("password.hash.queue").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        assertThatThrownBy(() -> passwordEncoder.encode("refused"))
+            .isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "queue-full").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPasswordIsRefusedWhenItTimesOut() {
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(new CountDownLatch(1)), 1, 1, 50, meterRegistry);
+
+        assertThatThrownBy(() -> passwordEncoder.matches("password", "encoded"))
+            .isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "timeout").counter().count()).isEqualTo(1);
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        return new PasswordEncoder() {
+
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                await();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                await();
+                return rawPassword.toString().equals(encodedPassword);
+            }
+
+            private void await() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+}
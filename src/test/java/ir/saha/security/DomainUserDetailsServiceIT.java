@@ -3,12 +3,14 @@ package ir.saha.security;
 import ir.saha.SahaApp;
 import ir.saha.domain.User;
 import ir.saha.repository.UserRepository;
+import ir.saha.service.CachedUserService;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,12 +40,17 @@ public class DomainUserDetailsServiceIT {
     @Autowired
     private UserDetailsService domainUserDetailsService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     private User userOne;
     private User userTwo;
     private User userThree;
 
     @BeforeEach
     public void init() {
+        cacheManager.getCache(CachedUserService.USERS_BY_LOGIN_CACHE).clear();
+        cacheManager.getCache(CachedUserService.USERS_BY_EMAIL_CACHE).clear();
         userOne = new User();
         userOne.setLogin(USER_ONE_LOGIN);
         userOne.setPassword(RandomStringUtils.random(60));
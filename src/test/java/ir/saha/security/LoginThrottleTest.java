@@ -0,0 +1,75 @@
+package ir.saha.security;
+
+import ir.saha.config.ApplicationProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for the {@link LoginThrottle} token buckets.
+ */
+public class LoginThrottleTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    public void setup() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSecurity().getLoginThrottle().getPerLogin().setCapacity(2);
+        applicationProperties.getSecurity().getLoginThrottle().getPerLogin().setRefillPerMinute(6);
+        applicationProperties.getSecurity().getLoginThrottle().getPerIp().setCapacity(3);
+        applicationProperties.getSecurity().getLoginThrottle().getPerIp().setRefillPerMinute(60);
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottle = new LoginThrottle(applicationProperties,
+            new ConcurrentMapCacheManager(LoginThrottle.LOGIN_ATTEMPTS_CACHE), meterRegistry, clock::get);
+    }
+
+    @Test
+    public void testLoginIsThrottledOnceItsBucketIsEmpty() {
+        loginThrottle.acquire("user", null);
+        loginThrottle.acquire("USER", null);
+
+        assertThatThrownBy(() -> loginThrottle.acquire("user", null))
+            .isInstanceOf(TooManyLoginAttemptsException.class)
+            .extracting("retryAfterSeconds").isEqualTo(10L);
+        loginThrottle.acquire("other", null);
+        assertThat(meterRegistry.get("authentication.throttled").tag("by", "login").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testLoginBucketIsRefilledOverTime() {
+        loginThrottle.acquire("user", null);
+        loginThrottle.acquire("user", null);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        loginThrottle.acquire("user", null);
+        assertThatThrownBy(() -> loginThrottle.acquire("user", null))
+            .isInstanceOf(TooManyLoginAttemptsException.class);
+    }
+
+    @Test
+    public void testIpAddressIsThrottledAcrossLogins() {
+        loginThrottle.acquire("a", "10.0.0.1");
+        loginThrottle.acquire("b", "10.0.0.1");
+        loginThrottle.acquire("c", "10.0.0.1");
+
+        assertThatThrownBy(() -> loginThrottle.acquire("d", "10.0.0.1"))
+            .isInstanceOf(TooManyLoginAttemptsException.class)
+            .extracting("retryAfterSeconds").isEqualTo(1L);
+        loginThrottle.acquire("d", "10.0.0.2");
+        assertThat(meterRegistry.get("authentication.throttled").tag("by", "ip").counter().count()).isEqualTo(1);
+    }
+}
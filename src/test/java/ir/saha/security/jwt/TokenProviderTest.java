@@ -3,10 +3,12 @@ package ir.saha.security.jwt;
 import ir.saha.security.AuthoritiesConstants;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.*;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -30,7 +32,7 @@ public class TokenProviderTest {
 
     @BeforeEach
     public void setup() {
-        tokenProvider = new TokenProvider( new JHipsterProperties());
+        tokenProvider = new TokenProvider( new JHipsterProperties(), new ConcurrentMapCacheManager());
         key = Keys.hmacShaKeyFor(Decoders.BASE64
             .decode("fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8"));
 
@@ -38,6 +40,84 @@ public class TokenProviderTest {
         ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", ONE_MINUTE);
     }
 
+    @Test
+    public void testResolveAuthenticationOfValidToken() {
+        String token = tokenProvider.createToken(createAuthentication(), "session");
+
+        Optional<Authentication> authentication = tokenProvider.resolveAuthentication(token);
+
+        assertThat(authentication).isPresent();
+        assertThat(authentication.get().getName()).isEqualTo("anonymous");
+        assertThat(authentication.get().getCredentials()).isEqualTo(token);
+        assertThat(authentication.get().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly(AuthoritiesConstants.ANONYMOUS);
+    }
+
+    @Test
+    public void testVerifiedTokenIsResolvedFromCache() {
+        String token = tokenProvider.createToken(createAuthentication(), "session");
+
+        Authentication first = tokenProvider.resolveAuthentication(token).get();
+        Authentication second = tokenProvider.resolveAuthentication(token).get();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void testAuthoritiesAreSharedBetweenTokens() {
+        String token = tokenProvider.createToken(createAuthentication(), "session");
+        String otherToken = tokenProvider.createToken(new UsernamePasswordAuthenticationToken("other", "other",
+            Collections.singletonList(new SimpleGrantedAuthority(AuthoritiesConstants.ANONYMOUS))), "other-session");
+
+        GrantedAuthority authority = tokenProvider.resolveAuthentication(token).get().getAuthorities().iterator().next();
+        GrantedAuthority otherAuthority = tokenProvider.resolveAuthentication(otherToken).get().getAuthorities().iterator().next();
+
+        assertThat(otherAuthority).isSameAs(authority);
+    }
+
+    @Test
+    public void testCachedTokenIsRejectedOnceExpired() throws Exception {
+        ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", 1000L);
+        String token = tokenProvider.createToken(createAuthentication(), "session");
+        assertThat(tokenProvider.resolveAuthentication(token)).isPresent();
+
+        Thread.sleep(1000);
+
+        assertThat(tokenProvider.resolveAuthentication(token)).isEmpty();
+    }
+
+    @Test
+    public void testTokenOfRevokedSessionIsRejectedEvenIfCached() {
+        String token = tokenProvider.createToken(createAuthentication(), "session");
+        String otherToken = tokenProvider.createToken(createAuthentication(), "other-session");
+        assertThat(tokenProvider.resolveAuthentication(token)).isPresent();
+
+        tokenProvider.revokeSessions(Collections.singleton("session"), Instant.now());
+
+        assertThat(tokenProvider.resolveAuthentication(token)).isEmpty();
+        assertThat(tokenProvider.validateToken(tokenProvider.createToken(createAuthentication(), "session"))).isFalse();
+        assertThat(tokenProvider.resolveAuthentication(otherToken)).isPresent();
+    }
+
+    @Test
+    public void testSessionRevocationLastsAsLongAsItsTokens() {
+        String token = tokenProvider.createToken(createAuthentication(), "session");
+
+        tokenProvider.revokeSessions(Collections.singleton("session"), Instant.now().minusMillis(ONE_MINUTE));
+
+        assertThat(tokenProvider.resolveAuthentication(token)).isPresent();
+    }
+
+    @Test
+    public void testSessionIdOfToken() {
+        String token = tokenProvider.createToken(createAuthentication(), "session");
+
+        assertThat(tokenProvider.getSessionId(token)).contains("session");
+        // Then from the verified tokens cache
+        assertThat(tokenProvider.getSessionId(token)).contains("session");
+        assertThat(tokenProvider.getSessionId(createTokenWithDifferentSignature())).isEmpty();
+    }
+
     @Test
     public void testReturnFalseWhenJWThasInvalidSignature() {
         boolean isTokenValid = tokenProvider.validateToken(createTokenWithDifferentSignature());
@@ -48,7 +128,7 @@ public class TokenProviderTest {
     @Test
     public void testReturnFalseWhenJWTisMalformed() {
         Authentication authentication = createAuthentication();
-        String token = tokenProvider.createToken(authentication, false);
+        String token = tokenProvider.createToken(authentication, "session");
         String invalidToken = token.substring(1);
         boolean isTokenValid = tokenProvider.validateToken(invalidToken);
 
@@ -60,7 +140,7 @@ public class TokenProviderTest {
         ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", -ONE_MINUTE);
 
         Authentication authentication = createAuthentication();
-        String token = tokenProvider.createToken(authentication, false);
+        String token = tokenProvider.createToken(authentication, "session");
 
         boolean isTokenValid = tokenProvider.validateToken(token);
 
@@ -3,7 +3,9 @@ package ir.saha.service;
 import ir.saha.domain.PersistentAuditEvent;
 import ir.saha.repository.PersistenceAuditEventRepository;
 import ir.saha.SahaApp;
+import ir.saha.config.ApplicationProperties;
 import io.github.jhipster.config.JHipsterProperties;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -29,6 +32,11 @@ public class AuditEventServiceIT {
     @Autowired
     private JHipsterProperties jHipsterProperties;
 
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    private int purgeBatchSize;
+
     private PersistentAuditEvent auditEventOld;
 
     private PersistentAuditEvent auditEventWithinRetention;
@@ -51,6 +59,13 @@ public class AuditEventServiceIT {
         auditEventNew.setAuditEventDate(Instant.now());
         auditEventNew.setPrincipal("test-user-new");
         auditEventNew.setAuditEventType("test-type");
+
+        purgeBatchSize = applicationProperties.getPurge().getBatchSize();
+    }
+
+    @AfterEach
+    public void restorePurgeBatchSize() {
+        applicationProperties.getPurge().setBatchSize(purgeBatchSize);
     }
 
     @Test
@@ -70,4 +85,26 @@ public class AuditEventServiceIT {
         assertThat(persistenceAuditEventRepository.findByPrincipal("test-user-retention")).isNotEmpty();
         assertThat(persistenceAuditEventRepository.findByPrincipal("test-user-new")).isNotEmpty();
     }
+
+    @Test
+    @Transactional
+    public void verifyOldAuditEventsAreDeletedInChunks() {
+        applicationProperties.getPurge().setBatchSize(2);
+        persistenceAuditEventRepository.deleteAll();
+        for (int i = 0; i < 5; i++) {
+            PersistentAuditEvent auditEvent = new PersistentAuditEvent();
+            auditEvent.setAuditEventDate(auditEventOld.getAuditEventDate());
+            auditEvent.setPrincipal("test-user-old");
+            auditEvent.setAuditEventType("test-type");
+            auditEvent.setData(Collections.singletonMap("remoteAddress", "127.0.0.1"));
+            persistenceAuditEventRepository.save(auditEvent);
+        }
+        persistenceAuditEventRepository.save(auditEventNew);
+
+        persistenceAuditEventRepository.flush();
+        auditEventService.removeOldAuditEvents();
+
+        assertThat(persistenceAuditEventRepository.findAll()).extracting(PersistentAuditEvent::getPrincipal)
+            .containsExactly("test-user-new");
+    }
 }
@@ -0,0 +1,168 @@
+package ir.saha.service;
+
+import ir.saha.SahaApp;
+import ir.saha.config.ApplicationProperties;
+import ir.saha.domain.OutboxMail;
+import ir.saha.domain.enumeration.OutboxMailStatus;
+import ir.saha.repository.OutboxMailRepository;
+
+import io.github.jhipster.config.JHipsterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.MessageSource;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for {@link MailDispatcher}.
+ */
+@SpringBootTest(classes = SahaApp.class)
+@Transactional
+public class MailDispatcherIT {
+
+    @Autowired
+    private JHipsterProperties jHipsterProperties;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private MessageSource messageSource;
+
+    @Autowired
+    private SpringTemplateEngine templateEngine;
+
+    @Autowired
+    private OutboxMailRepository outboxMailRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private JavaMailSenderImpl javaMailSender;
+
+    private List<Object[]> batches;
+
+    private MeterRegistry meterRegistry;
+
+    private MailService mailService;
+
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+        batches = new ArrayList<>();
+        doAnswer(invocation -> batches.add(invocation.getArguments())).when(javaMailSender).send((MimeMessage[]) any());
+        meterRegistry = new SimpleMeterRegistry();
+        mailService = new MailService(jHipsterProperties, javaMailSender, messageSource, templateEngine, outboxMailRepository);
+        mailDispatcher = new MailDispatcher(applicationProperties, outboxMailRepository, mailService, javaMailSender,
+            transactionManager, meterRegistry);
+        outboxMailRepository.deleteAll();
+    }
+
+    @Test
+    public void testDispatchSendsBatchOverOneConnection() throws Exception {
+        mailService.sendEmail("john.doe@example.com", "subject1", "content1", false, false);
+        mailService.sendEmail("jane.doe@example.com", "subject2", "content2", false, true);
+
+        mailDispatcher.dispatch();
+
+        assertThat(batches).hasSize(1);
+        Object[] messages = batches.get(0);
+        assertThat(messages).hasSize(2);
+        assertThat(((MimeMessage) messages[0]).getSubject()).isEqualTo("subject1");
+        assertThat(((MimeMessage) messages[1]).getAllRecipients()[0].toString()).isEqualTo("jane.doe@example.com");
+        assertThat(outboxMailRepository.findAll()).isEmpty();
+        assertThat(meterRegistry.get("mail.outbox.sent").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("mail.outbox.latency").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("mail.outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    public void testDispatchSkipsMailsNotDue() {
+        mailService.sendEmail("john.doe@example.com", "subject", "content", false, false);
+        OutboxMail mail = outboxMailRepository.findAll().get(0);
+        mail.setNextAttemptAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        outboxMailRepository.saveAndFlush(mail);
+
+        mailDispatcher.dispatch();
+
+        assertThat(batches).isEmpty();
+        assertThat(outboxMailRepository.findAll()).hasSize(1);
+        assertThat(meterRegistry.get("mail.outbox.pending").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailedMailIsRetriedWithBackoff() {
+        mailService.sendEmail("john.doe@example.com", "subject1", "content1", false, false);
+        mailService.sendEmail("jane.doe@example.com", "subject2", "content2", false, false);
+        doAnswer(invocation -> {
+            MimeMessage failed = invocation.getArgument(1);
+            throw new MailSendException(Collections.singletonMap(failed, new RuntimeException("Mailbox unavailable")));
+        }).when(javaMailSender).send((MimeMessage[]) any());
+        Instant before = Instant.now();
+
+        mailDispatcher.dispatch();
+
+        assertThat(outboxMailRepository.findAll()).hasSize(1);
+        OutboxMail mail = outboxMailRepository.findAll().get(0);
+        assertThat(mail.getRecipient()).isEqualTo("jane.doe@example.com");
+        assertThat(mail.getStatus()).isEqualTo(OutboxMailStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getLastError()).isEqualTo("Mailbox unavailable");
+        assertThat(mail.getNextAttemptAt())
+            .isAfterOrEqualTo(before.plusSeconds(applicationProperties.getMailOutbox().getInitialBackoffSeconds()));
+        assertThat(meterRegistry.get("mail.outbox.sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.outbox.failed").tag("outcome", "retried").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testMailIsAbandonedAfterMaxAttempts() {
+        mailService.sendEmail("john.doe@example.com", "subject", "content", false, false);
+        OutboxMail mail = outboxMailRepository.findAll().get(0);
+        mail.setAttempts(applicationProperties.getMailOutbox().getMaxAttempts() - 1);
+        outboxMailRepository.saveAndFlush(mail);
+        doThrow(new MailSendException("Connection refused")).when(javaMailSender).send((MimeMessage[]) any());
+
+        mailDispatcher.dispatch();
+
+        mail = outboxMailRepository.findAll().get(0);
+        assertThat(mail.getStatus()).isEqualTo(OutboxMailStatus.FAILED);
+        assertThat(mail.getAttempts()).isEqualTo(applicationProperties.getMailOutbox().getMaxAttempts());
+        assertThat(mail.getLastError()).isEqualTo("Connection refused");
+        assertThat(meterRegistry.get("mail.outbox.failed").tag("outcome", "abandoned").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    public void testBackoffDoublesUpToMaximum() {
+        assertThat(MailDispatcher.backoff(1, 30, 3600)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(MailDispatcher.backoff(2, 30, 3600)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(MailDispatcher.backoff(4, 30, 3600)).isEqualTo(Duration.ofSeconds(240));
+        assertThat(MailDispatcher.backoff(8, 30, 3600)).isEqualTo(Duration.ofSeconds(3600));
+        assertThat(MailDispatcher.backoff(100, 30, 3600)).isEqualTo(Duration.ofSeconds(3600));
+    }
+}
@@ -3,18 +3,21 @@ package ir.saha.service;
 import ir.saha.config.Constants;
 
 import ir.saha.SahaApp;
+import ir.saha.domain.OutboxMail;
 import ir.saha.domain.User;
+import ir.saha.domain.enumeration.OutboxMailStatus;
+import ir.saha.repository.OutboxMailRepository;
 import io.github.jhipster.config.JHipsterProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.MessageSource;
-import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 
@@ -62,23 +65,25 @@ public class MailServiceIT {
     @Spy
     private JavaMailSenderImpl javaMailSender;
 
+    @Mock
+    private OutboxMailRepository outboxMailRepository;
+
     @Captor
-    private ArgumentCaptor<MimeMessage> messageCaptor;
+    private ArgumentCaptor<OutboxMail> mailCaptor;
 
     private MailService mailService;
 
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        doNothing().when(javaMailSender).send(any(MimeMessage.class));
-        mailService = new MailService(jHipsterProperties, javaMailSender, messageSource, templateEngine);
+        when(outboxMailRepository.save(any(OutboxMail.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        mailService = new MailService(jHipsterProperties, javaMailSender, messageSource, templateEngine, outboxMailRepository);
     }
 
     @Test
     public void testSendEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = queuedMessage();
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0].toString()).isEqualTo("john.doe@example.com");
         assertThat(message.getFrom()[0].toString()).isEqualTo(jHipsterProperties.getMail().getFrom());
@@ -90,8 +95,7 @@ public class MailServiceIT {
     @Test
     public void testSendHtmlEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, true);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = queuedMessage();
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0].toString()).isEqualTo("john.doe@example.com");
         assertThat(message.getFrom()[0].toString()).isEqualTo(jHipsterProperties.getMail().getFrom());
@@ -103,8 +107,7 @@ public class MailServiceIT {
     @Test
     public void testSendMultipartEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", true, false);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = queuedMessage();
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
         ByteArrayOutputStream aos = new ByteArrayOutputStream();
@@ -120,8 +123,7 @@ public class MailServiceIT {
     @Test
     public void testSendMultipartHtmlEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", true, true);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = queuedMessage();
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
         ByteArrayOutputStream aos = new ByteArrayOutputStream();
@@ -141,8 +143,7 @@ public class MailServiceIT {
         user.setEmail("john.doe@example.com");
         user.setLangKey("en");
         mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = queuedMessage();
         assertThat(message.getSubject()).isEqualTo("test title");
         assertThat(message.getAllRecipients()[0].toString()).isEqualTo(user.getEmail());
         assertThat(message.getFrom()[0].toString()).isEqualTo(jHipsterProperties.getMail().getFrom());
@@ -157,8 +158,7 @@ public class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendActivationEmail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = queuedMessage();
         assertThat(message.getAllRecipients()[0].toString()).isEqualTo(user.getEmail());
         assertThat(message.getFrom()[0].toString()).isEqualTo(jHipsterProperties.getMail().getFrom());
         assertThat(message.getContent().toString()).isNotEmpty();
@@ -172,8 +172,7 @@ public class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendCreationEmail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = queuedMessage();
         assertThat(message.getAllRecipients()[0].toString()).isEqualTo(user.getEmail());
         assertThat(message.getFrom()[0].toString()).isEqualTo(jHipsterProperties.getMail().getFrom());
         assertThat(message.getContent().toString()).isNotEmpty();
@@ -187,8 +186,7 @@ public class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendPasswordResetMail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = queuedMessage();
         assertThat(message.getAllRecipients()[0].toString()).isEqualTo(user.getEmail());
         assertThat(message.getFrom()[0].toString()).isEqualTo(jHipsterProperties.getMail().getFrom());
         assertThat(message.getContent().toString()).isNotEmpty();
@@ -196,13 +194,31 @@ public class MailServiceIT {
     }
 
     @Test
-    public void testSendEmailWithException() {
-        doThrow(MailSendException.class).when(javaMailSender).send(any(MimeMessage.class));
-        try {
-            mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
-        } catch (Exception e) {
-            fail("Exception shouldn't have been thrown");
-        }
+    public void testSendEmailIsQueued() {
+        mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+        verify(outboxMailRepository).save(mailCaptor.capture());
+        OutboxMail mail = mailCaptor.getValue();
+        assertThat(mail.getRecipient()).isEqualTo("john.doe@example.com");
+        assertThat(mail.getStatus()).isEqualTo(OutboxMailStatus.PENDING);
+        assertThat(mail.getAttempts()).isZero();
+        assertThat(mail.getNextAttemptAt()).isEqualTo(mail.getCreatedDate());
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+    }
+
+    @Test
+    public void testSendEmailFromTemplateIsRenderedWhenSent() throws Exception {
+        User user = new User();
+        user.setLogin("john");
+        user.setEmail("john.doe@example.com");
+        user.setLangKey("en");
+        user.setResetKey("resetKey");
+        mailService.sendPasswordResetMail(user);
+        verify(outboxMailRepository).save(mailCaptor.capture());
+        OutboxMail mail = mailCaptor.getValue();
+        assertThat(mail.getContent()).isNull();
+        assertThat(mail.getTemplateName()).isEqualTo("mail/passwordResetEmail");
+        assertThat(mail.getResetKey()).isEqualTo("resetKey");
+        assertThat(mailService.createMessage(mail).getContent().toString()).contains("resetKey");
     }
 
     @Test
@@ -213,8 +229,8 @@ public class MailServiceIT {
         for (String langKey : languages) {
             user.setLangKey(langKey);
             mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
-            verify(javaMailSender, atLeastOnce()).send(messageCaptor.capture());
-            MimeMessage message = messageCaptor.getValue();
+            verify(outboxMailRepository, atLeastOnce()).save(mailCaptor.capture());
+            MimeMessage message = mailService.createMessage(mailCaptor.getValue());
 
             String propertyFilePath = "i18n/messages_" + getJavaLocale(langKey) + ".properties";
             URL resource = this.getClass().getClassLoader().getResource(propertyFilePath);
@@ -228,6 +244,11 @@ public class MailServiceIT {
         }
     }
 
+    private MimeMessage queuedMessage() throws Exception {
+        verify(outboxMailRepository).save(mailCaptor.capture());
+        return mailService.createMessage(mailCaptor.getValue());
+    }
+
     /**
      * Convert a lang key to the Java locale.
      */
@@ -4,6 +4,7 @@ import ir.saha.SahaApp;
 import ir.saha.config.Constants;
 import ir.saha.domain.User;
 import ir.saha.repository.UserRepository;
+import ir.saha.service.dto.CachedUserDTO;
 import ir.saha.service.dto.UserDTO;
 
 import io.github.jhipster.security.RandomUtil;
@@ -14,11 +15,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.auditing.AuditingHandler;
 import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -54,9 +59,18 @@ public class UserServiceIT {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private CachedUserService cachedUserService;
+
     @Autowired
     private AuditingHandler auditingHandler;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     @Mock
     private DateTimeProvider dateTimeProvider;
 
@@ -64,6 +78,8 @@ public class UserServiceIT {
 
     @BeforeEach
     public void init() {
+        cacheManager.getCache(CachedUserService.USERS_BY_LOGIN_CACHE).clear();
+        cacheManager.getCache(CachedUserService.USERS_BY_EMAIL_CACHE).clear();
         user = new User();
         user.setLogin(DEFAULT_LOGIN);
         user.setPassword(RandomStringUtils.random(60));
@@ -199,4 +215,46 @@ public class UserServiceIT {
             .isTrue();
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void assertThatUserCachesAreEvictedOnceTheUpdateIsCommitted() {
+        userRepository.saveAndFlush(user);
+        try {
+            assertThat(cachedUserService.findOneByLogin(DEFAULT_LOGIN)).isPresent();
+            assertThat(cachedUserService.findOneByEmail(DEFAULT_EMAIL)).isPresent();
+            assertThat(cacheManager.getCache(CachedUserService.USERS_BY_LOGIN_CACHE).get(DEFAULT_LOGIN)).isNotNull();
+            assertThat(cacheManager.getCache(CachedUserService.USERS_BY_EMAIL_CACHE).get(DEFAULT_EMAIL)).isNotNull();
+
+            UserDTO userDTO = new UserDTO(user);
+            userDTO.setLogin("johndoe-updated");
+            userDTO.setEmail("johndoe-updated@localhost");
+            new TransactionTemplate(transactionManager).execute(status -> {
+                userService.updateUser(userDTO);
+                // Nothing is evicted before the update is committed
+                assertThat(cacheManager.getCache(CachedUserService.USERS_BY_LOGIN_CACHE).get(DEFAULT_LOGIN)).isNotNull();
+                return null;
+            });
+
+            // Both the previous and the new login and email are evicted
+            assertThat(cacheManager.getCache(CachedUserService.USERS_BY_LOGIN_CACHE).get(DEFAULT_LOGIN)).isNull();
+            assertThat(cacheManager.getCache(CachedUserService.USERS_BY_EMAIL_CACHE).get(DEFAULT_EMAIL)).isNull();
+            assertThat(cachedUserService.findOneByLogin("johndoe-updated")).isPresent();
+            assertThat(cachedUserService.findOneByLogin(DEFAULT_LOGIN)).isNotPresent();
+        } finally {
+            userRepository.findById(user.getId()).ifPresent(saved -> userService.deleteUser(saved.getLogin()));
+        }
+    }
+
+    @Test
+    @Transactional
+    public void assertThatCachedUsersAreDetachedSnapshots() {
+        userRepository.saveAndFlush(user);
+        CachedUserDTO cached = cachedUserService.findOneByLogin(DEFAULT_LOGIN).get();
+
+        user.setFirstName("changed");
+        userRepository.saveAndFlush(user);
+
+        assertThat(cachedUserService.findOneByLogin(DEFAULT_LOGIN)).containsSame(cached);
+        assertThat(cached.getFirstName()).isEqualTo(DEFAULT_FIRSTNAME);
+    }
 }
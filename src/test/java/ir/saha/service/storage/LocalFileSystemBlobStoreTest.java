@@ -0,0 +1,69 @@
+package ir.saha.service.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalFileSystemBlobStoreTest {
+
+    private static final byte[] CONTENT = "saha".getBytes(StandardCharsets.UTF_8);
+
+    private static final String CONTENT_SHA_256 = "165ce3c27abcf7235ca7e9d53c6102a1f76cbedeb6076bc1d8ade7912e7709a6";
+
+    @TempDir
+    Path root;
+
+    private LocalFileSystemBlobStore blobStore;
+
+    @BeforeEach
+    public void setup() {
+        blobStore = new LocalFileSystemBlobStore(root);
+    }
+
+    @Test
+    public void testPutReturnsHashAndSize() {
+        StoredBlob blob = blobStore.put(CONTENT);
+
+        assertThat(blob.getHash()).isEqualTo(CONTENT_SHA_256);
+        assertThat(blob.getSize()).isEqualTo(CONTENT.length);
+        assertThat(root.resolve("16").resolve("5c").resolve(CONTENT_SHA_256)).exists();
+    }
+
+    @Test
+    public void testPutSameContentTwiceKeepsOneCopy() throws Exception {
+        StoredBlob first = blobStore.put(CONTENT);
+        StoredBlob second = blobStore.put(CONTENT);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.list(root.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    public void testReadReturnsStoredContent() {
+        StoredBlob blob = blobStore.put(CONTENT);
+
+        assertThat(blobStore.read(blob.getHash()).get()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void testGetUnknownOrInvalidHash() {
+        assertThat(blobStore.get(CONTENT_SHA_256)).isEmpty();
+        assertThat(blobStore.get("../../etc/passwd")).isEmpty();
+        assertThat(blobStore.get(null)).isEmpty();
+    }
+
+    @Test
+    public void testDelete() {
+        StoredBlob blob = blobStore.put(CONTENT);
+
+        assertThat(blobStore.delete(blob.getHash())).isTrue();
+        assertThat(blobStore.get(blob.getHash())).isEmpty();
+        assertThat(blobStore.delete(blob.getHash())).isFalse();
+    }
+}
@@ -0,0 +1,49 @@
+package ir.saha.service.tabular;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CsvReaderTest {
+
+    @Test
+    public void testReadsRows() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname,code\r\nfirst,1\nsecond,2"));
+
+        assertThat(reader.readRow()).containsExactly("name", "code");
+        assertThat(reader.readRow()).containsExactly("first", "1");
+        assertThat(reader.readRow()).containsExactly("second", "2");
+        assertThat(reader.getRowNumber()).isEqualTo(3);
+        assertThat(reader.readRow()).isNull();
+    }
+
+    @Test
+    public void testReadsQuotedValues() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"a, b\",\"say \"\"hi\"\"\",\"two\nlines\"\n"));
+
+        assertThat(reader.readRow()).isEqualTo(Arrays.asList("a, b", "say \"hi\"", "two\nlines"));
+        assertThat(reader.readRow()).isNull();
+    }
+
+    @Test
+    public void testReadsEmptyValues() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(",x,\n\n"));
+
+        assertThat(reader.readRow()).containsExactly("", "x", "");
+        assertThat(reader.readRow()).isEqualTo(Collections.singletonList(""));
+        assertThat(reader.readRow()).isNull();
+    }
+
+    @Test
+    public void testRejectsUnterminatedQuote() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"open,value\n"));
+
+        assertThatThrownBy(reader::readRow).isInstanceOf(IOException.class);
+    }
+}
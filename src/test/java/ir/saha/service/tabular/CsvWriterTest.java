@@ -0,0 +1,51 @@
+package ir.saha.service.tabular;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CsvWriterTest {
+
+    @Test
+    public void testWritesRowsWithByteOrderMark() throws IOException {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRow(Arrays.asList("name", "id", "date"));
+            writer.writeRow(Arrays.asList("Ali", 1L, Instant.parse("2020-03-20T00:00:00Z")));
+            writer.writeRow(Arrays.asList(null, true, ""));
+        }
+
+        assertThat(out.toString()).isEqualTo("\uFEFFname,id,date\r\nAli,1,2020-03-20T00:00:00Z\r\n,true,\r\n");
+    }
+
+    @Test
+    public void testQuotesValuesThatNeedIt() throws IOException {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRow(Arrays.asList("Rezaei, Reza", "say \"hi\"", "two\nlines", "plain"));
+        }
+
+        try (CsvReader reader = new CsvReader(new StringReader(out.toString()))) {
+            assertThat(reader.readRow()).containsExactly("Rezaei, Reza", "say \"hi\"", "two\nlines", "plain");
+            assertThat(reader.readRow()).isNull();
+        }
+    }
+
+    @Test
+    public void testNeutralizesTextThatLooksLikeAFormula() throws IOException {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRow(Arrays.asList("=HYPERLINK(\"http://example.com\",\"x\")", "+1", "-1", "@SUM(A1)", "\tx", "\rx",
+                "a=b", -1, -2.5));
+        }
+
+        assertThat(out.toString()).isEqualTo("\uFEFF\"'=HYPERLINK(\"\"http://example.com\"\",\"\"x\"\")\",'+1,'-1,'@SUM(A1),'\tx,\"'\rx\"," +
+            "a=b,-1,-2.5\r\n");
+    }
+}
@@ -0,0 +1,104 @@
+package ir.saha.service.tabular;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class XlsxReaderTest {
+
+    private Path file;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        file = Files.createTempFile("xlsx-reader-test-", ".xlsx");
+    }
+
+    @AfterEach
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testReadsFirstSheetOfWorkbook() throws IOException {
+        write(
+            "xl/workbook.xml", "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" " +
+                "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">" +
+                "<sheets><sheet name=\"Karbars\" sheetId=\"1\" r:id=\"rId2\"/></sheets></workbook>",
+            "xl/_rels/workbook.xml.rels", "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+                "<Relationship Id=\"rId1\" Target=\"sharedStrings.xml\"/>" +
+                "<Relationship Id=\"rId2\" Target=\"worksheets/karbars.xml\"/></Relationships>",
+            "xl/sharedStrings.xml", "<sst><si><t>name</t></si><si><t>sazmani</t></si>" +
+                "<si><r><t>Ali </t></r><r><t>Rezaei</t></r><rPh><t>ignored</t></rPh></si></sst>",
+            "xl/worksheets/karbars.xml", "<worksheet><sheetData>" +
+                "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"B1\" t=\"s\"><v>1</v></c></row>" +
+                "<row r=\"3\"><c r=\"A3\" t=\"s\"><v>2</v></c><c r=\"B3\" t=\"b\"><v>1</v></c><c r=\"D3\"><v>43831</v></c></row>" +
+                "<row r=\"4\"><c r=\"B4\" t=\"inlineStr\"><is><t>inline</t></is></c><c r=\"C4\" t=\"str\"><f>A1</f><v>name</v></c></row>" +
+                "</sheetData></worksheet>");
+
+        try (XlsxReader reader = new XlsxReader(file)) {
+            assertThat(reader.readRow()).containsExactly("name", "sazmani");
+            assertThat(reader.getRowNumber()).isEqualTo(1);
+            assertThat(reader.readRow()).containsExactly("Ali Rezaei", "true", "", "43831");
+            assertThat(reader.getRowNumber()).isEqualTo(3);
+            assertThat(reader.readRow()).containsExactly("", "inline", "name");
+            assertThat(reader.readRow()).isNull();
+        }
+    }
+
+    @Test
+    public void testReadsDefaultSheetWithoutSharedStrings() throws IOException {
+        write("xl/worksheets/sheet1.xml", "<worksheet><sheetData><row><c><v>1</v></c><c><v>2</v></c></row></sheetData></worksheet>");
+
+        try (XlsxReader reader = new XlsxReader(file)) {
+            assertThat(reader.readRow()).containsExactly("1", "2");
+            assertThat(reader.readRow()).isNull();
+        }
+    }
+
+    @Test
+    public void testColumnIndex() {
+        assertThat(XlsxReader.columnIndex("A1")).isEqualTo(0);
+        assertThat(XlsxReader.columnIndex("Z9")).isEqualTo(25);
+        assertThat(XlsxReader.columnIndex("AA10")).isEqualTo(26);
+        assertThat(XlsxReader.columnIndex("AB3")).isEqualTo(27);
+        assertThat(XlsxReader.columnIndex("XFD1")).isEqualTo(XlsxReader.MAX_COLUMNS - 1);
+        assertThat(XlsxReader.columnIndex("XFE1")).isEqualTo(XlsxReader.MAX_COLUMNS);
+        assertThat(XlsxReader.columnIndex("ZZZZZZZZZZZZ1")).isEqualTo(XlsxReader.MAX_COLUMNS);
+    }
+
+    @Test
+    public void testRejectsCellBeyondLastColumn() throws IOException {
+        write("xl/worksheets/sheet1.xml", "<worksheet><sheetData>" +
+            "<row r=\"1\"><c r=\"A1\"><v>1</v></c></row>" +
+            "<row r=\"2\"><c r=\"A2\"><v>1</v></c><c r=\"ZZZZZZ2\"><v>2</v></c></row>" +
+            "</sheetData></worksheet>");
+
+        try (XlsxReader reader = new XlsxReader(file)) {
+            assertThat(reader.readRow()).containsExactly("1");
+            assertThatThrownBy(reader::readRow)
+                .isInstanceOf(IOException.class)
+                .hasMessage("Malformed worksheet: cell ZZZZZZ2 of row 2 is not within columns A to XFD");
+        }
+    }
+
+    private void write(String... namesAndContents) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(namesAndContents[i]));
+                zip.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+}
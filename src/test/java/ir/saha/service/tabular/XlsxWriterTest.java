@@ -0,0 +1,67 @@
+package ir.saha.service.tabular;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class XlsxWriterTest {
+
+    private Path file;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        file = Files.createTempFile("xlsx-writer-test-", ".xlsx");
+    }
+
+    @AfterEach
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testWritesWorkbookReadBack() throws IOException {
+        try (OutputStream out = Files.newOutputStream(file); XlsxWriter writer = new XlsxWriter(out)) {
+            writer.writeRow(Arrays.asList("name", "id", "bezaneshate"));
+            writer.writeRow(Arrays.asList("Ali <& Reza>", 42L, true));
+            writer.writeRow(Arrays.asList(null, new BigDecimal("1E+3"), "bell\u0007"));
+        }
+
+        try (XlsxReader reader = new XlsxReader(file)) {
+            assertThat(reader.readRow()).containsExactly("name", "id", "bezaneshate");
+            assertThat(reader.readRow()).containsExactly("Ali <& Reza>", "42", "true");
+            assertThat(reader.readRow()).containsExactly("", "1000", "bell");
+            assertThat(reader.readRow()).isNull();
+        }
+    }
+
+    @Test
+    public void testWritesEmptyWorkbook() throws IOException {
+        try (OutputStream out = Files.newOutputStream(file); XlsxWriter writer = new XlsxWriter(out)) {
+            writer.writeRow(Collections.emptyList());
+        }
+
+        try (XlsxReader reader = new XlsxReader(file)) {
+            assertThat(reader.readRow()).isEmpty();
+            assertThat(reader.readRow()).isNull();
+        }
+    }
+
+    @Test
+    public void testColumnName() {
+        assertThat(XlsxWriter.columnName(0)).isEqualTo("A");
+        assertThat(XlsxWriter.columnName(25)).isEqualTo("Z");
+        assertThat(XlsxWriter.columnName(26)).isEqualTo("AA");
+        assertThat(XlsxWriter.columnName(701)).isEqualTo("ZZ");
+        assertThat(XlsxWriter.columnName(702)).isEqualTo("AAA");
+    }
+}
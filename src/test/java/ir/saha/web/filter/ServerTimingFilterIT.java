@@ -0,0 +1,120 @@
+package ir.saha.web.filter;
+
+import ir.saha.SahaApp;
+import ir.saha.config.ApplicationProperties;
+import ir.saha.web.rest.TestUtil;
+import ir.saha.web.rest.util.QueryBudget;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for {@link ServerTimingFilter}.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest(classes = SahaApp.class)
+@WithMockUser
+public class ServerTimingFilterIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    public void testServerTimingHeaderIsSent() throws Exception {
+        mockMvc.perform(get("/api/ostans"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ServerTimingFilter.SERVER_TIMING_HEADER,
+                matchesPattern("db;dur=[0-9.]+;desc=\"[1-9][0-9]* statements\", ser;dur=[0-9.]+, app;dur=[0-9.]+")));
+    }
+
+    @Test
+    public void testServerTimingHeaderIsNotSentByDefault() throws Exception {
+        MockMvc defaultMockMvc = MockMvcBuilders.standaloneSetup(new BudgetController(em))
+            .addFilters(new ServerTimingFilter(meterRegistry, new ApplicationProperties.RequestTiming()))
+            .build();
+
+        defaultMockMvc.perform(get("/test/within-budget"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(ServerTimingFilter.SERVER_TIMING_HEADER));
+    }
+
+    @Test
+    public void testStatementsArePublishedByEndpoint() throws Exception {
+        mockMvc.perform(get("/api/ostans")).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("http.server.requests.statements")
+            .tag("uri", "/api/ostans")
+            .tag("method", "GET")
+            .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isPositive();
+        assertThat(statements.max()).isPositive();
+        assertThat(meterRegistry.find("http.server.requests.serialization").tag("uri", "/api/ostans").timer()).isNotNull();
+    }
+
+    @Test
+    public void testRequestWithinBudgetSucceeds() throws Exception {
+        MockMvc budgetMockMvc = MockMvcBuilders.standaloneSetup(new BudgetController(em))
+            .addFilters(TestUtil.createQueryBudgetFilter(em))
+            .build();
+
+        budgetMockMvc.perform(get("/test/within-budget")).andExpect(status().isOk());
+    }
+
+    @Test
+    public void testRequestOverBudgetFails() {
+        MockMvc budgetMockMvc = MockMvcBuilders.standaloneSetup(new BudgetController(em))
+            .addFilters(TestUtil.createQueryBudgetFilter(em))
+            .build();
+
+        assertThatThrownBy(() -> budgetMockMvc.perform(get("/test/over-budget")))
+            .isInstanceOf(QueryBudgetExceededException.class)
+            .hasMessageContaining("prepared 2 SQL statements, over the budget of 1");
+    }
+
+    @RestController
+    @QueryBudget(1)
+    public static class BudgetController {
+
+        private final EntityManager em;
+
+        public BudgetController(EntityManager em) {
+            this.em = em;
+        }
+
+        @GetMapping("/test/within-budget")
+        public void withinBudget() {
+            em.createQuery("select count(ostan) from Ostan ostan").getSingleResult();
+        }
+
+        @GetMapping("/test/over-budget")
+        public void overBudget() {
+            em.createQuery("select count(ostan) from Ostan ostan").getSingleResult();
+            em.createQuery("select count(shahr) from Shahr shahr").getSingleResult();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import ir.saha.domain.User;
 import ir.saha.repository.AuthorityRepository;
 import ir.saha.repository.UserRepository;
 import ir.saha.security.AuthoritiesConstants;
+import ir.saha.service.CachedUserService;
 import ir.saha.service.UserService;
 import ir.saha.service.dto.PasswordChangeDTO;
 import ir.saha.service.dto.UserDTO;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -57,6 +59,15 @@ public class AccountResourceIT {
     @Autowired
     private MockMvc restAccountMockMvc;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void setup() {
+        cacheManager.getCache(CachedUserService.USERS_BY_LOGIN_CACHE).clear();
+        cacheManager.getCache(CachedUserService.USERS_BY_EMAIL_CACHE).clear();
+    }
+
     @Test
     @WithUnauthenticatedMockUser
     public void testNonAuthenticatedUser() throws Exception {
@@ -8,6 +8,7 @@ import ir.saha.repository.PersistenceAuditEventRepository;
 import ir.saha.security.AuthoritiesConstants;
 
 import ir.saha.service.AuditEventService;
+import ir.saha.web.rest.util.KeysetPaginationUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
@@ -21,6 +22,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -74,6 +76,39 @@ public class AuditResourceIT {
             .andExpect(jsonPath("$.[*].principal").value(hasItem(SAMPLE_PRINCIPAL)));
     }
 
+    @Test
+    public void getAllAuditsKeyset() throws Exception {
+        // Initialize the database
+        auditEventRepository.save(auditEvent);
+        PersistentAuditEvent newerAuditEvent = new PersistentAuditEvent();
+        newerAuditEvent.setAuditEventType(SAMPLE_TYPE);
+        newerAuditEvent.setPrincipal("NEWER_PRINCIPAL");
+        newerAuditEvent.setAuditEventDate(SAMPLE_TIMESTAMP);
+        auditEventRepository.save(newerAuditEvent);
+
+        // Get the first page, newest first
+        MvcResult result = restAuditMockMvc.perform(get("/management/audits?after=&size=1&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(KeysetPaginationUtil.CONTINUATION_TOKEN_HEADER))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].principal").value("NEWER_PRINCIPAL"))
+            .andReturn();
+        String token = result.getResponse().getHeader(KeysetPaginationUtil.CONTINUATION_TOKEN_HEADER);
+
+        // Get the last page
+        restAuditMockMvc.perform(get("/management/audits?size=1&sort=id,desc&after={after}", token))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(KeysetPaginationUtil.CONTINUATION_TOKEN_HEADER))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].principal").value(SAMPLE_PRINCIPAL));
+    }
+
+    @Test
+    public void getAllAuditsWithInvalidContinuationToken() throws Exception {
+        restAuditMockMvc.perform(get("/management/audits?after=not-a-token"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void getAudit() throws Exception {
         // Initialize the database
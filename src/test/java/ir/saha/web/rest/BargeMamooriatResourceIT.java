@@ -2,7 +2,11 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.BargeMamooriat;
+import ir.saha.domain.Karbar;
+import ir.saha.domain.Yegan;
+import ir.saha.domain.HesabResi;
 import ir.saha.repository.BargeMamooriatRepository;
+import ir.saha.service.BargeMamooriatQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +28,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -51,6 +56,9 @@ public class BargeMamooriatResourceIT {
     @Autowired
     private BargeMamooriatRepository bargeMamooriatRepository;
 
+    @Autowired
+    private BargeMamooriatQueryService bargeMamooriatQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -73,12 +81,13 @@ public class BargeMamooriatResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final BargeMamooriatResource bargeMamooriatResource = new BargeMamooriatResource(bargeMamooriatRepository);
+        final BargeMamooriatResource bargeMamooriatResource = new BargeMamooriatResource(bargeMamooriatRepository, bargeMamooriatQueryService);
         this.restBargeMamooriatMockMvc = MockMvcBuilders.standaloneSetup(bargeMamooriatResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -191,6 +200,300 @@ public class BargeMamooriatResourceIT {
             .andExpect(jsonPath("$.payanMamooriat").value(DEFAULT_PAYAN_MAMOORIAT.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByIdFiltering() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        Long id = bargeMamooriat.getId();
+
+        defaultBargeMamooriatShouldBeFound("id.equals=" + id);
+        defaultBargeMamooriatShouldNotBeFound("id.notEquals=" + id);
+
+        defaultBargeMamooriatShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultBargeMamooriatShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultBargeMamooriatShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultBargeMamooriatShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByVaziatIsEqualToSomething() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where vaziat equals to DEFAULT_VAZIAT
+        defaultBargeMamooriatShouldBeFound("vaziat.equals=" + DEFAULT_VAZIAT);
+
+        // Get all the bargeMamooriatList where vaziat equals to UPDATED_VAZIAT
+        defaultBargeMamooriatShouldNotBeFound("vaziat.equals=" + UPDATED_VAZIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByVaziatIsInShouldWork() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where vaziat in DEFAULT_VAZIAT or UPDATED_VAZIAT
+        defaultBargeMamooriatShouldBeFound("vaziat.in=" + DEFAULT_VAZIAT + "," + UPDATED_VAZIAT);
+
+        // Get all the bargeMamooriatList where vaziat equals to UPDATED_VAZIAT
+        defaultBargeMamooriatShouldNotBeFound("vaziat.in=" + UPDATED_VAZIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByVaziatIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where vaziat is not null
+        defaultBargeMamooriatShouldBeFound("vaziat.specified=true");
+
+        // Get all the bargeMamooriatList where vaziat is null
+        defaultBargeMamooriatShouldNotBeFound("vaziat.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsBySaleMamooriatIsEqualToSomething() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where saleMamooriat equals to DEFAULT_SALE_MAMOORIAT
+        defaultBargeMamooriatShouldBeFound("saleMamooriat.equals=" + DEFAULT_SALE_MAMOORIAT);
+
+        // Get all the bargeMamooriatList where saleMamooriat equals to UPDATED_SALE_MAMOORIAT
+        defaultBargeMamooriatShouldNotBeFound("saleMamooriat.equals=" + UPDATED_SALE_MAMOORIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsBySaleMamooriatIsInShouldWork() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where saleMamooriat in DEFAULT_SALE_MAMOORIAT or UPDATED_SALE_MAMOORIAT
+        defaultBargeMamooriatShouldBeFound("saleMamooriat.in=" + DEFAULT_SALE_MAMOORIAT + "," + UPDATED_SALE_MAMOORIAT);
+
+        // Get all the bargeMamooriatList where saleMamooriat equals to UPDATED_SALE_MAMOORIAT
+        defaultBargeMamooriatShouldNotBeFound("saleMamooriat.in=" + UPDATED_SALE_MAMOORIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsBySaleMamooriatIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where saleMamooriat is not null
+        defaultBargeMamooriatShouldBeFound("saleMamooriat.specified=true");
+
+        // Get all the bargeMamooriatList where saleMamooriat is null
+        defaultBargeMamooriatShouldNotBeFound("saleMamooriat.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsBySaleMamooriatIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where saleMamooriat is greater than or equal to DEFAULT_SALE_MAMOORIAT
+        defaultBargeMamooriatShouldBeFound("saleMamooriat.greaterThanOrEqual=" + DEFAULT_SALE_MAMOORIAT);
+
+        // Get all the bargeMamooriatList where saleMamooriat is greater than or equal to UPDATED_SALE_MAMOORIAT
+        defaultBargeMamooriatShouldNotBeFound("saleMamooriat.greaterThanOrEqual=" + UPDATED_SALE_MAMOORIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsBySaleMamooriatIsLessThanSomething() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where saleMamooriat is less than DEFAULT_SALE_MAMOORIAT
+        defaultBargeMamooriatShouldNotBeFound("saleMamooriat.lessThan=" + DEFAULT_SALE_MAMOORIAT);
+
+        // Get all the bargeMamooriatList where saleMamooriat is less than UPDATED_SALE_MAMOORIAT
+        defaultBargeMamooriatShouldBeFound("saleMamooriat.lessThan=" + UPDATED_SALE_MAMOORIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByShorooMamooriatIsEqualToSomething() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where shorooMamooriat equals to DEFAULT_SHOROO_MAMOORIAT
+        defaultBargeMamooriatShouldBeFound("shorooMamooriat.equals=" + DEFAULT_SHOROO_MAMOORIAT);
+
+        // Get all the bargeMamooriatList where shorooMamooriat equals to UPDATED_SHOROO_MAMOORIAT
+        defaultBargeMamooriatShouldNotBeFound("shorooMamooriat.equals=" + UPDATED_SHOROO_MAMOORIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByShorooMamooriatIsInShouldWork() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where shorooMamooriat in DEFAULT_SHOROO_MAMOORIAT or UPDATED_SHOROO_MAMOORIAT
+        defaultBargeMamooriatShouldBeFound("shorooMamooriat.in=" + DEFAULT_SHOROO_MAMOORIAT + "," + UPDATED_SHOROO_MAMOORIAT);
+
+        // Get all the bargeMamooriatList where shorooMamooriat equals to UPDATED_SHOROO_MAMOORIAT
+        defaultBargeMamooriatShouldNotBeFound("shorooMamooriat.in=" + UPDATED_SHOROO_MAMOORIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByShorooMamooriatIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where shorooMamooriat is not null
+        defaultBargeMamooriatShouldBeFound("shorooMamooriat.specified=true");
+
+        // Get all the bargeMamooriatList where shorooMamooriat is null
+        defaultBargeMamooriatShouldNotBeFound("shorooMamooriat.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByPayanMamooriatIsEqualToSomething() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where payanMamooriat equals to DEFAULT_PAYAN_MAMOORIAT
+        defaultBargeMamooriatShouldBeFound("payanMamooriat.equals=" + DEFAULT_PAYAN_MAMOORIAT);
+
+        // Get all the bargeMamooriatList where payanMamooriat equals to UPDATED_PAYAN_MAMOORIAT
+        defaultBargeMamooriatShouldNotBeFound("payanMamooriat.equals=" + UPDATED_PAYAN_MAMOORIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByPayanMamooriatIsInShouldWork() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where payanMamooriat in DEFAULT_PAYAN_MAMOORIAT or UPDATED_PAYAN_MAMOORIAT
+        defaultBargeMamooriatShouldBeFound("payanMamooriat.in=" + DEFAULT_PAYAN_MAMOORIAT + "," + UPDATED_PAYAN_MAMOORIAT);
+
+        // Get all the bargeMamooriatList where payanMamooriat equals to UPDATED_PAYAN_MAMOORIAT
+        defaultBargeMamooriatShouldNotBeFound("payanMamooriat.in=" + UPDATED_PAYAN_MAMOORIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByPayanMamooriatIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+
+        // Get all the bargeMamooriatList where payanMamooriat is not null
+        defaultBargeMamooriatShouldBeFound("payanMamooriat.specified=true");
+
+        // Get all the bargeMamooriatList where payanMamooriat is null
+        defaultBargeMamooriatShouldNotBeFound("payanMamooriat.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsBySarparastIsEqualToSomething() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+        Karbar karbar = KarbarResourceIT.createEntity(em);
+        em.persist(karbar);
+        em.flush();
+        bargeMamooriat.setSarparast(karbar);
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+        Long sarparastId = karbar.getId();
+
+        // Get all the bargeMamooriatList where sarparast equals to sarparastId
+        defaultBargeMamooriatShouldBeFound("sarparastId.equals=" + sarparastId);
+
+        // Get all the bargeMamooriatList where sarparast equals to sarparastId + 1
+        defaultBargeMamooriatShouldNotBeFound("sarparastId.equals=" + (sarparastId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByYeganIsEqualToSomething() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+        Yegan yegan = YeganResourceIT.createEntity(em);
+        em.persist(yegan);
+        em.flush();
+        bargeMamooriat.setYegan(yegan);
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+        Long yeganId = yegan.getId();
+
+        // Get all the bargeMamooriatList where yegan equals to yeganId
+        defaultBargeMamooriatShouldBeFound("yeganId.equals=" + yeganId);
+
+        // Get all the bargeMamooriatList where yegan equals to yeganId + 1
+        defaultBargeMamooriatShouldNotBeFound("yeganId.equals=" + (yeganId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllBargeMamooriatsByHesabResiIsEqualToSomething() throws Exception {
+        // Initialize the database
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+        HesabResi hesabResi = HesabResiResourceIT.createEntity(em);
+        em.persist(hesabResi);
+        em.flush();
+        bargeMamooriat.setHesabResi(hesabResi);
+        bargeMamooriatRepository.saveAndFlush(bargeMamooriat);
+        Long hesabResiId = hesabResi.getId();
+
+        // Get all the bargeMamooriatList where hesabResi equals to hesabResiId
+        defaultBargeMamooriatShouldBeFound("hesabResiId.equals=" + hesabResiId);
+
+        // Get all the bargeMamooriatList where hesabResi equals to hesabResiId + 1
+        defaultBargeMamooriatShouldNotBeFound("hesabResiId.equals=" + (hesabResiId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultBargeMamooriatShouldBeFound(String filter) throws Exception {
+        restBargeMamooriatMockMvc.perform(get("/api/barge-mamooriats?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(bargeMamooriat.getId().intValue())))
+            .andExpect(jsonPath("$.[*].vaziat").value(hasItem(DEFAULT_VAZIAT.toString())))
+            .andExpect(jsonPath("$.[*].saleMamooriat").value(hasItem(DEFAULT_SALE_MAMOORIAT)))
+            .andExpect(jsonPath("$.[*].shorooMamooriat").value(hasItem(DEFAULT_SHOROO_MAMOORIAT.toString())))
+            .andExpect(jsonPath("$.[*].payanMamooriat").value(hasItem(DEFAULT_PAYAN_MAMOORIAT.toString())));
+
+        // Check, that the count call also returns 1
+        restBargeMamooriatMockMvc.perform(get("/api/barge-mamooriats/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultBargeMamooriatShouldNotBeFound(String filter) throws Exception {
+        restBargeMamooriatMockMvc.perform(get("/api/barge-mamooriats?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restBargeMamooriatMockMvc.perform(get("/api/barge-mamooriats/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingBargeMamooriat() throws Exception {
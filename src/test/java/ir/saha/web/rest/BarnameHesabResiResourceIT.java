@@ -2,7 +2,9 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.BarnameHesabResi;
+import ir.saha.domain.HesabResi;
 import ir.saha.repository.BarnameHesabResiRepository;
+import ir.saha.service.BarnameHesabResiQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +24,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -40,6 +43,9 @@ public class BarnameHesabResiResourceIT {
     @Autowired
     private BarnameHesabResiRepository barnameHesabResiRepository;
 
+    @Autowired
+    private BarnameHesabResiQueryService barnameHesabResiQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -62,12 +68,13 @@ public class BarnameHesabResiResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final BarnameHesabResiResource barnameHesabResiResource = new BarnameHesabResiResource(barnameHesabResiRepository);
+        final BarnameHesabResiResource barnameHesabResiResource = new BarnameHesabResiResource(barnameHesabResiRepository, barnameHesabResiQueryService);
         this.restBarnameHesabResiMockMvc = MockMvcBuilders.standaloneSetup(barnameHesabResiResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -165,6 +172,115 @@ public class BarnameHesabResiResourceIT {
             .andExpect(jsonPath("$.noeBarnameHesabResi").value(DEFAULT_NOE_BARNAME_HESAB_RESI.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getAllBarnameHesabResisByIdFiltering() throws Exception {
+        // Initialize the database
+        barnameHesabResiRepository.saveAndFlush(barnameHesabResi);
+
+        Long id = barnameHesabResi.getId();
+
+        defaultBarnameHesabResiShouldBeFound("id.equals=" + id);
+        defaultBarnameHesabResiShouldNotBeFound("id.notEquals=" + id);
+
+        defaultBarnameHesabResiShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultBarnameHesabResiShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultBarnameHesabResiShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultBarnameHesabResiShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBarnameHesabResisByNoeBarnameHesabResiIsEqualToSomething() throws Exception {
+        // Initialize the database
+        barnameHesabResiRepository.saveAndFlush(barnameHesabResi);
+
+        // Get all the barnameHesabResiList where noeBarnameHesabResi equals to DEFAULT_NOE_BARNAME_HESAB_RESI
+        defaultBarnameHesabResiShouldBeFound("noeBarnameHesabResi.equals=" + DEFAULT_NOE_BARNAME_HESAB_RESI);
+
+        // Get all the barnameHesabResiList where noeBarnameHesabResi equals to UPDATED_NOE_BARNAME_HESAB_RESI
+        defaultBarnameHesabResiShouldNotBeFound("noeBarnameHesabResi.equals=" + UPDATED_NOE_BARNAME_HESAB_RESI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBarnameHesabResisByNoeBarnameHesabResiIsInShouldWork() throws Exception {
+        // Initialize the database
+        barnameHesabResiRepository.saveAndFlush(barnameHesabResi);
+
+        // Get all the barnameHesabResiList where noeBarnameHesabResi in DEFAULT_NOE_BARNAME_HESAB_RESI or UPDATED_NOE_BARNAME_HESAB_RESI
+        defaultBarnameHesabResiShouldBeFound("noeBarnameHesabResi.in=" + DEFAULT_NOE_BARNAME_HESAB_RESI + "," + UPDATED_NOE_BARNAME_HESAB_RESI);
+
+        // Get all the barnameHesabResiList where noeBarnameHesabResi equals to UPDATED_NOE_BARNAME_HESAB_RESI
+        defaultBarnameHesabResiShouldNotBeFound("noeBarnameHesabResi.in=" + UPDATED_NOE_BARNAME_HESAB_RESI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllBarnameHesabResisByNoeBarnameHesabResiIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        barnameHesabResiRepository.saveAndFlush(barnameHesabResi);
+
+        // Get all the barnameHesabResiList where noeBarnameHesabResi is not null
+        defaultBarnameHesabResiShouldBeFound("noeBarnameHesabResi.specified=true");
+
+        // Get all the barnameHesabResiList where noeBarnameHesabResi is null
+        defaultBarnameHesabResiShouldNotBeFound("noeBarnameHesabResi.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllBarnameHesabResisByHesabResiIsEqualToSomething() throws Exception {
+        // Initialize the database
+        barnameHesabResiRepository.saveAndFlush(barnameHesabResi);
+        HesabResi hesabResi = HesabResiResourceIT.createEntity(em);
+        hesabResi.setBarnameHesabResi(barnameHesabResi);
+        em.persist(hesabResi);
+        em.flush();
+        Long hesabResiId = hesabResi.getId();
+
+        // Get all the barnameHesabResiList where hesabResi equals to hesabResiId
+        defaultBarnameHesabResiShouldBeFound("hesabResiId.equals=" + hesabResiId);
+
+        // Get all the barnameHesabResiList where hesabResi equals to hesabResiId + 1
+        defaultBarnameHesabResiShouldNotBeFound("hesabResiId.equals=" + (hesabResiId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultBarnameHesabResiShouldBeFound(String filter) throws Exception {
+        restBarnameHesabResiMockMvc.perform(get("/api/barname-hesab-resis?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(barnameHesabResi.getId().intValue())))
+            .andExpect(jsonPath("$.[*].noeBarnameHesabResi").value(hasItem(DEFAULT_NOE_BARNAME_HESAB_RESI.toString())));
+
+        // Check, that the count call also returns 1
+        restBarnameHesabResiMockMvc.perform(get("/api/barname-hesab-resis/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultBarnameHesabResiShouldNotBeFound(String filter) throws Exception {
+        restBarnameHesabResiMockMvc.perform(get("/api/barname-hesab-resis?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restBarnameHesabResiMockMvc.perform(get("/api/barname-hesab-resis/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingBarnameHesabResi() throws Exception {
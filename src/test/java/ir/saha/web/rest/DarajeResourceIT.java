@@ -3,6 +3,7 @@ package ir.saha.web.rest;
 import ir.saha.SahaApp;
 import ir.saha.domain.Daraje;
 import ir.saha.repository.DarajeRepository;
+import ir.saha.service.DarajeQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +44,9 @@ public class DarajeResourceIT {
     @Autowired
     private DarajeRepository darajeRepository;
 
+    @Autowired
+    private DarajeQueryService darajeQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -64,12 +69,13 @@ public class DarajeResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final DarajeResource darajeResource = new DarajeResource(darajeRepository);
+        final DarajeResource darajeResource = new DarajeResource(darajeRepository, darajeQueryService);
         this.restDarajeMockMvc = MockMvcBuilders.standaloneSetup(darajeResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -172,6 +178,163 @@ public class DarajeResourceIT {
             .andExpect(jsonPath("$.description").value(DEFAULT_DESCRIPTION));
     }
 
+    @Test
+    @Transactional
+    public void getAllDarajesByIdFiltering() throws Exception {
+        // Initialize the database
+        darajeRepository.saveAndFlush(daraje);
+
+        Long id = daraje.getId();
+
+        defaultDarajeShouldBeFound("id.equals=" + id);
+        defaultDarajeShouldNotBeFound("id.notEquals=" + id);
+
+        defaultDarajeShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultDarajeShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultDarajeShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultDarajeShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDarajesByNameIsEqualToSomething() throws Exception {
+        // Initialize the database
+        darajeRepository.saveAndFlush(daraje);
+
+        // Get all the darajeList where name equals to DEFAULT_NAME
+        defaultDarajeShouldBeFound("name.equals=" + DEFAULT_NAME);
+
+        // Get all the darajeList where name equals to UPDATED_NAME
+        defaultDarajeShouldNotBeFound("name.equals=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDarajesByNameIsInShouldWork() throws Exception {
+        // Initialize the database
+        darajeRepository.saveAndFlush(daraje);
+
+        // Get all the darajeList where name in DEFAULT_NAME or UPDATED_NAME
+        defaultDarajeShouldBeFound("name.in=" + DEFAULT_NAME + "," + UPDATED_NAME);
+
+        // Get all the darajeList where name equals to UPDATED_NAME
+        defaultDarajeShouldNotBeFound("name.in=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDarajesByNameIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        darajeRepository.saveAndFlush(daraje);
+
+        // Get all the darajeList where name is not null
+        defaultDarajeShouldBeFound("name.specified=true");
+
+        // Get all the darajeList where name is null
+        defaultDarajeShouldNotBeFound("name.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllDarajesByNameContainsSomething() throws Exception {
+        // Initialize the database
+        darajeRepository.saveAndFlush(daraje);
+
+        // Get all the darajeList where name contains DEFAULT_NAME
+        defaultDarajeShouldBeFound("name.contains=" + DEFAULT_NAME);
+
+        // Get all the darajeList where name contains UPDATED_NAME
+        defaultDarajeShouldNotBeFound("name.contains=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDarajesByDescriptionIsEqualToSomething() throws Exception {
+        // Initialize the database
+        darajeRepository.saveAndFlush(daraje);
+
+        // Get all the darajeList where description equals to DEFAULT_DESCRIPTION
+        defaultDarajeShouldBeFound("description.equals=" + DEFAULT_DESCRIPTION);
+
+        // Get all the darajeList where description equals to UPDATED_DESCRIPTION
+        defaultDarajeShouldNotBeFound("description.equals=" + UPDATED_DESCRIPTION);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDarajesByDescriptionIsInShouldWork() throws Exception {
+        // Initialize the database
+        darajeRepository.saveAndFlush(daraje);
+
+        // Get all the darajeList where description in DEFAULT_DESCRIPTION or UPDATED_DESCRIPTION
+        defaultDarajeShouldBeFound("description.in=" + DEFAULT_DESCRIPTION + "," + UPDATED_DESCRIPTION);
+
+        // Get all the darajeList where description equals to UPDATED_DESCRIPTION
+        defaultDarajeShouldNotBeFound("description.in=" + UPDATED_DESCRIPTION);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDarajesByDescriptionIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        darajeRepository.saveAndFlush(daraje);
+
+        // Get all the darajeList where description is not null
+        defaultDarajeShouldBeFound("description.specified=true");
+
+        // Get all the darajeList where description is null
+        defaultDarajeShouldNotBeFound("description.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllDarajesByDescriptionContainsSomething() throws Exception {
+        // Initialize the database
+        darajeRepository.saveAndFlush(daraje);
+
+        // Get all the darajeList where description contains DEFAULT_DESCRIPTION
+        defaultDarajeShouldBeFound("description.contains=" + DEFAULT_DESCRIPTION);
+
+        // Get all the darajeList where description contains UPDATED_DESCRIPTION
+        defaultDarajeShouldNotBeFound("description.contains=" + UPDATED_DESCRIPTION);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultDarajeShouldBeFound(String filter) throws Exception {
+        restDarajeMockMvc.perform(get("/api/darajes?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(daraje.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].description").value(hasItem(DEFAULT_DESCRIPTION)));
+
+        // Check, that the count call also returns 1
+        restDarajeMockMvc.perform(get("/api/darajes/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultDarajeShouldNotBeFound(String filter) throws Exception {
+        restDarajeMockMvc.perform(get("/api/darajes?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restDarajeMockMvc.perform(get("/api/darajes/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingDaraje() throws Exception {
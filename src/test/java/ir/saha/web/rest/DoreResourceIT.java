@@ -2,7 +2,9 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.Dore;
+import ir.saha.domain.Karbar;
 import ir.saha.repository.DoreRepository;
+import ir.saha.service.DoreQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -44,6 +47,9 @@ public class DoreResourceIT {
     @Autowired
     private DoreRepository doreRepository;
 
+    @Autowired
+    private DoreQueryService doreQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -66,12 +72,13 @@ public class DoreResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final DoreResource doreResource = new DoreResource(doreRepository);
+        final DoreResource doreResource = new DoreResource(doreRepository, doreQueryService);
         this.restDoreMockMvc = MockMvcBuilders.standaloneSetup(doreResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -174,6 +181,156 @@ public class DoreResourceIT {
             .andExpect(jsonPath("$.end").value(DEFAULT_END.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getAllDoresByIdFiltering() throws Exception {
+        // Initialize the database
+        doreRepository.saveAndFlush(dore);
+
+        Long id = dore.getId();
+
+        defaultDoreShouldBeFound("id.equals=" + id);
+        defaultDoreShouldNotBeFound("id.notEquals=" + id);
+
+        defaultDoreShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultDoreShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultDoreShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultDoreShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDoresByBeginIsEqualToSomething() throws Exception {
+        // Initialize the database
+        doreRepository.saveAndFlush(dore);
+
+        // Get all the doreList where begin equals to DEFAULT_BEGIN
+        defaultDoreShouldBeFound("begin.equals=" + DEFAULT_BEGIN);
+
+        // Get all the doreList where begin equals to UPDATED_BEGIN
+        defaultDoreShouldNotBeFound("begin.equals=" + UPDATED_BEGIN);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDoresByBeginIsInShouldWork() throws Exception {
+        // Initialize the database
+        doreRepository.saveAndFlush(dore);
+
+        // Get all the doreList where begin in DEFAULT_BEGIN or UPDATED_BEGIN
+        defaultDoreShouldBeFound("begin.in=" + DEFAULT_BEGIN + "," + UPDATED_BEGIN);
+
+        // Get all the doreList where begin equals to UPDATED_BEGIN
+        defaultDoreShouldNotBeFound("begin.in=" + UPDATED_BEGIN);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDoresByBeginIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        doreRepository.saveAndFlush(dore);
+
+        // Get all the doreList where begin is not null
+        defaultDoreShouldBeFound("begin.specified=true");
+
+        // Get all the doreList where begin is null
+        defaultDoreShouldNotBeFound("begin.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllDoresByEndIsEqualToSomething() throws Exception {
+        // Initialize the database
+        doreRepository.saveAndFlush(dore);
+
+        // Get all the doreList where end equals to DEFAULT_END
+        defaultDoreShouldBeFound("end.equals=" + DEFAULT_END);
+
+        // Get all the doreList where end equals to UPDATED_END
+        defaultDoreShouldNotBeFound("end.equals=" + UPDATED_END);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDoresByEndIsInShouldWork() throws Exception {
+        // Initialize the database
+        doreRepository.saveAndFlush(dore);
+
+        // Get all the doreList where end in DEFAULT_END or UPDATED_END
+        defaultDoreShouldBeFound("end.in=" + DEFAULT_END + "," + UPDATED_END);
+
+        // Get all the doreList where end equals to UPDATED_END
+        defaultDoreShouldNotBeFound("end.in=" + UPDATED_END);
+    }
+
+    @Test
+    @Transactional
+    public void getAllDoresByEndIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        doreRepository.saveAndFlush(dore);
+
+        // Get all the doreList where end is not null
+        defaultDoreShouldBeFound("end.specified=true");
+
+        // Get all the doreList where end is null
+        defaultDoreShouldNotBeFound("end.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllDoresByKarbarIsEqualToSomething() throws Exception {
+        // Initialize the database
+        doreRepository.saveAndFlush(dore);
+        Karbar karbar = KarbarResourceIT.createEntity(em);
+        em.persist(karbar);
+        em.flush();
+        dore.setKarbar(karbar);
+        doreRepository.saveAndFlush(dore);
+        Long karbarId = karbar.getId();
+
+        // Get all the doreList where karbar equals to karbarId
+        defaultDoreShouldBeFound("karbarId.equals=" + karbarId);
+
+        // Get all the doreList where karbar equals to karbarId + 1
+        defaultDoreShouldNotBeFound("karbarId.equals=" + (karbarId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultDoreShouldBeFound(String filter) throws Exception {
+        restDoreMockMvc.perform(get("/api/dores?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(dore.getId().intValue())))
+            .andExpect(jsonPath("$.[*].begin").value(hasItem(DEFAULT_BEGIN.toString())))
+            .andExpect(jsonPath("$.[*].end").value(hasItem(DEFAULT_END.toString())));
+
+        // Check, that the count call also returns 1
+        restDoreMockMvc.perform(get("/api/dores/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultDoreShouldNotBeFound(String filter) throws Exception {
+        restDoreMockMvc.perform(get("/api/dores?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restDoreMockMvc.perform(get("/api/dores/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingDore() throws Exception {
@@ -0,0 +1,196 @@
+package ir.saha.web.rest;
+
+import ir.saha.SahaApp;
+import ir.saha.domain.BargeMamooriat;
+import ir.saha.domain.HesabResi;
+import ir.saha.domain.Karbar;
+import ir.saha.domain.PersistentAuditEvent;
+import ir.saha.domain.Yegan;
+import ir.saha.domain.enumeration.VaziatBargeMamooriat;
+import ir.saha.domain.enumeration.VaziateHesabResi;
+import ir.saha.service.ExportService;
+import ir.saha.service.tabular.CsvReader;
+import ir.saha.service.tabular.TabularFormat;
+import ir.saha.service.tabular.TabularReader;
+import ir.saha.service.tabular.XlsxReader;
+import ir.saha.web.rest.errors.ExceptionTranslator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the {@link ExportResource} REST controller.
+ */
+@SpringBootTest(classes = SahaApp.class)
+@WithMockUser
+@Transactional
+public class ExportResourceIT {
+
+    private static final Instant DATE = Instant.parse("2020-03-20T10:00:00Z");
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restExportMockMvc;
+
+    private Karbar karbar;
+
+    @BeforeEach
+    public void setup() {
+        ExportResource exportResource = new ExportResource(exportService);
+        this.restExportMockMvc = MockMvcBuilders.standaloneSetup(exportResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter)
+            .build();
+
+        Yegan yegan = new Yegan().name("Yegan").code("EXPORT-YEGAN");
+        em.persist(yegan);
+        karbar = new Karbar().name("Rezaei, Reza").codePerseneli("EXPORT-1").bezaneshate(true).tarikhEstekhdam(DATE).yegan(yegan);
+        em.persist(karbar);
+        em.flush();
+    }
+
+    @Test
+    public void exportKarbarsAsCsv() throws Exception {
+        MvcResult result = restExportMockMvc.perform(get("/api/karbars/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(TabularFormat.CSV.getContentType()))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"karbars.csv\""))
+            .andReturn();
+
+        List<List<String>> rows = readCsv(result);
+        assertThat(rows.get(0)).containsExactly("id", "name", "shoghlSazmani", "shoghlAmali", "codePerseneli", "bezaneshate",
+            "sazmani", "tarikhBazneshastegi", "tarikhEstekhdam", "yegan", "yeganCode", "daraje", "semat");
+        assertThat(rows).contains(Arrays.asList(karbar.getId().toString(), "Rezaei, Reza", "", "", "EXPORT-1", "true",
+            "", "", DATE.toString(), "EXPORT-YEGAN", "", "", ""));
+    }
+
+    @Test
+    public void exportKarbarsAsXlsx() throws Exception {
+        MvcResult result = restExportMockMvc.perform(get("/api/karbars/export?format=xlsx"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(TabularFormat.XLSX.getContentType()))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"karbars.xlsx\""))
+            .andReturn();
+
+        Path file = Files.createTempFile("export-test-", ".xlsx");
+        try {
+            Files.write(file, result.getResponse().getContentAsByteArray());
+            List<List<String>> rows = readAll(new XlsxReader(file));
+            assertThat(rows.get(0)).startsWith("id", "name");
+            assertThat(rows).anySatisfy(row ->
+                assertThat(row).startsWith(karbar.getId().toString(), "Rezaei, Reza", "", "", "EXPORT-1", "true"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void exportWithUnknownFormatIsRejected() throws Exception {
+        restExportMockMvc.perform(get("/api/karbars/export?format=pdf"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void exportBargeMamooriats() throws Exception {
+        HesabResi hesabResi = new HesabResi().sal(1399).vaziateHesabResi(VaziateHesabResi.DAR_HALE_MAMOORIAT);
+        em.persist(hesabResi);
+        BargeMamooriat bargeMamooriat = new BargeMamooriat().vaziat(VaziatBargeMamooriat.SARPARAST_TIME_HESABRESI)
+            .saleMamooriat(1399).shorooMamooriat(DATE).sarparast(karbar).yegan(karbar.getYegan()).hesabResi(hesabResi);
+        em.persist(bargeMamooriat);
+        em.flush();
+
+        List<List<String>> rows = readCsv(restExportMockMvc.perform(get("/api/barge-mamooriats/export"))
+            .andExpect(status().isOk())
+            .andReturn());
+        assertThat(rows.get(0)).containsExactly("id", "vaziat", "saleMamooriat", "shorooMamooriat", "payanMamooriat",
+            "sarparast", "yegan", "hesabResiId");
+        assertThat(rows).contains(Arrays.asList(bargeMamooriat.getId().toString(), "SARPARAST_TIME_HESABRESI", "1399",
+            DATE.toString(), "", "EXPORT-1", "EXPORT-YEGAN", hesabResi.getId().toString()));
+
+        rows = readCsv(restExportMockMvc.perform(get("/api/hesab-resis/export"))
+            .andExpect(status().isOk())
+            .andReturn());
+        assertThat(rows.get(0)).containsExactly("id", "sal", "vaziateHesabResi", "gozareshId", "barnameHesabResiId");
+        assertThat(rows).contains(Arrays.asList(hesabResi.getId().toString(), "1399", "DAR_HALE_MAMOORIAT", "", ""));
+    }
+
+    @Test
+    public void exportAuditEvents() throws Exception {
+        PersistentAuditEvent withData = auditEvent("export-user", DATE);
+        withData.getData().put("remoteAddress", "127.0.0.1");
+        withData.getData().put("message", "Bad credentials");
+        em.persist(withData);
+        PersistentAuditEvent withoutData = auditEvent("export-user", DATE.plusSeconds(1));
+        em.persist(withoutData);
+        em.persist(auditEvent("export-user", Instant.parse("2020-04-20T10:00:00Z")));
+        em.flush();
+
+        List<List<String>> rows = readCsv(restExportMockMvc.perform(get("/management/audits/export?fromDate=2020-03-19&toDate=2020-03-21"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"audits.csv\""))
+            .andReturn());
+        assertThat(rows).containsExactly(
+            Arrays.asList("id", "principal", "auditEventDate", "auditEventType", "data"),
+            Arrays.asList(withData.getId().toString(), "export-user", DATE.toString(), "AUTHENTICATION_FAILURE",
+                "message=Bad credentials; remoteAddress=127.0.0.1"),
+            Arrays.asList(withoutData.getId().toString(), "export-user", DATE.plusSeconds(1).toString(), "AUTHENTICATION_FAILURE", ""));
+    }
+
+    private static PersistentAuditEvent auditEvent(String principal, Instant date) {
+        PersistentAuditEvent auditEvent = new PersistentAuditEvent();
+        auditEvent.setPrincipal(principal);
+        auditEvent.setAuditEventDate(date);
+        auditEvent.setAuditEventType("AUTHENTICATION_FAILURE");
+        return auditEvent;
+    }
+
+    private static List<List<String>> readCsv(MvcResult result) throws IOException {
+        return readAll(new CsvReader(new StringReader(new String(result.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8))));
+    }
+
+    private static List<List<String>> readAll(TabularReader reader) throws IOException {
+        try (TabularReader r = reader) {
+            List<List<String>> rows = new ArrayList<>();
+            for (List<String> row = r.readRow(); row != null; row = r.readRow()) {
+                rows.add(row);
+            }
+            return rows;
+        }
+    }
+}
@@ -3,6 +3,10 @@ package ir.saha.web.rest;
 import ir.saha.SahaApp;
 import ir.saha.domain.FileBargeMamooriat;
 import ir.saha.repository.FileBargeMamooriatRepository;
+import ir.saha.service.UploadService;
+import ir.saha.service.dto.UploadDTO;
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.StoredBlob;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +15,10 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -20,9 +27,12 @@ import org.springframework.util.Base64Utils;
 import org.springframework.validation.Validator;
 
 import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +52,12 @@ public class FileBargeMamooriatResourceIT {
     @Autowired
     private FileBargeMamooriatRepository fileBargeMamooriatRepository;
 
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private UploadService uploadService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -64,12 +80,13 @@ public class FileBargeMamooriatResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final FileBargeMamooriatResource fileBargeMamooriatResource = new FileBargeMamooriatResource(fileBargeMamooriatRepository);
+        final FileBargeMamooriatResource fileBargeMamooriatResource = new FileBargeMamooriatResource(fileBargeMamooriatRepository, blobStore, uploadService);
         this.restFileBargeMamooriatMockMvc = MockMvcBuilders.standaloneSetup(fileBargeMamooriatResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
-            .setMessageConverters(jacksonMessageConverter)
+            .setMessageConverters(new ResourceHttpMessageConverter(), new ResourceRegionHttpMessageConverter(), jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -101,6 +118,8 @@ public class FileBargeMamooriatResourceIT {
     @BeforeEach
     public void initTest() {
         fileBargeMamooriat = createEntity(em);
+        StoredBlob blob = blobStore.put(DEFAULT_MADAREK);
+        fileBargeMamooriat.madarekHash(blob.getHash()).madarekSize(blob.getSize());
     }
 
     @Test
@@ -118,7 +137,8 @@ public class FileBargeMamooriatResourceIT {
         List<FileBargeMamooriat> fileBargeMamooriatList = fileBargeMamooriatRepository.findAll();
         assertThat(fileBargeMamooriatList).hasSize(databaseSizeBeforeCreate + 1);
         FileBargeMamooriat testFileBargeMamooriat = fileBargeMamooriatList.get(fileBargeMamooriatList.size() - 1);
-        assertThat(testFileBargeMamooriat.getMadarek()).isEqualTo(DEFAULT_MADAREK);
+        assertThat(testFileBargeMamooriat.getMadarekSize()).isEqualTo((long) DEFAULT_MADAREK.length);
+        assertThat(blobStore.read(testFileBargeMamooriat.getMadarekHash()).get()).isEqualTo(DEFAULT_MADAREK);
         assertThat(testFileBargeMamooriat.getMadarekContentType()).isEqualTo(DEFAULT_MADAREK_CONTENT_TYPE);
     }
 
@@ -154,7 +174,8 @@ public class FileBargeMamooriatResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(fileBargeMamooriat.getId().intValue())))
             .andExpect(jsonPath("$.[*].madarekContentType").value(hasItem(DEFAULT_MADAREK_CONTENT_TYPE)))
-            .andExpect(jsonPath("$.[*].madarek").value(hasItem(Base64Utils.encodeToString(DEFAULT_MADAREK))));
+            .andExpect(jsonPath("$.[*].madarekHash").value(hasItem(fileBargeMamooriat.getMadarekHash())))
+            .andExpect(jsonPath("$.[*].madarekSize").value(hasItem(DEFAULT_MADAREK.length)));
     }
     
     @Test
@@ -169,7 +190,38 @@ public class FileBargeMamooriatResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.id").value(fileBargeMamooriat.getId().intValue()))
             .andExpect(jsonPath("$.madarekContentType").value(DEFAULT_MADAREK_CONTENT_TYPE))
-            .andExpect(jsonPath("$.madarek").value(Base64Utils.encodeToString(DEFAULT_MADAREK)));
+            .andExpect(jsonPath("$.madarek").value(Base64Utils.encodeToString(DEFAULT_MADAREK)))
+            .andExpect(jsonPath("$.madarekHash").value(fileBargeMamooriat.getMadarekHash()));
+    }
+
+    @Test
+    @Transactional
+    public void getFileBargeMamooriatContent() throws Exception {
+        // Initialize the database
+        fileBargeMamooriatRepository.saveAndFlush(fileBargeMamooriat);
+
+        // Get the fileBargeMamooriat content
+        restFileBargeMamooriatMockMvc.perform(get("/api/file-barge-mamooriats/{id}/content", fileBargeMamooriat.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(DEFAULT_MADAREK_CONTENT_TYPE))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + fileBargeMamooriat.getMadarekHash() + "\""))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(content().bytes(DEFAULT_MADAREK));
+    }
+
+    @Test
+    @Transactional
+    public void getFileBargeMamooriatContentRange() throws Exception {
+        // Initialize the database
+        StoredBlob blob = blobStore.put("0123456789".getBytes(StandardCharsets.UTF_8));
+        fileBargeMamooriatRepository.saveAndFlush(fileBargeMamooriat.madarekHash(blob.getHash()).madarekSize(blob.getSize()));
+
+        // Get the second half of the fileBargeMamooriat content
+        restFileBargeMamooriatMockMvc.perform(get("/api/file-barge-mamooriats/{id}/content", fileBargeMamooriat.getId())
+            .header(HttpHeaders.RANGE, "bytes=5-"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/10"))
+            .andExpect(content().string("56789"));
     }
 
     @Test
@@ -205,10 +257,34 @@ public class FileBargeMamooriatResourceIT {
         List<FileBargeMamooriat> fileBargeMamooriatList = fileBargeMamooriatRepository.findAll();
         assertThat(fileBargeMamooriatList).hasSize(databaseSizeBeforeUpdate);
         FileBargeMamooriat testFileBargeMamooriat = fileBargeMamooriatList.get(fileBargeMamooriatList.size() - 1);
-        assertThat(testFileBargeMamooriat.getMadarek()).isEqualTo(UPDATED_MADAREK);
+        assertThat(testFileBargeMamooriat.getMadarekSize()).isEqualTo((long) UPDATED_MADAREK.length);
+        assertThat(blobStore.read(testFileBargeMamooriat.getMadarekHash()).get()).isEqualTo(UPDATED_MADAREK);
         assertThat(testFileBargeMamooriat.getMadarekContentType()).isEqualTo(UPDATED_MADAREK_CONTENT_TYPE);
     }
 
+    @Test
+    @Transactional
+    public void attachFileBargeMamooriatContent() throws Exception {
+        // Initialize the database
+        fileBargeMamooriatRepository.saveAndFlush(fileBargeMamooriat);
+
+        // Upload the new content
+        UploadDTO upload = uploadService.initiate(UPDATED_MADAREK_CONTENT_TYPE);
+        uploadService.putPart(upload.getId(), 1, new ByteArrayInputStream(UPDATED_MADAREK));
+
+        // Attach it to the fileBargeMamooriat
+        restFileBargeMamooriatMockMvc.perform(put("/api/file-barge-mamooriats/{id}/content", fileBargeMamooriat.getId())
+            .param("uploadId", upload.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.madarekContentType").value(UPDATED_MADAREK_CONTENT_TYPE))
+            .andExpect(jsonPath("$.madarekSize").value(UPDATED_MADAREK.length));
+
+        // Validate the FileBargeMamooriat in the database
+        FileBargeMamooriat testFileBargeMamooriat = fileBargeMamooriatRepository.findById(fileBargeMamooriat.getId()).get();
+        assertThat(blobStore.read(testFileBargeMamooriat.getMadarekHash()).get()).isEqualTo(UPDATED_MADAREK);
+        assertThat(uploadService.getUpload(upload.getId())).isEmpty();
+    }
+
     @Test
     @Transactional
     public void updateNonExistingFileBargeMamooriat() throws Exception {
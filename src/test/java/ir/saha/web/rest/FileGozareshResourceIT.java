@@ -3,6 +3,8 @@ package ir.saha.web.rest;
 import ir.saha.SahaApp;
 import ir.saha.domain.FileGozaresh;
 import ir.saha.repository.FileGozareshRepository;
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.StoredBlob;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +13,10 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -20,9 +25,11 @@ import org.springframework.util.Base64Utils;
 import org.springframework.validation.Validator;
 
 import javax.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +49,9 @@ public class FileGozareshResourceIT {
     @Autowired
     private FileGozareshRepository fileGozareshRepository;
 
+    @Autowired
+    private BlobStore blobStore;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -64,12 +74,13 @@ public class FileGozareshResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final FileGozareshResource fileGozareshResource = new FileGozareshResource(fileGozareshRepository);
+        final FileGozareshResource fileGozareshResource = new FileGozareshResource(fileGozareshRepository, blobStore);
         this.restFileGozareshMockMvc = MockMvcBuilders.standaloneSetup(fileGozareshResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
-            .setMessageConverters(jacksonMessageConverter)
+            .setMessageConverters(new ResourceHttpMessageConverter(), new ResourceRegionHttpMessageConverter(), jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -101,6 +112,8 @@ public class FileGozareshResourceIT {
     @BeforeEach
     public void initTest() {
         fileGozaresh = createEntity(em);
+        StoredBlob blob = blobStore.put(DEFAULT_FILE);
+        fileGozaresh.fileHash(blob.getHash()).fileSize(blob.getSize());
     }
 
     @Test
@@ -118,7 +131,8 @@ public class FileGozareshResourceIT {
         List<FileGozaresh> fileGozareshList = fileGozareshRepository.findAll();
         assertThat(fileGozareshList).hasSize(databaseSizeBeforeCreate + 1);
         FileGozaresh testFileGozaresh = fileGozareshList.get(fileGozareshList.size() - 1);
-        assertThat(testFileGozaresh.getFile()).isEqualTo(DEFAULT_FILE);
+        assertThat(testFileGozaresh.getFileSize()).isEqualTo((long) DEFAULT_FILE.length);
+        assertThat(blobStore.read(testFileGozaresh.getFileHash()).get()).isEqualTo(DEFAULT_FILE);
         assertThat(testFileGozaresh.getFileContentType()).isEqualTo(DEFAULT_FILE_CONTENT_TYPE);
     }
 
@@ -154,7 +168,8 @@ public class FileGozareshResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(fileGozaresh.getId().intValue())))
             .andExpect(jsonPath("$.[*].fileContentType").value(hasItem(DEFAULT_FILE_CONTENT_TYPE)))
-            .andExpect(jsonPath("$.[*].file").value(hasItem(Base64Utils.encodeToString(DEFAULT_FILE))));
+            .andExpect(jsonPath("$.[*].fileHash").value(hasItem(fileGozaresh.getFileHash())))
+            .andExpect(jsonPath("$.[*].fileSize").value(hasItem(DEFAULT_FILE.length)));
     }
     
     @Test
@@ -169,7 +184,38 @@ public class FileGozareshResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.id").value(fileGozaresh.getId().intValue()))
             .andExpect(jsonPath("$.fileContentType").value(DEFAULT_FILE_CONTENT_TYPE))
-            .andExpect(jsonPath("$.file").value(Base64Utils.encodeToString(DEFAULT_FILE)));
+            .andExpect(jsonPath("$.file").value(Base64Utils.encodeToString(DEFAULT_FILE)))
+            .andExpect(jsonPath("$.fileHash").value(fileGozaresh.getFileHash()));
+    }
+
+    @Test
+    @Transactional
+    public void getFileGozareshContent() throws Exception {
+        // Initialize the database
+        fileGozareshRepository.saveAndFlush(fileGozaresh);
+
+        // Get the fileGozaresh content
+        restFileGozareshMockMvc.perform(get("/api/file-gozareshes/{id}/content", fileGozaresh.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(DEFAULT_FILE_CONTENT_TYPE))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + fileGozaresh.getFileHash() + "\""))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(content().bytes(DEFAULT_FILE));
+    }
+
+    @Test
+    @Transactional
+    public void getFileGozareshContentRange() throws Exception {
+        // Initialize the database
+        StoredBlob blob = blobStore.put("0123456789".getBytes(StandardCharsets.UTF_8));
+        fileGozareshRepository.saveAndFlush(fileGozaresh.fileHash(blob.getHash()).fileSize(blob.getSize()));
+
+        // Get the second half of the fileGozaresh content
+        restFileGozareshMockMvc.perform(get("/api/file-gozareshes/{id}/content", fileGozaresh.getId())
+            .header(HttpHeaders.RANGE, "bytes=5-"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/10"))
+            .andExpect(content().string("56789"));
     }
 
     @Test
@@ -205,7 +251,8 @@ public class FileGozareshResourceIT {
         List<FileGozaresh> fileGozareshList = fileGozareshRepository.findAll();
         assertThat(fileGozareshList).hasSize(databaseSizeBeforeUpdate);
         FileGozaresh testFileGozaresh = fileGozareshList.get(fileGozareshList.size() - 1);
-        assertThat(testFileGozaresh.getFile()).isEqualTo(UPDATED_FILE);
+        assertThat(testFileGozaresh.getFileSize()).isEqualTo((long) UPDATED_FILE.length);
+        assertThat(blobStore.read(testFileGozaresh.getFileHash()).get()).isEqualTo(UPDATED_FILE);
         assertThat(testFileGozaresh.getFileContentType()).isEqualTo(UPDATED_FILE_CONTENT_TYPE);
     }
 
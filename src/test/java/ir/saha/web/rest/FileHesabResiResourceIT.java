@@ -2,7 +2,12 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.FileHesabResi;
+import ir.saha.domain.HesabResi;
 import ir.saha.repository.FileHesabResiRepository;
+import ir.saha.service.UploadService;
+import ir.saha.service.dto.UploadDTO;
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.StoredBlob;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +16,10 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -20,11 +28,14 @@ import org.springframework.util.Base64Utils;
 import org.springframework.validation.Validator;
 
 import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -57,6 +68,12 @@ public class FileHesabResiResourceIT {
     @Autowired
     private FileHesabResiRepository fileHesabResiRepository;
 
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private UploadService uploadService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -79,12 +96,13 @@ public class FileHesabResiResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final FileHesabResiResource fileHesabResiResource = new FileHesabResiResource(fileHesabResiRepository);
+        final FileHesabResiResource fileHesabResiResource = new FileHesabResiResource(fileHesabResiRepository, blobStore, uploadService);
         this.restFileHesabResiMockMvc = MockMvcBuilders.standaloneSetup(fileHesabResiResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
-            .setMessageConverters(jacksonMessageConverter)
+            .setMessageConverters(new ResourceHttpMessageConverter(), new ResourceRegionHttpMessageConverter(), jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -124,6 +142,8 @@ public class FileHesabResiResourceIT {
     @BeforeEach
     public void initTest() {
         fileHesabResi = createEntity(em);
+        StoredBlob blob = blobStore.put(DEFAULT_FILE);
+        fileHesabResi.fileHash(blob.getHash()).fileSize(blob.getSize());
     }
 
     @Test
@@ -141,7 +161,8 @@ public class FileHesabResiResourceIT {
         List<FileHesabResi> fileHesabResiList = fileHesabResiRepository.findAll();
         assertThat(fileHesabResiList).hasSize(databaseSizeBeforeCreate + 1);
         FileHesabResi testFileHesabResi = fileHesabResiList.get(fileHesabResiList.size() - 1);
-        assertThat(testFileHesabResi.getFile()).isEqualTo(DEFAULT_FILE);
+        assertThat(testFileHesabResi.getFileSize()).isEqualTo((long) DEFAULT_FILE.length);
+        assertThat(blobStore.read(testFileHesabResi.getFileHash()).get()).isEqualTo(DEFAULT_FILE);
         assertThat(testFileHesabResi.getFileContentType()).isEqualTo(DEFAULT_FILE_CONTENT_TYPE);
         assertThat(testFileHesabResi.getShomare()).isEqualTo(DEFAULT_SHOMARE);
         assertThat(testFileHesabResi.getTarikhName()).isEqualTo(DEFAULT_TARIKH_NAME);
@@ -181,13 +202,37 @@ public class FileHesabResiResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(fileHesabResi.getId().intValue())))
             .andExpect(jsonPath("$.[*].fileContentType").value(hasItem(DEFAULT_FILE_CONTENT_TYPE)))
-            .andExpect(jsonPath("$.[*].file").value(hasItem(Base64Utils.encodeToString(DEFAULT_FILE))))
+            .andExpect(jsonPath("$.[*].fileHash").value(hasItem(fileHesabResi.getFileHash())))
+            .andExpect(jsonPath("$.[*].fileSize").value(hasItem(DEFAULT_FILE.length)))
             .andExpect(jsonPath("$.[*].shomare").value(hasItem(DEFAULT_SHOMARE)))
             .andExpect(jsonPath("$.[*].tarikhName").value(hasItem(DEFAULT_TARIKH_NAME.toString())))
             .andExpect(jsonPath("$.[*].mozoo").value(hasItem(DEFAULT_MOZOO)))
             .andExpect(jsonPath("$.[*].fileType").value(hasItem(DEFAULT_FILE_TYPE.toString())));
     }
     
+    @Test
+    @Transactional
+    public void getAllFileHesabResisByHesabResiId() throws Exception {
+        // Initialize the database
+        HesabResi hesabResi = HesabResiResourceIT.createEntity(em);
+        em.persist(hesabResi);
+        fileHesabResi.setHesabResi(hesabResi);
+        fileHesabResiRepository.saveAndFlush(fileHesabResi);
+        FileHesabResi otherFileHesabResi = createEntity(em);
+        fileHesabResiRepository.saveAndFlush(otherFileHesabResi);
+
+        // Get the files of the hesabResi, only their metadata is listed
+        restFileHesabResiMockMvc.perform(get("/api/file-hesab-resis?hesabResiId={hesabResiId}", hesabResi.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(fileHesabResi.getId().intValue()))
+            .andExpect(jsonPath("$.[0].hesabResiId").value(hesabResi.getId().intValue()))
+            .andExpect(jsonPath("$.[0].fileSize").value(DEFAULT_FILE.length))
+            .andExpect(jsonPath("$.[0].file").doesNotExist())
+            .andExpect(jsonPath("$.[0].hesabResi").doesNotExist());
+    }
+
     @Test
     @Transactional
     public void getFileHesabResi() throws Exception {
@@ -201,12 +246,65 @@ public class FileHesabResiResourceIT {
             .andExpect(jsonPath("$.id").value(fileHesabResi.getId().intValue()))
             .andExpect(jsonPath("$.fileContentType").value(DEFAULT_FILE_CONTENT_TYPE))
             .andExpect(jsonPath("$.file").value(Base64Utils.encodeToString(DEFAULT_FILE)))
+            .andExpect(jsonPath("$.fileHash").value(fileHesabResi.getFileHash()))
             .andExpect(jsonPath("$.shomare").value(DEFAULT_SHOMARE))
             .andExpect(jsonPath("$.tarikhName").value(DEFAULT_TARIKH_NAME.toString()))
             .andExpect(jsonPath("$.mozoo").value(DEFAULT_MOZOO))
             .andExpect(jsonPath("$.fileType").value(DEFAULT_FILE_TYPE.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getFileHesabResiContent() throws Exception {
+        // Initialize the database
+        fileHesabResiRepository.saveAndFlush(fileHesabResi);
+
+        // Get the fileHesabResi content
+        restFileHesabResiMockMvc.perform(get("/api/file-hesab-resis/{id}/content", fileHesabResi.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(DEFAULT_FILE_CONTENT_TYPE))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + fileHesabResi.getFileHash() + "\""))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(content().bytes(DEFAULT_FILE));
+    }
+
+    @Test
+    @Transactional
+    public void getFileHesabResiContentRange() throws Exception {
+        // Initialize the database
+        StoredBlob blob = blobStore.put("0123456789".getBytes(StandardCharsets.UTF_8));
+        fileHesabResiRepository.saveAndFlush(fileHesabResi.fileHash(blob.getHash()).fileSize(blob.getSize()));
+
+        // Get the second half of the fileHesabResi content
+        restFileHesabResiMockMvc.perform(get("/api/file-hesab-resis/{id}/content", fileHesabResi.getId())
+            .header(HttpHeaders.RANGE, "bytes=5-"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/10"))
+            .andExpect(content().string("56789"));
+    }
+
+    @Test
+    @Transactional
+    public void getFileHesabResiContentNotModified() throws Exception {
+        // Initialize the database
+        fileHesabResiRepository.saveAndFlush(fileHesabResi);
+
+        // A client holding the current version gets no body back
+        restFileHesabResiMockMvc.perform(get("/api/file-hesab-resis/{id}/content", fileHesabResi.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, "\"" + fileHesabResi.getFileHash() + "\""))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Transactional
+    public void getFileHesabResiContentWithoutContent() throws Exception {
+        // Initialize the database
+        fileHesabResiRepository.saveAndFlush(fileHesabResi.fileHash(null).fileSize(null));
+
+        restFileHesabResiMockMvc.perform(get("/api/file-hesab-resis/{id}/content", fileHesabResi.getId()))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     public void getNonExistingFileHesabResi() throws Exception {
@@ -244,7 +342,8 @@ public class FileHesabResiResourceIT {
         List<FileHesabResi> fileHesabResiList = fileHesabResiRepository.findAll();
         assertThat(fileHesabResiList).hasSize(databaseSizeBeforeUpdate);
         FileHesabResi testFileHesabResi = fileHesabResiList.get(fileHesabResiList.size() - 1);
-        assertThat(testFileHesabResi.getFile()).isEqualTo(UPDATED_FILE);
+        assertThat(testFileHesabResi.getFileSize()).isEqualTo((long) UPDATED_FILE.length);
+        assertThat(blobStore.read(testFileHesabResi.getFileHash()).get()).isEqualTo(UPDATED_FILE);
         assertThat(testFileHesabResi.getFileContentType()).isEqualTo(UPDATED_FILE_CONTENT_TYPE);
         assertThat(testFileHesabResi.getShomare()).isEqualTo(UPDATED_SHOMARE);
         assertThat(testFileHesabResi.getTarikhName()).isEqualTo(UPDATED_TARIKH_NAME);
@@ -252,6 +351,29 @@ public class FileHesabResiResourceIT {
         assertThat(testFileHesabResi.getFileType()).isEqualTo(UPDATED_FILE_TYPE);
     }
 
+    @Test
+    @Transactional
+    public void attachFileHesabResiContent() throws Exception {
+        // Initialize the database
+        fileHesabResiRepository.saveAndFlush(fileHesabResi);
+
+        // Upload the new content
+        UploadDTO upload = uploadService.initiate(UPDATED_FILE_CONTENT_TYPE);
+        uploadService.putPart(upload.getId(), 1, new ByteArrayInputStream(UPDATED_FILE));
+
+        // Attach it to the fileHesabResi
+        restFileHesabResiMockMvc.perform(put("/api/file-hesab-resis/{id}/content", fileHesabResi.getId())
+            .param("uploadId", upload.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.fileContentType").value(UPDATED_FILE_CONTENT_TYPE))
+            .andExpect(jsonPath("$.fileSize").value(UPDATED_FILE.length));
+
+        // Validate the FileHesabResi in the database
+        FileHesabResi testFileHesabResi = fileHesabResiRepository.findById(fileHesabResi.getId()).get();
+        assertThat(blobStore.read(testFileHesabResi.getFileHash()).get()).isEqualTo(UPDATED_FILE);
+        assertThat(uploadService.getUpload(upload.getId())).isEmpty();
+    }
+
     @Test
     @Transactional
     public void updateNonExistingFileHesabResi() throws Exception {
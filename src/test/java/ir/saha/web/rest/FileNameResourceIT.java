@@ -3,6 +3,8 @@ package ir.saha.web.rest;
 import ir.saha.SahaApp;
 import ir.saha.domain.FileName;
 import ir.saha.repository.FileNameRepository;
+import ir.saha.service.storage.BlobStore;
+import ir.saha.service.storage.StoredBlob;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +13,10 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -20,9 +25,11 @@ import org.springframework.util.Base64Utils;
 import org.springframework.validation.Validator;
 
 import javax.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +49,9 @@ public class FileNameResourceIT {
     @Autowired
     private FileNameRepository fileNameRepository;
 
+    @Autowired
+    private BlobStore blobStore;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -64,12 +74,13 @@ public class FileNameResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final FileNameResource fileNameResource = new FileNameResource(fileNameRepository);
+        final FileNameResource fileNameResource = new FileNameResource(fileNameRepository, blobStore);
         this.restFileNameMockMvc = MockMvcBuilders.standaloneSetup(fileNameResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
-            .setMessageConverters(jacksonMessageConverter)
+            .setMessageConverters(new ResourceHttpMessageConverter(), new ResourceRegionHttpMessageConverter(), jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -101,6 +112,8 @@ public class FileNameResourceIT {
     @BeforeEach
     public void initTest() {
         fileName = createEntity(em);
+        StoredBlob blob = blobStore.put(DEFAULT_MADRAK);
+        fileName.madrakHash(blob.getHash()).madrakSize(blob.getSize());
     }
 
     @Test
@@ -118,7 +131,8 @@ public class FileNameResourceIT {
         List<FileName> fileNameList = fileNameRepository.findAll();
         assertThat(fileNameList).hasSize(databaseSizeBeforeCreate + 1);
         FileName testFileName = fileNameList.get(fileNameList.size() - 1);
-        assertThat(testFileName.getMadrak()).isEqualTo(DEFAULT_MADRAK);
+        assertThat(testFileName.getMadrakSize()).isEqualTo((long) DEFAULT_MADRAK.length);
+        assertThat(blobStore.read(testFileName.getMadrakHash()).get()).isEqualTo(DEFAULT_MADRAK);
         assertThat(testFileName.getMadrakContentType()).isEqualTo(DEFAULT_MADRAK_CONTENT_TYPE);
     }
 
@@ -154,7 +168,8 @@ public class FileNameResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(fileName.getId().intValue())))
             .andExpect(jsonPath("$.[*].madrakContentType").value(hasItem(DEFAULT_MADRAK_CONTENT_TYPE)))
-            .andExpect(jsonPath("$.[*].madrak").value(hasItem(Base64Utils.encodeToString(DEFAULT_MADRAK))));
+            .andExpect(jsonPath("$.[*].madrakHash").value(hasItem(fileName.getMadrakHash())))
+            .andExpect(jsonPath("$.[*].madrakSize").value(hasItem(DEFAULT_MADRAK.length)));
     }
     
     @Test
@@ -169,7 +184,38 @@ public class FileNameResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.id").value(fileName.getId().intValue()))
             .andExpect(jsonPath("$.madrakContentType").value(DEFAULT_MADRAK_CONTENT_TYPE))
-            .andExpect(jsonPath("$.madrak").value(Base64Utils.encodeToString(DEFAULT_MADRAK)));
+            .andExpect(jsonPath("$.madrak").value(Base64Utils.encodeToString(DEFAULT_MADRAK)))
+            .andExpect(jsonPath("$.madrakHash").value(fileName.getMadrakHash()));
+    }
+
+    @Test
+    @Transactional
+    public void getFileNameContent() throws Exception {
+        // Initialize the database
+        fileNameRepository.saveAndFlush(fileName);
+
+        // Get the fileName content
+        restFileNameMockMvc.perform(get("/api/file-names/{id}/content", fileName.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(DEFAULT_MADRAK_CONTENT_TYPE))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + fileName.getMadrakHash() + "\""))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(content().bytes(DEFAULT_MADRAK));
+    }
+
+    @Test
+    @Transactional
+    public void getFileNameContentRange() throws Exception {
+        // Initialize the database
+        StoredBlob blob = blobStore.put("0123456789".getBytes(StandardCharsets.UTF_8));
+        fileNameRepository.saveAndFlush(fileName.madrakHash(blob.getHash()).madrakSize(blob.getSize()));
+
+        // Get the second half of the fileName content
+        restFileNameMockMvc.perform(get("/api/file-names/{id}/content", fileName.getId())
+            .header(HttpHeaders.RANGE, "bytes=5-"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/10"))
+            .andExpect(content().string("56789"));
     }
 
     @Test
@@ -205,7 +251,8 @@ public class FileNameResourceIT {
         List<FileName> fileNameList = fileNameRepository.findAll();
         assertThat(fileNameList).hasSize(databaseSizeBeforeUpdate);
         FileName testFileName = fileNameList.get(fileNameList.size() - 1);
-        assertThat(testFileName.getMadrak()).isEqualTo(UPDATED_MADRAK);
+        assertThat(testFileName.getMadrakSize()).isEqualTo((long) UPDATED_MADRAK.length);
+        assertThat(blobStore.read(testFileName.getMadrakHash()).get()).isEqualTo(UPDATED_MADRAK);
         assertThat(testFileName.getMadrakContentType()).isEqualTo(UPDATED_MADRAK_CONTENT_TYPE);
     }
 
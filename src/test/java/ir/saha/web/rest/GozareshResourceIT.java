@@ -2,7 +2,9 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.Gozaresh;
+import ir.saha.domain.HesabResi;
 import ir.saha.repository.GozareshRepository;
+import ir.saha.service.GozareshQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +24,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -40,6 +43,9 @@ public class GozareshResourceIT {
     @Autowired
     private GozareshRepository gozareshRepository;
 
+    @Autowired
+    private GozareshQueryService gozareshQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -62,12 +68,13 @@ public class GozareshResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final GozareshResource gozareshResource = new GozareshResource(gozareshRepository);
+        final GozareshResource gozareshResource = new GozareshResource(gozareshRepository, gozareshQueryService);
         this.restGozareshMockMvc = MockMvcBuilders.standaloneSetup(gozareshResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -165,6 +172,115 @@ public class GozareshResourceIT {
             .andExpect(jsonPath("$.vaziat").value(DEFAULT_VAZIAT.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getAllGozareshesByIdFiltering() throws Exception {
+        // Initialize the database
+        gozareshRepository.saveAndFlush(gozaresh);
+
+        Long id = gozaresh.getId();
+
+        defaultGozareshShouldBeFound("id.equals=" + id);
+        defaultGozareshShouldNotBeFound("id.notEquals=" + id);
+
+        defaultGozareshShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultGozareshShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultGozareshShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultGozareshShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllGozareshesByVaziatIsEqualToSomething() throws Exception {
+        // Initialize the database
+        gozareshRepository.saveAndFlush(gozaresh);
+
+        // Get all the gozareshList where vaziat equals to DEFAULT_VAZIAT
+        defaultGozareshShouldBeFound("vaziat.equals=" + DEFAULT_VAZIAT);
+
+        // Get all the gozareshList where vaziat equals to UPDATED_VAZIAT
+        defaultGozareshShouldNotBeFound("vaziat.equals=" + UPDATED_VAZIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllGozareshesByVaziatIsInShouldWork() throws Exception {
+        // Initialize the database
+        gozareshRepository.saveAndFlush(gozaresh);
+
+        // Get all the gozareshList where vaziat in DEFAULT_VAZIAT or UPDATED_VAZIAT
+        defaultGozareshShouldBeFound("vaziat.in=" + DEFAULT_VAZIAT + "," + UPDATED_VAZIAT);
+
+        // Get all the gozareshList where vaziat equals to UPDATED_VAZIAT
+        defaultGozareshShouldNotBeFound("vaziat.in=" + UPDATED_VAZIAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllGozareshesByVaziatIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        gozareshRepository.saveAndFlush(gozaresh);
+
+        // Get all the gozareshList where vaziat is not null
+        defaultGozareshShouldBeFound("vaziat.specified=true");
+
+        // Get all the gozareshList where vaziat is null
+        defaultGozareshShouldNotBeFound("vaziat.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllGozareshesByHesabResiIsEqualToSomething() throws Exception {
+        // Initialize the database
+        gozareshRepository.saveAndFlush(gozaresh);
+        HesabResi hesabResi = HesabResiResourceIT.createEntity(em);
+        hesabResi.setGozaresh(gozaresh);
+        em.persist(hesabResi);
+        em.flush();
+        Long hesabResiId = hesabResi.getId();
+
+        // Get all the gozareshList where hesabResi equals to hesabResiId
+        defaultGozareshShouldBeFound("hesabResiId.equals=" + hesabResiId);
+
+        // Get all the gozareshList where hesabResi equals to hesabResiId + 1
+        defaultGozareshShouldNotBeFound("hesabResiId.equals=" + (hesabResiId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultGozareshShouldBeFound(String filter) throws Exception {
+        restGozareshMockMvc.perform(get("/api/gozareshes?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(gozaresh.getId().intValue())))
+            .andExpect(jsonPath("$.[*].vaziat").value(hasItem(DEFAULT_VAZIAT.toString())));
+
+        // Check, that the count call also returns 1
+        restGozareshMockMvc.perform(get("/api/gozareshes/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultGozareshShouldNotBeFound(String filter) throws Exception {
+        restGozareshMockMvc.perform(get("/api/gozareshes?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restGozareshMockMvc.perform(get("/api/gozareshes/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingGozaresh() throws Exception {
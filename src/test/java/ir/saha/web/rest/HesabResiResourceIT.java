@@ -2,7 +2,10 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.HesabResi;
+import ir.saha.domain.Gozaresh;
+import ir.saha.domain.BarnameHesabResi;
 import ir.saha.repository.HesabResiRepository;
+import ir.saha.service.HesabResiQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +25,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -43,6 +47,9 @@ public class HesabResiResourceIT {
     @Autowired
     private HesabResiRepository hesabResiRepository;
 
+    @Autowired
+    private HesabResiQueryService hesabResiQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -65,12 +72,13 @@ public class HesabResiResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final HesabResiResource hesabResiResource = new HesabResiResource(hesabResiRepository);
+        final HesabResiResource hesabResiResource = new HesabResiResource(hesabResiRepository, hesabResiQueryService);
         this.restHesabResiMockMvc = MockMvcBuilders.standaloneSetup(hesabResiResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -173,6 +181,201 @@ public class HesabResiResourceIT {
             .andExpect(jsonPath("$.vaziateHesabResi").value(DEFAULT_VAZIATE_HESAB_RESI.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getAllHesabResisByIdFiltering() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+
+        Long id = hesabResi.getId();
+
+        defaultHesabResiShouldBeFound("id.equals=" + id);
+        defaultHesabResiShouldNotBeFound("id.notEquals=" + id);
+
+        defaultHesabResiShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultHesabResiShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultHesabResiShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultHesabResiShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllHesabResisBySalIsEqualToSomething() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+
+        // Get all the hesabResiList where sal equals to DEFAULT_SAL
+        defaultHesabResiShouldBeFound("sal.equals=" + DEFAULT_SAL);
+
+        // Get all the hesabResiList where sal equals to UPDATED_SAL
+        defaultHesabResiShouldNotBeFound("sal.equals=" + UPDATED_SAL);
+    }
+
+    @Test
+    @Transactional
+    public void getAllHesabResisBySalIsInShouldWork() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+
+        // Get all the hesabResiList where sal in DEFAULT_SAL or UPDATED_SAL
+        defaultHesabResiShouldBeFound("sal.in=" + DEFAULT_SAL + "," + UPDATED_SAL);
+
+        // Get all the hesabResiList where sal equals to UPDATED_SAL
+        defaultHesabResiShouldNotBeFound("sal.in=" + UPDATED_SAL);
+    }
+
+    @Test
+    @Transactional
+    public void getAllHesabResisBySalIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+
+        // Get all the hesabResiList where sal is not null
+        defaultHesabResiShouldBeFound("sal.specified=true");
+
+        // Get all the hesabResiList where sal is null
+        defaultHesabResiShouldNotBeFound("sal.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllHesabResisBySalIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+
+        // Get all the hesabResiList where sal is greater than or equal to DEFAULT_SAL
+        defaultHesabResiShouldBeFound("sal.greaterThanOrEqual=" + DEFAULT_SAL);
+
+        // Get all the hesabResiList where sal is greater than or equal to UPDATED_SAL
+        defaultHesabResiShouldNotBeFound("sal.greaterThanOrEqual=" + UPDATED_SAL);
+    }
+
+    @Test
+    @Transactional
+    public void getAllHesabResisBySalIsLessThanSomething() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+
+        // Get all the hesabResiList where sal is less than DEFAULT_SAL
+        defaultHesabResiShouldNotBeFound("sal.lessThan=" + DEFAULT_SAL);
+
+        // Get all the hesabResiList where sal is less than UPDATED_SAL
+        defaultHesabResiShouldBeFound("sal.lessThan=" + UPDATED_SAL);
+    }
+
+    @Test
+    @Transactional
+    public void getAllHesabResisByVaziateHesabResiIsEqualToSomething() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+
+        // Get all the hesabResiList where vaziateHesabResi equals to DEFAULT_VAZIATE_HESAB_RESI
+        defaultHesabResiShouldBeFound("vaziateHesabResi.equals=" + DEFAULT_VAZIATE_HESAB_RESI);
+
+        // Get all the hesabResiList where vaziateHesabResi equals to UPDATED_VAZIATE_HESAB_RESI
+        defaultHesabResiShouldNotBeFound("vaziateHesabResi.equals=" + UPDATED_VAZIATE_HESAB_RESI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllHesabResisByVaziateHesabResiIsInShouldWork() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+
+        // Get all the hesabResiList where vaziateHesabResi in DEFAULT_VAZIATE_HESAB_RESI or UPDATED_VAZIATE_HESAB_RESI
+        defaultHesabResiShouldBeFound("vaziateHesabResi.in=" + DEFAULT_VAZIATE_HESAB_RESI + "," + UPDATED_VAZIATE_HESAB_RESI);
+
+        // Get all the hesabResiList where vaziateHesabResi equals to UPDATED_VAZIATE_HESAB_RESI
+        defaultHesabResiShouldNotBeFound("vaziateHesabResi.in=" + UPDATED_VAZIATE_HESAB_RESI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllHesabResisByVaziateHesabResiIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+
+        // Get all the hesabResiList where vaziateHesabResi is not null
+        defaultHesabResiShouldBeFound("vaziateHesabResi.specified=true");
+
+        // Get all the hesabResiList where vaziateHesabResi is null
+        defaultHesabResiShouldNotBeFound("vaziateHesabResi.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllHesabResisByGozareshIsEqualToSomething() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+        Gozaresh gozaresh = GozareshResourceIT.createEntity(em);
+        em.persist(gozaresh);
+        em.flush();
+        hesabResi.setGozaresh(gozaresh);
+        hesabResiRepository.saveAndFlush(hesabResi);
+        Long gozareshId = gozaresh.getId();
+
+        // Get all the hesabResiList where gozaresh equals to gozareshId
+        defaultHesabResiShouldBeFound("gozareshId.equals=" + gozareshId);
+
+        // Get all the hesabResiList where gozaresh equals to gozareshId + 1
+        defaultHesabResiShouldNotBeFound("gozareshId.equals=" + (gozareshId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllHesabResisByBarnameHesabResiIsEqualToSomething() throws Exception {
+        // Initialize the database
+        hesabResiRepository.saveAndFlush(hesabResi);
+        BarnameHesabResi barnameHesabResi = BarnameHesabResiResourceIT.createEntity(em);
+        em.persist(barnameHesabResi);
+        em.flush();
+        hesabResi.setBarnameHesabResi(barnameHesabResi);
+        hesabResiRepository.saveAndFlush(hesabResi);
+        Long barnameHesabResiId = barnameHesabResi.getId();
+
+        // Get all the hesabResiList where barnameHesabResi equals to barnameHesabResiId
+        defaultHesabResiShouldBeFound("barnameHesabResiId.equals=" + barnameHesabResiId);
+
+        // Get all the hesabResiList where barnameHesabResi equals to barnameHesabResiId + 1
+        defaultHesabResiShouldNotBeFound("barnameHesabResiId.equals=" + (barnameHesabResiId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultHesabResiShouldBeFound(String filter) throws Exception {
+        restHesabResiMockMvc.perform(get("/api/hesab-resis?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(hesabResi.getId().intValue())))
+            .andExpect(jsonPath("$.[*].sal").value(hasItem(DEFAULT_SAL)))
+            .andExpect(jsonPath("$.[*].vaziateHesabResi").value(hasItem(DEFAULT_VAZIATE_HESAB_RESI.toString())));
+
+        // Check, that the count call also returns 1
+        restHesabResiMockMvc.perform(get("/api/hesab-resis/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultHesabResiShouldNotBeFound(String filter) throws Exception {
+        restHesabResiMockMvc.perform(get("/api/hesab-resis?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restHesabResiMockMvc.perform(get("/api/hesab-resis/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingHesabResi() throws Exception {
@@ -0,0 +1,275 @@
+package ir.saha.web.rest;
+
+import ir.saha.SahaApp;
+import ir.saha.config.ApplicationProperties;
+import ir.saha.domain.Daraje;
+import ir.saha.domain.Karbar;
+import ir.saha.domain.Semat;
+import ir.saha.domain.Yegan;
+import ir.saha.domain.YeganCode;
+import ir.saha.repository.KarbarRepository;
+import ir.saha.service.KarbarImportService;
+import ir.saha.service.tabular.TabularFormat;
+import ir.saha.web.rest.errors.ExceptionTranslator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the {@link KarbarImportResource} REST controller.
+ */
+@SpringBootTest(classes = SahaApp.class)
+@WithMockUser("import-user")
+@Transactional
+public class KarbarImportResourceIT {
+
+    private static final String HEADER = "name,codePerseneli,bezaneshate,tarikhEstekhdam,yegan,yegan_code,Daraje,semat\n";
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private KarbarRepository karbarRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restKarbarImportMockMvc;
+
+    private Yegan yegan;
+
+    @BeforeEach
+    public void setup() {
+        // Run the imports on the test thread, within the test transaction
+        KarbarImportService karbarImportService = new KarbarImportService(applicationProperties, em, transactionManager, Runnable::run);
+        KarbarImportResource karbarImportResource = new KarbarImportResource(karbarImportService);
+        this.restKarbarImportMockMvc = MockMvcBuilders.standaloneSetup(karbarImportResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setMessageConverters(jacksonMessageConverter)
+            .build();
+
+        yegan = new Yegan().name("Yegan").code("IMPORT-YEGAN");
+        em.persist(yegan);
+        em.persist(new YeganCode().name("Yegan code").code("IMPORT-YEGAN-CODE"));
+        em.persist(new Daraje().name("IMPORT-DARAJE"));
+        em.persist(new Semat().onvanShoghli("IMPORT-SEMAT"));
+        // Two darajes of the same name cannot be told apart
+        em.persist(new Daraje().name("IMPORT-AMBIGUOUS"));
+        em.persist(new Daraje().name("IMPORT-AMBIGUOUS"));
+        em.flush();
+    }
+
+    @Test
+    public void importCsv() throws Exception {
+        String csv = HEADER +
+            "Ali,IMPORT-1,yes,2020-03-20,IMPORT-YEGAN,IMPORT-YEGAN-CODE,IMPORT-DARAJE,IMPORT-SEMAT\n" +
+            "\"Rezaei, Reza\",IMPORT-2,0,2019-01-01T10:00:00Z,,,,\n";
+
+        startImport(csv, TabularFormat.CSV.getContentType())
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", containsString("/api/karbar-imports/")))
+            .andExpect(jsonPath("$.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.format").value("CSV"))
+            .andExpect(jsonPath("$.rowsRead").value(2))
+            .andExpect(jsonPath("$.rowsImported").value(2))
+            .andExpect(jsonPath("$.rowsFailed").value(0));
+
+        List<Karbar> karbars = em.createQuery("select karbar from Karbar karbar where karbar.codePerseneli like 'IMPORT-%' " +
+            "order by karbar.codePerseneli", Karbar.class).getResultList();
+        assertThat(karbars).hasSize(2);
+        Karbar ali = karbars.get(0);
+        assertThat(ali.getName()).isEqualTo("Ali");
+        assertThat(ali.isBezaneshate()).isTrue();
+        assertThat(ali.getTarikhEstekhdam()).isEqualTo(Instant.parse("2020-03-20T00:00:00Z"));
+        assertThat(ali.getYegan().getId()).isEqualTo(yegan.getId());
+        assertThat(ali.getYeganCode().getCode()).isEqualTo("IMPORT-YEGAN-CODE");
+        assertThat(ali.getDaraje().getName()).isEqualTo("IMPORT-DARAJE");
+        assertThat(ali.getSemat().getOnvanShoghli()).isEqualTo("IMPORT-SEMAT");
+        Karbar reza = karbars.get(1);
+        assertThat(reza.getName()).isEqualTo("Rezaei, Reza");
+        assertThat(reza.isBezaneshate()).isFalse();
+        assertThat(reza.getTarikhEstekhdam()).isEqualTo(Instant.parse("2019-01-01T10:00:00Z"));
+        assertThat(reza.getYegan()).isNull();
+    }
+
+    @Test
+    public void importReportsRowErrors() throws Exception {
+        String csv = HEADER +
+            "Valid,IMPORT-1,true,,,,,\n" +
+            "Unknown yegan,IMPORT-2,true,,MISSING,,,\n" +
+            "\n" +
+            "Bad values,IMPORT-3,maybe,yesterday,,,IMPORT-AMBIGUOUS,\n";
+        int karbarsBefore = (int) karbarRepository.count();
+
+        startImport(csv, TabularFormat.CSV.getContentType())
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.rowsRead").value(3))
+            .andExpect(jsonPath("$.rowsImported").value(1))
+            .andExpect(jsonPath("$.rowsFailed").value(2))
+            .andExpect(jsonPath("$.errors[0].row").value(3))
+            .andExpect(jsonPath("$.errors[0].message").value("yegan: 'MISSING' not found"))
+            .andExpect(jsonPath("$.errors[1].row").value(5))
+            .andExpect(jsonPath("$.errors[1].message").value(
+                "bezaneshate: 'maybe' is not a boolean; tarikhEstekhdam: 'yesterday' is not a date; daraje: 'IMPORT-AMBIGUOUS' is ambiguous"));
+
+        assertThat(karbarRepository.count()).isEqualTo(karbarsBefore + 1);
+    }
+
+    @Test
+    public void importInBatches() throws Exception {
+        int rows = applicationProperties.getKarbarImport().getBatchSize() * 2 + 7;
+        StringBuilder csv = new StringBuilder("name,codePerseneli,yegan\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("Karbar ").append(i).append(",IMPORT-").append(i).append(",IMPORT-YEGAN\n");
+        }
+        int karbarsBefore = (int) karbarRepository.count();
+
+        startImport(csv.toString(), TabularFormat.CSV.getContentType())
+            .andExpect(jsonPath("$.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.rowsImported").value(rows));
+
+        assertThat(karbarRepository.count()).isEqualTo(karbarsBefore + rows);
+    }
+
+    @Test
+    public void importFailingAfterEarlierBatchesIsPartial() throws Exception {
+        int batchSize = applicationProperties.getKarbarImport().getBatchSize();
+        StringBuilder csv = new StringBuilder("name,codePerseneli\n");
+        for (int i = 0; i < batchSize; i++) {
+            csv.append("Karbar ").append(i).append(",IMPORT-").append(i).append('\n');
+        }
+        csv.append("\"Unterminated,IMPORT-X\n");
+
+        startImport(csv.toString(), TabularFormat.CSV.getContentType())
+            .andExpect(jsonPath("$.status").value("FAILED"))
+            .andExpect(jsonPath("$.rowsImported").value(batchSize))
+            .andExpect(jsonPath("$.message").value(containsString("partial import: the " + batchSize +
+                " rows imported by the earlier batches stay committed")));
+    }
+
+    @Test
+    public void importOfTooLargeFileIsRejected() throws Exception {
+        long maxFileSize = applicationProperties.getKarbarImport().getMaxFileSize();
+        applicationProperties.getKarbarImport().setMaxFileSize(HEADER.length());
+        try {
+            startImport(HEADER + "Ali,IMPORT-1,,,,,,\n", TabularFormat.CSV.getContentType())
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.message").value("error.importTooLarge"))
+                .andExpect(jsonPath("$.maxFileSize").value(HEADER.length()));
+        } finally {
+            applicationProperties.getKarbarImport().setMaxFileSize(maxFileSize);
+        }
+
+        // The rejected import gave its permit back
+        startImport(HEADER + "Ali,IMPORT-1,,,,,,\n", TabularFormat.CSV.getContentType())
+            .andExpect(status().isAccepted());
+    }
+
+    @Test
+    public void importsBeyondTheConcurrencyLimitAreRejected() throws Exception {
+        // Queue the imports without ever running them, so that they keep their permits
+        KarbarImportService karbarImportService = new KarbarImportService(applicationProperties, em, transactionManager, task -> { });
+        MockMvc restKarbarImportMockMvc = MockMvcBuilders.standaloneSetup(new KarbarImportResource(karbarImportService))
+            .setControllerAdvice(exceptionTranslator)
+            .setMessageConverters(jacksonMessageConverter)
+            .build();
+        for (int i = 0; i < applicationProperties.getKarbarImport().getMaxConcurrentImports(); i++) {
+            restKarbarImportMockMvc.perform(post("/api/karbar-imports")
+                .contentType(TabularFormat.CSV.getContentType())
+                .content(HEADER.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+        }
+
+        restKarbarImportMockMvc.perform(post("/api/karbar-imports")
+            .contentType(TabularFormat.CSV.getContentType())
+            .content(HEADER.getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+            .andExpect(jsonPath("$.message").value("error.tooManyImports"));
+    }
+
+    @Test
+    public void importWithUnknownColumnFails() throws Exception {
+        startImport("name,shoeSize\nAli,42\n", TabularFormat.CSV.getContentType())
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.status").value("FAILED"))
+            .andExpect(jsonPath("$.message").value("Unknown column 'shoeSize'"))
+            .andExpect(jsonPath("$.rowsRead").value(0));
+    }
+
+    @Test
+    public void importOfUnsupportedFormatIsRejected() throws Exception {
+        startImport("name\nAli\n", "application/pdf")
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void getImport() throws Exception {
+        MvcResult result = startImport(HEADER + "Ali,IMPORT-1,,,,,,\n", TabularFormat.CSV.getContentType()).andReturn();
+        String location = result.getResponse().getHeader("Location");
+
+        restKarbarImportMockMvc.perform(get(location))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.rowsImported").value(1))
+            .andExpect(jsonPath("$.finishedDate").isNotEmpty());
+    }
+
+    @Test
+    public void getImportOfOtherUser() throws Exception {
+        MvcResult result = startImport(HEADER + "Ali,IMPORT-1,,,,,,\n", TabularFormat.CSV.getContentType()).andReturn();
+        String location = result.getResponse().getHeader("Location");
+
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken("other-user", "password"));
+        SecurityContextHolder.setContext(context);
+        try {
+            restKarbarImportMockMvc.perform(get(location))
+                .andExpect(status().isNotFound());
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+
+    private ResultActions startImport(String content, String contentType) throws Exception {
+        return restKarbarImportMockMvc.perform(post("/api/karbar-imports")
+            .contentType(contentType)
+            .content(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
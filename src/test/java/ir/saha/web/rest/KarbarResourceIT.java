@@ -2,18 +2,27 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.Karbar;
+import ir.saha.domain.BargeMamooriat;
+import ir.saha.domain.Yegan;
+import ir.saha.domain.YeganCode;
+import ir.saha.domain.Daraje;
+import ir.saha.domain.Semat;
 import ir.saha.repository.KarbarRepository;
+import ir.saha.service.KarbarQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
+import ir.saha.web.rest.util.KeysetPaginationUtil;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
@@ -24,12 +33,15 @@ import org.springframework.validation.Validator;
 import javax.persistence.EntityManager;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -70,6 +82,9 @@ public class KarbarResourceIT {
     @Mock
     private KarbarRepository karbarRepositoryMock;
 
+    @Autowired
+    private KarbarQueryService karbarQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -92,12 +107,13 @@ public class KarbarResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final KarbarResource karbarResource = new KarbarResource(karbarRepository);
+        final KarbarResource karbarResource = new KarbarResource(karbarRepository, karbarQueryService);
         this.restKarbarMockMvc = MockMvcBuilders.standaloneSetup(karbarResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -211,8 +227,7 @@ public class KarbarResourceIT {
     
     @SuppressWarnings({"unchecked"})
     public void getAllKarbarsWithEagerRelationshipsIsEnabled() throws Exception {
-        KarbarResource karbarResource = new KarbarResource(karbarRepositoryMock);
-        when(karbarRepositoryMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        KarbarResource karbarResource = new KarbarResource(karbarRepositoryMock, karbarQueryService);
 
         MockMvc restKarbarMockMvc = MockMvcBuilders.standaloneSetup(karbarResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
@@ -223,13 +238,12 @@ public class KarbarResourceIT {
         restKarbarMockMvc.perform(get("/api/karbars?eagerload=true"))
         .andExpect(status().isOk());
 
-        verify(karbarRepositoryMock, times(1)).findAllWithEagerRelationships(any());
+        verify(karbarRepositoryMock, times(1)).fetchEagerRelationships(any());
     }
 
     @SuppressWarnings({"unchecked"})
     public void getAllKarbarsWithEagerRelationshipsIsNotEnabled() throws Exception {
-        KarbarResource karbarResource = new KarbarResource(karbarRepositoryMock);
-            when(karbarRepositoryMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        KarbarResource karbarResource = new KarbarResource(karbarRepositoryMock, karbarQueryService);
             MockMvc restKarbarMockMvc = MockMvcBuilders.standaloneSetup(karbarResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -239,7 +253,161 @@ public class KarbarResourceIT {
         restKarbarMockMvc.perform(get("/api/karbars?eagerload=true"))
         .andExpect(status().isOk());
 
-            verify(karbarRepositoryMock, times(1)).findAllWithEagerRelationships(any());
+            verify(karbarRepositoryMock, times(1)).fetchEagerRelationships(any());
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsPaginated() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+        karbarRepository.saveAndFlush(createEntity(em));
+
+        // Get the first page of the karbarList
+        restKarbarMockMvc.perform(get("/api/karbars?sort=id,asc&page=0&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(karbar.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsWithEagerRelationshipsStatementCount() throws Exception {
+        // Initialize the database with karbars having several barge mamooriats of each kind
+        for (int i = 0; i < 3; i++) {
+            Karbar other = createEntity(em);
+            for (int j = 0; j < 3; j++) {
+                BargeMamooriat bargeMamoorit = BargeMamooriatResourceIT.createEntity(em);
+                em.persist(bargeMamoorit);
+                other.addBargeMamoorit(bargeMamoorit);
+                BargeMamooriat binanadeBargeMamoorit = BargeMamooriatResourceIT.createEntity(em);
+                em.persist(binanadeBargeMamoorit);
+                other.addBinanadeBargeMamoorit(binanadeBargeMamoorit);
+            }
+            em.persist(other);
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            restKarbarMockMvc.perform(get("/api/karbars?eagerload=true&sort=id,asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$.[*].bargeMamoorits.length()").value(contains(3, 3, 3)))
+                .andExpect(jsonPath("$.[*].binanadeBargeMamoorits.length()").value(contains(3, 3, 3)));
+
+            // One statement for the page and one per many-to-many collection, whatever the number of karbars
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsDoesNotLoadRelationships() throws Exception {
+        // Initialize the database with a karbar of a yegan, having a barge mamooriat
+        Yegan yegan = YeganResourceIT.createEntity(em);
+        em.persist(yegan);
+        BargeMamooriat bargeMamoorit = BargeMamooriatResourceIT.createEntity(em);
+        em.persist(bargeMamoorit);
+        karbar.setYegan(yegan);
+        karbar.addBargeMamoorit(bargeMamoorit);
+        em.persist(karbar);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            restKarbarMockMvc.perform(get("/api/karbars?id.equals=" + karbar.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].yeganId").value(yegan.getId().intValue()))
+                .andExpect(jsonPath("$.[0].yegan").doesNotExist())
+                .andExpect(jsonPath("$.[0].bargeMamoorits").value(nullValue()));
+
+            // The karbars are mapped to DTOs within the transaction, so serializing them loads no collection
+            assertThat(statistics.getCollectionFetchCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsWithFields() throws Exception {
+        // Initialize the database with a karbar of a yegan, and one of none
+        Yegan yegan = YeganResourceIT.createEntity(em);
+        em.persist(yegan);
+        karbar.setYegan(yegan);
+        karbarRepository.saveAndFlush(karbar);
+        Karbar other = karbarRepository.saveAndFlush(createEntity(em));
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            restKarbarMockMvc.perform(get("/api/karbars?fields=name,yegan.name&sort=id,asc"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.[0].id").value(karbar.getId().intValue()))
+                .andExpect(jsonPath("$.[0].name").value(DEFAULT_NAME))
+                .andExpect(jsonPath("$.[0].codePerseneli").doesNotExist())
+                .andExpect(jsonPath("$.[0].yegan.id").value(yegan.getId().intValue()))
+                .andExpect(jsonPath("$.[0].yegan.name").value(yegan.getName()))
+                .andExpect(jsonPath("$.[0].yegan.code").doesNotExist())
+                .andExpect(jsonPath("$.[1].id").value(other.getId().intValue()))
+                .andExpect(jsonPath("$.[1].yegan").value(nullValue()));
+
+            // A single statement, with no karbar nor yegan entity loaded
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsWithFieldsKeyset() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+        Karbar other = karbarRepository.saveAndFlush(createEntity(em));
+
+        restKarbarMockMvc.perform(get("/api/karbars?fields=codePerseneli&sort=id,asc&size=1&after="))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(KeysetPaginationUtil.CONTINUATION_TOKEN_HEADER))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(karbar.getId().intValue()))
+            .andExpect(jsonPath("$.[0].codePerseneli").value(DEFAULT_CODE_PERSENELI))
+            .andExpect(jsonPath("$.[0].name").doesNotExist());
+
+        restKarbarMockMvc.perform(get("/api/karbars?fields=codePerseneli&sort=id,asc&size=1&after=" + karbar.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(KeysetPaginationUtil.CONTINUATION_TOKEN_HEADER))
+            .andExpect(jsonPath("$.[0].id").value(other.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsWithUnknownField() throws Exception {
+        restKarbarMockMvc.perform(get("/api/karbars?fields=name,shoeSize"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.unknownField"))
+            .andExpect(jsonPath("$.field").value("shoeSize"));
+
+        // Collections cannot be selected
+        restKarbarMockMvc.perform(get("/api/karbars?fields=bargeMamoorits.vaziat"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.field").value("bargeMamoorits.vaziat"));
     }
 
     @Test
@@ -263,6 +431,523 @@ public class KarbarResourceIT {
             .andExpect(jsonPath("$.tarikhEstekhdam").value(DEFAULT_TARIKH_ESTEKHDAM.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getKarbarWithFields() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get the fields of the karbar
+        restKarbarMockMvc.perform(get("/api/karbars/{id}?fields=codePerseneli,yegan", karbar.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(karbar.getId().intValue()))
+            .andExpect(jsonPath("$.codePerseneli").value(DEFAULT_CODE_PERSENELI))
+            .andExpect(jsonPath("$.yegan").value(nullValue()))
+            .andExpect(jsonPath("$.name").doesNotExist());
+
+        restKarbarMockMvc.perform(get("/api/karbars/{id}?fields=name", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByIdFiltering() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        Long id = karbar.getId();
+
+        defaultKarbarShouldBeFound("id.equals=" + id);
+        defaultKarbarShouldNotBeFound("id.notEquals=" + id);
+
+        defaultKarbarShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultKarbarShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultKarbarShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultKarbarShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByNameIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where name equals to DEFAULT_NAME
+        defaultKarbarShouldBeFound("name.equals=" + DEFAULT_NAME);
+
+        // Get all the karbarList where name equals to UPDATED_NAME
+        defaultKarbarShouldNotBeFound("name.equals=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByNameIsInShouldWork() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where name in DEFAULT_NAME or UPDATED_NAME
+        defaultKarbarShouldBeFound("name.in=" + DEFAULT_NAME + "," + UPDATED_NAME);
+
+        // Get all the karbarList where name equals to UPDATED_NAME
+        defaultKarbarShouldNotBeFound("name.in=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByNameIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where name is not null
+        defaultKarbarShouldBeFound("name.specified=true");
+
+        // Get all the karbarList where name is null
+        defaultKarbarShouldNotBeFound("name.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByNameContainsSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where name contains DEFAULT_NAME
+        defaultKarbarShouldBeFound("name.contains=" + DEFAULT_NAME);
+
+        // Get all the karbarList where name contains UPDATED_NAME
+        defaultKarbarShouldNotBeFound("name.contains=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByShoghlSazmaniIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where shoghlSazmani equals to DEFAULT_SHOGHL_SAZMANI
+        defaultKarbarShouldBeFound("shoghlSazmani.equals=" + DEFAULT_SHOGHL_SAZMANI);
+
+        // Get all the karbarList where shoghlSazmani equals to UPDATED_SHOGHL_SAZMANI
+        defaultKarbarShouldNotBeFound("shoghlSazmani.equals=" + UPDATED_SHOGHL_SAZMANI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByShoghlSazmaniIsInShouldWork() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where shoghlSazmani in DEFAULT_SHOGHL_SAZMANI or UPDATED_SHOGHL_SAZMANI
+        defaultKarbarShouldBeFound("shoghlSazmani.in=" + DEFAULT_SHOGHL_SAZMANI + "," + UPDATED_SHOGHL_SAZMANI);
+
+        // Get all the karbarList where shoghlSazmani equals to UPDATED_SHOGHL_SAZMANI
+        defaultKarbarShouldNotBeFound("shoghlSazmani.in=" + UPDATED_SHOGHL_SAZMANI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByShoghlSazmaniIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where shoghlSazmani is not null
+        defaultKarbarShouldBeFound("shoghlSazmani.specified=true");
+
+        // Get all the karbarList where shoghlSazmani is null
+        defaultKarbarShouldNotBeFound("shoghlSazmani.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByShoghlSazmaniContainsSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where shoghlSazmani contains DEFAULT_SHOGHL_SAZMANI
+        defaultKarbarShouldBeFound("shoghlSazmani.contains=" + DEFAULT_SHOGHL_SAZMANI);
+
+        // Get all the karbarList where shoghlSazmani contains UPDATED_SHOGHL_SAZMANI
+        defaultKarbarShouldNotBeFound("shoghlSazmani.contains=" + UPDATED_SHOGHL_SAZMANI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByShoghlAmaliIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where shoghlAmali equals to DEFAULT_SHOGHL_AMALI
+        defaultKarbarShouldBeFound("shoghlAmali.equals=" + DEFAULT_SHOGHL_AMALI);
+
+        // Get all the karbarList where shoghlAmali equals to UPDATED_SHOGHL_AMALI
+        defaultKarbarShouldNotBeFound("shoghlAmali.equals=" + UPDATED_SHOGHL_AMALI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByShoghlAmaliIsInShouldWork() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where shoghlAmali in DEFAULT_SHOGHL_AMALI or UPDATED_SHOGHL_AMALI
+        defaultKarbarShouldBeFound("shoghlAmali.in=" + DEFAULT_SHOGHL_AMALI + "," + UPDATED_SHOGHL_AMALI);
+
+        // Get all the karbarList where shoghlAmali equals to UPDATED_SHOGHL_AMALI
+        defaultKarbarShouldNotBeFound("shoghlAmali.in=" + UPDATED_SHOGHL_AMALI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByShoghlAmaliIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where shoghlAmali is not null
+        defaultKarbarShouldBeFound("shoghlAmali.specified=true");
+
+        // Get all the karbarList where shoghlAmali is null
+        defaultKarbarShouldNotBeFound("shoghlAmali.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByShoghlAmaliContainsSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where shoghlAmali contains DEFAULT_SHOGHL_AMALI
+        defaultKarbarShouldBeFound("shoghlAmali.contains=" + DEFAULT_SHOGHL_AMALI);
+
+        // Get all the karbarList where shoghlAmali contains UPDATED_SHOGHL_AMALI
+        defaultKarbarShouldNotBeFound("shoghlAmali.contains=" + UPDATED_SHOGHL_AMALI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByCodePerseneliIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where codePerseneli equals to DEFAULT_CODE_PERSENELI
+        defaultKarbarShouldBeFound("codePerseneli.equals=" + DEFAULT_CODE_PERSENELI);
+
+        // Get all the karbarList where codePerseneli equals to UPDATED_CODE_PERSENELI
+        defaultKarbarShouldNotBeFound("codePerseneli.equals=" + UPDATED_CODE_PERSENELI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByCodePerseneliIsInShouldWork() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where codePerseneli in DEFAULT_CODE_PERSENELI or UPDATED_CODE_PERSENELI
+        defaultKarbarShouldBeFound("codePerseneli.in=" + DEFAULT_CODE_PERSENELI + "," + UPDATED_CODE_PERSENELI);
+
+        // Get all the karbarList where codePerseneli equals to UPDATED_CODE_PERSENELI
+        defaultKarbarShouldNotBeFound("codePerseneli.in=" + UPDATED_CODE_PERSENELI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByCodePerseneliIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where codePerseneli is not null
+        defaultKarbarShouldBeFound("codePerseneli.specified=true");
+
+        // Get all the karbarList where codePerseneli is null
+        defaultKarbarShouldNotBeFound("codePerseneli.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByCodePerseneliContainsSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where codePerseneli contains DEFAULT_CODE_PERSENELI
+        defaultKarbarShouldBeFound("codePerseneli.contains=" + DEFAULT_CODE_PERSENELI);
+
+        // Get all the karbarList where codePerseneli contains UPDATED_CODE_PERSENELI
+        defaultKarbarShouldNotBeFound("codePerseneli.contains=" + UPDATED_CODE_PERSENELI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByBezaneshateIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where bezaneshate equals to DEFAULT_BEZANESHATE
+        defaultKarbarShouldBeFound("bezaneshate.equals=" + DEFAULT_BEZANESHATE);
+
+        // Get all the karbarList where bezaneshate equals to UPDATED_BEZANESHATE
+        defaultKarbarShouldNotBeFound("bezaneshate.equals=" + UPDATED_BEZANESHATE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByBezaneshateIsInShouldWork() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where bezaneshate in DEFAULT_BEZANESHATE or UPDATED_BEZANESHATE
+        defaultKarbarShouldBeFound("bezaneshate.in=" + DEFAULT_BEZANESHATE + "," + UPDATED_BEZANESHATE);
+
+        // Get all the karbarList where bezaneshate equals to UPDATED_BEZANESHATE
+        defaultKarbarShouldNotBeFound("bezaneshate.in=" + UPDATED_BEZANESHATE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByBezaneshateIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where bezaneshate is not null
+        defaultKarbarShouldBeFound("bezaneshate.specified=true");
+
+        // Get all the karbarList where bezaneshate is null
+        defaultKarbarShouldNotBeFound("bezaneshate.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsBySazmaniIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where sazmani equals to DEFAULT_SAZMANI
+        defaultKarbarShouldBeFound("sazmani.equals=" + DEFAULT_SAZMANI);
+
+        // Get all the karbarList where sazmani equals to UPDATED_SAZMANI
+        defaultKarbarShouldNotBeFound("sazmani.equals=" + UPDATED_SAZMANI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsBySazmaniIsInShouldWork() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where sazmani in DEFAULT_SAZMANI or UPDATED_SAZMANI
+        defaultKarbarShouldBeFound("sazmani.in=" + DEFAULT_SAZMANI + "," + UPDATED_SAZMANI);
+
+        // Get all the karbarList where sazmani equals to UPDATED_SAZMANI
+        defaultKarbarShouldNotBeFound("sazmani.in=" + UPDATED_SAZMANI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsBySazmaniIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where sazmani is not null
+        defaultKarbarShouldBeFound("sazmani.specified=true");
+
+        // Get all the karbarList where sazmani is null
+        defaultKarbarShouldNotBeFound("sazmani.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByTarikhBazneshastegiIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where tarikhBazneshastegi equals to DEFAULT_TARIKH_BAZNESHASTEGI
+        defaultKarbarShouldBeFound("tarikhBazneshastegi.equals=" + DEFAULT_TARIKH_BAZNESHASTEGI);
+
+        // Get all the karbarList where tarikhBazneshastegi equals to UPDATED_TARIKH_BAZNESHASTEGI
+        defaultKarbarShouldNotBeFound("tarikhBazneshastegi.equals=" + UPDATED_TARIKH_BAZNESHASTEGI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByTarikhBazneshastegiIsInShouldWork() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where tarikhBazneshastegi in DEFAULT_TARIKH_BAZNESHASTEGI or UPDATED_TARIKH_BAZNESHASTEGI
+        defaultKarbarShouldBeFound("tarikhBazneshastegi.in=" + DEFAULT_TARIKH_BAZNESHASTEGI + "," + UPDATED_TARIKH_BAZNESHASTEGI);
+
+        // Get all the karbarList where tarikhBazneshastegi equals to UPDATED_TARIKH_BAZNESHASTEGI
+        defaultKarbarShouldNotBeFound("tarikhBazneshastegi.in=" + UPDATED_TARIKH_BAZNESHASTEGI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByTarikhBazneshastegiIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where tarikhBazneshastegi is not null
+        defaultKarbarShouldBeFound("tarikhBazneshastegi.specified=true");
+
+        // Get all the karbarList where tarikhBazneshastegi is null
+        defaultKarbarShouldNotBeFound("tarikhBazneshastegi.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByTarikhEstekhdamIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where tarikhEstekhdam equals to DEFAULT_TARIKH_ESTEKHDAM
+        defaultKarbarShouldBeFound("tarikhEstekhdam.equals=" + DEFAULT_TARIKH_ESTEKHDAM);
+
+        // Get all the karbarList where tarikhEstekhdam equals to UPDATED_TARIKH_ESTEKHDAM
+        defaultKarbarShouldNotBeFound("tarikhEstekhdam.equals=" + UPDATED_TARIKH_ESTEKHDAM);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByTarikhEstekhdamIsInShouldWork() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where tarikhEstekhdam in DEFAULT_TARIKH_ESTEKHDAM or UPDATED_TARIKH_ESTEKHDAM
+        defaultKarbarShouldBeFound("tarikhEstekhdam.in=" + DEFAULT_TARIKH_ESTEKHDAM + "," + UPDATED_TARIKH_ESTEKHDAM);
+
+        // Get all the karbarList where tarikhEstekhdam equals to UPDATED_TARIKH_ESTEKHDAM
+        defaultKarbarShouldNotBeFound("tarikhEstekhdam.in=" + UPDATED_TARIKH_ESTEKHDAM);
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByTarikhEstekhdamIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+
+        // Get all the karbarList where tarikhEstekhdam is not null
+        defaultKarbarShouldBeFound("tarikhEstekhdam.specified=true");
+
+        // Get all the karbarList where tarikhEstekhdam is null
+        defaultKarbarShouldNotBeFound("tarikhEstekhdam.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByYeganIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+        Yegan yegan = YeganResourceIT.createEntity(em);
+        em.persist(yegan);
+        em.flush();
+        karbar.setYegan(yegan);
+        karbarRepository.saveAndFlush(karbar);
+        Long yeganId = yegan.getId();
+
+        // Get all the karbarList where yegan equals to yeganId
+        defaultKarbarShouldBeFound("yeganId.equals=" + yeganId);
+
+        // Get all the karbarList where yegan equals to yeganId + 1
+        defaultKarbarShouldNotBeFound("yeganId.equals=" + (yeganId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByYeganCodeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+        YeganCode yeganCode = YeganCodeResourceIT.createEntity(em);
+        em.persist(yeganCode);
+        em.flush();
+        karbar.setYeganCode(yeganCode);
+        karbarRepository.saveAndFlush(karbar);
+        Long yeganCodeId = yeganCode.getId();
+
+        // Get all the karbarList where yeganCode equals to yeganCodeId
+        defaultKarbarShouldBeFound("yeganCodeId.equals=" + yeganCodeId);
+
+        // Get all the karbarList where yeganCode equals to yeganCodeId + 1
+        defaultKarbarShouldNotBeFound("yeganCodeId.equals=" + (yeganCodeId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsByDarajeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+        Daraje daraje = DarajeResourceIT.createEntity(em);
+        em.persist(daraje);
+        em.flush();
+        karbar.setDaraje(daraje);
+        karbarRepository.saveAndFlush(karbar);
+        Long darajeId = daraje.getId();
+
+        // Get all the karbarList where daraje equals to darajeId
+        defaultKarbarShouldBeFound("darajeId.equals=" + darajeId);
+
+        // Get all the karbarList where daraje equals to darajeId + 1
+        defaultKarbarShouldNotBeFound("darajeId.equals=" + (darajeId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllKarbarsBySematIsEqualToSomething() throws Exception {
+        // Initialize the database
+        karbarRepository.saveAndFlush(karbar);
+        Semat semat = SematResourceIT.createEntity(em);
+        em.persist(semat);
+        em.flush();
+        karbar.setSemat(semat);
+        karbarRepository.saveAndFlush(karbar);
+        Long sematId = semat.getId();
+
+        // Get all the karbarList where semat equals to sematId
+        defaultKarbarShouldBeFound("sematId.equals=" + sematId);
+
+        // Get all the karbarList where semat equals to sematId + 1
+        defaultKarbarShouldNotBeFound("sematId.equals=" + (sematId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultKarbarShouldBeFound(String filter) throws Exception {
+        restKarbarMockMvc.perform(get("/api/karbars?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(karbar.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].shoghlSazmani").value(hasItem(DEFAULT_SHOGHL_SAZMANI)))
+            .andExpect(jsonPath("$.[*].shoghlAmali").value(hasItem(DEFAULT_SHOGHL_AMALI)))
+            .andExpect(jsonPath("$.[*].codePerseneli").value(hasItem(DEFAULT_CODE_PERSENELI)))
+            .andExpect(jsonPath("$.[*].bezaneshate").value(hasItem(DEFAULT_BEZANESHATE.booleanValue())))
+            .andExpect(jsonPath("$.[*].sazmani").value(hasItem(DEFAULT_SAZMANI.booleanValue())))
+            .andExpect(jsonPath("$.[*].tarikhBazneshastegi").value(hasItem(DEFAULT_TARIKH_BAZNESHASTEGI.toString())))
+            .andExpect(jsonPath("$.[*].tarikhEstekhdam").value(hasItem(DEFAULT_TARIKH_ESTEKHDAM.toString())));
+
+        // Check, that the count call also returns 1
+        restKarbarMockMvc.perform(get("/api/karbars/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultKarbarShouldNotBeFound(String filter) throws Exception {
+        restKarbarMockMvc.perform(get("/api/karbars?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restKarbarMockMvc.perform(get("/api/karbars/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingKarbar() throws Exception {
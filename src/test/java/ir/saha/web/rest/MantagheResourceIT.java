@@ -3,6 +3,7 @@ package ir.saha.web.rest;
 import ir.saha.SahaApp;
 import ir.saha.domain.Mantaghe;
 import ir.saha.repository.MantagheRepository;
+import ir.saha.service.MantagheQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -39,6 +41,9 @@ public class MantagheResourceIT {
     @Autowired
     private MantagheRepository mantagheRepository;
 
+    @Autowired
+    private MantagheQueryService mantagheQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -61,12 +66,13 @@ public class MantagheResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final MantagheResource mantagheResource = new MantagheResource(mantagheRepository);
+        final MantagheResource mantagheResource = new MantagheResource(mantagheRepository, mantagheQueryService);
         this.restMantagheMockMvc = MockMvcBuilders.standaloneSetup(mantagheResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -164,6 +170,110 @@ public class MantagheResourceIT {
             .andExpect(jsonPath("$.name").value(DEFAULT_NAME));
     }
 
+    @Test
+    @Transactional
+    public void getAllMantaghesByIdFiltering() throws Exception {
+        // Initialize the database
+        mantagheRepository.saveAndFlush(mantaghe);
+
+        Long id = mantaghe.getId();
+
+        defaultMantagheShouldBeFound("id.equals=" + id);
+        defaultMantagheShouldNotBeFound("id.notEquals=" + id);
+
+        defaultMantagheShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultMantagheShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultMantagheShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultMantagheShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllMantaghesByNameIsEqualToSomething() throws Exception {
+        // Initialize the database
+        mantagheRepository.saveAndFlush(mantaghe);
+
+        // Get all the mantagheList where name equals to DEFAULT_NAME
+        defaultMantagheShouldBeFound("name.equals=" + DEFAULT_NAME);
+
+        // Get all the mantagheList where name equals to UPDATED_NAME
+        defaultMantagheShouldNotBeFound("name.equals=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllMantaghesByNameIsInShouldWork() throws Exception {
+        // Initialize the database
+        mantagheRepository.saveAndFlush(mantaghe);
+
+        // Get all the mantagheList where name in DEFAULT_NAME or UPDATED_NAME
+        defaultMantagheShouldBeFound("name.in=" + DEFAULT_NAME + "," + UPDATED_NAME);
+
+        // Get all the mantagheList where name equals to UPDATED_NAME
+        defaultMantagheShouldNotBeFound("name.in=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllMantaghesByNameIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        mantagheRepository.saveAndFlush(mantaghe);
+
+        // Get all the mantagheList where name is not null
+        defaultMantagheShouldBeFound("name.specified=true");
+
+        // Get all the mantagheList where name is null
+        defaultMantagheShouldNotBeFound("name.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllMantaghesByNameContainsSomething() throws Exception {
+        // Initialize the database
+        mantagheRepository.saveAndFlush(mantaghe);
+
+        // Get all the mantagheList where name contains DEFAULT_NAME
+        defaultMantagheShouldBeFound("name.contains=" + DEFAULT_NAME);
+
+        // Get all the mantagheList where name contains UPDATED_NAME
+        defaultMantagheShouldNotBeFound("name.contains=" + UPDATED_NAME);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultMantagheShouldBeFound(String filter) throws Exception {
+        restMantagheMockMvc.perform(get("/api/mantaghes?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(mantaghe.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)));
+
+        // Check, that the count call also returns 1
+        restMantagheMockMvc.perform(get("/api/mantaghes/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultMantagheShouldNotBeFound(String filter) throws Exception {
+        restMantagheMockMvc.perform(get("/api/mantaghes?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restMantagheMockMvc.perform(get("/api/mantaghes/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingMantaghe() throws Exception {
@@ -2,7 +2,9 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.Morkhasi;
+import ir.saha.domain.Karbar;
 import ir.saha.repository.MorkhasiRepository;
+import ir.saha.service.MorkhasiQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -44,6 +47,9 @@ public class MorkhasiResourceIT {
     @Autowired
     private MorkhasiRepository morkhasiRepository;
 
+    @Autowired
+    private MorkhasiQueryService morkhasiQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -66,12 +72,13 @@ public class MorkhasiResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final MorkhasiResource morkhasiResource = new MorkhasiResource(morkhasiRepository);
+        final MorkhasiResource morkhasiResource = new MorkhasiResource(morkhasiRepository, morkhasiQueryService);
         this.restMorkhasiMockMvc = MockMvcBuilders.standaloneSetup(morkhasiResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -174,6 +181,156 @@ public class MorkhasiResourceIT {
             .andExpect(jsonPath("$.end").value(DEFAULT_END.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getAllMorkhasisByIdFiltering() throws Exception {
+        // Initialize the database
+        morkhasiRepository.saveAndFlush(morkhasi);
+
+        Long id = morkhasi.getId();
+
+        defaultMorkhasiShouldBeFound("id.equals=" + id);
+        defaultMorkhasiShouldNotBeFound("id.notEquals=" + id);
+
+        defaultMorkhasiShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultMorkhasiShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultMorkhasiShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultMorkhasiShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllMorkhasisByBeginIsEqualToSomething() throws Exception {
+        // Initialize the database
+        morkhasiRepository.saveAndFlush(morkhasi);
+
+        // Get all the morkhasiList where begin equals to DEFAULT_BEGIN
+        defaultMorkhasiShouldBeFound("begin.equals=" + DEFAULT_BEGIN);
+
+        // Get all the morkhasiList where begin equals to UPDATED_BEGIN
+        defaultMorkhasiShouldNotBeFound("begin.equals=" + UPDATED_BEGIN);
+    }
+
+    @Test
+    @Transactional
+    public void getAllMorkhasisByBeginIsInShouldWork() throws Exception {
+        // Initialize the database
+        morkhasiRepository.saveAndFlush(morkhasi);
+
+        // Get all the morkhasiList where begin in DEFAULT_BEGIN or UPDATED_BEGIN
+        defaultMorkhasiShouldBeFound("begin.in=" + DEFAULT_BEGIN + "," + UPDATED_BEGIN);
+
+        // Get all the morkhasiList where begin equals to UPDATED_BEGIN
+        defaultMorkhasiShouldNotBeFound("begin.in=" + UPDATED_BEGIN);
+    }
+
+    @Test
+    @Transactional
+    public void getAllMorkhasisByBeginIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        morkhasiRepository.saveAndFlush(morkhasi);
+
+        // Get all the morkhasiList where begin is not null
+        defaultMorkhasiShouldBeFound("begin.specified=true");
+
+        // Get all the morkhasiList where begin is null
+        defaultMorkhasiShouldNotBeFound("begin.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllMorkhasisByEndIsEqualToSomething() throws Exception {
+        // Initialize the database
+        morkhasiRepository.saveAndFlush(morkhasi);
+
+        // Get all the morkhasiList where end equals to DEFAULT_END
+        defaultMorkhasiShouldBeFound("end.equals=" + DEFAULT_END);
+
+        // Get all the morkhasiList where end equals to UPDATED_END
+        defaultMorkhasiShouldNotBeFound("end.equals=" + UPDATED_END);
+    }
+
+    @Test
+    @Transactional
+    public void getAllMorkhasisByEndIsInShouldWork() throws Exception {
+        // Initialize the database
+        morkhasiRepository.saveAndFlush(morkhasi);
+
+        // Get all the morkhasiList where end in DEFAULT_END or UPDATED_END
+        defaultMorkhasiShouldBeFound("end.in=" + DEFAULT_END + "," + UPDATED_END);
+
+        // Get all the morkhasiList where end equals to UPDATED_END
+        defaultMorkhasiShouldNotBeFound("end.in=" + UPDATED_END);
+    }
+
+    @Test
+    @Transactional
+    public void getAllMorkhasisByEndIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        morkhasiRepository.saveAndFlush(morkhasi);
+
+        // Get all the morkhasiList where end is not null
+        defaultMorkhasiShouldBeFound("end.specified=true");
+
+        // Get all the morkhasiList where end is null
+        defaultMorkhasiShouldNotBeFound("end.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllMorkhasisByKarbarIsEqualToSomething() throws Exception {
+        // Initialize the database
+        morkhasiRepository.saveAndFlush(morkhasi);
+        Karbar karbar = KarbarResourceIT.createEntity(em);
+        em.persist(karbar);
+        em.flush();
+        morkhasi.setKarbar(karbar);
+        morkhasiRepository.saveAndFlush(morkhasi);
+        Long karbarId = karbar.getId();
+
+        // Get all the morkhasiList where karbar equals to karbarId
+        defaultMorkhasiShouldBeFound("karbarId.equals=" + karbarId);
+
+        // Get all the morkhasiList where karbar equals to karbarId + 1
+        defaultMorkhasiShouldNotBeFound("karbarId.equals=" + (karbarId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultMorkhasiShouldBeFound(String filter) throws Exception {
+        restMorkhasiMockMvc.perform(get("/api/morkhasis?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(morkhasi.getId().intValue())))
+            .andExpect(jsonPath("$.[*].begin").value(hasItem(DEFAULT_BEGIN.toString())))
+            .andExpect(jsonPath("$.[*].end").value(hasItem(DEFAULT_END.toString())));
+
+        // Check, that the count call also returns 1
+        restMorkhasiMockMvc.perform(get("/api/morkhasis/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultMorkhasiShouldNotBeFound(String filter) throws Exception {
+        restMorkhasiMockMvc.perform(get("/api/morkhasis?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restMorkhasiMockMvc.perform(get("/api/morkhasis/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingMorkhasi() throws Exception {
@@ -2,7 +2,9 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.Negahbani;
+import ir.saha.domain.Karbar;
 import ir.saha.repository.NegahbaniRepository;
+import ir.saha.service.NegahbaniQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -44,6 +47,9 @@ public class NegahbaniResourceIT {
     @Autowired
     private NegahbaniRepository negahbaniRepository;
 
+    @Autowired
+    private NegahbaniQueryService negahbaniQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -66,12 +72,13 @@ public class NegahbaniResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final NegahbaniResource negahbaniResource = new NegahbaniResource(negahbaniRepository);
+        final NegahbaniResource negahbaniResource = new NegahbaniResource(negahbaniRepository, negahbaniQueryService);
         this.restNegahbaniMockMvc = MockMvcBuilders.standaloneSetup(negahbaniResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -174,6 +181,156 @@ public class NegahbaniResourceIT {
             .andExpect(jsonPath("$.end").value(DEFAULT_END.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getAllNegahbanisByIdFiltering() throws Exception {
+        // Initialize the database
+        negahbaniRepository.saveAndFlush(negahbani);
+
+        Long id = negahbani.getId();
+
+        defaultNegahbaniShouldBeFound("id.equals=" + id);
+        defaultNegahbaniShouldNotBeFound("id.notEquals=" + id);
+
+        defaultNegahbaniShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultNegahbaniShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultNegahbaniShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultNegahbaniShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNegahbanisByBeginIsEqualToSomething() throws Exception {
+        // Initialize the database
+        negahbaniRepository.saveAndFlush(negahbani);
+
+        // Get all the negahbaniList where begin equals to DEFAULT_BEGIN
+        defaultNegahbaniShouldBeFound("begin.equals=" + DEFAULT_BEGIN);
+
+        // Get all the negahbaniList where begin equals to UPDATED_BEGIN
+        defaultNegahbaniShouldNotBeFound("begin.equals=" + UPDATED_BEGIN);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNegahbanisByBeginIsInShouldWork() throws Exception {
+        // Initialize the database
+        negahbaniRepository.saveAndFlush(negahbani);
+
+        // Get all the negahbaniList where begin in DEFAULT_BEGIN or UPDATED_BEGIN
+        defaultNegahbaniShouldBeFound("begin.in=" + DEFAULT_BEGIN + "," + UPDATED_BEGIN);
+
+        // Get all the negahbaniList where begin equals to UPDATED_BEGIN
+        defaultNegahbaniShouldNotBeFound("begin.in=" + UPDATED_BEGIN);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNegahbanisByBeginIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        negahbaniRepository.saveAndFlush(negahbani);
+
+        // Get all the negahbaniList where begin is not null
+        defaultNegahbaniShouldBeFound("begin.specified=true");
+
+        // Get all the negahbaniList where begin is null
+        defaultNegahbaniShouldNotBeFound("begin.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllNegahbanisByEndIsEqualToSomething() throws Exception {
+        // Initialize the database
+        negahbaniRepository.saveAndFlush(negahbani);
+
+        // Get all the negahbaniList where end equals to DEFAULT_END
+        defaultNegahbaniShouldBeFound("end.equals=" + DEFAULT_END);
+
+        // Get all the negahbaniList where end equals to UPDATED_END
+        defaultNegahbaniShouldNotBeFound("end.equals=" + UPDATED_END);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNegahbanisByEndIsInShouldWork() throws Exception {
+        // Initialize the database
+        negahbaniRepository.saveAndFlush(negahbani);
+
+        // Get all the negahbaniList where end in DEFAULT_END or UPDATED_END
+        defaultNegahbaniShouldBeFound("end.in=" + DEFAULT_END + "," + UPDATED_END);
+
+        // Get all the negahbaniList where end equals to UPDATED_END
+        defaultNegahbaniShouldNotBeFound("end.in=" + UPDATED_END);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNegahbanisByEndIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        negahbaniRepository.saveAndFlush(negahbani);
+
+        // Get all the negahbaniList where end is not null
+        defaultNegahbaniShouldBeFound("end.specified=true");
+
+        // Get all the negahbaniList where end is null
+        defaultNegahbaniShouldNotBeFound("end.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllNegahbanisByKarbarIsEqualToSomething() throws Exception {
+        // Initialize the database
+        negahbaniRepository.saveAndFlush(negahbani);
+        Karbar karbar = KarbarResourceIT.createEntity(em);
+        em.persist(karbar);
+        em.flush();
+        negahbani.setKarbar(karbar);
+        negahbaniRepository.saveAndFlush(negahbani);
+        Long karbarId = karbar.getId();
+
+        // Get all the negahbaniList where karbar equals to karbarId
+        defaultNegahbaniShouldBeFound("karbarId.equals=" + karbarId);
+
+        // Get all the negahbaniList where karbar equals to karbarId + 1
+        defaultNegahbaniShouldNotBeFound("karbarId.equals=" + (karbarId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultNegahbaniShouldBeFound(String filter) throws Exception {
+        restNegahbaniMockMvc.perform(get("/api/negahbanis?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(negahbani.getId().intValue())))
+            .andExpect(jsonPath("$.[*].begin").value(hasItem(DEFAULT_BEGIN.toString())))
+            .andExpect(jsonPath("$.[*].end").value(hasItem(DEFAULT_END.toString())));
+
+        // Check, that the count call also returns 1
+        restNegahbaniMockMvc.perform(get("/api/negahbanis/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultNegahbaniShouldNotBeFound(String filter) throws Exception {
+        restNegahbaniMockMvc.perform(get("/api/negahbanis?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restNegahbaniMockMvc.perform(get("/api/negahbanis/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingNegahbani() throws Exception {
@@ -3,6 +3,7 @@ package ir.saha.web.rest;
 import ir.saha.SahaApp;
 import ir.saha.domain.NirooCode;
 import ir.saha.repository.NirooCodeRepository;
+import ir.saha.service.NirooCodeQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +44,9 @@ public class NirooCodeResourceIT {
     @Autowired
     private NirooCodeRepository nirooCodeRepository;
 
+    @Autowired
+    private NirooCodeQueryService nirooCodeQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -64,12 +69,13 @@ public class NirooCodeResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final NirooCodeResource nirooCodeResource = new NirooCodeResource(nirooCodeRepository);
+        final NirooCodeResource nirooCodeResource = new NirooCodeResource(nirooCodeRepository, nirooCodeQueryService);
         this.restNirooCodeMockMvc = MockMvcBuilders.standaloneSetup(nirooCodeResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -172,6 +178,163 @@ public class NirooCodeResourceIT {
             .andExpect(jsonPath("$.code").value(DEFAULT_CODE));
     }
 
+    @Test
+    @Transactional
+    public void getAllNirooCodesByIdFiltering() throws Exception {
+        // Initialize the database
+        nirooCodeRepository.saveAndFlush(nirooCode);
+
+        Long id = nirooCode.getId();
+
+        defaultNirooCodeShouldBeFound("id.equals=" + id);
+        defaultNirooCodeShouldNotBeFound("id.notEquals=" + id);
+
+        defaultNirooCodeShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultNirooCodeShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultNirooCodeShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultNirooCodeShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNirooCodesByNameIsEqualToSomething() throws Exception {
+        // Initialize the database
+        nirooCodeRepository.saveAndFlush(nirooCode);
+
+        // Get all the nirooCodeList where name equals to DEFAULT_NAME
+        defaultNirooCodeShouldBeFound("name.equals=" + DEFAULT_NAME);
+
+        // Get all the nirooCodeList where name equals to UPDATED_NAME
+        defaultNirooCodeShouldNotBeFound("name.equals=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNirooCodesByNameIsInShouldWork() throws Exception {
+        // Initialize the database
+        nirooCodeRepository.saveAndFlush(nirooCode);
+
+        // Get all the nirooCodeList where name in DEFAULT_NAME or UPDATED_NAME
+        defaultNirooCodeShouldBeFound("name.in=" + DEFAULT_NAME + "," + UPDATED_NAME);
+
+        // Get all the nirooCodeList where name equals to UPDATED_NAME
+        defaultNirooCodeShouldNotBeFound("name.in=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNirooCodesByNameIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        nirooCodeRepository.saveAndFlush(nirooCode);
+
+        // Get all the nirooCodeList where name is not null
+        defaultNirooCodeShouldBeFound("name.specified=true");
+
+        // Get all the nirooCodeList where name is null
+        defaultNirooCodeShouldNotBeFound("name.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllNirooCodesByNameContainsSomething() throws Exception {
+        // Initialize the database
+        nirooCodeRepository.saveAndFlush(nirooCode);
+
+        // Get all the nirooCodeList where name contains DEFAULT_NAME
+        defaultNirooCodeShouldBeFound("name.contains=" + DEFAULT_NAME);
+
+        // Get all the nirooCodeList where name contains UPDATED_NAME
+        defaultNirooCodeShouldNotBeFound("name.contains=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNirooCodesByCodeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        nirooCodeRepository.saveAndFlush(nirooCode);
+
+        // Get all the nirooCodeList where code equals to DEFAULT_CODE
+        defaultNirooCodeShouldBeFound("code.equals=" + DEFAULT_CODE);
+
+        // Get all the nirooCodeList where code equals to UPDATED_CODE
+        defaultNirooCodeShouldNotBeFound("code.equals=" + UPDATED_CODE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNirooCodesByCodeIsInShouldWork() throws Exception {
+        // Initialize the database
+        nirooCodeRepository.saveAndFlush(nirooCode);
+
+        // Get all the nirooCodeList where code in DEFAULT_CODE or UPDATED_CODE
+        defaultNirooCodeShouldBeFound("code.in=" + DEFAULT_CODE + "," + UPDATED_CODE);
+
+        // Get all the nirooCodeList where code equals to UPDATED_CODE
+        defaultNirooCodeShouldNotBeFound("code.in=" + UPDATED_CODE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllNirooCodesByCodeIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        nirooCodeRepository.saveAndFlush(nirooCode);
+
+        // Get all the nirooCodeList where code is not null
+        defaultNirooCodeShouldBeFound("code.specified=true");
+
+        // Get all the nirooCodeList where code is null
+        defaultNirooCodeShouldNotBeFound("code.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllNirooCodesByCodeContainsSomething() throws Exception {
+        // Initialize the database
+        nirooCodeRepository.saveAndFlush(nirooCode);
+
+        // Get all the nirooCodeList where code contains DEFAULT_CODE
+        defaultNirooCodeShouldBeFound("code.contains=" + DEFAULT_CODE);
+
+        // Get all the nirooCodeList where code contains UPDATED_CODE
+        defaultNirooCodeShouldNotBeFound("code.contains=" + UPDATED_CODE);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultNirooCodeShouldBeFound(String filter) throws Exception {
+        restNirooCodeMockMvc.perform(get("/api/niroo-codes?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(nirooCode.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].code").value(hasItem(DEFAULT_CODE)));
+
+        // Check, that the count call also returns 1
+        restNirooCodeMockMvc.perform(get("/api/niroo-codes/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultNirooCodeShouldNotBeFound(String filter) throws Exception {
+        restNirooCodeMockMvc.perform(get("/api/niroo-codes?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restNirooCodeMockMvc.perform(get("/api/niroo-codes/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingNirooCode() throws Exception {
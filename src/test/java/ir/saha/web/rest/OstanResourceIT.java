@@ -2,7 +2,9 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.Ostan;
+import ir.saha.domain.Mantaghe;
 import ir.saha.repository.OstanRepository;
+import ir.saha.service.OstanQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +24,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -39,6 +42,9 @@ public class OstanResourceIT {
     @Autowired
     private OstanRepository ostanRepository;
 
+    @Autowired
+    private OstanQueryService ostanQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -61,12 +67,13 @@ public class OstanResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final OstanResource ostanResource = new OstanResource(ostanRepository);
+        final OstanResource ostanResource = new OstanResource(ostanRepository, ostanQueryService);
         this.restOstanMockMvc = MockMvcBuilders.standaloneSetup(ostanResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -164,6 +171,129 @@ public class OstanResourceIT {
             .andExpect(jsonPath("$.name").value(DEFAULT_NAME));
     }
 
+    @Test
+    @Transactional
+    public void getAllOstansByIdFiltering() throws Exception {
+        // Initialize the database
+        ostanRepository.saveAndFlush(ostan);
+
+        Long id = ostan.getId();
+
+        defaultOstanShouldBeFound("id.equals=" + id);
+        defaultOstanShouldNotBeFound("id.notEquals=" + id);
+
+        defaultOstanShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultOstanShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultOstanShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultOstanShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllOstansByNameIsEqualToSomething() throws Exception {
+        // Initialize the database
+        ostanRepository.saveAndFlush(ostan);
+
+        // Get all the ostanList where name equals to DEFAULT_NAME
+        defaultOstanShouldBeFound("name.equals=" + DEFAULT_NAME);
+
+        // Get all the ostanList where name equals to UPDATED_NAME
+        defaultOstanShouldNotBeFound("name.equals=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllOstansByNameIsInShouldWork() throws Exception {
+        // Initialize the database
+        ostanRepository.saveAndFlush(ostan);
+
+        // Get all the ostanList where name in DEFAULT_NAME or UPDATED_NAME
+        defaultOstanShouldBeFound("name.in=" + DEFAULT_NAME + "," + UPDATED_NAME);
+
+        // Get all the ostanList where name equals to UPDATED_NAME
+        defaultOstanShouldNotBeFound("name.in=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllOstansByNameIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        ostanRepository.saveAndFlush(ostan);
+
+        // Get all the ostanList where name is not null
+        defaultOstanShouldBeFound("name.specified=true");
+
+        // Get all the ostanList where name is null
+        defaultOstanShouldNotBeFound("name.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllOstansByNameContainsSomething() throws Exception {
+        // Initialize the database
+        ostanRepository.saveAndFlush(ostan);
+
+        // Get all the ostanList where name contains DEFAULT_NAME
+        defaultOstanShouldBeFound("name.contains=" + DEFAULT_NAME);
+
+        // Get all the ostanList where name contains UPDATED_NAME
+        defaultOstanShouldNotBeFound("name.contains=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllOstansByMantagheIsEqualToSomething() throws Exception {
+        // Initialize the database
+        ostanRepository.saveAndFlush(ostan);
+        Mantaghe mantaghe = MantagheResourceIT.createEntity(em);
+        em.persist(mantaghe);
+        em.flush();
+        ostan.setMantaghe(mantaghe);
+        ostanRepository.saveAndFlush(ostan);
+        Long mantagheId = mantaghe.getId();
+
+        // Get all the ostanList where mantaghe equals to mantagheId
+        defaultOstanShouldBeFound("mantagheId.equals=" + mantagheId);
+
+        // Get all the ostanList where mantaghe equals to mantagheId + 1
+        defaultOstanShouldNotBeFound("mantagheId.equals=" + (mantagheId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultOstanShouldBeFound(String filter) throws Exception {
+        restOstanMockMvc.perform(get("/api/ostans?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(ostan.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)));
+
+        // Check, that the count call also returns 1
+        restOstanMockMvc.perform(get("/api/ostans/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultOstanShouldNotBeFound(String filter) throws Exception {
+        restOstanMockMvc.perform(get("/api/ostans?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restOstanMockMvc.perform(get("/api/ostans/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingOstan() throws Exception {
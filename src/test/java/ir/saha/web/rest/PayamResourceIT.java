@@ -2,8 +2,12 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.Payam;
+import ir.saha.domain.Karbar;
+import ir.saha.domain.Yegan;
 import ir.saha.repository.PayamRepository;
+import ir.saha.service.PayamQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
+import ir.saha.web.rest.util.KeysetPaginationUtil;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,9 +15,11 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Base64Utils;
@@ -23,7 +29,9 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -43,6 +51,9 @@ public class PayamResourceIT {
     @Autowired
     private PayamRepository payamRepository;
 
+    @Autowired
+    private PayamQueryService payamQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -65,12 +76,13 @@ public class PayamResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final PayamResource payamResource = new PayamResource(payamRepository);
+        final PayamResource payamResource = new PayamResource(payamRepository, payamQueryService);
         this.restPayamMockMvc = MockMvcBuilders.standaloneSetup(payamResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -158,6 +170,56 @@ public class PayamResourceIT {
             .andExpect(jsonPath("$.[*].matn").value(hasItem(DEFAULT_MATN.toString())));
     }
     
+    @Test
+    @Transactional
+    public void getAllPayamsPaginated() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+        payamRepository.saveAndFlush(createEntity(em));
+
+        // Get the first page of the payamList
+        restPayamMockMvc.perform(get("/api/payams?sort=id,asc&page=0&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(payam.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    public void getAllPayamsKeyset() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+        Payam secondPayam = payamRepository.saveAndFlush(createEntity(em));
+        Payam thirdPayam = payamRepository.saveAndFlush(createEntity(em));
+
+        // Get the first page of the payamList in keyset mode
+        MvcResult result = restPayamMockMvc.perform(get("/api/payams?after=&size=2&sort=id,asc"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$.[0].id").value(payam.getId().intValue()))
+            .andExpect(jsonPath("$.[1].id").value(secondPayam.getId().intValue()))
+            .andReturn();
+        String token = result.getResponse().getHeader(KeysetPaginationUtil.CONTINUATION_TOKEN_HEADER);
+        assertThat(token).isNotEmpty();
+
+        // Get the last page with the continuation token
+        restPayamMockMvc.perform(get("/api/payams?size=2&sort=id,asc&after={after}", token))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(KeysetPaginationUtil.CONTINUATION_TOKEN_HEADER))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(thirdPayam.getId().intValue()));
+
+        // Filters apply in keyset mode too
+        restPayamMockMvc.perform(get("/api/payams?size=2&sort=id,asc&id.notEquals={id}&after={after}", thirdPayam.getId(), payam.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(secondPayam.getId().intValue()));
+    }
+
     @Test
     @Transactional
     public void getPayam() throws Exception {
@@ -173,6 +235,187 @@ public class PayamResourceIT {
             .andExpect(jsonPath("$.matn").value(DEFAULT_MATN.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getAllPayamsByIdFiltering() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+
+        Long id = payam.getId();
+
+        defaultPayamShouldBeFound("id.equals=" + id);
+        defaultPayamShouldNotBeFound("id.notEquals=" + id);
+
+        defaultPayamShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultPayamShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultPayamShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultPayamShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllPayamsByOnvanIsEqualToSomething() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+
+        // Get all the payamList where onvan equals to DEFAULT_ONVAN
+        defaultPayamShouldBeFound("onvan.equals=" + DEFAULT_ONVAN);
+
+        // Get all the payamList where onvan equals to UPDATED_ONVAN
+        defaultPayamShouldNotBeFound("onvan.equals=" + UPDATED_ONVAN);
+    }
+
+    @Test
+    @Transactional
+    public void getAllPayamsByOnvanIsInShouldWork() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+
+        // Get all the payamList where onvan in DEFAULT_ONVAN or UPDATED_ONVAN
+        defaultPayamShouldBeFound("onvan.in=" + DEFAULT_ONVAN + "," + UPDATED_ONVAN);
+
+        // Get all the payamList where onvan equals to UPDATED_ONVAN
+        defaultPayamShouldNotBeFound("onvan.in=" + UPDATED_ONVAN);
+    }
+
+    @Test
+    @Transactional
+    public void getAllPayamsByOnvanIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+
+        // Get all the payamList where onvan is not null
+        defaultPayamShouldBeFound("onvan.specified=true");
+
+        // Get all the payamList where onvan is null
+        defaultPayamShouldNotBeFound("onvan.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllPayamsByOnvanContainsSomething() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+
+        // Get all the payamList where onvan contains DEFAULT_ONVAN
+        defaultPayamShouldBeFound("onvan.contains=" + DEFAULT_ONVAN);
+
+        // Get all the payamList where onvan contains UPDATED_ONVAN
+        defaultPayamShouldNotBeFound("onvan.contains=" + UPDATED_ONVAN);
+    }
+
+    @Test
+    @Transactional
+    public void getAllPayamsByKarbarErsalKonandeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+        Karbar karbar = KarbarResourceIT.createEntity(em);
+        em.persist(karbar);
+        em.flush();
+        payam.setKarbarErsalKonande(karbar);
+        payamRepository.saveAndFlush(payam);
+        Long karbarErsalKonandeId = karbar.getId();
+
+        // Get all the payamList where karbarErsalKonande equals to karbarErsalKonandeId
+        defaultPayamShouldBeFound("karbarErsalKonandeId.equals=" + karbarErsalKonandeId);
+
+        // Get all the payamList where karbarErsalKonande equals to karbarErsalKonandeId + 1
+        defaultPayamShouldNotBeFound("karbarErsalKonandeId.equals=" + (karbarErsalKonandeId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllPayamsByKarbarDaryaftKonandIsEqualToSomething() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+        Karbar karbar = KarbarResourceIT.createEntity(em);
+        em.persist(karbar);
+        em.flush();
+        payam.setKarbarDaryaftKonand(karbar);
+        payamRepository.saveAndFlush(payam);
+        Long karbarDaryaftKonandId = karbar.getId();
+
+        // Get all the payamList where karbarDaryaftKonand equals to karbarDaryaftKonandId
+        defaultPayamShouldBeFound("karbarDaryaftKonandId.equals=" + karbarDaryaftKonandId);
+
+        // Get all the payamList where karbarDaryaftKonand equals to karbarDaryaftKonandId + 1
+        defaultPayamShouldNotBeFound("karbarDaryaftKonandId.equals=" + (karbarDaryaftKonandId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllPayamsByYeganErsalKonanadeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+        Yegan yegan = YeganResourceIT.createEntity(em);
+        em.persist(yegan);
+        em.flush();
+        payam.setYeganErsalKonanade(yegan);
+        payamRepository.saveAndFlush(payam);
+        Long yeganErsalKonanadeId = yegan.getId();
+
+        // Get all the payamList where yeganErsalKonanade equals to yeganErsalKonanadeId
+        defaultPayamShouldBeFound("yeganErsalKonanadeId.equals=" + yeganErsalKonanadeId);
+
+        // Get all the payamList where yeganErsalKonanade equals to yeganErsalKonanadeId + 1
+        defaultPayamShouldNotBeFound("yeganErsalKonanadeId.equals=" + (yeganErsalKonanadeId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllPayamsByYeganDaryaftKonanadeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        payamRepository.saveAndFlush(payam);
+        Yegan yegan = YeganResourceIT.createEntity(em);
+        em.persist(yegan);
+        em.flush();
+        payam.setYeganDaryaftKonanade(yegan);
+        payamRepository.saveAndFlush(payam);
+        Long yeganDaryaftKonanadeId = yegan.getId();
+
+        // Get all the payamList where yeganDaryaftKonanade equals to yeganDaryaftKonanadeId
+        defaultPayamShouldBeFound("yeganDaryaftKonanadeId.equals=" + yeganDaryaftKonanadeId);
+
+        // Get all the payamList where yeganDaryaftKonanade equals to yeganDaryaftKonanadeId + 1
+        defaultPayamShouldNotBeFound("yeganDaryaftKonanadeId.equals=" + (yeganDaryaftKonanadeId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultPayamShouldBeFound(String filter) throws Exception {
+        restPayamMockMvc.perform(get("/api/payams?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(payam.getId().intValue())))
+            .andExpect(jsonPath("$.[*].onvan").value(hasItem(DEFAULT_ONVAN)))
+            .andExpect(jsonPath("$.[*].matn").value(hasItem(DEFAULT_MATN.toString())));
+
+        // Check, that the count call also returns 1
+        restPayamMockMvc.perform(get("/api/payams/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultPayamShouldNotBeFound(String filter) throws Exception {
+        restPayamMockMvc.perform(get("/api/payams?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restPayamMockMvc.perform(get("/api/payams/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingPayam() throws Exception {
@@ -3,6 +3,7 @@ package ir.saha.web.rest;
 import ir.saha.SahaApp;
 import ir.saha.domain.Semat;
 import ir.saha.repository.SematRepository;
+import ir.saha.service.SematQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -39,6 +41,9 @@ public class SematResourceIT {
     @Autowired
     private SematRepository sematRepository;
 
+    @Autowired
+    private SematQueryService sematQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -61,12 +66,13 @@ public class SematResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final SematResource sematResource = new SematResource(sematRepository);
+        final SematResource sematResource = new SematResource(sematRepository, sematQueryService);
         this.restSematMockMvc = MockMvcBuilders.standaloneSetup(sematResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -164,6 +170,110 @@ public class SematResourceIT {
             .andExpect(jsonPath("$.onvanShoghli").value(DEFAULT_ONVAN_SHOGHLI));
     }
 
+    @Test
+    @Transactional
+    public void getAllSematsByIdFiltering() throws Exception {
+        // Initialize the database
+        sematRepository.saveAndFlush(semat);
+
+        Long id = semat.getId();
+
+        defaultSematShouldBeFound("id.equals=" + id);
+        defaultSematShouldNotBeFound("id.notEquals=" + id);
+
+        defaultSematShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultSematShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultSematShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultSematShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllSematsByOnvanShoghliIsEqualToSomething() throws Exception {
+        // Initialize the database
+        sematRepository.saveAndFlush(semat);
+
+        // Get all the sematList where onvanShoghli equals to DEFAULT_ONVAN_SHOGHLI
+        defaultSematShouldBeFound("onvanShoghli.equals=" + DEFAULT_ONVAN_SHOGHLI);
+
+        // Get all the sematList where onvanShoghli equals to UPDATED_ONVAN_SHOGHLI
+        defaultSematShouldNotBeFound("onvanShoghli.equals=" + UPDATED_ONVAN_SHOGHLI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllSematsByOnvanShoghliIsInShouldWork() throws Exception {
+        // Initialize the database
+        sematRepository.saveAndFlush(semat);
+
+        // Get all the sematList where onvanShoghli in DEFAULT_ONVAN_SHOGHLI or UPDATED_ONVAN_SHOGHLI
+        defaultSematShouldBeFound("onvanShoghli.in=" + DEFAULT_ONVAN_SHOGHLI + "," + UPDATED_ONVAN_SHOGHLI);
+
+        // Get all the sematList where onvanShoghli equals to UPDATED_ONVAN_SHOGHLI
+        defaultSematShouldNotBeFound("onvanShoghli.in=" + UPDATED_ONVAN_SHOGHLI);
+    }
+
+    @Test
+    @Transactional
+    public void getAllSematsByOnvanShoghliIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        sematRepository.saveAndFlush(semat);
+
+        // Get all the sematList where onvanShoghli is not null
+        defaultSematShouldBeFound("onvanShoghli.specified=true");
+
+        // Get all the sematList where onvanShoghli is null
+        defaultSematShouldNotBeFound("onvanShoghli.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllSematsByOnvanShoghliContainsSomething() throws Exception {
+        // Initialize the database
+        sematRepository.saveAndFlush(semat);
+
+        // Get all the sematList where onvanShoghli contains DEFAULT_ONVAN_SHOGHLI
+        defaultSematShouldBeFound("onvanShoghli.contains=" + DEFAULT_ONVAN_SHOGHLI);
+
+        // Get all the sematList where onvanShoghli contains UPDATED_ONVAN_SHOGHLI
+        defaultSematShouldNotBeFound("onvanShoghli.contains=" + UPDATED_ONVAN_SHOGHLI);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultSematShouldBeFound(String filter) throws Exception {
+        restSematMockMvc.perform(get("/api/semats?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(semat.getId().intValue())))
+            .andExpect(jsonPath("$.[*].onvanShoghli").value(hasItem(DEFAULT_ONVAN_SHOGHLI)));
+
+        // Check, that the count call also returns 1
+        restSematMockMvc.perform(get("/api/semats/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultSematShouldNotBeFound(String filter) throws Exception {
+        restSematMockMvc.perform(get("/api/semats?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restSematMockMvc.perform(get("/api/semats/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingSemat() throws Exception {
@@ -2,7 +2,9 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.Shahr;
+import ir.saha.domain.Ostan;
 import ir.saha.repository.ShahrRepository;
+import ir.saha.service.ShahrQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +24,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -48,6 +51,9 @@ public class ShahrResourceIT {
     @Autowired
     private ShahrRepository shahrRepository;
 
+    @Autowired
+    private ShahrQueryService shahrQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -70,12 +76,13 @@ public class ShahrResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final ShahrResource shahrResource = new ShahrResource(shahrRepository);
+        final ShahrResource shahrResource = new ShahrResource(shahrRepository, shahrQueryService);
         this.restShahrMockMvc = MockMvcBuilders.standaloneSetup(shahrResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -188,6 +195,327 @@ public class ShahrResourceIT {
             .andExpect(jsonPath("$.masafatTaMarkaz").value(DEFAULT_MASAFAT_TA_MARKAZ));
     }
 
+    @Test
+    @Transactional
+    public void getAllShahrsByIdFiltering() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        Long id = shahr.getId();
+
+        defaultShahrShouldBeFound("id.equals=" + id);
+        defaultShahrShouldNotBeFound("id.notEquals=" + id);
+
+        defaultShahrShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultShahrShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultShahrShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultShahrShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByNameIsEqualToSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where name equals to DEFAULT_NAME
+        defaultShahrShouldBeFound("name.equals=" + DEFAULT_NAME);
+
+        // Get all the shahrList where name equals to UPDATED_NAME
+        defaultShahrShouldNotBeFound("name.equals=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByNameIsInShouldWork() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where name in DEFAULT_NAME or UPDATED_NAME
+        defaultShahrShouldBeFound("name.in=" + DEFAULT_NAME + "," + UPDATED_NAME);
+
+        // Get all the shahrList where name equals to UPDATED_NAME
+        defaultShahrShouldNotBeFound("name.in=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByNameIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where name is not null
+        defaultShahrShouldBeFound("name.specified=true");
+
+        // Get all the shahrList where name is null
+        defaultShahrShouldNotBeFound("name.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByNameContainsSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where name contains DEFAULT_NAME
+        defaultShahrShouldBeFound("name.contains=" + DEFAULT_NAME);
+
+        // Get all the shahrList where name contains UPDATED_NAME
+        defaultShahrShouldNotBeFound("name.contains=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByZaribAboHavaIsEqualToSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where zaribAboHava equals to DEFAULT_ZARIB_ABO_HAVA
+        defaultShahrShouldBeFound("zaribAboHava.equals=" + DEFAULT_ZARIB_ABO_HAVA);
+
+        // Get all the shahrList where zaribAboHava equals to UPDATED_ZARIB_ABO_HAVA
+        defaultShahrShouldNotBeFound("zaribAboHava.equals=" + UPDATED_ZARIB_ABO_HAVA);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByZaribAboHavaIsInShouldWork() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where zaribAboHava in DEFAULT_ZARIB_ABO_HAVA or UPDATED_ZARIB_ABO_HAVA
+        defaultShahrShouldBeFound("zaribAboHava.in=" + DEFAULT_ZARIB_ABO_HAVA + "," + UPDATED_ZARIB_ABO_HAVA);
+
+        // Get all the shahrList where zaribAboHava equals to UPDATED_ZARIB_ABO_HAVA
+        defaultShahrShouldNotBeFound("zaribAboHava.in=" + UPDATED_ZARIB_ABO_HAVA);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByZaribAboHavaIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where zaribAboHava is not null
+        defaultShahrShouldBeFound("zaribAboHava.specified=true");
+
+        // Get all the shahrList where zaribAboHava is null
+        defaultShahrShouldNotBeFound("zaribAboHava.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByZaribAboHavaIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where zaribAboHava is greater than or equal to DEFAULT_ZARIB_ABO_HAVA
+        defaultShahrShouldBeFound("zaribAboHava.greaterThanOrEqual=" + DEFAULT_ZARIB_ABO_HAVA);
+
+        // Get all the shahrList where zaribAboHava is greater than or equal to UPDATED_ZARIB_ABO_HAVA
+        defaultShahrShouldNotBeFound("zaribAboHava.greaterThanOrEqual=" + UPDATED_ZARIB_ABO_HAVA);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByZaribAboHavaIsLessThanSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where zaribAboHava is less than DEFAULT_ZARIB_ABO_HAVA
+        defaultShahrShouldNotBeFound("zaribAboHava.lessThan=" + DEFAULT_ZARIB_ABO_HAVA);
+
+        // Get all the shahrList where zaribAboHava is less than UPDATED_ZARIB_ABO_HAVA
+        defaultShahrShouldBeFound("zaribAboHava.lessThan=" + UPDATED_ZARIB_ABO_HAVA);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByZaribTashilatIsEqualToSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where zaribTashilat equals to DEFAULT_ZARIB_TASHILAT
+        defaultShahrShouldBeFound("zaribTashilat.equals=" + DEFAULT_ZARIB_TASHILAT);
+
+        // Get all the shahrList where zaribTashilat equals to UPDATED_ZARIB_TASHILAT
+        defaultShahrShouldNotBeFound("zaribTashilat.equals=" + UPDATED_ZARIB_TASHILAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByZaribTashilatIsInShouldWork() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where zaribTashilat in DEFAULT_ZARIB_TASHILAT or UPDATED_ZARIB_TASHILAT
+        defaultShahrShouldBeFound("zaribTashilat.in=" + DEFAULT_ZARIB_TASHILAT + "," + UPDATED_ZARIB_TASHILAT);
+
+        // Get all the shahrList where zaribTashilat equals to UPDATED_ZARIB_TASHILAT
+        defaultShahrShouldNotBeFound("zaribTashilat.in=" + UPDATED_ZARIB_TASHILAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByZaribTashilatIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where zaribTashilat is not null
+        defaultShahrShouldBeFound("zaribTashilat.specified=true");
+
+        // Get all the shahrList where zaribTashilat is null
+        defaultShahrShouldNotBeFound("zaribTashilat.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByZaribTashilatIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where zaribTashilat is greater than or equal to DEFAULT_ZARIB_TASHILAT
+        defaultShahrShouldBeFound("zaribTashilat.greaterThanOrEqual=" + DEFAULT_ZARIB_TASHILAT);
+
+        // Get all the shahrList where zaribTashilat is greater than or equal to UPDATED_ZARIB_TASHILAT
+        defaultShahrShouldNotBeFound("zaribTashilat.greaterThanOrEqual=" + UPDATED_ZARIB_TASHILAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByZaribTashilatIsLessThanSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where zaribTashilat is less than DEFAULT_ZARIB_TASHILAT
+        defaultShahrShouldNotBeFound("zaribTashilat.lessThan=" + DEFAULT_ZARIB_TASHILAT);
+
+        // Get all the shahrList where zaribTashilat is less than UPDATED_ZARIB_TASHILAT
+        defaultShahrShouldBeFound("zaribTashilat.lessThan=" + UPDATED_ZARIB_TASHILAT);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByMasafatTaMarkazIsEqualToSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where masafatTaMarkaz equals to DEFAULT_MASAFAT_TA_MARKAZ
+        defaultShahrShouldBeFound("masafatTaMarkaz.equals=" + DEFAULT_MASAFAT_TA_MARKAZ);
+
+        // Get all the shahrList where masafatTaMarkaz equals to UPDATED_MASAFAT_TA_MARKAZ
+        defaultShahrShouldNotBeFound("masafatTaMarkaz.equals=" + UPDATED_MASAFAT_TA_MARKAZ);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByMasafatTaMarkazIsInShouldWork() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where masafatTaMarkaz in DEFAULT_MASAFAT_TA_MARKAZ or UPDATED_MASAFAT_TA_MARKAZ
+        defaultShahrShouldBeFound("masafatTaMarkaz.in=" + DEFAULT_MASAFAT_TA_MARKAZ + "," + UPDATED_MASAFAT_TA_MARKAZ);
+
+        // Get all the shahrList where masafatTaMarkaz equals to UPDATED_MASAFAT_TA_MARKAZ
+        defaultShahrShouldNotBeFound("masafatTaMarkaz.in=" + UPDATED_MASAFAT_TA_MARKAZ);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByMasafatTaMarkazIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where masafatTaMarkaz is not null
+        defaultShahrShouldBeFound("masafatTaMarkaz.specified=true");
+
+        // Get all the shahrList where masafatTaMarkaz is null
+        defaultShahrShouldNotBeFound("masafatTaMarkaz.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByMasafatTaMarkazIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where masafatTaMarkaz is greater than or equal to DEFAULT_MASAFAT_TA_MARKAZ
+        defaultShahrShouldBeFound("masafatTaMarkaz.greaterThanOrEqual=" + DEFAULT_MASAFAT_TA_MARKAZ);
+
+        // Get all the shahrList where masafatTaMarkaz is greater than or equal to UPDATED_MASAFAT_TA_MARKAZ
+        defaultShahrShouldNotBeFound("masafatTaMarkaz.greaterThanOrEqual=" + UPDATED_MASAFAT_TA_MARKAZ);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByMasafatTaMarkazIsLessThanSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+
+        // Get all the shahrList where masafatTaMarkaz is less than DEFAULT_MASAFAT_TA_MARKAZ
+        defaultShahrShouldNotBeFound("masafatTaMarkaz.lessThan=" + DEFAULT_MASAFAT_TA_MARKAZ);
+
+        // Get all the shahrList where masafatTaMarkaz is less than UPDATED_MASAFAT_TA_MARKAZ
+        defaultShahrShouldBeFound("masafatTaMarkaz.lessThan=" + UPDATED_MASAFAT_TA_MARKAZ);
+    }
+
+    @Test
+    @Transactional
+    public void getAllShahrsByOstanIsEqualToSomething() throws Exception {
+        // Initialize the database
+        shahrRepository.saveAndFlush(shahr);
+        Ostan ostan = OstanResourceIT.createEntity(em);
+        em.persist(ostan);
+        em.flush();
+        shahr.setOstan(ostan);
+        shahrRepository.saveAndFlush(shahr);
+        Long ostanId = ostan.getId();
+
+        // Get all the shahrList where ostan equals to ostanId
+        defaultShahrShouldBeFound("ostanId.equals=" + ostanId);
+
+        // Get all the shahrList where ostan equals to ostanId + 1
+        defaultShahrShouldNotBeFound("ostanId.equals=" + (ostanId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultShahrShouldBeFound(String filter) throws Exception {
+        restShahrMockMvc.perform(get("/api/shahrs?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(shahr.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].zaribAboHava").value(hasItem(DEFAULT_ZARIB_ABO_HAVA)))
+            .andExpect(jsonPath("$.[*].zaribTashilat").value(hasItem(DEFAULT_ZARIB_TASHILAT)))
+            .andExpect(jsonPath("$.[*].masafatTaMarkaz").value(hasItem(DEFAULT_MASAFAT_TA_MARKAZ)));
+
+        // Check, that the count call also returns 1
+        restShahrMockMvc.perform(get("/api/shahrs/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultShahrShouldNotBeFound(String filter) throws Exception {
+        restShahrMockMvc.perform(get("/api/shahrs?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restShahrMockMvc.perform(get("/api/shahrs/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingShahr() throws Exception {
@@ -4,12 +4,16 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ir.saha.config.ApplicationProperties;
+import ir.saha.web.filter.ServerTimingFilter;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.format.support.FormattingConversionService;
 import org.springframework.http.MediaType;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.time.ZonedDateTime;
@@ -17,6 +21,7 @@ import java.time.format.DateTimeParseException;
 import java.util.List;
 
 import javax.persistence.EntityManager;
+import javax.servlet.Filter;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -143,6 +148,35 @@ public final class TestUtil {
         return dfcs;
     }
 
+    /**
+     * Create a filter counting the SQL statements of each request, for standalone MockMvc setups: requests over the
+     * {@link ir.saha.web.rest.util.QueryBudget} of their endpoint fail with a
+     * {@link ir.saha.web.filter.QueryBudgetExceededException}.
+     * <p>
+     * The test's changes are flushed and its persistence context cleared before each request, so that the request
+     * loads its entities and associations with statements of its own, as it would in a persistence context of its own.
+     * The request's changes are flushed before it ends, so that its writes are counted as they would be on commit.
+     * @param em the EntityManager shared by the test and its requests.
+     * @return the filter.
+     */
+    public static Filter createQueryBudgetFilter(EntityManager em) {
+        ApplicationProperties.RequestTiming requestTiming = new ApplicationProperties.RequestTiming();
+        requestTiming.setFailOverBudget(true);
+        ServerTimingFilter serverTimingFilter = new ServerTimingFilter(new SimpleMeterRegistry(), requestTiming);
+        return (request, response, chain) -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                em.flush();
+            }
+            em.clear();
+            serverTimingFilter.doFilter(request, response, (timedRequest, timedResponse) -> {
+                chain.doFilter(timedRequest, timedResponse);
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    em.flush();
+                }
+            });
+        };
+    }
+
     /**
      * Makes a an executes a query to the EntityManager finding all stored objects.
      * @param <T> The type of objects to be searched
@@ -0,0 +1,194 @@
+package ir.saha.web.rest;
+
+import ir.saha.SahaApp;
+import ir.saha.service.UploadService;
+import ir.saha.service.dto.UploadDTO;
+import ir.saha.service.storage.BlobStore;
+import ir.saha.web.rest.errors.ExceptionTranslator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the {@link UploadResource} REST controller.
+ */
+@SpringBootTest(classes = SahaApp.class)
+@WithMockUser("upload-user")
+public class UploadResourceIT {
+
+    private static final String CONTENT_TYPE = "application/pdf";
+
+    private static final byte[] FIRST_PART = "first part, ".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] SECOND_PART = "second part".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc restUploadMockMvc;
+
+    @BeforeEach
+    public void setup() {
+        UploadResource uploadResource = new UploadResource(uploadService);
+        this.restUploadMockMvc = MockMvcBuilders.standaloneSetup(uploadResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setMessageConverters(jacksonMessageConverter)
+            .build();
+    }
+
+    @Test
+    public void initiateUpload() throws Exception {
+        UploadDTO uploadDTO = new UploadDTO();
+        uploadDTO.setContentType(CONTENT_TYPE);
+
+        restUploadMockMvc.perform(post("/api/uploads")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(uploadDTO)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").isNotEmpty())
+            .andExpect(jsonPath("$.contentType").value(CONTENT_TYPE))
+            .andExpect(jsonPath("$.nextPart").value(1))
+            .andExpect(jsonPath("$.size").value(0));
+    }
+
+    @Test
+    public void uploadPartsAndComplete() throws Exception {
+        String uploadId = initiate();
+
+        putPart(uploadId, 1, FIRST_PART)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.nextPart").value(2))
+            .andExpect(jsonPath("$.size").value(FIRST_PART.length));
+        putPart(uploadId, 2, SECOND_PART)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.nextPart").value(3))
+            .andExpect(jsonPath("$.size").value(FIRST_PART.length + SECOND_PART.length));
+
+        UploadDTO completed = uploadService.complete(uploadId);
+        assertThat(completed.getContentType()).isEqualTo(CONTENT_TYPE);
+        assertThat(new String(blobStore.read(completed.getHash()).get(), StandardCharsets.UTF_8))
+            .isEqualTo("first part, second part");
+        assertThat(completed.getHash()).isEqualTo(blobStore.put("first part, second part".getBytes(StandardCharsets.UTF_8)).getHash());
+    }
+
+    @Test
+    public void resendLastPartReplacesIt() throws Exception {
+        String uploadId = initiate();
+        putPart(uploadId, 1, FIRST_PART).andExpect(status().isOk());
+        putPart(uploadId, 2, "truncated".getBytes(StandardCharsets.UTF_8)).andExpect(status().isOk());
+
+        // The client resumes by sending the second part again
+        putPart(uploadId, 2, SECOND_PART)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.nextPart").value(3))
+            .andExpect(jsonPath("$.size").value(FIRST_PART.length + SECOND_PART.length));
+
+        UploadDTO completed = uploadService.complete(uploadId);
+        assertThat(new String(blobStore.read(completed.getHash()).get(), StandardCharsets.UTF_8))
+            .isEqualTo("first part, second part");
+    }
+
+    @Test
+    public void putPartOutOfOrder() throws Exception {
+        String uploadId = initiate();
+
+        putPart(uploadId, 2, SECOND_PART)
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("error.uploadPartOutOfOrder"))
+            .andExpect(jsonPath("$.expectedPart").value(1));
+    }
+
+    @Test
+    public void getUpload() throws Exception {
+        String uploadId = initiate();
+        putPart(uploadId, 1, FIRST_PART).andExpect(status().isOk());
+
+        restUploadMockMvc.perform(get("/api/uploads/{uploadId}", uploadId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(uploadId))
+            .andExpect(jsonPath("$.nextPart").value(2))
+            .andExpect(jsonPath("$.size").value(FIRST_PART.length));
+    }
+
+    @Test
+    public void getNonExistingUpload() throws Exception {
+        restUploadMockMvc.perform(get("/api/uploads/{uploadId}", "00000000-0000-0000-0000-000000000000"))
+            .andExpect(status().isNotFound());
+        restUploadMockMvc.perform(get("/api/uploads/{uploadId}", "not-an-upload"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void putPartOfOtherUsersUpload() throws Exception {
+        String uploadId = initiate();
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken("other-user", "other-user"));
+        SecurityContextHolder.setContext(context);
+
+        putPart(uploadId, 1, FIRST_PART)
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void abortUpload() throws Exception {
+        String uploadId = initiate();
+        putPart(uploadId, 1, FIRST_PART).andExpect(status().isOk());
+
+        restUploadMockMvc.perform(delete("/api/uploads/{uploadId}", uploadId))
+            .andExpect(status().isNoContent());
+
+        restUploadMockMvc.perform(get("/api/uploads/{uploadId}", uploadId))
+            .andExpect(status().isNotFound());
+        putPart(uploadId, 2, SECOND_PART)
+            .andExpect(status().isNotFound());
+    }
+
+    private String initiate() throws Exception {
+        UploadDTO uploadDTO = new UploadDTO();
+        uploadDTO.setContentType(CONTENT_TYPE);
+        MvcResult result = restUploadMockMvc.perform(post("/api/uploads")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(uploadDTO)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsByteArray(), UploadDTO.class).getId();
+    }
+
+    private ResultActions putPart(String uploadId, int partNumber, byte[] content) throws Exception {
+        return restUploadMockMvc.perform(put("/api/uploads/{uploadId}/parts/{partNumber}", uploadId, partNumber)
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .content(content));
+    }
+}
@@ -1,18 +1,30 @@
 package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
+import ir.saha.config.ApplicationProperties;
 import ir.saha.domain.User;
 import ir.saha.repository.UserRepository;
+import ir.saha.security.LoginThrottle;
+import ir.saha.service.CachedUserService;
+import ir.saha.service.UserService;
+import ir.saha.service.dto.PasswordChangeDTO;
 import ir.saha.web.rest.vm.LoginVM;
+import ir.saha.web.rest.vm.RefreshTokenVM;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -32,12 +44,28 @@ public class UserJWTControllerIT {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserService userService;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @BeforeEach
+    public void setup() {
+        cacheManager.getCache(CachedUserService.USERS_BY_LOGIN_CACHE).clear();
+        cacheManager.getCache(CachedUserService.USERS_BY_EMAIL_CACHE).clear();
+        cacheManager.getCache(LoginThrottle.LOGIN_ATTEMPTS_CACHE).clear();
+    }
+
     @Test
     @Transactional
     public void testAuthorize() throws Exception {
@@ -58,6 +86,8 @@ public class UserJWTControllerIT {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id_token").isString())
             .andExpect(jsonPath("$.id_token").isNotEmpty())
+            .andExpect(jsonPath("$.refresh_token").isNotEmpty())
+            .andExpect(jsonPath("$.expires_in").isNumber())
             .andExpect(header().string("Authorization", not(nullValue())))
             .andExpect(header().string("Authorization", not(is(emptyString()))));
     }
@@ -83,6 +113,8 @@ public class UserJWTControllerIT {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id_token").isString())
             .andExpect(jsonPath("$.id_token").isNotEmpty())
+            .andExpect(jsonPath("$.refresh_token").isNotEmpty())
+            .andExpect(jsonPath("$.expires_in").isNumber())
             .andExpect(header().string("Authorization", not(nullValue())))
             .andExpect(header().string("Authorization", not(is(emptyString()))));
     }
@@ -99,4 +131,152 @@ public class UserJWTControllerIT {
             .andExpect(jsonPath("$.id_token").doesNotExist())
             .andExpect(header().doesNotExist("Authorization"));
     }
+
+    @Test
+    public void testAuthorizeIsThrottledPerLogin() throws Exception {
+        LoginVM login = new LoginVM();
+        login.setUsername("throttled-user");
+        login.setPassword("wrong password");
+        int capacity = applicationProperties.getSecurity().getLoginThrottle().getPerLogin().getCapacity();
+        for (int i = 0; i < capacity; i++) {
+            mockMvc.perform(post("/api/authenticate")
+                .contentType(TestUtil.APPLICATION_JSON)
+                .content(TestUtil.convertObjectToJsonBytes(login)))
+                .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/authenticate")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(login)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(jsonPath("$.id_token").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    public void testRefreshRotatesTheRefreshToken() throws Exception {
+        String refreshToken = JsonPath.read(authenticate("user-jwt-controller-refresh"), "$.refresh_token");
+
+        String refreshed = refresh(refreshToken)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id_token").isNotEmpty())
+            .andExpect(jsonPath("$.refresh_token").value(not(refreshToken)))
+            .andExpect(header().string("Authorization", not(nullValue())))
+            .andReturn().getResponse().getContentAsString();
+
+        refresh(JsonPath.read(refreshed, "$.refresh_token"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testRefreshTokenReuseRevokesTheSession() throws Exception {
+        try {
+            String refreshToken = JsonPath.read(authenticate("user-jwt-controller-reuse"), "$.refresh_token");
+            String refreshed = refresh(refreshToken)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+            refresh(refreshToken)
+                .andExpect(status().isUnauthorized());
+
+            refresh(JsonPath.read(refreshed, "$.refresh_token"))
+                .andExpect(status().isUnauthorized());
+            mockMvc.perform(get("/api/account")
+                .header("Authorization", "Bearer " + JsonPath.read(refreshed, "$.id_token")))
+                .andExpect(status().isUnauthorized());
+        } finally {
+            userService.deleteUser("user-jwt-controller-reuse");
+        }
+    }
+
+    @Test
+    public void testRevokeEndsTheSession() throws Exception {
+        try {
+            String tokens = authenticate("user-jwt-controller-revoke");
+            String accessToken = JsonPath.read(tokens, "$.id_token");
+            mockMvc.perform(get("/api/account")
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+            RefreshTokenVM refreshTokenVM = new RefreshTokenVM();
+            refreshTokenVM.setRefreshToken(JsonPath.read(tokens, "$.refresh_token"));
+            mockMvc.perform(post("/api/authenticate/revoke")
+                .contentType(TestUtil.APPLICATION_JSON)
+                .content(TestUtil.convertObjectToJsonBytes(refreshTokenVM)))
+                .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/api/account")
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized());
+            refresh(refreshTokenVM.getRefreshToken())
+                .andExpect(status().isUnauthorized());
+        } finally {
+            userService.deleteUser("user-jwt-controller-revoke");
+        }
+    }
+
+    @Test
+    public void testChangePasswordRevokesTheOtherSessions() throws Exception {
+        try {
+            String current = authenticate("user-jwt-controller-change-password");
+            String other = login("user-jwt-controller-change-password");
+
+            mockMvc.perform(post("/api/account/change-password")
+                .header("Authorization", "Bearer " + JsonPath.read(current, "$.id_token"))
+                .contentType(TestUtil.APPLICATION_JSON)
+                .content(TestUtil.convertObjectToJsonBytes(new PasswordChangeDTO("test", "new password"))))
+                .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/account")
+                .header("Authorization", "Bearer " + JsonPath.read(other, "$.id_token")))
+                .andExpect(status().isUnauthorized());
+            refresh(JsonPath.read(other, "$.refresh_token"))
+                .andExpect(status().isUnauthorized());
+
+            mockMvc.perform(get("/api/account")
+                .header("Authorization", "Bearer " + JsonPath.read(current, "$.id_token")))
+                .andExpect(status().isOk());
+            refresh(JsonPath.read(current, "$.refresh_token"))
+                .andExpect(status().isOk());
+        } finally {
+            userService.deleteUser("user-jwt-controller-change-password");
+        }
+    }
+
+    @Test
+    public void testRefreshFailsWithUnknownToken() throws Exception {
+        refresh("unknown-refresh-token")
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.id_token").doesNotExist());
+    }
+
+    private String authenticate(String username) throws Exception {
+        User user = new User();
+        user.setLogin(username);
+        user.setEmail(username + "@example.com");
+        user.setActivated(true);
+        user.setPassword(passwordEncoder.encode("test"));
+        userRepository.saveAndFlush(user);
+        return login(username);
+    }
+
+    private String login(String username) throws Exception {
+        LoginVM login = new LoginVM();
+        login.setUsername(username);
+        login.setPassword("test");
+        return mockMvc.perform(post("/api/authenticate")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(login)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        RefreshTokenVM refreshTokenVM = new RefreshTokenVM();
+        refreshTokenVM.setRefreshToken(refreshToken);
+        return mockMvc.perform(post("/api/authenticate/refresh")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(refreshTokenVM)));
+    }
 }
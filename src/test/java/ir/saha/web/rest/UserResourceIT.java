@@ -5,6 +5,7 @@ import ir.saha.domain.Authority;
 import ir.saha.domain.User;
 import ir.saha.repository.UserRepository;
 import ir.saha.security.AuthoritiesConstants;
+import ir.saha.service.CachedUserService;
 import ir.saha.service.dto.UserDTO;
 import ir.saha.service.mapper.UserMapper;
 import ir.saha.web.rest.vm.ManagedUserVM;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -70,6 +72,9 @@ public class UserResourceIT {
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @Autowired
     private MockMvc restUserMockMvc;
 
@@ -96,6 +101,8 @@ public class UserResourceIT {
 
     @BeforeEach
     public void initTest() {
+        cacheManager.getCache(CachedUserService.USERS_BY_LOGIN_CACHE).clear();
+        cacheManager.getCache(CachedUserService.USERS_BY_EMAIL_CACHE).clear();
         user = createEntity(em);
         user.setLogin(DEFAULT_LOGIN);
         user.setEmail(DEFAULT_EMAIL);
@@ -244,6 +251,8 @@ public class UserResourceIT {
         // Initialize the database
         userRepository.saveAndFlush(user);
 
+        assertThat(cacheManager.getCache(CachedUserService.USERS_BY_LOGIN_CACHE).get(user.getLogin())).isNull();
+
         // Get the user
         restUserMockMvc.perform(get("/api/users/{login}", user.getLogin()))
             .andExpect(status().isOk())
@@ -255,6 +264,7 @@ public class UserResourceIT {
             .andExpect(jsonPath("$.imageUrl").value(DEFAULT_IMAGEURL))
             .andExpect(jsonPath("$.langKey").value(DEFAULT_LANGKEY));
 
+        assertThat(cacheManager.getCache(CachedUserService.USERS_BY_LOGIN_CACHE).get(user.getLogin())).isNotNull();
     }
 
     @Test
@@ -2,7 +2,10 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.YeganCode;
+import ir.saha.domain.Yegan;
+import ir.saha.domain.NirooCode;
 import ir.saha.repository.YeganCodeRepository;
+import ir.saha.service.YeganCodeQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +25,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +46,9 @@ public class YeganCodeResourceIT {
     @Autowired
     private YeganCodeRepository yeganCodeRepository;
 
+    @Autowired
+    private YeganCodeQueryService yeganCodeQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -64,12 +71,13 @@ public class YeganCodeResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final YeganCodeResource yeganCodeResource = new YeganCodeResource(yeganCodeRepository);
+        final YeganCodeResource yeganCodeResource = new YeganCodeResource(yeganCodeRepository, yeganCodeQueryService);
         this.restYeganCodeMockMvc = MockMvcBuilders.standaloneSetup(yeganCodeResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -172,6 +180,201 @@ public class YeganCodeResourceIT {
             .andExpect(jsonPath("$.code").value(DEFAULT_CODE));
     }
 
+    @Test
+    @Transactional
+    public void getAllYeganCodesByIdFiltering() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+
+        Long id = yeganCode.getId();
+
+        defaultYeganCodeShouldBeFound("id.equals=" + id);
+        defaultYeganCodeShouldNotBeFound("id.notEquals=" + id);
+
+        defaultYeganCodeShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultYeganCodeShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultYeganCodeShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultYeganCodeShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganCodesByNameIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+
+        // Get all the yeganCodeList where name equals to DEFAULT_NAME
+        defaultYeganCodeShouldBeFound("name.equals=" + DEFAULT_NAME);
+
+        // Get all the yeganCodeList where name equals to UPDATED_NAME
+        defaultYeganCodeShouldNotBeFound("name.equals=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganCodesByNameIsInShouldWork() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+
+        // Get all the yeganCodeList where name in DEFAULT_NAME or UPDATED_NAME
+        defaultYeganCodeShouldBeFound("name.in=" + DEFAULT_NAME + "," + UPDATED_NAME);
+
+        // Get all the yeganCodeList where name equals to UPDATED_NAME
+        defaultYeganCodeShouldNotBeFound("name.in=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganCodesByNameIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+
+        // Get all the yeganCodeList where name is not null
+        defaultYeganCodeShouldBeFound("name.specified=true");
+
+        // Get all the yeganCodeList where name is null
+        defaultYeganCodeShouldNotBeFound("name.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganCodesByNameContainsSomething() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+
+        // Get all the yeganCodeList where name contains DEFAULT_NAME
+        defaultYeganCodeShouldBeFound("name.contains=" + DEFAULT_NAME);
+
+        // Get all the yeganCodeList where name contains UPDATED_NAME
+        defaultYeganCodeShouldNotBeFound("name.contains=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganCodesByCodeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+
+        // Get all the yeganCodeList where code equals to DEFAULT_CODE
+        defaultYeganCodeShouldBeFound("code.equals=" + DEFAULT_CODE);
+
+        // Get all the yeganCodeList where code equals to UPDATED_CODE
+        defaultYeganCodeShouldNotBeFound("code.equals=" + UPDATED_CODE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganCodesByCodeIsInShouldWork() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+
+        // Get all the yeganCodeList where code in DEFAULT_CODE or UPDATED_CODE
+        defaultYeganCodeShouldBeFound("code.in=" + DEFAULT_CODE + "," + UPDATED_CODE);
+
+        // Get all the yeganCodeList where code equals to UPDATED_CODE
+        defaultYeganCodeShouldNotBeFound("code.in=" + UPDATED_CODE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganCodesByCodeIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+
+        // Get all the yeganCodeList where code is not null
+        defaultYeganCodeShouldBeFound("code.specified=true");
+
+        // Get all the yeganCodeList where code is null
+        defaultYeganCodeShouldNotBeFound("code.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganCodesByCodeContainsSomething() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+
+        // Get all the yeganCodeList where code contains DEFAULT_CODE
+        defaultYeganCodeShouldBeFound("code.contains=" + DEFAULT_CODE);
+
+        // Get all the yeganCodeList where code contains UPDATED_CODE
+        defaultYeganCodeShouldNotBeFound("code.contains=" + UPDATED_CODE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganCodesByYeganIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+        Yegan yegan = YeganResourceIT.createEntity(em);
+        em.persist(yegan);
+        em.flush();
+        yeganCode.setYegan(yegan);
+        yeganCodeRepository.saveAndFlush(yeganCode);
+        Long yeganId = yegan.getId();
+
+        // Get all the yeganCodeList where yegan equals to yeganId
+        defaultYeganCodeShouldBeFound("yeganId.equals=" + yeganId);
+
+        // Get all the yeganCodeList where yegan equals to yeganId + 1
+        defaultYeganCodeShouldNotBeFound("yeganId.equals=" + (yeganId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganCodesByNirooCodeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganCodeRepository.saveAndFlush(yeganCode);
+        NirooCode nirooCode = NirooCodeResourceIT.createEntity(em);
+        em.persist(nirooCode);
+        em.flush();
+        yeganCode.setNirooCode(nirooCode);
+        yeganCodeRepository.saveAndFlush(yeganCode);
+        Long nirooCodeId = nirooCode.getId();
+
+        // Get all the yeganCodeList where nirooCode equals to nirooCodeId
+        defaultYeganCodeShouldBeFound("nirooCodeId.equals=" + nirooCodeId);
+
+        // Get all the yeganCodeList where nirooCode equals to nirooCodeId + 1
+        defaultYeganCodeShouldNotBeFound("nirooCodeId.equals=" + (nirooCodeId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultYeganCodeShouldBeFound(String filter) throws Exception {
+        restYeganCodeMockMvc.perform(get("/api/yegan-codes?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(yeganCode.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].code").value(hasItem(DEFAULT_CODE)));
+
+        // Check, that the count call also returns 1
+        restYeganCodeMockMvc.perform(get("/api/yegan-codes/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultYeganCodeShouldNotBeFound(String filter) throws Exception {
+        restYeganCodeMockMvc.perform(get("/api/yegan-codes?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restYeganCodeMockMvc.perform(get("/api/yegan-codes/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingYeganCode() throws Exception {
@@ -2,7 +2,13 @@ package ir.saha.web.rest;
 
 import ir.saha.SahaApp;
 import ir.saha.domain.Yegan;
+import ir.saha.domain.YeganCode;
+import ir.saha.domain.NirooCode;
+import ir.saha.domain.Shahr;
+import ir.saha.domain.YeganType;
 import ir.saha.repository.YeganRepository;
+import ir.saha.service.YeganHierarchyService;
+import ir.saha.service.YeganQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +17,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
@@ -22,11 +27,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.Validator;
 
 import javax.persistence.EntityManager;
-import java.util.ArrayList;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -50,6 +56,12 @@ public class YeganResourceIT {
     @Mock
     private YeganRepository yeganRepositoryMock;
 
+    @Autowired
+    private YeganQueryService yeganQueryService;
+
+    @Autowired
+    private YeganHierarchyService yeganHierarchyService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -72,12 +84,13 @@ public class YeganResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final YeganResource yeganResource = new YeganResource(yeganRepository);
+        final YeganResource yeganResource = new YeganResource(yeganRepository, yeganQueryService, yeganHierarchyService);
         this.restYeganMockMvc = MockMvcBuilders.standaloneSetup(yeganResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -167,8 +180,7 @@ public class YeganResourceIT {
     
     @SuppressWarnings({"unchecked"})
     public void getAllYegansWithEagerRelationshipsIsEnabled() throws Exception {
-        YeganResource yeganResource = new YeganResource(yeganRepositoryMock);
-        when(yeganRepositoryMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        YeganResource yeganResource = new YeganResource(yeganRepositoryMock, yeganQueryService, yeganHierarchyService);
 
         MockMvc restYeganMockMvc = MockMvcBuilders.standaloneSetup(yeganResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
@@ -179,13 +191,12 @@ public class YeganResourceIT {
         restYeganMockMvc.perform(get("/api/yegans?eagerload=true"))
         .andExpect(status().isOk());
 
-        verify(yeganRepositoryMock, times(1)).findAllWithEagerRelationships(any());
+        verify(yeganRepositoryMock, times(1)).fetchEagerRelationships(any());
     }
 
     @SuppressWarnings({"unchecked"})
     public void getAllYegansWithEagerRelationshipsIsNotEnabled() throws Exception {
-        YeganResource yeganResource = new YeganResource(yeganRepositoryMock);
-            when(yeganRepositoryMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        YeganResource yeganResource = new YeganResource(yeganRepositoryMock, yeganQueryService, yeganHierarchyService);
             MockMvc restYeganMockMvc = MockMvcBuilders.standaloneSetup(yeganResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -195,7 +206,7 @@ public class YeganResourceIT {
         restYeganMockMvc.perform(get("/api/yegans?eagerload=true"))
         .andExpect(status().isOk());
 
-            verify(yeganRepositoryMock, times(1)).findAllWithEagerRelationships(any());
+            verify(yeganRepositoryMock, times(1)).fetchEagerRelationships(any());
     }
 
     @Test
@@ -213,6 +224,238 @@ public class YeganResourceIT {
             .andExpect(jsonPath("$.code").value(DEFAULT_CODE));
     }
 
+    @Test
+    @Transactional
+    public void getAllYegansByIdFiltering() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+
+        Long id = yegan.getId();
+
+        defaultYeganShouldBeFound("id.equals=" + id);
+        defaultYeganShouldNotBeFound("id.notEquals=" + id);
+
+        defaultYeganShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultYeganShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultYeganShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultYeganShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByNameIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+
+        // Get all the yeganList where name equals to DEFAULT_NAME
+        defaultYeganShouldBeFound("name.equals=" + DEFAULT_NAME);
+
+        // Get all the yeganList where name equals to UPDATED_NAME
+        defaultYeganShouldNotBeFound("name.equals=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByNameIsInShouldWork() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+
+        // Get all the yeganList where name in DEFAULT_NAME or UPDATED_NAME
+        defaultYeganShouldBeFound("name.in=" + DEFAULT_NAME + "," + UPDATED_NAME);
+
+        // Get all the yeganList where name equals to UPDATED_NAME
+        defaultYeganShouldNotBeFound("name.in=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByNameIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+
+        // Get all the yeganList where name is not null
+        defaultYeganShouldBeFound("name.specified=true");
+
+        // Get all the yeganList where name is null
+        defaultYeganShouldNotBeFound("name.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByNameContainsSomething() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+
+        // Get all the yeganList where name contains DEFAULT_NAME
+        defaultYeganShouldBeFound("name.contains=" + DEFAULT_NAME);
+
+        // Get all the yeganList where name contains UPDATED_NAME
+        defaultYeganShouldNotBeFound("name.contains=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByCodeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+
+        // Get all the yeganList where code equals to DEFAULT_CODE
+        defaultYeganShouldBeFound("code.equals=" + DEFAULT_CODE);
+
+        // Get all the yeganList where code equals to UPDATED_CODE
+        defaultYeganShouldNotBeFound("code.equals=" + UPDATED_CODE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByCodeIsInShouldWork() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+
+        // Get all the yeganList where code in DEFAULT_CODE or UPDATED_CODE
+        defaultYeganShouldBeFound("code.in=" + DEFAULT_CODE + "," + UPDATED_CODE);
+
+        // Get all the yeganList where code equals to UPDATED_CODE
+        defaultYeganShouldNotBeFound("code.in=" + UPDATED_CODE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByCodeIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+
+        // Get all the yeganList where code is not null
+        defaultYeganShouldBeFound("code.specified=true");
+
+        // Get all the yeganList where code is null
+        defaultYeganShouldNotBeFound("code.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByCodeContainsSomething() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+
+        // Get all the yeganList where code contains DEFAULT_CODE
+        defaultYeganShouldBeFound("code.contains=" + DEFAULT_CODE);
+
+        // Get all the yeganList where code contains UPDATED_CODE
+        defaultYeganShouldNotBeFound("code.contains=" + UPDATED_CODE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByYeganCodeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+        YeganCode yeganCode = YeganCodeResourceIT.createEntity(em);
+        yeganCode.setYegan(yegan);
+        em.persist(yeganCode);
+        em.flush();
+        Long yeganCodeId = yeganCode.getId();
+
+        // Get all the yeganList where yeganCode equals to yeganCodeId
+        defaultYeganShouldBeFound("yeganCodeId.equals=" + yeganCodeId);
+
+        // Get all the yeganList where yeganCode equals to yeganCodeId + 1
+        defaultYeganShouldNotBeFound("yeganCodeId.equals=" + (yeganCodeId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByNirooCodeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+        NirooCode nirooCode = NirooCodeResourceIT.createEntity(em);
+        em.persist(nirooCode);
+        em.flush();
+        yegan.setNirooCode(nirooCode);
+        yeganRepository.saveAndFlush(yegan);
+        Long nirooCodeId = nirooCode.getId();
+
+        // Get all the yeganList where nirooCode equals to nirooCodeId
+        defaultYeganShouldBeFound("nirooCodeId.equals=" + nirooCodeId);
+
+        // Get all the yeganList where nirooCode equals to nirooCodeId + 1
+        defaultYeganShouldNotBeFound("nirooCodeId.equals=" + (nirooCodeId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByShahrIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+        Shahr shahr = ShahrResourceIT.createEntity(em);
+        em.persist(shahr);
+        em.flush();
+        yegan.setShahr(shahr);
+        yeganRepository.saveAndFlush(yegan);
+        Long shahrId = shahr.getId();
+
+        // Get all the yeganList where shahr equals to shahrId
+        defaultYeganShouldBeFound("shahrId.equals=" + shahrId);
+
+        // Get all the yeganList where shahr equals to shahrId + 1
+        defaultYeganShouldNotBeFound("shahrId.equals=" + (shahrId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllYegansByYeganTypeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganRepository.saveAndFlush(yegan);
+        YeganType yeganType = YeganTypeResourceIT.createEntity(em);
+        em.persist(yeganType);
+        em.flush();
+        yegan.setYeganType(yeganType);
+        yeganRepository.saveAndFlush(yegan);
+        Long yeganTypeId = yeganType.getId();
+
+        // Get all the yeganList where yeganType equals to yeganTypeId
+        defaultYeganShouldBeFound("yeganTypeId.equals=" + yeganTypeId);
+
+        // Get all the yeganList where yeganType equals to yeganTypeId + 1
+        defaultYeganShouldNotBeFound("yeganTypeId.equals=" + (yeganTypeId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultYeganShouldBeFound(String filter) throws Exception {
+        restYeganMockMvc.perform(get("/api/yegans?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(yegan.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].code").value(hasItem(DEFAULT_CODE)));
+
+        // Check, that the count call also returns 1
+        restYeganMockMvc.perform(get("/api/yegans/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultYeganShouldNotBeFound(String filter) throws Exception {
+        restYeganMockMvc.perform(get("/api/yegans?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restYeganMockMvc.perform(get("/api/yegans/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingYegan() throws Exception {
@@ -285,4 +528,136 @@ public class YeganResourceIT {
         List<Yegan> yeganList = yeganRepository.findAll();
         assertThat(yeganList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    @Transactional
+    public void getYeganSubtreeAndAncestors() throws Exception {
+        // Initialize the database with a three level hierarchy
+        Yegan leaf = createHierarchy();
+        Yegan mid = leaf.getYegans().iterator().next();
+        Yegan root = mid.getYegans().iterator().next();
+
+        restYeganMockMvc.perform(get("/api/yegans/{id}/subtree", root.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(jsonPath("$.[*].id").value(contains(mid.getId().intValue(), leaf.getId().intValue())));
+        restYeganMockMvc.perform(get("/api/yegans/{id}/subtree?maxDepth=1", root.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(mid.getId().intValue())));
+        restYeganMockMvc.perform(get("/api/yegans/{id}/subtree", leaf.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+
+        restYeganMockMvc.perform(get("/api/yegans/{id}/ancestors", leaf.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(mid.getId().intValue(), root.getId().intValue())));
+        restYeganMockMvc.perform(get("/api/yegans/{id}/ancestors?maxDepth=1", leaf.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(mid.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    public void getNonExistingYeganSubtree() throws Exception {
+        restYeganMockMvc.perform(get("/api/yegans/{id}/subtree", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+        restYeganMockMvc.perform(get("/api/yegans/{id}/ancestors", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    public void updateYeganMovesItsSubtree() throws Exception {
+        Yegan leaf = createHierarchy();
+        Yegan mid = leaf.getYegans().iterator().next();
+        Yegan root = mid.getYegans().iterator().next();
+        Yegan other = yeganRepository.saveAndFlush(createEntity(em));
+        yeganHierarchyService.updateHierarchy(other);
+
+        // Move mid, and the leaf below it, from root to other
+        restYeganMockMvc.perform(put("/api/yegans")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(detachedYegan(root))))
+            .andExpect(status().isOk());
+        restYeganMockMvc.perform(put("/api/yegans")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(detachedYegan(other, mid))))
+            .andExpect(status().isOk());
+
+        restYeganMockMvc.perform(get("/api/yegans/{id}/subtree", root.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+        restYeganMockMvc.perform(get("/api/yegans/{id}/subtree", other.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(mid.getId().intValue(), leaf.getId().intValue())));
+        restYeganMockMvc.perform(get("/api/yegans/{id}/ancestors", leaf.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(mid.getId().intValue(), other.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    public void updateYeganBelowItself() throws Exception {
+        Yegan leaf = createHierarchy();
+        Yegan mid = leaf.getYegans().iterator().next();
+        Yegan root = mid.getYegans().iterator().next();
+
+        // Putting root below the leaf would close a cycle
+        restYeganMockMvc.perform(put("/api/yegans")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(detachedYegan(leaf, root))))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.hierarchycycle"));
+        restYeganMockMvc.perform(put("/api/yegans")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(detachedYegan(leaf, leaf))))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    public void deleteYeganRemovesItFromHierarchy() throws Exception {
+        Yegan leaf = createHierarchy();
+        Yegan mid = leaf.getYegans().iterator().next();
+        Yegan root = mid.getYegans().iterator().next();
+
+        restYeganMockMvc.perform(delete("/api/yegans/{id}", root.getId())
+            .accept(TestUtil.APPLICATION_JSON))
+            .andExpect(status().isNoContent());
+
+        restYeganMockMvc.perform(get("/api/yegans/{id}/ancestors", leaf.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(mid.getId().intValue())));
+    }
+
+    /**
+     * Create a root, mid and leaf yegans linked in a chain, through the hierarchy service.
+     *
+     * @return the leaf, linked to its ancestors through {@link Yegan#getYegans()}.
+     */
+    private Yegan createHierarchy() {
+        Yegan leaf = yeganRepository.saveAndFlush(createEntity(em));
+        yeganHierarchyService.updateHierarchy(leaf);
+        Yegan mid = yeganRepository.saveAndFlush(createEntity(em).addZirYegan(leaf));
+        yeganHierarchyService.updateHierarchy(mid);
+        Yegan root = yeganRepository.saveAndFlush(createEntity(em).addZirYegan(mid));
+        yeganHierarchyService.updateHierarchy(root);
+        return leaf;
+    }
+
+    /**
+     * Copy a yegan as it would be sent by a client, with the given zirYegans.
+     */
+    private static Yegan detachedYegan(Yegan yegan, Yegan... zirYegans) {
+        Yegan detached = new Yegan()
+            .name(yegan.getName())
+            .code(yegan.getCode());
+        detached.setId(yegan.getId());
+        for (Yegan zirYegan : zirYegans) {
+            Yegan reference = new Yegan();
+            reference.setId(zirYegan.getId());
+            detached.addZirYegan(reference);
+        }
+        return detached;
+    }
 }
@@ -3,6 +3,7 @@ package ir.saha.web.rest;
 import ir.saha.SahaApp;
 import ir.saha.domain.YeganType;
 import ir.saha.repository.YeganTypeRepository;
+import ir.saha.service.YeganTypeQueryService;
 import ir.saha.web.rest.errors.ExceptionTranslator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 
 import static ir.saha.web.rest.TestUtil.createFormattingConversionService;
+import static ir.saha.web.rest.TestUtil.createQueryBudgetFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -39,6 +41,9 @@ public class YeganTypeResourceIT {
     @Autowired
     private YeganTypeRepository yeganTypeRepository;
 
+    @Autowired
+    private YeganTypeQueryService yeganTypeQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -61,12 +66,13 @@ public class YeganTypeResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final YeganTypeResource yeganTypeResource = new YeganTypeResource(yeganTypeRepository);
+        final YeganTypeResource yeganTypeResource = new YeganTypeResource(yeganTypeRepository, yeganTypeQueryService);
         this.restYeganTypeMockMvc = MockMvcBuilders.standaloneSetup(yeganTypeResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
             .setMessageConverters(jacksonMessageConverter)
+            .addFilters(createQueryBudgetFilter(em))
             .setValidator(validator).build();
     }
 
@@ -164,6 +170,110 @@ public class YeganTypeResourceIT {
             .andExpect(jsonPath("$.name").value(DEFAULT_NAME));
     }
 
+    @Test
+    @Transactional
+    public void getAllYeganTypesByIdFiltering() throws Exception {
+        // Initialize the database
+        yeganTypeRepository.saveAndFlush(yeganType);
+
+        Long id = yeganType.getId();
+
+        defaultYeganTypeShouldBeFound("id.equals=" + id);
+        defaultYeganTypeShouldNotBeFound("id.notEquals=" + id);
+
+        defaultYeganTypeShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultYeganTypeShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultYeganTypeShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultYeganTypeShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganTypesByNameIsEqualToSomething() throws Exception {
+        // Initialize the database
+        yeganTypeRepository.saveAndFlush(yeganType);
+
+        // Get all the yeganTypeList where name equals to DEFAULT_NAME
+        defaultYeganTypeShouldBeFound("name.equals=" + DEFAULT_NAME);
+
+        // Get all the yeganTypeList where name equals to UPDATED_NAME
+        defaultYeganTypeShouldNotBeFound("name.equals=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganTypesByNameIsInShouldWork() throws Exception {
+        // Initialize the database
+        yeganTypeRepository.saveAndFlush(yeganType);
+
+        // Get all the yeganTypeList where name in DEFAULT_NAME or UPDATED_NAME
+        defaultYeganTypeShouldBeFound("name.in=" + DEFAULT_NAME + "," + UPDATED_NAME);
+
+        // Get all the yeganTypeList where name equals to UPDATED_NAME
+        defaultYeganTypeShouldNotBeFound("name.in=" + UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganTypesByNameIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        yeganTypeRepository.saveAndFlush(yeganType);
+
+        // Get all the yeganTypeList where name is not null
+        defaultYeganTypeShouldBeFound("name.specified=true");
+
+        // Get all the yeganTypeList where name is null
+        defaultYeganTypeShouldNotBeFound("name.specified=false");
+    }
+
+    @Test
+    @Transactional
+    public void getAllYeganTypesByNameContainsSomething() throws Exception {
+        // Initialize the database
+        yeganTypeRepository.saveAndFlush(yeganType);
+
+        // Get all the yeganTypeList where name contains DEFAULT_NAME
+        defaultYeganTypeShouldBeFound("name.contains=" + DEFAULT_NAME);
+
+        // Get all the yeganTypeList where name contains UPDATED_NAME
+        defaultYeganTypeShouldNotBeFound("name.contains=" + UPDATED_NAME);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultYeganTypeShouldBeFound(String filter) throws Exception {
+        restYeganTypeMockMvc.perform(get("/api/yegan-types?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(yeganType.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)));
+
+        // Check, that the count call also returns 1
+        restYeganTypeMockMvc.perform(get("/api/yegan-types/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultYeganTypeShouldNotBeFound(String filter) throws Exception {
+        restYeganTypeMockMvc.perform(get("/api/yegan-types?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restYeganTypeMockMvc.perform(get("/api/yegan-types/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     public void getNonExistingYeganType() throws Exception {
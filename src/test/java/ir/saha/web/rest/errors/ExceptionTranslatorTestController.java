@@ -1,5 +1,8 @@
 package ir.saha.web.rest.errors;
 
+import ir.saha.security.PasswordHashingUnavailableException;
+import ir.saha.security.TooManyLoginAttemptsException;
+
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
@@ -30,6 +33,16 @@ public class ExceptionTranslatorTestController {
     public void missingServletRequestParameterException(@RequestParam String param) {
     }
 
+    @GetMapping("/too-many-login-attempts")
+    public void tooManyLoginAttempts() {
+        throw new TooManyLoginAttemptsException(42);
+    }
+
+    @GetMapping("/password-hashing-unavailable")
+    public void passwordHashingUnavailable() {
+        throw new PasswordHashingUnavailableException("test password hashing unavailable");
+    }
+
     @GetMapping("/access-denied")
     public void accessdenied() {
         throw new AccessDeniedException("test access denied!");
@@ -0,0 +1,73 @@
+package ir.saha.web.rest.util;
+
+import ir.saha.web.rest.errors.BadRequestAlertException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link KeysetPaginationUtil} utility class.
+ */
+public class KeysetPaginationUtilTest {
+
+    @Test
+    public void tokenRoundTrip() {
+        String token = KeysetPaginationUtil.encodeToken(42L);
+
+        assertThat(token).doesNotContain("42");
+        assertThat(KeysetPaginationUtil.decodeAfter(token, "payam")).isEqualTo(42L);
+    }
+
+    @Test
+    public void decodePlainIdAndFirstPage() {
+        assertThat(KeysetPaginationUtil.decodeAfter("42", "payam")).isEqualTo(42L);
+        assertThat(KeysetPaginationUtil.decodeAfter("", "payam")).isNull();
+    }
+
+    @Test
+    public void decodeInvalidToken() {
+        assertThatThrownBy(() -> KeysetPaginationUtil.decodeAfter("not-a-token", "payam"))
+            .isInstanceOf(BadRequestAlertException.class);
+        assertThatThrownBy(() -> KeysetPaginationUtil.decodeAfter("bm90LWFuLWlk", "payam"))
+            .isInstanceOf(BadRequestAlertException.class);
+    }
+
+    @Test
+    public void idDirection() {
+        assertThat(KeysetPaginationUtil.idDirection(PageRequest.of(0, 20))).isEqualTo(Sort.Direction.ASC);
+        assertThat(KeysetPaginationUtil.idDirection(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"))))
+            .isEqualTo(Sort.Direction.DESC);
+    }
+
+    @Test
+    public void generateKeysetHttpHeaders() {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString("/api/payams?after=&size=2&page=3");
+        SliceImpl<Long> slice = new SliceImpl<>(Arrays.asList(7L, 9L), PageRequest.of(0, 2), true);
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(uriBuilder, slice, id -> id);
+
+        String token = headers.getFirst(KeysetPaginationUtil.CONTINUATION_TOKEN_HEADER);
+        assertThat(KeysetPaginationUtil.decodeAfter(token, "payam")).isEqualTo(9L);
+        assertThat(headers.getFirst(HttpHeaders.LINK)).isEqualTo("</api/payams?after=" + token + "&size=2>; rel=\"next\"");
+    }
+
+    @Test
+    public void generateKeysetHttpHeadersOnLastSlice() {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString("/api/payams?after=");
+        SliceImpl<Long> slice = new SliceImpl<>(Collections.singletonList(7L), PageRequest.of(0, 2), false);
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(uriBuilder, slice, id -> id);
+
+        assertThat(headers).isEmpty();
+    }
+}